@@ -0,0 +1,196 @@
+package com.reliaquest.api.adapter.in.rest;
+
+import static com.reliaquest.api.adapter.in.rest.EmployeeController.names;
+import static com.reliaquest.api.adapter.in.rest.EmployeeController.validateAndParseUUID;
+import static com.reliaquest.api.adapter.in.rest.EmployeeController.validateAutocompleteCount;
+import static com.reliaquest.api.adapter.in.rest.EmployeeController.validatePageSize;
+import static com.reliaquest.api.adapter.in.rest.EmployeeController.validateTopEarnersCount;
+
+import com.reliaquest.api.application.domain.model.Employee;
+import com.reliaquest.api.application.port.in.CreateEmployeeAsyncUseCase;
+import com.reliaquest.api.application.port.in.DeleteEmployeeAsyncUseCase;
+import com.reliaquest.api.application.port.in.GetAllEmployeesAsyncUseCase;
+import com.reliaquest.api.application.port.in.GetEmployeeByIdAsyncUseCase;
+import com.reliaquest.api.application.port.in.GetEmployeesByNamePrefixAsyncUseCase;
+import com.reliaquest.api.application.port.in.GetEmployeesByNameSearchAsyncUseCase;
+import com.reliaquest.api.application.port.in.GetEmployeesPageAsyncUseCase;
+import com.reliaquest.api.application.port.in.GetHighestSalaryAsyncUseCase;
+import com.reliaquest.api.application.port.in.GetTopEarnersAsyncUseCase;
+import com.reliaquest.api.application.port.in.GetTopTenEarnerNamesAsyncUseCase;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Same operations and responses as {@link EmployeeController}, but every handler returns a future. Spring MVC hands the
+ * request over to async processing and releases the servlet thread while the Employee Server is being waited on; the
+ * response is written once the future completes.
+ *
+ * These live on their own path because IEmployeeController fixes the return types of the original endpoints.
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("api/v1/employee/async")
+public class EmployeeAsyncController {
+
+    private final GetAllEmployeesAsyncUseCase getAllEmployeesAsyncUseCase;
+    private final GetEmployeesPageAsyncUseCase getEmployeesPageAsyncUseCase;
+    private final GetEmployeesByNameSearchAsyncUseCase getEmployeesByNameSearchAsyncUseCase;
+    private final GetEmployeesByNamePrefixAsyncUseCase getEmployeesByNamePrefixAsyncUseCase;
+    private final GetEmployeeByIdAsyncUseCase getEmployeeByIdAsyncUseCase;
+    private final GetHighestSalaryAsyncUseCase getHighestSalaryAsyncUseCase;
+    private final GetTopTenEarnerNamesAsyncUseCase getTopTenEarnerNamesAsyncUseCase;
+    private final GetTopEarnersAsyncUseCase getTopEarnersAsyncUseCase;
+    private final CreateEmployeeAsyncUseCase createEmployeeAsyncUseCase;
+    private final DeleteEmployeeAsyncUseCase deleteEmployeeAsyncUseCase;
+
+    @GetMapping
+    public CompletableFuture<ResponseEntity<List<Employee>>> getAllEmployees() {
+        log.info("Async request to get all employees");
+        return getAllEmployeesAsyncUseCase
+                .getAllEmployeesAsync()
+                .thenApply(employees -> new ResponseEntity<>(employees, HttpStatus.OK));
+    }
+
+    @GetMapping(params = "fields")
+    public CompletableFuture<ResponseEntity<ProjectedEmployees>> getAllEmployeesWithFields(
+            @RequestParam String fields) {
+        log.info("Async request to get fields {} of all employees", fields);
+        Set<EmployeeField> projection = EmployeeField.parse(fields);
+        return getAllEmployeesAsyncUseCase
+                .getAllEmployeesAsync()
+                .thenApply(employees ->
+                        new ResponseEntity<>(ProjectedEmployees.of(employees, projection), HttpStatus.OK));
+    }
+
+    @GetMapping("/page")
+    public CompletableFuture<ResponseEntity<EmployeePageResponse>> getEmployeesPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int size,
+            @RequestParam(required = false) String fields) {
+        log.info("Async request to get a page of {} employees at cursor {}", size, cursor);
+        validatePageSize(size);
+        EmployeePageCursor position = EmployeePageCursor.parse(cursor);
+        Set<EmployeeField> projection = EmployeeField.parse(fields);
+        return getEmployeesPageAsyncUseCase
+                .getEmployeesPageAsync(position.rosterVersion(), position.offset(), size)
+                .thenApply(page -> new ResponseEntity<>(EmployeePageResponse.of(page, projection), HttpStatus.OK));
+    }
+
+    @GetMapping("/search/{searchString}")
+    public CompletableFuture<ResponseEntity<List<Employee>>> getEmployeesByNameSearch(
+            @PathVariable String searchString) {
+        log.info("Async request to get employees by name search with search string: {}", searchString);
+        return getEmployeesByNameSearchAsyncUseCase
+                .getEmployeesByNameSearchAsync(searchString)
+                .thenApply(employees -> new ResponseEntity<>(employees, HttpStatus.OK));
+    }
+
+    @GetMapping(value = "/search/{searchString}", params = "fields")
+    public CompletableFuture<ResponseEntity<ProjectedEmployees>> getEmployeesByNameSearchWithFields(
+            @PathVariable String searchString, @RequestParam String fields) {
+        log.info(
+                "Async request to get fields {} of employees by name search with search string: {}",
+                fields,
+                searchString);
+        Set<EmployeeField> projection = EmployeeField.parse(fields);
+        return getEmployeesByNameSearchAsyncUseCase
+                .getEmployeesByNameSearchAsync(searchString)
+                .thenApply(employees ->
+                        new ResponseEntity<>(ProjectedEmployees.of(employees, projection), HttpStatus.OK));
+    }
+
+    @GetMapping("/autocomplete/{prefix}")
+    public CompletableFuture<ResponseEntity<ProjectedEmployees>> getEmployeesByNamePrefix(
+            @PathVariable String prefix,
+            @RequestParam(defaultValue = "10") int count,
+            @RequestParam(required = false) String fields) {
+        log.info("Async request to autocomplete {} employees by name prefix: {}", count, prefix);
+        validateAutocompleteCount(count);
+        Set<EmployeeField> projection = EmployeeField.parse(fields);
+        return getEmployeesByNamePrefixAsyncUseCase
+                .getEmployeesByNamePrefixAsync(prefix, count)
+                .thenApply(employees ->
+                        new ResponseEntity<>(ProjectedEmployees.of(employees, projection), HttpStatus.OK));
+    }
+
+    @GetMapping("/{id}")
+    public CompletableFuture<ResponseEntity<Employee>> getEmployeeById(@PathVariable String id) {
+        log.info("Async request to get employee by id {}", id);
+        UUID uuid = validateAndParseUUID(id);
+        return getEmployeeByIdAsyncUseCase
+                .getEmployeeByIdAsync(uuid)
+                .thenApply(employee -> employee == null
+                        ? new ResponseEntity<>(null, HttpStatus.NOT_FOUND)
+                        : new ResponseEntity<>(employee, HttpStatus.OK));
+    }
+
+    @GetMapping("/highestSalary")
+    public CompletableFuture<ResponseEntity<Integer>> getHighestSalaryOfEmployees() {
+        log.info("Async request to get highest salary of employees");
+        return getHighestSalaryAsyncUseCase
+                .getHighestSalaryAsync()
+                .thenApply(highestSalary -> new ResponseEntity<>(highestSalary, HttpStatus.OK));
+    }
+
+    @GetMapping("/topTenHighestEarningEmployeeNames")
+    public CompletableFuture<ResponseEntity<List<String>>> getTopTenHighestEarningEmployeeNames() {
+        log.info("Async request to get top ten employee names");
+        return getTopTenEarnerNamesAsyncUseCase
+                .getTopTenEarnerNamesAsync()
+                .thenApply(names -> new ResponseEntity<>(names, HttpStatus.OK));
+    }
+
+    @GetMapping("/topHighestEarningEmployees")
+    public CompletableFuture<ResponseEntity<List<Employee>>> getTopHighestEarningEmployees(
+            @RequestParam(defaultValue = "10") int count) {
+        log.info("Async request to get top {} employees", count);
+        validateTopEarnersCount(count);
+        return getTopEarnersAsyncUseCase
+                .getTopEarnersAsync(count)
+                .thenApply(employees -> new ResponseEntity<>(employees, HttpStatus.OK));
+    }
+
+    @GetMapping("/topHighestEarningEmployeeNames")
+    public CompletableFuture<ResponseEntity<List<String>>> getTopHighestEarningEmployeeNames(
+            @RequestParam(defaultValue = "10") int count) {
+        log.info("Async request to get top {} employee names", count);
+        validateTopEarnersCount(count);
+        return getTopEarnersAsyncUseCase
+                .getTopEarnersAsync(count)
+                .thenApply(employees -> new ResponseEntity<>(names(employees), HttpStatus.OK));
+    }
+
+    @PostMapping
+    public CompletableFuture<ResponseEntity<Employee>> createEmployee(@RequestBody Employee employeeInput) {
+        log.info("Async request to create a new employee: {}", employeeInput);
+        return createEmployeeAsyncUseCase
+                .createEmployeeAsync(employeeInput)
+                .thenApply(employee -> new ResponseEntity<>(employee, HttpStatus.CREATED));
+    }
+
+    @DeleteMapping("/{id}")
+    public CompletableFuture<ResponseEntity<String>> deleteEmployeeById(@PathVariable String id) {
+        log.info("Async request to delete employee by id {}", id);
+        UUID uuid = validateAndParseUUID(id);
+        return deleteEmployeeAsyncUseCase
+                .deleteEmployeeByIdAsync(uuid)
+                .thenApply(name -> name == null
+                        ? new ResponseEntity<>(null, HttpStatus.NOT_FOUND)
+                        : new ResponseEntity<>(name, HttpStatus.OK));
+    }
+}
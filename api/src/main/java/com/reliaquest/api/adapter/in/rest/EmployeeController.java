@@ -1,26 +1,41 @@
 package com.reliaquest.api.adapter.in.rest;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.reliaquest.api.application.domain.model.Employee;
+import com.reliaquest.api.application.domain.model.EmployeePage;
 import com.reliaquest.api.application.port.in.CreateEmployeeUseCase;
 import com.reliaquest.api.application.port.in.DeleteEmployeeUseCase;
 import com.reliaquest.api.application.port.in.GetAllEmployeesUseCase;
 import com.reliaquest.api.application.port.in.GetEmployeeByIdUseCase;
+import com.reliaquest.api.application.port.in.GetEmployeesByNamePrefixUseCase;
 import com.reliaquest.api.application.port.in.GetEmployeesByNameSearchUseCase;
+import com.reliaquest.api.application.port.in.GetEmployeesPageUseCase;
 import com.reliaquest.api.application.port.in.GetHighestSalaryUseCase;
+import com.reliaquest.api.application.port.in.GetTopEarnersUseCase;
 import com.reliaquest.api.application.port.in.GetTopTenEarnerNamesUseCase;
+import com.reliaquest.api.common.StaleResponse;
 import com.reliaquest.api.controller.IEmployeeController;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Slf4j
 @RestController
@@ -28,13 +43,23 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("api/v1/employee")
 public class EmployeeController implements IEmployeeController<Employee, Employee> {
 
+    static final int MAX_TOP_EARNERS = 1000;
+
+    static final int MAX_AUTOCOMPLETE_COUNT = 100;
+
+    static final int MAX_PAGE_SIZE = 1000;
+
     private final GetAllEmployeesUseCase getAllEmployeesUseCase;
+    private final GetEmployeesPageUseCase getEmployeesPageUseCase;
     private final GetEmployeesByNameSearchUseCase getEmployeesByNameSearchUseCase;
+    private final GetEmployeesByNamePrefixUseCase getEmployeesByNamePrefixUseCase;
     private final GetEmployeeByIdUseCase getEmployeeByIdUseCase;
     private final GetHighestSalaryUseCase getHighestSalaryUseCase;
     private final GetTopTenEarnerNamesUseCase getTopTenEarnerNamesUseCase;
+    private final GetTopEarnersUseCase getTopEarnersUseCase;
     private final CreateEmployeeUseCase createEmployeeUseCase;
     private final DeleteEmployeeUseCase deleteEmployeeUseCase;
+    private final ObjectMapper objectMapper;
 
     @Override
     @GetMapping
@@ -43,6 +68,81 @@ public class EmployeeController implements IEmployeeController<Employee, Employe
         return new ResponseEntity<>(getAllEmployeesUseCase.getAllEmployees(), HttpStatus.OK);
     }
 
+    /**
+     * {@link #getAllEmployees()} with only the given comma separated fields of each employee, for clients that need
+     * few of them; not part of IEmployeeController.
+     */
+    @GetMapping(params = "fields")
+    public ResponseEntity<ProjectedEmployees> getAllEmployeesWithFields(@RequestParam String fields) {
+        log.info("Request to get fields {} of all employees", fields);
+        Set<EmployeeField> projection = EmployeeField.parse(fields);
+        return new ResponseEntity<>(
+                ProjectedEmployees.of(getAllEmployeesUseCase.getAllEmployees(), projection), HttpStatus.OK);
+    }
+
+    /**
+     * The employees one page at a time, in roster order; not part of IEmployeeController. Each page carries the cursor
+     * of the next, and every page is read from the roster snapshot the first page was read from. Without
+     * {@code fields} every field of each employee is returned.
+     */
+    @GetMapping("/page")
+    public ResponseEntity<EmployeePageResponse> getEmployeesPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int size,
+            @RequestParam(required = false) String fields) {
+        log.info("Request to get a page of {} employees at cursor {}", size, cursor);
+        validatePageSize(size);
+        EmployeePageCursor position = EmployeePageCursor.parse(cursor);
+        Set<EmployeeField> projection = EmployeeField.parse(fields);
+        EmployeePage page = getEmployeesPageUseCase.getEmployeesPage(position.rosterVersion(), position.offset(), size);
+        return new ResponseEntity<>(EmployeePageResponse.of(page, projection), HttpStatus.OK);
+    }
+
+    /**
+     * @throws IllegalArgumentException if the size is not between 1 and {@value #MAX_PAGE_SIZE}
+     */
+    static void validatePageSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("size must be between 1 and " + MAX_PAGE_SIZE + ": " + size);
+        }
+    }
+
+    /**
+     * All employees as newline delimited JSON, one employee per line, written to the response while they are
+     * serialized instead of after the whole list is; not part of IEmployeeController. The employees are loaded before
+     * the response starts, so a failed load still answers with an error status. Without {@code fields} every field of
+     * each employee is written.
+     */
+    // no produces condition, so that errors are still answered as JSON
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> streamAllEmployees(
+            @RequestParam(required = false) String fields, HttpServletRequest request) {
+        log.info("Request to stream all employees");
+        Set<EmployeeField> projection = EmployeeField.parse(fields);
+        List<Employee> employees = getAllEmployeesUseCase.getAllEmployees();
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON);
+        // the body bypasses the message converters, and with them StaleEmployeesResponseAdvice
+        if (StaleResponse.isStale(request)) {
+            response.header(HttpHeaders.WARNING, StaleEmployeesResponseAdvice.STALE_WARNING);
+        }
+        return response.body(out -> writeNdjson(employees, projection, out));
+    }
+
+    private void writeNdjson(List<Employee> employees, Set<EmployeeField> fields, OutputStream out) throws IOException {
+        if (employees == null) {
+            return;
+        }
+        // nothing is flushed until the end, the response buffer decides when to send
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            for (Employee employee : employees) {
+                EmployeeField.writeEmployee(generator, employee, fields);
+                generator.writeRaw('\n');
+            }
+        }
+    }
+
     @Override
     @GetMapping("/search/{searchString}")
     public ResponseEntity<List<Employee>> getEmployeesByNameSearch(@PathVariable String searchString) {
@@ -51,6 +151,45 @@ public class EmployeeController implements IEmployeeController<Employee, Employe
                 getEmployeesByNameSearchUseCase.getEmployeesByNameSearch(searchString), HttpStatus.OK);
     }
 
+    /**
+     * {@link #getEmployeesByNameSearch(String)} with only the given comma separated fields of each employee; not part
+     * of IEmployeeController.
+     */
+    @GetMapping(value = "/search/{searchString}", params = "fields")
+    public ResponseEntity<ProjectedEmployees> getEmployeesByNameSearchWithFields(
+            @PathVariable String searchString, @RequestParam String fields) {
+        log.info("Request to get fields {} of employees by name search with search string: {}", fields, searchString);
+        Set<EmployeeField> projection = EmployeeField.parse(fields);
+        List<Employee> employees = getEmployeesByNameSearchUseCase.getEmployeesByNameSearch(searchString);
+        return new ResponseEntity<>(ProjectedEmployees.of(employees, projection), HttpStatus.OK);
+    }
+
+    /**
+     * Type-ahead for employee names: employees with a name token starting with the prefix, exact token matches first,
+     * then alphabetically; not part of IEmployeeController. Without {@code fields} every field of each employee is
+     * returned.
+     */
+    @GetMapping("/autocomplete/{prefix}")
+    public ResponseEntity<ProjectedEmployees> getEmployeesByNamePrefix(
+            @PathVariable String prefix,
+            @RequestParam(defaultValue = "10") int count,
+            @RequestParam(required = false) String fields) {
+        log.info("Request to autocomplete {} employees by name prefix: {}", count, prefix);
+        validateAutocompleteCount(count);
+        Set<EmployeeField> projection = EmployeeField.parse(fields);
+        List<Employee> completions = getEmployeesByNamePrefixUseCase.getEmployeesByNamePrefix(prefix, count);
+        return new ResponseEntity<>(ProjectedEmployees.of(completions, projection), HttpStatus.OK);
+    }
+
+    /**
+     * @throws IllegalArgumentException if the count is not between 1 and {@value #MAX_AUTOCOMPLETE_COUNT}
+     */
+    static void validateAutocompleteCount(int count) {
+        if (count < 1 || count > MAX_AUTOCOMPLETE_COUNT) {
+            throw new IllegalArgumentException("count must be between 1 and " + MAX_AUTOCOMPLETE_COUNT + ": " + count);
+        }
+    }
+
     @Override
     @GetMapping("/{id}")
     public ResponseEntity<Employee> getEmployeeById(@PathVariable String id) {
@@ -70,7 +209,7 @@ public class EmployeeController implements IEmployeeController<Employee, Employe
      * @return the parsed UUID
      * @throws IllegalArgumentException if the string is not a valid UUID format
      */
-    private UUID validateAndParseUUID(String id) {
+    static UUID validateAndParseUUID(String id) {
         if (id == null || id.trim().isEmpty()) {
             throw new IllegalArgumentException("UUID cannot be null or empty");
         }
@@ -95,6 +234,40 @@ public class EmployeeController implements IEmployeeController<Employee, Employe
         return new ResponseEntity<>(getTopTenEarnerNamesUseCase.getTopTenEarnerNames(), HttpStatus.OK);
     }
 
+    /**
+     * The top earners for any count, highest salary first; not part of IEmployeeController.
+     */
+    @GetMapping("/topHighestEarningEmployees")
+    public ResponseEntity<List<Employee>> getTopHighestEarningEmployees(@RequestParam(defaultValue = "10") int count) {
+        log.info("Request to get top {} employees", count);
+        validateTopEarnersCount(count);
+        return new ResponseEntity<>(getTopEarnersUseCase.getTopEarners(count), HttpStatus.OK);
+    }
+
+    /**
+     * Names only variant of {@link #getTopHighestEarningEmployees(int)}.
+     */
+    @GetMapping("/topHighestEarningEmployeeNames")
+    public ResponseEntity<List<String>> getTopHighestEarningEmployeeNames(
+            @RequestParam(defaultValue = "10") int count) {
+        log.info("Request to get top {} employee names", count);
+        validateTopEarnersCount(count);
+        return new ResponseEntity<>(names(getTopEarnersUseCase.getTopEarners(count)), HttpStatus.OK);
+    }
+
+    /**
+     * @throws IllegalArgumentException if the count is not between 1 and {@value #MAX_TOP_EARNERS}
+     */
+    static void validateTopEarnersCount(int count) {
+        if (count < 1 || count > MAX_TOP_EARNERS) {
+            throw new IllegalArgumentException("count must be between 1 and " + MAX_TOP_EARNERS + ": " + count);
+        }
+    }
+
+    static List<String> names(List<Employee> employees) {
+        return employees == null ? null : employees.stream().map(Employee::getName).toList();
+    }
+
     @Override
     @PostMapping
     public ResponseEntity<Employee> createEmployee(Employee employeeInput) {
@@ -0,0 +1,102 @@
+package com.reliaquest.api.adapter.in.rest;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.reliaquest.api.application.domain.model.Employee;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * The attributes of an employee in responses, for choosing which ones to serialize with a {@code fields} parameter.
+ * Names and values are written the way Jackson writes a whole {@link Employee}, so a projection to every field gives
+ * the same JSON as the unprojected endpoints.
+ */
+public enum EmployeeField {
+    ID,
+    NAME,
+    SALARY,
+    AGE,
+    TITLE,
+    EMAIL;
+
+    static final Set<EmployeeField> ALL = Collections.unmodifiableSet(EnumSet.allOf(EmployeeField.class));
+
+    private final SerializableString jsonName = new SerializedString(name().toLowerCase(Locale.ROOT));
+
+    /**
+     * @param fields comma separated field names, ignoring case; null or blank for every field
+     * @throws IllegalArgumentException if a name is not one of the fields
+     */
+    static Set<EmployeeField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        EnumSet<EmployeeField> parsed = EnumSet.noneOf(EmployeeField.class);
+        for (String field : fields.split(",")) {
+            String name = field.strip();
+            if (!name.isEmpty()) {
+                parsed.add(Arrays.stream(values())
+                        .filter(value -> value.jsonName.getValue().equalsIgnoreCase(name))
+                        .findFirst()
+                        .orElseThrow(() -> new IllegalArgumentException(
+                                "Unknown field " + name + ", expected some of " + names())));
+            }
+        }
+        return parsed.isEmpty() ? ALL : Collections.unmodifiableSet(parsed);
+    }
+
+    /**
+     * Writes the given fields of the employee as one JSON object, in the order of this enum, or null for a null
+     * employee.
+     */
+    static void writeEmployee(JsonGenerator generator, Employee employee, Set<EmployeeField> fields)
+            throws IOException {
+        if (employee == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        for (EmployeeField field : fields) {
+            generator.writeFieldName(field.jsonName);
+            field.writeValue(generator, employee);
+        }
+        generator.writeEndObject();
+    }
+
+    private void writeValue(JsonGenerator generator, Employee employee) throws IOException {
+        switch (this) {
+            case ID -> writeString(generator, employee.getId() == null ? null : employee.getId().toString());
+            case NAME -> writeString(generator, employee.getName());
+            case SALARY -> writeNumber(generator, employee.getSalary());
+            case AGE -> writeNumber(generator, employee.getAge());
+            case TITLE -> writeString(generator, employee.getTitle());
+            case EMAIL -> writeString(generator, employee.getEmail());
+        }
+    }
+
+    private static void writeString(JsonGenerator generator, String value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeString(value);
+        }
+    }
+
+    private static void writeNumber(JsonGenerator generator, Integer value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(value);
+        }
+    }
+
+    private static String names() {
+        return Arrays.stream(values()).map(value -> value.jsonName.getValue()).collect(Collectors.joining(", "));
+    }
+}
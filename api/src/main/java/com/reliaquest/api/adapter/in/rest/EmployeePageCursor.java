@@ -0,0 +1,56 @@
+package com.reliaquest.api.adapter.in.rest;
+
+import com.reliaquest.api.application.domain.model.EmployeePage;
+import java.nio.ByteBuffer;
+import java.util.Base64;
+
+/**
+ * Where a paged listing continues: the version of the roster snapshot being paged through and the offset of the next
+ * page in it. Handed to clients as an opaque URL-safe string, so they pass it back rather than build their own.
+ *
+ * @param rosterVersion the snapshot to continue in, or null to start from the current snapshot
+ * @param offset the offset of the next page in the snapshot
+ */
+record EmployeePageCursor(Long rosterVersion, int offset) {
+
+    static final EmployeePageCursor FIRST = new EmployeePageCursor(null, 0);
+
+    private static final int BYTES = Long.BYTES + Integer.BYTES;
+
+    /**
+     * @return the cursor of the page after the given one, or null if it is the last page
+     */
+    static String next(EmployeePage page) {
+        if (page.nextOffset() == null) {
+            return null;
+        }
+        ByteBuffer bytes = ByteBuffer.allocate(BYTES).putLong(page.rosterVersion()).putInt(page.nextOffset());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.array());
+    }
+
+    /**
+     * @param cursor a cursor from {@link #next(EmployeePage)}, or null for the first page
+     * @throws IllegalArgumentException if the cursor was not made by {@link #next(EmployeePage)}
+     */
+    static EmployeePageCursor parse(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return FIRST;
+        }
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+        if (bytes.length != BYTES) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        long rosterVersion = buffer.getLong();
+        int offset = buffer.getInt();
+        if (offset < 0) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+        return new EmployeePageCursor(rosterVersion, offset);
+    }
+}
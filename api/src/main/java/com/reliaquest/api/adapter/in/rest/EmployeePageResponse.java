@@ -0,0 +1,20 @@
+package com.reliaquest.api.adapter.in.rest;
+
+import com.reliaquest.api.application.domain.model.EmployeePage;
+import java.util.Set;
+
+/**
+ * One page of the paged employee listing.
+ *
+ * @param data the employees of the page, in roster order, with the requested fields only
+ * @param nextCursor pass as {@code cursor} to get the next page, null on the last page
+ */
+public record EmployeePageResponse(ProjectedEmployees data, String nextCursor) {
+
+    static EmployeePageResponse of(EmployeePage page, Set<EmployeeField> fields) {
+        return page == null
+                ? null
+                : new EmployeePageResponse(
+                        ProjectedEmployees.of(page.employees(), fields), EmployeePageCursor.next(page));
+    }
+}
@@ -1,8 +1,11 @@
 package com.reliaquest.api.adapter.in.rest;
 
+import com.reliaquest.api.application.port.in.EmployeeRosterExpiredException;
+import com.reliaquest.api.application.port.out.UpstreamUnavailableException;
 import java.util.HashMap;
 import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -31,4 +34,40 @@ public class GlobalExceptionHandler {
 
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
+
+    /**
+     * Handles UpstreamUnavailableException thrown when the Employee Server is rate limiting us or keeps failing.
+     * Returns a 503 Service Unavailable with a Retry-After header instead of an empty success response.
+     */
+    @ExceptionHandler(UpstreamUnavailableException.class)
+    public ResponseEntity<Map<String, Object>> handleUpstreamUnavailableException(UpstreamUnavailableException ex) {
+        log.warn("Upstream unavailable: {}", ex.getMessage());
+
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("status", HttpStatus.SERVICE_UNAVAILABLE.value());
+        errorResponse.put("error", "Service Unavailable");
+        errorResponse.put("message", ex.getMessage());
+
+        // Retry-After is in whole seconds, round up so clients don't come back too early
+        long retryAfterSeconds = (ex.getRetryAfter().toMillis() + 999) / 1000;
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(errorResponse);
+    }
+
+    /**
+     * Handles EmployeeRosterExpiredException thrown when a paging cursor points into a roster snapshot that is no
+     * longer kept. Returns a 410 Gone, the cursor will never work again and paging has to start over.
+     */
+    @ExceptionHandler(EmployeeRosterExpiredException.class)
+    public ResponseEntity<Map<String, Object>> handleEmployeeRosterExpiredException(EmployeeRosterExpiredException ex) {
+        log.info("Paging cursor expired: {}", ex.getMessage());
+
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("status", HttpStatus.GONE.value());
+        errorResponse.put("error", "Gone");
+        errorResponse.put("message", ex.getMessage());
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.GONE);
+    }
 }
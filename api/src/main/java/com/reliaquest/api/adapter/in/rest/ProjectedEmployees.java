@@ -0,0 +1,41 @@
+package com.reliaquest.api.adapter.in.rest;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.reliaquest.api.application.domain.model.Employee;
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A list of employees that serializes as a JSON array of only the chosen fields of each employee. The fields are
+ * picked while the array is written, the employees themselves are neither copied nor changed.
+ *
+ * @param employees the employees, in response order
+ * @param fields the fields to write of each employee
+ */
+@JsonSerialize(using = ProjectedEmployees.Serializer.class)
+public record ProjectedEmployees(List<Employee> employees, Set<EmployeeField> fields) {
+
+    /**
+     * @return the projection of the employees, or null if there are none to project
+     */
+    static ProjectedEmployees of(List<Employee> employees, Set<EmployeeField> fields) {
+        return employees == null ? null : new ProjectedEmployees(employees, fields);
+    }
+
+    public static class Serializer extends JsonSerializer<ProjectedEmployees> {
+
+        @Override
+        public void serialize(ProjectedEmployees value, JsonGenerator generator, SerializerProvider serializers)
+                throws IOException {
+            generator.writeStartArray(value.employees(), value.employees().size());
+            for (Employee employee : value.employees()) {
+                EmployeeField.writeEmployee(generator, employee, value.fields());
+            }
+            generator.writeEndArray();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.reliaquest.api.adapter.in.rest;
+
+import com.reliaquest.api.common.StaleResponse;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Marks read responses stale when their data was answered from the last known good employee data, because the
+ * Employee Server is unavailable, or from the roster snapshot on disk. Clients see a {@code Warning: 110} header, the
+ * standard HTTP stale response warning. The adapter serving the data marks the request, see {@link StaleResponse}.
+ */
+@RestControllerAdvice(assignableTypes = {EmployeeController.class, EmployeeAsyncController.class})
+public class StaleEmployeesResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    static final String STALE_WARNING = "110 - \"Response is Stale\"";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(
+            Object body,
+            MethodParameter returnType,
+            MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            ServerHttpRequest request,
+            ServerHttpResponse response) {
+        if (HttpMethod.GET.equals(request.getMethod())
+                && request instanceof ServletServerHttpRequest servletRequest
+                && StaleResponse.isStale(servletRequest.getServletRequest())) {
+            response.getHeaders().set(HttpHeaders.WARNING, STALE_WARNING);
+        }
+        return body;
+    }
+}
@@ -0,0 +1,94 @@
+package com.reliaquest.api.adapter.in.startup;
+
+import com.reliaquest.api.application.domain.model.EmployeesWarmUpOutcome;
+import com.reliaquest.api.application.port.in.WarmUpEmployeesAsyncUseCase;
+import com.reliaquest.api.common.config.EmployeesWarmUpProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Loads the employee data once the application has started, holding readiness until it finished or timed out, so the
+ * first request doesn't pay for the upstream call. The outcome is timed in {@code employees.warmup} and shown here.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmployeesWarmUp implements HealthIndicator {
+
+    static final String WARM_UP_TIMER = "employees.warmup";
+
+    private final WarmUpEmployeesAsyncUseCase warmUpEmployeesAsyncUseCase;
+
+    private final EmployeesWarmUpProperties properties;
+
+    private final MeterRegistry meterRegistry;
+
+    private volatile EmployeesWarmUpOutcome outcome;
+
+    private volatile Duration duration;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!properties.enabled()) {
+            return;
+        }
+
+        log.info("Warming up employees, waiting up to {}", properties.timeout());
+        long start = System.nanoTime();
+        EmployeesWarmUpOutcome result;
+        try {
+            result = warmUpEmployeesAsyncUseCase
+                    .warmUpEmployeesAsync()
+                    .get(properties.timeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            result = EmployeesWarmUpOutcome.TIMED_OUT;
+        } catch (ExecutionException | RuntimeException e) {
+            log.warn("Warming up employees failed", e);
+            result = EmployeesWarmUpOutcome.FAILED;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            result = EmployeesWarmUpOutcome.FAILED;
+        }
+
+        long elapsedNanos = System.nanoTime() - start;
+        Timer.builder(WARM_UP_TIMER)
+                .description("Time it took to load the employee data before reporting ready")
+                .tag("outcome", result.name().toLowerCase())
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        duration = Duration.ofNanos(elapsedNanos);
+        outcome = result;
+        log.info("Warming up employees finished as {} in {} ms", result, duration.toMillis());
+    }
+
+    /**
+     * Out of service while the warm-up runs, up once it has ended whatever its outcome: an instance that could not
+     * warm up still serves requests by loading on demand, and taking it out of rotation would not help with that.
+     */
+    @Override
+    public Health health() {
+        if (!properties.enabled()) {
+            return Health.up().withDetail("outcome", "disabled").build();
+        }
+
+        EmployeesWarmUpOutcome result = outcome;
+        if (result == null) {
+            return Health.outOfService().withDetail("outcome", "in progress").build();
+        }
+        return Health.up()
+                .withDetail("outcome", result.name().toLowerCase())
+                .withDetail("durationMs", duration.toMillis())
+                .build();
+    }
+}
@@ -0,0 +1,95 @@
+package com.reliaquest.api.adapter.out.cache;
+
+import static com.reliaquest.api.common.config.CacheConfig.PAGED_EMPLOYEE_ROSTERS_CACHE;
+import static com.reliaquest.api.common.config.CaffeineCaches.register;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Policy;
+import com.reliaquest.api.application.domain.model.EmployeeRoster;
+import com.reliaquest.api.application.port.out.LoadEmployeeRosterByVersionPort;
+import com.reliaquest.api.application.port.out.RetainEmployeeRosterPort;
+import com.reliaquest.api.common.OutAdapter;
+import com.reliaquest.api.common.config.EmployeeCacheWeigher;
+import java.util.Map;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+/**
+ * Keeps the roster snapshots clients are paging through by version, so every page of a listing comes from the
+ * snapshot of its first page. Bounded by weight, see the {@code pagedEmployeeRosters} policy in
+ * {@link com.reliaquest.api.common.config.EmployeeCacheProperties}; versions are only unique within this process.
+ */
+@Slf4j
+@OutAdapter
+public class EmployeeRosterVersionCache implements RetainEmployeeRosterPort, LoadEmployeeRosterByVersionPort {
+
+    private final Cache<Long, EmployeeRoster> rosters;
+
+    public EmployeeRosterVersionCache(
+            CaffeineCacheManager cacheManager,
+            @Qualifier("pagedEmployeeRostersCacheConfig") Caffeine<Object, Object> pagedEmployeeRostersCacheConfig) {
+        this.rosters = pagedEmployeeRostersCacheConfig.build();
+        register(cacheManager, PAGED_EMPLOYEE_ROSTERS_CACHE, rosters);
+    }
+
+    @Override
+    public void retainEmployeeRoster(EmployeeRoster roster) {
+        long version = roster.getVersion();
+        if (exceedsBound(version, roster)) {
+            // making room for it would drop every other listing and still not keep it
+            log.warn("Not retaining roster version {} for paging, it alone exceeds the bound of the cache", version);
+            return;
+        }
+        rosters.asMap().putIfAbsent(version, roster);
+        rosters.cleanUp();
+        // past the bound the cache may turn the new snapshot away, since it has seen the others read more often; a
+        // listing that has just started would then fail on its second page, so the least recently paged go instead
+        while (!isRetained(version) && dropLeastRecentlyPaged(version)) {
+            rosters.asMap().putIfAbsent(version, roster);
+            rosters.cleanUp();
+        }
+    }
+
+    /**
+     * @return the retained snapshot with the given version, or null if it is no longer kept
+     */
+    @Override
+    public EmployeeRoster loadEmployeeRosterByVersion(long version) {
+        return rosters.getIfPresent(version);
+    }
+
+    private boolean exceedsBound(long version, EmployeeRoster roster) {
+        return rosters.policy()
+                .eviction()
+                .filter(Policy.Eviction::isWeighted)
+                .map(eviction -> EmployeeCacheWeigher.INSTANCE.weigh(version, roster) > eviction.getMaximum())
+                .orElse(false);
+    }
+
+    // looked up quietly, so retaining a snapshot neither counts as paging through it nor shows in the hit rate
+    private boolean isRetained(long version) {
+        return rosters.policy().getIfPresentQuietly(version) != null;
+    }
+
+    /**
+     * Drops the snapshot paged through least recently. Without expire-after-access in the policy the cache does not
+     * track that, so the snapshot it would evict first is dropped instead.
+     *
+     * @return whether a snapshot other than the one with the given version was dropped
+     */
+    private boolean dropLeastRecentlyPaged(long keptVersion) {
+        Policy<Long, EmployeeRoster> policy = rosters.policy();
+        Map<Long, EmployeeRoster> candidates = policy.expireAfterAccess()
+                .map(expiration -> expiration.oldest(2))
+                .or(() -> policy.eviction().map(eviction -> eviction.coldest(2)))
+                .orElse(Map.of());
+        Optional<Long> dropped = candidates.keySet().stream()
+                .filter(version -> version != keptVersion)
+                .findFirst();
+        dropped.ifPresent(rosters::invalidate);
+        return dropped.isPresent();
+    }
+}
@@ -0,0 +1,45 @@
+package com.reliaquest.api.adapter.out.cache;
+
+import static com.reliaquest.api.common.config.CacheConfig.EMPLOYEE_SEARCH_RESULTS_CACHE;
+import static com.reliaquest.api.common.config.CaffeineCaches.getOnCallingThread;
+import static com.reliaquest.api.common.config.CaffeineCaches.register;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.reliaquest.api.application.domain.model.Employee;
+import com.reliaquest.api.application.domain.model.EmployeeRoster;
+import com.reliaquest.api.application.port.out.SearchEmployeesByNamePort;
+import com.reliaquest.api.common.OutAdapter;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+/**
+ * Keeps the results of recent name searches by roster version and normalized text, so a changed roster simply misses
+ * and the cache never needs flushing. Concurrent searches for the same key share one search.
+ */
+@OutAdapter
+public class EmployeeSearchResultCache implements SearchEmployeesByNamePort {
+
+    private final AsyncCache<SearchKey, List<Employee>> searchResults;
+
+    public EmployeeSearchResultCache(
+            CaffeineCacheManager cacheManager,
+            @Qualifier("employeeSearchResultsCacheConfig") Caffeine<Object, Object> employeeSearchResultsCacheConfig) {
+        this.searchResults = employeeSearchResultsCacheConfig.buildAsync();
+        register(cacheManager, EMPLOYEE_SEARCH_RESULTS_CACHE, searchResults);
+    }
+
+    @Override
+    public List<Employee> searchEmployeesByName(EmployeeRoster roster, String name) {
+        SearchKey key = new SearchKey(roster.getVersion(), EmployeeRoster.normalizeNameSearch(name));
+        // shared between callers, so nobody may change it
+        CompletableFuture<List<Employee>> result =
+                getOnCallingThread(searchResults, key, k -> Collections.unmodifiableList(roster.searchByName(name)));
+        return result.join();
+    }
+
+    private record SearchKey(long rosterVersion, String normalizedName) {}
+}
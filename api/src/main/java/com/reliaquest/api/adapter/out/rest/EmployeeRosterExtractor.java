@@ -0,0 +1,107 @@
+package com.reliaquest.api.adapter.out.rest;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.reliaquest.api.application.domain.model.Employee;
+import com.reliaquest.api.application.domain.model.EmployeeRoster;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.ResponseExtractor;
+
+/**
+ * Reads the Employee Server's list response straight into an {@link EmployeeRoster}. The {@code data} array is read
+ * token by token and every element becomes an {@link Employee} directly, so neither a JSON tree nor a list of
+ * {@link EmployeeEntity} is built on the way. Field names follow {@link EmployeeEntity}.
+ */
+class EmployeeRosterExtractor implements ResponseExtractor<EmployeeRoster> {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    /**
+     * @return the roster, or null if the response is not successful or has no {@code data} array
+     */
+    @Override
+    public EmployeeRoster extractData(ClientHttpResponse response) throws IOException {
+        if (!response.getStatusCode().is2xxSuccessful()) {
+            return null;
+        }
+
+        List<Employee> employees = null;
+        try (JsonParser parser = JSON_FACTORY.createParser(response.getBody())) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            // read the whole body even after the data array, an unread body keeps the connection from being reused
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("data".equals(field) && value == JsonToken.START_ARRAY) {
+                    employees = readEmployees(parser);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        return employees == null ? null : EmployeeRoster.of(employees);
+    }
+
+    private static List<Employee> readEmployees(JsonParser parser) throws IOException {
+        List<Employee> employees = new ArrayList<>();
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == JsonToken.START_OBJECT) {
+                employees.add(readEmployee(parser));
+            } else if (token == JsonToken.VALUE_NULL) {
+                employees.add(null);
+            } else {
+                throw new JsonParseException(parser, "Expected an employee object but found " + token);
+            }
+        }
+        return employees;
+    }
+
+    private static Employee readEmployee(JsonParser parser) throws IOException {
+        Employee.EmployeeBuilder employee = Employee.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "id" -> employee.id(readUuid(parser));
+                case "employee_name" -> employee.name(parser.getValueAsString());
+                case "employee_salary" -> employee.salary(readInteger(parser));
+                case "employee_age" -> employee.age(readInteger(parser));
+                case "employee_title" -> employee.title(parser.getValueAsString());
+                case "employee_email" -> employee.email(parser.getValueAsString());
+                default -> parser.skipChildren();
+            }
+        }
+        return employee.build();
+    }
+
+    private static UUID readUuid(JsonParser parser) throws IOException {
+        String value = parser.getValueAsString();
+        return value == null ? null : UUID.fromString(value);
+    }
+
+    /**
+     * Reads a whole number within int range. Anything else, e.g. a fraction, a string or a number too large, fails the
+     * read rather than being truncated, wrapped or turned into 0.
+     */
+    private static Integer readInteger(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token != JsonToken.VALUE_NUMBER_INT || parser.getNumberType() != JsonParser.NumberType.INT) {
+            throw new JsonParseException(
+                    parser, "Expected an int for " + parser.currentName() + " but found " + parser.getText());
+        }
+        return parser.getIntValue();
+    }
+}
@@ -0,0 +1,187 @@
+package com.reliaquest.api.adapter.out.rest;
+
+import com.reliaquest.api.application.domain.model.Employee;
+import com.reliaquest.api.application.domain.model.EmployeeRoster;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Binary file format of the roster snapshot: magic, format version, time taken, employee count, one record per
+ * employee with a byte flagging its present fields, then a CRC32. Written to a temporary file moved over the old one,
+ * and read through a memory mapping.
+ */
+final class EmployeeRosterSnapshotFile {
+
+    private static final int MAGIC = 0x454D5052; // "EMPR"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 4 + 4 + 8 + 4;
+    private static final int CHECKSUM_BYTES = 4;
+
+    private static final int HAS_ID = 1;
+    private static final int HAS_NAME = 1 << 1;
+    private static final int HAS_SALARY = 1 << 2;
+    private static final int HAS_AGE = 1 << 3;
+    private static final int HAS_TITLE = 1 << 4;
+    private static final int HAS_EMAIL = 1 << 5;
+    private static final int NULL_EMPLOYEE = 1 << 7;
+
+    private EmployeeRosterSnapshotFile() {}
+
+    record Snapshot(EmployeeRoster roster, Instant takenAt) {}
+
+    static void write(Path path, EmployeeRoster roster, Instant takenAt) throws IOException {
+        Path directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            CRC32 checksum = new CRC32();
+            try (DataOutputStream out = new DataOutputStream(
+                    new CheckedOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)), checksum))) {
+                List<Employee> employees = roster.getEmployees();
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeLong(takenAt.toEpochMilli());
+                out.writeInt(employees.size());
+                for (Employee employee : employees) {
+                    writeEmployee(out, employee);
+                }
+                // the value is taken before the checksum itself goes through the stream
+                out.writeInt((int) checksum.getValue());
+            }
+            move(temp, path);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * @throws IOException if the file can't be read, or is not a complete snapshot of this format version
+     */
+    static Snapshot read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.limit() < HEADER_BYTES + CHECKSUM_BYTES) {
+                throw new IOException("Roster snapshot " + path + " is truncated");
+            }
+
+            int bodyLength = buffer.limit() - CHECKSUM_BYTES;
+            CRC32 checksum = new CRC32();
+            checksum.update(buffer.duplicate().limit(bodyLength));
+            if ((int) checksum.getValue() != buffer.getInt(bodyLength)) {
+                throw new IOException("Roster snapshot " + path + " is corrupt");
+            }
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                throw new IOException("Roster snapshot " + path + " has an unknown format");
+            }
+
+            Instant takenAt = Instant.ofEpochMilli(buffer.getLong());
+            int count = buffer.getInt();
+            List<Employee> employees = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                employees.add(readEmployee(buffer));
+            }
+            return new Snapshot(EmployeeRoster.of(employees), takenAt);
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Roster snapshot " + path + " is truncated", e);
+        }
+    }
+
+    private static void writeEmployee(DataOutputStream out, Employee employee) throws IOException {
+        if (employee == null) {
+            out.writeByte(NULL_EMPLOYEE);
+            return;
+        }
+
+        int flags = (employee.getId() != null ? HAS_ID : 0)
+                | (employee.getName() != null ? HAS_NAME : 0)
+                | (employee.getSalary() != null ? HAS_SALARY : 0)
+                | (employee.getAge() != null ? HAS_AGE : 0)
+                | (employee.getTitle() != null ? HAS_TITLE : 0)
+                | (employee.getEmail() != null ? HAS_EMAIL : 0);
+        out.writeByte(flags);
+        if (employee.getId() != null) {
+            out.writeLong(employee.getId().getMostSignificantBits());
+            out.writeLong(employee.getId().getLeastSignificantBits());
+        }
+        if (employee.getName() != null) {
+            writeString(out, employee.getName());
+        }
+        if (employee.getSalary() != null) {
+            out.writeInt(employee.getSalary());
+        }
+        if (employee.getAge() != null) {
+            out.writeInt(employee.getAge());
+        }
+        if (employee.getTitle() != null) {
+            writeString(out, employee.getTitle());
+        }
+        if (employee.getEmail() != null) {
+            writeString(out, employee.getEmail());
+        }
+    }
+
+    private static Employee readEmployee(ByteBuffer buffer) {
+        int flags = buffer.get();
+        if ((flags & NULL_EMPLOYEE) != 0) {
+            return null;
+        }
+
+        Employee.EmployeeBuilder employee = Employee.builder();
+        if ((flags & HAS_ID) != 0) {
+            employee.id(new UUID(buffer.getLong(), buffer.getLong()));
+        }
+        if ((flags & HAS_NAME) != 0) {
+            employee.name(readString(buffer));
+        }
+        if ((flags & HAS_SALARY) != 0) {
+            employee.salary(buffer.getInt());
+        }
+        if ((flags & HAS_AGE) != 0) {
+            employee.age(buffer.getInt());
+        }
+        if ((flags & HAS_TITLE) != 0) {
+            employee.title(readString(buffer));
+        }
+        if ((flags & HAS_EMAIL) != 0) {
+            employee.email(readString(buffer));
+        }
+        return employee.build();
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.reliaquest.api.adapter.out.rest;
+
+import com.reliaquest.api.application.domain.model.EmployeeRoster;
+import com.reliaquest.api.common.config.EmployeeRosterSnapshotProperties;
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the last known good roster on local disk, see {@link EmployeeRosterSnapshotFile} for the format. Problems with
+ * the file are logged and otherwise ignored: without a snapshot the api simply starts cold.
+ */
+@Slf4j
+@Component
+public class EmployeeRosterSnapshotStore {
+
+    private final boolean enabled;
+    private final Path path;
+    private final Duration maxAge;
+    private final Clock clock;
+
+    @Autowired
+    public EmployeeRosterSnapshotStore(EmployeeRosterSnapshotProperties properties) {
+        this(properties.enabled(), properties.path(), properties.maxAge(), Clock.systemUTC());
+    }
+
+    EmployeeRosterSnapshotStore(boolean enabled, Path path, Duration maxAge, Clock clock) {
+        this.enabled = enabled;
+        this.path = path;
+        this.maxAge = maxAge;
+        this.clock = clock;
+    }
+
+    /**
+     * A store that never writes and never finds a snapshot.
+     */
+    static EmployeeRosterSnapshotStore disabled() {
+        return new EmployeeRosterSnapshotStore(false, null, Duration.ZERO, Clock.systemUTC());
+    }
+
+    /**
+     * @return the roster of the snapshot on disk, or null if there is none that is readable and recent enough
+     */
+    EmployeeRoster load() {
+        if (!enabled) {
+            return null;
+        }
+
+        long start = System.nanoTime();
+        EmployeeRosterSnapshotFile.Snapshot snapshot;
+        try {
+            snapshot = EmployeeRosterSnapshotFile.read(path);
+        } catch (NoSuchFileException e) {
+            log.info("No roster snapshot at {}, starting without one", path);
+            return null;
+        } catch (IOException | RuntimeException e) {
+            log.warn("Ignoring unreadable roster snapshot at {}: {}", path, e.getMessage());
+            return null;
+        }
+
+        Duration age = Duration.between(snapshot.takenAt(), clock.instant());
+        if (age.compareTo(maxAge) > 0) {
+            log.info("Ignoring roster snapshot at {}, it is {} old", path, age);
+            return null;
+        }
+
+        log.info(
+                "Loaded roster snapshot of {} employees from {} in {} ms, taken {} ago",
+                snapshot.roster().getEmployees().size(),
+                path,
+                Duration.ofNanos(System.nanoTime() - start).toMillis(),
+                age);
+        return snapshot.roster();
+    }
+
+    /**
+     * @return whether the roster was written
+     */
+    boolean save(EmployeeRoster roster) {
+        if (!enabled) {
+            return false;
+        }
+
+        try {
+            EmployeeRosterSnapshotFile.write(path, roster, clock.instant());
+            log.debug("Wrote roster snapshot of {} employees to {}", roster.getEmployees().size(), path);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not write roster snapshot to {}: {}", path, e.getMessage());
+            return false;
+        }
+    }
+}
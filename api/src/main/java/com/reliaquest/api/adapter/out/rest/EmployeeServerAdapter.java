@@ -1,119 +1,340 @@
 package com.reliaquest.api.adapter.out.rest;
 
+import static com.reliaquest.api.common.config.CacheConfig.ALL_EMPLOYEES_CACHE;
+import static com.reliaquest.api.common.config.CacheConfig.EMPLOYEE_BY_ID_CACHE;
+import static com.reliaquest.api.common.config.CacheConfig.EMPLOYEE_NOT_FOUND_CACHE;
+import static com.reliaquest.api.common.config.CaffeineCaches.getOnCallingThread;
+import static com.reliaquest.api.common.config.CaffeineCaches.register;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.reliaquest.api.application.domain.model.Employee;
+import com.reliaquest.api.application.domain.model.EmployeeRoster;
+import com.reliaquest.api.application.port.out.DeleteEmployeeAsyncPort;
 import com.reliaquest.api.application.port.out.DeleteEmployeePort;
+import com.reliaquest.api.application.port.out.LoadEmployeeByIdAsyncPort;
 import com.reliaquest.api.application.port.out.LoadEmployeeByIdPort;
+import com.reliaquest.api.application.port.out.LoadEmployeeRosterAsyncPort;
+import com.reliaquest.api.application.port.out.LoadEmployeeRosterPort;
+import com.reliaquest.api.application.port.out.LoadEmployeesAsyncPort;
 import com.reliaquest.api.application.port.out.LoadEmployeesPort;
+import com.reliaquest.api.application.port.out.LoadEmployeesStalenessPort;
+import com.reliaquest.api.application.port.out.SaveNewEmployeeAsyncPort;
 import com.reliaquest.api.application.port.out.SaveNewEmployeePort;
+import com.reliaquest.api.application.port.out.UpstreamUnavailableException;
 import com.reliaquest.api.common.OutAdapter;
+import com.reliaquest.api.common.StaleResponse;
+import com.reliaquest.api.common.config.EmployeeServerCircuitBreakerProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
 import java.util.List;
 import java.util.UUID;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.UnaryOperator;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RequestCallback;
 import org.springframework.web.client.RestTemplate;
 
 @Slf4j
 @OutAdapter
-@RequiredArgsConstructor
 public class EmployeeServerAdapter
-        implements LoadEmployeesPort, LoadEmployeeByIdPort, SaveNewEmployeePort, DeleteEmployeePort {
+        implements LoadEmployeesPort,
+                LoadEmployeeByIdPort,
+                SaveNewEmployeePort,
+                DeleteEmployeePort,
+                LoadEmployeesAsyncPort,
+                LoadEmployeeByIdAsyncPort,
+                SaveNewEmployeeAsyncPort,
+                DeleteEmployeeAsyncPort,
+                LoadEmployeeRosterPort,
+                LoadEmployeeRosterAsyncPort,
+                LoadEmployeesStalenessPort {
+    private static final String ALL_EMPLOYEES_KEY = "all";
+
+    private static final double KNOWN_IDS_FALSE_POSITIVE_RATE = 0.01;
+
+    private static final RequestCallback ACCEPT_JSON =
+            request -> request.getHeaders().setAccept(List.of(MediaType.APPLICATION_JSON));
+
     private final String employeeServerUrl = "http://localhost:8112/api/v1/employee";
 
     private final RestTemplate restTemplate;
 
     private final EmployeeMapper employeeMapper;
 
+    private final EmployeeRosterExtractor employeeRosterExtractor = new EmployeeRosterExtractor();
+
+    // concurrent misses share one upstream call; the roster sits in a reference so writes patch it in place
+    private final AsyncLoadingCache<String, AtomicReference<EmployeeRoster>> allEmployeesCache;
+
+    private final AsyncLoadingCache<UUID, Employee> employeeByIdCache;
+
+    // ids the Employee Server answered 404 for, or that were deleted through us. A client probing unknown ids would
+    // otherwise spend the request budget of everybody else
+    private final Cache<UUID, Boolean> employeeNotFoundCache;
+
+    // the ids of the last loaded roster plus the ones created since, see isKnownNotFound
+    private volatile KnownEmployeeIds knownEmployeeIds;
+
+    // when the known ids were built from a roster load, in nanoClock time
+    private volatile long knownEmployeeIdsLoadedAt;
+
+    // how long the known ids are trusted after a load: as long as the employeeNotFound cache remembers a 404, so an id
+    // created through another instance is missed for no longer than one the server did not know a moment earlier
+    private final long knownEmployeeIdsTrustedForNanos;
+
+    private final LongSupplier nanoClock;
+
+    private final Executor cacheRefreshExecutor;
+
+    // runs the upstream calls of the async variants, so callers don't wait on the Employee Server themselves
+    private final Executor employeeServerExecutor;
+
+    // one circuit per port operation, so e.g. failing deletes don't stop reads from going out
+    private final UpstreamCircuitBreaker loadAllEmployeesCircuit;
+    private final UpstreamCircuitBreaker loadEmployeeByIdCircuit;
+    private final UpstreamCircuitBreaker saveNewEmployeeCircuit;
+    private final UpstreamCircuitBreaker deleteEmployeeCircuit;
+
+    // the roster of the last successful load, outliving the cache entry so reads can still be answered while the
+    // Employee Server is unavailable. It is the same reference the cache holds, so creates and deletes patch both
+    private volatile AtomicReference<EmployeeRoster> lastKnownGoodRoster;
+
+    // the roster seeded from the snapshot on disk, until the first load from the Employee Server replaces it
+    private volatile AtomicReference<EmployeeRoster> snapshotRoster;
+
+    // creates and deletes made while a roster load is in flight, for that load to apply again. Also guards replacing
+    // the last known good roster, so that every change ends up in the roster that replaces it
+    private final RosterChangeLog rosterChanges = new RosterChangeLog();
+
+    // set while a background task prepares the rosters changed by creates and deletes, see prepareRostersInBackground
+    private final AtomicBoolean preparingRosters = new AtomicBoolean();
+
+    private final EmployeeRosterSnapshotStore rosterSnapshotStore;
+
+    // guarded by this, the roster last written to the snapshot store
+    private EmployeeRoster lastWrittenRoster;
+
+    @Autowired
+    public EmployeeServerAdapter(
+            RestTemplate restTemplate,
+            EmployeeMapper employeeMapper,
+            CaffeineCacheManager cacheManager,
+            @Qualifier("employeeByIdCacheConfig") Caffeine<Object, Object> employeeByIdCacheConfig,
+            @Qualifier("allEmployeesCacheConfig") Caffeine<Object, Object> allEmployeesCacheConfig,
+            @Qualifier("employeeNotFoundCacheConfig") Caffeine<Object, Object> employeeNotFoundCacheConfig,
+            @Qualifier("cacheRefreshExecutor") Executor cacheRefreshExecutor,
+            @Qualifier("employeeServerExecutor") Executor employeeServerExecutor,
+            EmployeeServerCircuitBreakerProperties circuitBreakerProperties,
+            EmployeeRosterSnapshotStore rosterSnapshotStore) {
+        this(
+                restTemplate,
+                employeeMapper,
+                cacheManager,
+                employeeByIdCacheConfig,
+                allEmployeesCacheConfig,
+                employeeNotFoundCacheConfig,
+                cacheRefreshExecutor,
+                employeeServerExecutor,
+                circuitBreakerProperties,
+                rosterSnapshotStore,
+                System::nanoTime);
+    }
+
+    EmployeeServerAdapter(
+            RestTemplate restTemplate,
+            EmployeeMapper employeeMapper,
+            CaffeineCacheManager cacheManager,
+            @Qualifier("employeeByIdCacheConfig") Caffeine<Object, Object> employeeByIdCacheConfig,
+            @Qualifier("allEmployeesCacheConfig") Caffeine<Object, Object> allEmployeesCacheConfig,
+            @Qualifier("employeeNotFoundCacheConfig") Caffeine<Object, Object> employeeNotFoundCacheConfig,
+            @Qualifier("cacheRefreshExecutor") Executor cacheRefreshExecutor,
+            @Qualifier("employeeServerExecutor") Executor employeeServerExecutor,
+            EmployeeServerCircuitBreakerProperties circuitBreakerProperties,
+            EmployeeRosterSnapshotStore rosterSnapshotStore,
+            LongSupplier nanoClock) {
+        this.restTemplate = restTemplate;
+        this.employeeMapper = employeeMapper;
+        this.cacheRefreshExecutor = cacheRefreshExecutor;
+        this.employeeServerExecutor = employeeServerExecutor;
+        this.rosterSnapshotStore = rosterSnapshotStore;
+        this.loadAllEmployeesCircuit = new UpstreamCircuitBreaker("loadAllEmployees", circuitBreakerProperties);
+        this.loadEmployeeByIdCircuit = new UpstreamCircuitBreaker("loadEmployeeById", circuitBreakerProperties);
+        this.saveNewEmployeeCircuit = new UpstreamCircuitBreaker("saveNewEmployee", circuitBreakerProperties);
+        this.deleteEmployeeCircuit = new UpstreamCircuitBreaker("deleteEmployeeById", circuitBreakerProperties);
+        this.allEmployeesCache = allEmployeesCacheConfig.buildAsync(new AllEmployeesLoader());
+        this.employeeByIdCache = employeeByIdCacheConfig.buildAsync(this::fetchEmployeeById);
+        this.employeeNotFoundCache = employeeNotFoundCacheConfig.build();
+        this.knownEmployeeIdsTrustedForNanos = employeeNotFoundCache
+                .policy()
+                .expireAfterWrite()
+                .map(expiration -> expiration.getExpiresAfter().toNanos())
+                .orElse(Long.MAX_VALUE);
+        this.nanoClock = nanoClock;
+
+        register(cacheManager, ALL_EMPLOYEES_CACHE, allEmployeesCache);
+        register(cacheManager, EMPLOYEE_BY_ID_CACHE, employeeByIdCache);
+        register(cacheManager, EMPLOYEE_NOT_FOUND_CACHE, employeeNotFoundCache);
+    }
+
     @Override
-    @Cacheable(cacheNames = "allEmployees", unless = "#result == null")
     public List<Employee> loadAllEmployees() {
-        List<Employee> employees = null;
+        EmployeeRoster roster = loadEmployeeRoster();
+        return roster == null ? null : roster.getEmployees();
+    }
 
-        try {
-            ResponseEntity<EmployeeServerResponse<List<EmployeeEntity>>> response = restTemplate.exchange(
-                    employeeServerUrl, HttpMethod.GET, null, new ParameterizedTypeReference<>() {});
+    @Override
+    public CompletableFuture<List<Employee>> loadAllEmployeesAsync() {
+        return loadEmployeeRosterAsync().thenApply(roster -> roster == null ? null : roster.getEmployees());
+    }
 
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                employees = response.getBody().getData().stream()
-                        .map(employeeMapper::toEmployee)
-                        .toList();
-            }
-        } catch (Exception e) {
-            log.error("An error occurred while trying to load employees from Employee Server", e);
-            return null;
-        }
+    /**
+     * The cached roster itself, so callers can use what is derived from it, e.g. its salary aggregates, instead of
+     * recomputing that from the employee list on every request. A miss is loaded on the calling thread.
+     */
+    @Override
+    public EmployeeRoster loadEmployeeRoster() {
+        return join(loadEmployeeRoster(getOnCallingThread(allEmployeesCache, ALL_EMPLOYEES_KEY, key -> loadRoster())));
+    }
+
+    @Override
+    public CompletableFuture<EmployeeRoster> loadEmployeeRosterAsync() {
+        return loadEmployeeRoster(allEmployeesCache.get(ALL_EMPLOYEES_KEY));
+    }
 
-        return employees;
+    private CompletableFuture<EmployeeRoster> loadEmployeeRoster(
+            CompletableFuture<AtomicReference<EmployeeRoster>> cached) {
+        HttpServletRequest request = StaleResponse.currentRequest();
+        return recover(
+                cached.thenApply(roster -> {
+                    if (isFromSnapshot(roster)) {
+                        StaleResponse.markStale(request);
+                    }
+                    return roster == null ? null : roster.get();
+                }),
+                Function.identity(),
+                "An error occurred while trying to load employees from Employee Server",
+                request);
     }
 
     @Override
-    @Cacheable(cacheNames = "employeeById", key = "#id", unless = "#result == null")
     public Employee loadEmployeeById(UUID id) {
-        Employee employee = null;
+        return join(loadEmployeeById(id, key -> getOnCallingThread(employeeByIdCache, key, this::fetchEmployeeById)));
+    }
 
-        try {
-            String url = String.format("%s/%s", employeeServerUrl, id.toString());
-            ResponseEntity<EmployeeServerResponse<EmployeeEntity>> response =
-                    restTemplate.exchange(url, HttpMethod.GET, null, new ParameterizedTypeReference<>() {});
+    @Override
+    public CompletableFuture<Employee> loadEmployeeByIdAsync(UUID id) {
+        return loadEmployeeById(id, employeeByIdCache::get);
+    }
 
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                employee = employeeMapper.toEmployee(response.getBody().getData());
-            }
-        } catch (Exception e) {
-            if (((HttpClientErrorException) e).getStatusCode() == HttpStatus.NOT_FOUND) {
-                log.info("Employee with id {} not found", id);
-            } else {
-                log.error("An error occurred while trying to load employee by id from Employee Server", e);
+    private CompletableFuture<Employee> loadEmployeeById(
+            UUID id, Function<UUID, CompletableFuture<Employee>> cachedEmployee) {
+        // answer from the roster snapshot when we have one, only ids it doesn't know about go to the Employee Server
+        HttpServletRequest request = StaleResponse.currentRequest();
+        Employee employee = cachedRosterEmployee(id);
+        if (employee != null) {
+            if (isFromSnapshot(cachedRosterReference())) {
+                StaleResponse.markStale(request);
             }
-            return null;
+            return CompletableFuture.completedFuture(employee);
+        }
+        if (isKnownNotFound(id)) {
+            return CompletableFuture.completedFuture(null);
         }
 
-        return employee;
+        return recover(
+                cachedEmployee.apply(id),
+                roster -> roster.findById(id),
+                "An error occurred while trying to load employee by id from Employee Server",
+                request);
+    }
+
+    @Override
+    public boolean isFromSnapshot(EmployeeRoster roster) {
+        AtomicReference<EmployeeRoster> snapshot = snapshotRoster;
+        return roster != null && snapshot != null && snapshot.get() == roster;
+    }
+
+    private boolean isFromSnapshot(AtomicReference<EmployeeRoster> roster) {
+        return roster != null && roster == snapshotRoster;
+    }
+
+    @Override
+    public CompletableFuture<Employee> saveNewEmployeeAsync(Employee employee) {
+        return CompletableFuture.supplyAsync(() -> saveNewEmployee(employee), employeeServerExecutor);
+    }
+
+    @Override
+    public CompletableFuture<String> deleteEmployeeByIdAsync(UUID uuid) {
+        return CompletableFuture.supplyAsync(() -> deleteEmployeeById(uuid), employeeServerExecutor);
     }
 
     @Override
-    @CacheEvict(cacheNames = "allEmployees", allEntries = true, condition = "#result != null")
     public Employee saveNewEmployee(Employee employee) {
         Employee newEmployee = null;
 
         try {
-            ResponseEntity<EmployeeServerResponse<EmployeeEntity>> response = restTemplate.exchange(
-                    employeeServerUrl,
-                    HttpMethod.POST,
-                    new HttpEntity<>(employee),
-                    new ParameterizedTypeReference<>() {});
+            ResponseEntity<EmployeeServerResponse<EmployeeEntity>> response =
+                    saveNewEmployeeCircuit.call(() -> restTemplate.exchange(
+                            employeeServerUrl,
+                            HttpMethod.POST,
+                            new HttpEntity<>(employee),
+                            new ParameterizedTypeReference<>() {}));
 
             if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
                 newEmployee = employeeMapper.toEmployee(response.getBody().getData());
             }
+        } catch (UpstreamUnavailableException e) {
+            // let the caller know the Employee Server is unavailable instead of pretending there is no data
+            throw e;
         } catch (Exception e) {
             log.error("An error occurred while trying to save new employee to Employee Server", e);
             return null;
         }
 
+        if (newEmployee != null) {
+            addToCaches(newEmployee);
+        }
+
         return newEmployee;
     }
 
     @Override
-    @Caching(
-            evict = {
-                @CacheEvict(cacheNames = "allEmployees", allEntries = true, condition = "#result != null"),
-                @CacheEvict(cacheNames = "employeeById", key = "#uuid", condition = "#result != null")
-            })
     public String deleteEmployeeById(UUID uuid) {
         String deletedEmployee = null;
 
-        // this will skip caching because we're invoking this method from within the same class; but this is desired
-        // because it will ensure the employee exists before attempting to delete
-        Employee employeeToDelete = loadEmployeeById(uuid);
+        // the server deletes by name, resolve it locally when we can so the delete only costs the DELETE itself. Ids we
+        // don't know about go to the server, which also makes sure the employee exists before attempting to delete
+        Employee employeeToDelete = findCachedEmployee(uuid);
+        if (employeeToDelete == null && !isKnownNotFound(uuid)) {
+            try {
+                employeeToDelete = fetchEmployeeById(uuid);
+            } catch (UpstreamUnavailableException e) {
+                throw e;
+            } catch (Exception e) {
+                log.error("An error occurred while trying to load employee by id from Employee Server", e);
+                return null;
+            }
+        }
 
         if (employeeToDelete == null) {
             log.info("Employee with id {} not found, cannot delete", uuid);
@@ -125,19 +346,366 @@ public class EmployeeServerAdapter
             // expects
             HttpEntity<Employee> requestEntity = new HttpEntity<>(
                     Employee.builder().name(employeeToDelete.getName()).build());
-            ResponseEntity<EmployeeServerResponse<Boolean>> response = restTemplate.exchange(
-                    employeeServerUrl, HttpMethod.DELETE, requestEntity, new ParameterizedTypeReference<>() {});
+            ResponseEntity<EmployeeServerResponse<Boolean>> response =
+                    deleteEmployeeCircuit.call(() -> restTemplate.exchange(
+                            employeeServerUrl,
+                            HttpMethod.DELETE,
+                            requestEntity,
+                            new ParameterizedTypeReference<>() {}));
 
             if (response.getStatusCode().is2xxSuccessful()
                     && response.getBody() != null
                     && response.getBody().getData()) {
                 deletedEmployee = employeeToDelete.getName();
             }
+        } catch (UpstreamUnavailableException e) {
+            throw e;
         } catch (Exception e) {
             log.error("An error occurred while trying to delete employee by id from Employee Server", e);
             return null;
         }
 
+        if (deletedEmployee != null) {
+            removeFromCaches(uuid);
+        }
+
         return deletedEmployee;
     }
+
+    /**
+     * Writes a newly created employee through to the caches, so reads after a create see it without reloading the
+     * whole roster from the Employee Server.
+     */
+    private void addToCaches(Employee newEmployee) {
+        employeeByIdCache.put(newEmployee.getId(), CompletableFuture.completedFuture(newEmployee));
+        employeeNotFoundCache.invalidate(newEmployee.getId());
+        changeRosters(current -> current.withEmployee(newEmployee));
+        // only after the roster change, so known ids rebuilt by a load in flight either contain the id or are seen here
+        KnownEmployeeIds knownIds = knownEmployeeIds;
+        if (knownIds != null) {
+            knownIds.add(newEmployee.getId());
+        }
+    }
+
+    /**
+     * Removes a deleted employee from the caches, so reads after a delete no longer see it without reloading the whole
+     * roster from the Employee Server.
+     */
+    private void removeFromCaches(UUID uuid) {
+        employeeByIdCache.synchronous().invalidate(uuid);
+        // the known ids can't forget an id, the negative cache covers it until the next load rebuilds them
+        employeeNotFoundCache.put(uuid, Boolean.TRUE);
+        changeRosters(current -> current.withoutEmployee(uuid));
+    }
+
+    /**
+     * Applies a create or delete to the cached roster, also to one that is still loading, and to the last known good
+     * roster. It is also recorded for the roster loads in flight, which apply it again to the roster they return, see
+     * {@link RosterChangeLog}.
+     */
+    private void changeRosters(UnaryOperator<EmployeeRoster> change) {
+        synchronized (rosterChanges) {
+            rosterChanges.record(change);
+            CompletableFuture<AtomicReference<EmployeeRoster>> roster =
+                    allEmployeesCache.getIfPresent(ALL_EMPLOYEES_KEY);
+            if (roster != null) {
+                roster.thenAccept(reference -> reference.updateAndGet(change));
+            }
+            // the last known good roster is usually the same reference, applying a change twice is a no-op
+            AtomicReference<EmployeeRoster> lastKnownGood = lastKnownGoodRoster;
+            if (lastKnownGood != null) {
+                lastKnownGood.updateAndGet(change);
+            }
+        }
+        prepareRostersInBackground();
+    }
+
+    /**
+     * Prepares the cached and the last known good roster on the refresh executor if either has something left to
+     * build, see {@link EmployeeRoster#prepare()}, so that no read has to build it. One task at a time prepares
+     * whatever roster is current when it runs, so a burst of writes is caught up with in one go.
+     */
+    private void prepareRostersInBackground() {
+        if (unpreparedRoster() == null || !preparingRosters.compareAndSet(false, true)) {
+            return;
+        }
+        cacheRefreshExecutor.execute(() -> {
+            try {
+                for (EmployeeRoster roster = unpreparedRoster(); roster != null; roster = unpreparedRoster()) {
+                    roster.prepare();
+                }
+            } finally {
+                preparingRosters.set(false);
+            }
+            // a write may have come in after the last check but before the flag was cleared
+            prepareRostersInBackground();
+        });
+    }
+
+    private EmployeeRoster unpreparedRoster() {
+        EmployeeRoster cached = cachedRoster();
+        if (cached != null && !cached.isPrepared()) {
+            return cached;
+        }
+        AtomicReference<EmployeeRoster> lastKnownGood = lastKnownGoodRoster;
+        EmployeeRoster roster = lastKnownGood == null ? null : lastKnownGood.get();
+        return roster != null && !roster.isPrepared() ? roster : null;
+    }
+
+    /**
+     * Whether the id can be answered as not found without asking the Employee Server: it was recently not found or
+     * deleted, or it is not among the known ids. The known ids are only trusted while there is a roster in the cache,
+     * loaded or loading, and they were loaded no longer ago than the employeeNotFound cache remembers a 404, or while
+     * the Employee Server is unavailable; otherwise the server has the final word, so an id created through another
+     * instance is not reported as not found until the next roster load. An id in the employeeById cache is never
+     * reported as not found.
+     */
+    private boolean isKnownNotFound(UUID id) {
+        if (employeeByIdCache.getIfPresent(id) != null) {
+            return false;
+        }
+        if (employeeNotFoundCache.getIfPresent(id) != null) {
+            return true;
+        }
+        KnownEmployeeIds knownIds = knownEmployeeIds;
+        return knownIds != null
+                && (loadAllEmployeesCircuit.isFailing() || knownIdsAreFresh())
+                && !knownIds.mightContain(id);
+    }
+
+    private boolean knownIdsAreFresh() {
+        return nanoClock.getAsLong() - knownEmployeeIdsLoadedAt < knownEmployeeIdsTrustedForNanos
+                && allEmployeesCache.getIfPresent(ALL_EMPLOYEES_KEY) != null;
+    }
+
+    /**
+     * Looks an employee up in the cached roster snapshot, returning null if there is no snapshot or it lacks the id.
+     */
+    private Employee cachedRosterEmployee(UUID id) {
+        EmployeeRoster roster = cachedRoster();
+        return roster == null ? null : roster.findById(id);
+    }
+
+    /**
+     * Looks an employee up in the roster snapshot and then the employeeById cache, without waiting or triggering a
+     * load. Returns null if neither has it.
+     */
+    private Employee findCachedEmployee(UUID id) {
+        Employee employee = cachedRosterEmployee(id);
+        if (employee != null) {
+            return employee;
+        }
+        CompletableFuture<Employee> cached = employeeByIdCache.getIfPresent(id);
+        if (cached == null || !cached.isDone() || cached.isCompletedExceptionally()) {
+            return null;
+        }
+        return cached.getNow(null);
+    }
+
+    /**
+     * Returns the cached roster snapshot without waiting or triggering a load, or null if there is no loaded snapshot.
+     */
+    private EmployeeRoster cachedRoster() {
+        AtomicReference<EmployeeRoster> reference = cachedRosterReference();
+        return reference == null ? null : reference.get();
+    }
+
+    private AtomicReference<EmployeeRoster> cachedRosterReference() {
+        CompletableFuture<AtomicReference<EmployeeRoster>> roster = allEmployeesCache.getIfPresent(ALL_EMPLOYEES_KEY);
+        if (roster == null || !roster.isDone() || roster.isCompletedExceptionally()) {
+            return null;
+        }
+        return roster.getNow(null);
+    }
+
+    /**
+     * Loads all employees from the Employee Server. Used as the cache loader, so failures are thrown rather than
+     * returned as null; a null return means the server answered without data. The response is streamed into the
+     * roster, see {@link EmployeeRosterExtractor}.
+     */
+    private EmployeeRoster fetchAllEmployees() {
+        return loadAllEmployeesCircuit.call(() ->
+                restTemplate.execute(employeeServerUrl, HttpMethod.GET, ACCEPT_JSON, employeeRosterExtractor));
+    }
+
+    /**
+     * Loads all employees and makes them the last known good roster, with the creates and deletes made while the load
+     * was in flight applied. The roster is prepared before it is handed out, on the loading thread, which is the
+     * refresh executor for a refresh, so that no read has to build its indexes. Returns null when the server answered
+     * without data.
+     */
+    private AtomicReference<EmployeeRoster> loadRoster() {
+        long startedAt = rosterChanges.loadStarted();
+        try {
+            EmployeeRoster roster = fetchAllEmployees();
+            if (roster == null) {
+                return null;
+            }
+            roster.prepare();
+            return rememberAsLastKnownGood(roster, startedAt);
+        } finally {
+            rosterChanges.loadEnded(startedAt);
+        }
+    }
+
+    /**
+     * Reloads all employees for a background refresh. Caffeine drops the entry when a refresh returns null, so a
+     * response without data is turned into a failure to keep serving the current snapshot instead.
+     */
+    private AtomicReference<EmployeeRoster> refreshAllEmployees() {
+        AtomicReference<EmployeeRoster> roster = loadRoster();
+        if (roster == null) {
+            throw new IllegalStateException("Employee Server returned no employees");
+        }
+        return roster;
+    }
+
+    /**
+     * Keeps a freshly loaded roster around as the fallback for when the Employee Server is unavailable, rebuilds the
+     * known ids from it, stops serving the snapshot from disk, and writes the roster to the snapshot store in the
+     * background. The creates and deletes made since the load started are applied first; creates and deletes made from
+     * here on find the new roster as the last known good one.
+     */
+    private AtomicReference<EmployeeRoster> rememberAsLastKnownGood(EmployeeRoster loaded, long startedAt) {
+        AtomicReference<EmployeeRoster> roster;
+        synchronized (rosterChanges) {
+            roster = new AtomicReference<>(rosterChanges.changedSince(startedAt, loaded));
+            knownEmployeeIdsLoadedAt = nanoClock.getAsLong();
+            knownEmployeeIds = KnownEmployeeIds.of(roster.get(), KNOWN_IDS_FALSE_POSITIVE_RATE);
+            lastKnownGoodRoster = roster;
+            snapshotRoster = null;
+        }
+        cacheRefreshExecutor.execute(this::writeRosterSnapshot);
+        // the changes applied may have left something to rebuild
+        prepareRostersInBackground();
+        return roster;
+    }
+
+    /**
+     * Serves the roster snapshot from disk, if there is one, until the first load from the Employee Server succeeds, so
+     * a restarted api can answer right away. Reads are marked stale meanwhile, and a reload starts in the background.
+     * Runs once the adapter is constructed, before the warm-up.
+     */
+    @PostConstruct
+    void seedFromSnapshot() {
+        EmployeeRoster snapshot = rosterSnapshotStore.load();
+        if (snapshot == null) {
+            return;
+        }
+
+        AtomicReference<EmployeeRoster> reference = new AtomicReference<>(snapshot);
+        allEmployeesCache.put(ALL_EMPLOYEES_KEY, CompletableFuture.completedFuture(reference));
+        knownEmployeeIdsLoadedAt = nanoClock.getAsLong();
+        knownEmployeeIds = KnownEmployeeIds.of(snapshot, KNOWN_IDS_FALSE_POSITIVE_RATE);
+        lastKnownGoodRoster = reference;
+        snapshotRoster = reference;
+        synchronized (this) {
+            lastWrittenRoster = snapshot;
+        }
+        prepareRostersInBackground();
+        allEmployeesCache.synchronous().refresh(ALL_EMPLOYEES_KEY);
+    }
+
+    /**
+     * Writes the last known good roster to the snapshot store if it changed since the last write. Rosters are immutable
+     * and every change produces a new one, so comparing references is enough to tell. Also runs on shutdown, to keep
+     * the creates and deletes made since the last load.
+     */
+    @PreDestroy
+    synchronized void writeRosterSnapshot() {
+        AtomicReference<EmployeeRoster> lastKnownGood = lastKnownGoodRoster;
+        EmployeeRoster roster = lastKnownGood == null ? null : lastKnownGood.get();
+        if (roster != null && roster != lastWrittenRoster && rosterSnapshotStore.save(roster)) {
+            lastWrittenRoster = roster;
+        }
+    }
+
+    /**
+     * Loads a single employee from the Employee Server, returning null when the server does not know the id.
+     */
+    private Employee fetchEmployeeById(UUID id) {
+        try {
+            String url = String.format("%s/%s", employeeServerUrl, id.toString());
+            ResponseEntity<EmployeeServerResponse<EmployeeEntity>> response = loadEmployeeByIdCircuit.call(
+                    () -> restTemplate.exchange(url, HttpMethod.GET, null, new ParameterizedTypeReference<>() {}));
+
+            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
+                return employeeMapper.toEmployee(response.getBody().getData());
+            }
+        } catch (HttpClientErrorException e) {
+            if (e.getStatusCode() != HttpStatus.NOT_FOUND) {
+                throw e;
+            }
+            log.info("Employee with id {} not found", id);
+            employeeNotFoundCache.put(id, Boolean.TRUE);
+        }
+
+        return null;
+    }
+
+    /**
+     * Handles a failed cache load. When the Employee Server is throttling, failing or its circuit is open, the read is
+     * answered from the last known good roster and marked stale if that roster can answer it. Otherwise being
+     * unavailable is reported to the caller, and any other failure is logged and turned into null, same as a load that
+     * found nothing.
+     */
+    private <T> CompletableFuture<T> recover(
+            CompletableFuture<T> load,
+            Function<EmployeeRoster, T> lastKnownGoodQuery,
+            String errorMessage,
+            HttpServletRequest request) {
+        return load.handle((value, e) -> {
+            if (e == null) {
+                return value;
+            }
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            AtomicReference<EmployeeRoster> lastKnownGood = lastKnownGoodRoster;
+            if (UpstreamCircuitBreaker.isUpstreamFailure(cause) && lastKnownGood != null) {
+                T staleValue = lastKnownGoodQuery.apply(lastKnownGood.get());
+                if (staleValue != null) {
+                    log.warn("{}, serving the last known good roster: {}", errorMessage, cause.getMessage());
+                    StaleResponse.markStale(request);
+                    return staleValue;
+                }
+            }
+            if (cause instanceof UpstreamUnavailableException unavailable) {
+                throw unavailable;
+            }
+            log.error(errorMessage, cause);
+            return null;
+        });
+    }
+
+    /**
+     * Waits for an async result on the calling thread, rethrowing the exception it failed with.
+     */
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private class AllEmployeesLoader implements CacheLoader<String, AtomicReference<EmployeeRoster>> {
+
+        @Override
+        public AtomicReference<EmployeeRoster> load(String key) {
+            return loadRoster();
+        }
+
+        @Override
+        public CompletableFuture<AtomicReference<EmployeeRoster>> asyncReload(
+                String key, AtomicReference<EmployeeRoster> oldValue, Executor executor) {
+            return CompletableFuture.supplyAsync(EmployeeServerAdapter.this::refreshAllEmployees, cacheRefreshExecutor)
+                    .whenComplete((roster, e) -> {
+                        if (e != null) {
+                            log.warn("Refreshing employees failed, keeping the current snapshot: {}", e.getMessage());
+                        }
+                    });
+        }
+    }
 }
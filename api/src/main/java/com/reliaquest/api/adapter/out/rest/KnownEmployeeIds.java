@@ -0,0 +1,85 @@
+package com.reliaquest.api.adapter.out.rest;
+
+import com.reliaquest.api.application.domain.model.Employee;
+import com.reliaquest.api.application.domain.model.EmployeeRoster;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter over the ids of a roster: a "no" is definite, a "yes" is wrong for about {@code falsePositiveRate} of
+ * unknown ids. Deleted ids stay "maybe known" until the next load rebuilds it.
+ */
+final class KnownEmployeeIds {
+
+    // room for this many creates per employee loaded before the false positive rate starts to rise
+    private static final double HEADROOM = 0.25;
+
+    private final AtomicLongArray bits;
+    private final int bitCount;
+    private final int hashCount;
+
+    private KnownEmployeeIds(int expectedIds, double falsePositiveRate) {
+        int expected = Math.max(expectedIds, 1);
+        long optimalBits = (long) Math.ceil(-expected * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.min(Integer.MAX_VALUE / Long.SIZE, (optimalBits + Long.SIZE - 1) / Long.SIZE);
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = words * Long.SIZE;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expected * Math.log(2)));
+    }
+
+    static KnownEmployeeIds of(EmployeeRoster roster, double falsePositiveRate) {
+        int size = roster.getEmployees().size();
+        KnownEmployeeIds knownIds = new KnownEmployeeIds(size + (int) Math.ceil(size * HEADROOM), falsePositiveRate);
+        for (Employee employee : roster.getEmployees()) {
+            if (employee != null && employee.getId() != null) {
+                knownIds.add(employee.getId());
+            }
+        }
+        return knownIds;
+    }
+
+    void add(UUID id) {
+        long h1 = hash1(id);
+        long h2 = hash2(id);
+        for (int i = 0; i < hashCount; i++) {
+            int bit = (int) Long.remainderUnsigned(h1 + i * h2, bitCount);
+            long mask = 1L << bit;
+            int word = bit >>> 6;
+            long current = bits.get(word);
+            while ((current & mask) == 0 && !bits.weakCompareAndSetVolatile(word, current, current | mask)) {
+                current = bits.get(word);
+            }
+        }
+    }
+
+    boolean mightContain(UUID id) {
+        long h1 = hash1(id);
+        long h2 = hash2(id);
+        for (int i = 0; i < hashCount; i++) {
+            int bit = (int) Long.remainderUnsigned(h1 + i * h2, bitCount);
+            if ((bits.get(bit >>> 6) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // double hashing: the i-th probe is h1 + i * h2, which behaves like independent hashes for a Bloom filter
+    private static long hash1(UUID id) {
+        return mix(id.getMostSignificantBits() ^ mix(id.getLeastSignificantBits()));
+    }
+
+    private static long hash2(UUID id) {
+        // odd, so it is never a multiple of the bit count and the probes never all land on the same bit
+        return mix(id.getLeastSignificantBits() ^ 0x9E3779B97F4A7C15L) | 1;
+    }
+
+    /**
+     * Finalizer of SplitMix64, spreads the bits of random and sequential ids alike.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,63 @@
+package com.reliaquest.api.adapter.out.rest;
+
+import com.reliaquest.api.application.domain.model.EmployeeRoster;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+/**
+ * The creates and deletes made while a roster load is in flight, for the load to apply again to the roster it returns,
+ * which may have been read before them. Applying a change twice is harmless.
+ */
+final class RosterChangeLog {
+
+    // everything below is guarded by this
+    private long generation;
+    private final Deque<Change> changes = new ArrayDeque<>();
+    private final List<Long> loadsInFlight = new ArrayList<>();
+
+    /**
+     * @return the generation the load starts at, to pass to {@link #changedSince(long, EmployeeRoster)} and
+     * {@link #loadEnded(long)}
+     */
+    synchronized long loadStarted() {
+        loadsInFlight.add(generation);
+        return generation;
+    }
+
+    /**
+     * Forgets a load that has its roster, or failed, and the changes no other load in flight needs.
+     */
+    synchronized void loadEnded(long startedAt) {
+        loadsInFlight.remove(Long.valueOf(startedAt));
+        long oldestInFlight = loadsInFlight.isEmpty() ? generation : Collections.min(loadsInFlight);
+        while (!changes.isEmpty() && changes.peekFirst().generation() <= oldestInFlight) {
+            changes.removeFirst();
+        }
+    }
+
+    synchronized void record(UnaryOperator<EmployeeRoster> change) {
+        generation++;
+        if (!loadsInFlight.isEmpty()) {
+            changes.addLast(new Change(generation, change));
+        }
+    }
+
+    /**
+     * @return the roster with the changes recorded since the given generation applied, in the order they were made
+     */
+    synchronized EmployeeRoster changedSince(long startedAt, EmployeeRoster roster) {
+        EmployeeRoster changed = roster;
+        for (Change change : changes) {
+            if (change.generation() > startedAt) {
+                changed = change.change().apply(changed);
+            }
+        }
+        return changed;
+    }
+
+    private record Change(long generation, UnaryOperator<EmployeeRoster> change) {}
+}
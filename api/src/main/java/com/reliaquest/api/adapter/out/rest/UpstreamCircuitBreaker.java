@@ -0,0 +1,160 @@
+package com.reliaquest.api.adapter.out.rest;
+
+import com.reliaquest.api.application.port.out.UpstreamThrottledException;
+import com.reliaquest.api.application.port.out.UpstreamUnavailableException;
+import com.reliaquest.api.common.config.EmployeeServerCircuitBreakerProperties;
+import java.time.Duration;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+/**
+ * Circuit breaker for one kind of Employee Server call: it opens after {@code failureThreshold} consecutive throttled,
+ * 5xx or unanswered calls, stays open for the learned retry-after or the configured duration, then lets one probe call
+ * through. Any other outcome, including 4xx answers, counts as a success.
+ */
+@Slf4j
+class UpstreamCircuitBreaker {
+
+    enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openNanos;
+    private final long maxOpenNanos;
+    private final LongSupplier nanoClock;
+
+    // everything below is guarded by this
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openUntil;
+
+    UpstreamCircuitBreaker(String name, EmployeeServerCircuitBreakerProperties properties) {
+        this(name, properties, System::nanoTime);
+    }
+
+    UpstreamCircuitBreaker(String name, EmployeeServerCircuitBreakerProperties properties, LongSupplier nanoClock) {
+        this.name = name;
+        this.failureThreshold = Math.max(1, properties.failureThreshold());
+        this.openNanos = properties.openDuration().toNanos();
+        this.maxOpenNanos = properties.maxOpenDuration().toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Runs the call if the circuit lets it through and records its outcome.
+     *
+     * @throws UpstreamUnavailableException if the circuit is open, or a probe call is already in flight
+     */
+    <T> T call(Supplier<T> upstreamCall) {
+        boolean probe = acquire();
+        boolean outcomeRecorded = false;
+        try {
+            T result = upstreamCall.get();
+            onSuccess();
+            outcomeRecorded = true;
+            return result;
+        } catch (RuntimeException e) {
+            if (isUpstreamFailure(e)) {
+                onFailure(e);
+            } else {
+                onSuccess();
+            }
+            outcomeRecorded = true;
+            throw e;
+        } finally {
+            if (probe && !outcomeRecorded) {
+                // e.g. an Error, which tells nothing about the server; a probe must not leave the circuit half open
+                releaseProbe();
+            }
+        }
+    }
+
+    synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * Whether the last outcome recorded was a failure, i.e. the Employee Server is unavailable even if the circuit has
+     * not opened yet.
+     */
+    synchronized boolean isFailing() {
+        return consecutiveFailures > 0;
+    }
+
+    /**
+     * @return whether this caller is the probe of a half open circuit
+     */
+    private synchronized boolean acquire() {
+        if (state == State.CLOSED) {
+            return false;
+        }
+
+        long now = nanoClock.getAsLong();
+        if (state == State.OPEN && now - openUntil >= 0) {
+            // this caller is the probe, everybody else is rejected until it completes
+            state = State.HALF_OPEN;
+            return true;
+        }
+        throw new UpstreamUnavailableException(
+                "Employee Server is unavailable: circuit for " + name + " is open",
+                Duration.ofNanos(Math.max(0, openUntil - now)));
+    }
+
+    /**
+     * Reopens the half open circuit whose probe ended without an outcome. The open time has already passed, so the next
+     * call becomes the probe.
+     */
+    private synchronized void releaseProbe() {
+        if (state == State.HALF_OPEN) {
+            state = State.OPEN;
+        }
+    }
+
+    private synchronized void onSuccess() {
+        if (state != State.CLOSED) {
+            log.info("Circuit for {} closed, Employee Server is answering again", name);
+        }
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+    }
+
+    private synchronized void onFailure(RuntimeException e) {
+        consecutiveFailures++;
+        if (state != State.HALF_OPEN && consecutiveFailures < failureThreshold) {
+            return;
+        }
+
+        long openFor = openNanos;
+        if (e instanceof UpstreamThrottledException throttled
+                && throttled.getRetryAfter() != null
+                && throttled.getRetryAfter().toNanos() > 0) {
+            openFor = throttled.getRetryAfter().toNanos();
+        }
+        openFor = Math.min(openFor, maxOpenNanos);
+
+        state = State.OPEN;
+        openUntil = nanoClock.getAsLong() + openFor;
+        log.warn(
+                "Circuit for {} opened for {} ms after {} consecutive failures: {}",
+                name,
+                Duration.ofNanos(openFor).toMillis(),
+                consecutiveFailures,
+                e.getMessage());
+    }
+
+    /**
+     * Whether the failure means the Employee Server is unavailable, rather than it rejecting one particular request.
+     */
+    static boolean isUpstreamFailure(Throwable e) {
+        return e instanceof UpstreamUnavailableException
+                || e instanceof HttpServerErrorException
+                || e instanceof ResourceAccessException;
+    }
+}
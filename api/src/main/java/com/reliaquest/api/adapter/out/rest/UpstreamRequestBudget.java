@@ -0,0 +1,272 @@
+package com.reliaquest.api.adapter.out.rest;
+
+import com.reliaquest.api.application.port.out.UpstreamThrottledException;
+import com.reliaquest.api.common.config.EmployeeServerBudgetProperties;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Client side token bucket mirroring the Employee Server's limit: {@code limit} permits, then a wait until
+ * {@code window} has passed since the last request the server counted. Both are learned from the 429s we get. Every
+ * successful {@link #acquire()} must be followed by exactly one of {@link #onAccepted(long)},
+ * {@link #onThrottled(Duration)} or {@link #release()}.
+ */
+@Slf4j
+@Component
+public class UpstreamRequestBudget {
+
+    private final int maxQueued;
+    private final long maxWaitNanos;
+    private final long initialBackoffNanos;
+    private final long maxBackoffNanos;
+    private final LongSupplier nanoClock;
+
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private final Condition permitsChanged = lock.newCondition();
+
+    // everything below is guarded by lock
+    private int limit;
+    private long windowNanos;
+    private int used;
+    private long lastAdmittedAt;
+    // when the last request the server accepted was admitted, and when the one before the first 429 was
+    private long lastAcceptedAt;
+    private long windowStartedAt;
+    private int acceptedSinceReset;
+    private int queued;
+    private boolean throttled;
+    private boolean probeInFlight;
+    private long throttledSince;
+    private long blockedUntil;
+    private boolean blockedByRetryAfterHint;
+    private long backoffNanos;
+
+    @Autowired
+    public UpstreamRequestBudget(EmployeeServerBudgetProperties properties) {
+        this(properties, System::nanoTime);
+    }
+
+    UpstreamRequestBudget(EmployeeServerBudgetProperties properties, LongSupplier nanoClock) {
+        this.maxQueued = properties.maxQueued();
+        this.maxWaitNanos = properties.maxWait().toNanos();
+        this.initialBackoffNanos = properties.initialBackoff().toNanos();
+        this.maxBackoffNanos = properties.maxBackoff().toNanos();
+        this.nanoClock = nanoClock;
+        this.limit = Math.max(1, properties.initialLimit());
+        this.windowNanos = properties.initialWindow().toNanos();
+        this.backoffNanos = initialBackoffNanos;
+    }
+
+    /**
+     * Blocks until a request may be sent to the upstream.
+     *
+     * @return when the request was admitted, to hand to {@link #onAccepted(long)}
+     * @throws UpstreamThrottledException if too many callers are already waiting, or if no permit can be handed out
+     * before the configured maximum wait
+     */
+    public long acquire() {
+        lock.lock();
+        try {
+            if (queued >= maxQueued) {
+                throw throttledException("request queue is full", nextAdmissionIn(nanoClock.getAsLong()));
+            }
+
+            queued++;
+            try {
+                long deadline = nanoClock.getAsLong() + maxWaitNanos;
+                while (true) {
+                    long now = nanoClock.getAsLong();
+                    if (tryAdmit(now)) {
+                        return now;
+                    }
+
+                    long waitUntil = probeInFlight ? deadline : now + nextAdmissionIn(now);
+                    if (waitUntil - deadline > 0 || deadline - now <= 0) {
+                        throw throttledException("request budget exhausted", nextAdmissionIn(now));
+                    }
+
+                    permitsChanged.awaitNanos(waitUntil - now);
+                }
+            } finally {
+                queued--;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw throttledException("interrupted while waiting for the request budget", 0);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Records that the upstream accepted the request, i.e. answered with anything but 429.
+     *
+     * @param admittedAt what {@link #acquire()} returned for the request
+     */
+    public void onAccepted(long admittedAt) {
+        lock.lock();
+        try {
+            long now = nanoClock.getAsLong();
+            if (throttled && admittedAt - throttledSince >= 0) {
+                // first accepted request sent after a 429: the upstream has reset its window
+                windowNanos = now - windowStartedAt;
+                log.info(
+                        "Employee Server accepted requests again; learned limit {} per {} ms",
+                        limit,
+                        TimeUnit.NANOSECONDS.toMillis(windowNanos));
+                throttled = false;
+                probeInFlight = false;
+                backoffNanos = initialBackoffNanos;
+                acceptedSinceReset = 0;
+                used = 1;
+                lastAdmittedAt = now;
+            } else if (throttled && admittedAt - windowStartedAt > 0) {
+                // sent before the 429 but answered after it: the upstream counted it, so its backoff runs from there
+                windowStartedAt = admittedAt;
+            }
+            if (admittedAt - lastAcceptedAt > 0 || acceptedSinceReset == 0) {
+                lastAcceptedAt = admittedAt;
+            }
+            acceptedSinceReset++;
+            permitsChanged.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Records that the upstream rejected the request with 429 and blocks further admissions until the backoff, or the
+     * server supplied retry hint, has passed.
+     *
+     * @param retryAfterHint value of the Retry-After header, or null if the server did not send one
+     */
+    public void onThrottled(Duration retryAfterHint) {
+        lock.lock();
+        try {
+            long now = nanoClock.getAsLong();
+            if (!throttled) {
+                if (acceptedSinceReset > 0) {
+                    limit = acceptedSinceReset;
+                }
+                throttled = true;
+                throttledSince = now;
+                // the upstream's backoff runs from the last request it counted, not from the one it rejected
+                windowStartedAt = acceptedSinceReset > 0 ? lastAcceptedAt : lastAdmittedAt;
+                log.warn("Employee Server is throttling us; lowering request limit to {}", limit);
+            }
+
+            long delay = retryAfterHint != null ? retryAfterHint.toNanos() : jitter(backoffNanos);
+            blockedUntil = now + delay;
+            blockedByRetryAfterHint = retryAfterHint != null;
+            backoffNanos = Math.min(backoffNanos * 2, maxBackoffNanos);
+            probeInFlight = false;
+            used = limit;
+            permitsChanged.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gives back a permit whose request never got an answer, e.g. because of an I/O error.
+     */
+    public void release() {
+        lock.lock();
+        try {
+            if (probeInFlight) {
+                probeInFlight = false;
+            } else if (used > 0) {
+                used--;
+            }
+            permitsChanged.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Our best estimate of how long it will be until the upstream accepts requests again. While throttled, that is the
+     * server's Retry-After if it sent one. Otherwise it is the rest of the learned window since the last request it
+     * accepted before throttling us, since the server only resets once that window has passed; our next probe is due
+     * sooner, but is expected to be rejected until then.
+     */
+    public Duration estimatedRetryAfter() {
+        lock.lock();
+        try {
+            long now = nanoClock.getAsLong();
+            long retryAfter = nextAdmissionIn(now);
+            if (throttled && !blockedByRetryAfterHint) {
+                retryAfter = Math.max(retryAfter, windowStartedAt + windowNanos - now);
+            }
+            return Duration.ofNanos(retryAfter);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int getLimit() {
+        lock.lock();
+        try {
+            return limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    Duration getWindow() {
+        lock.lock();
+        try {
+            return Duration.ofNanos(windowNanos);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean tryAdmit(long now) {
+        if (throttled) {
+            if (!probeInFlight && now - blockedUntil >= 0) {
+                probeInFlight = true;
+                return true;
+            }
+            return false;
+        }
+
+        if (used >= limit && now - lastAdmittedAt >= windowNanos) {
+            used = 0;
+        }
+        if (used < limit) {
+            used++;
+            lastAdmittedAt = now;
+            return true;
+        }
+        return false;
+    }
+
+    private long nextAdmissionIn(long now) {
+        long admissionAt;
+        if (throttled) {
+            admissionAt = probeInFlight ? now + backoffNanos : blockedUntil;
+        } else if (used >= limit) {
+            admissionAt = lastAdmittedAt + windowNanos;
+        } else {
+            admissionAt = now;
+        }
+        return Math.max(0, admissionAt - now);
+    }
+
+    private static long jitter(long backoff) {
+        return ThreadLocalRandom.current().nextLong(backoff / 2, backoff + 1);
+    }
+
+    private static UpstreamThrottledException throttledException(String reason, long retryAfterNanos) {
+        return new UpstreamThrottledException(
+                "Employee Server is rate limiting requests: " + reason, Duration.ofNanos(retryAfterNanos));
+    }
+}
@@ -0,0 +1,92 @@
+package com.reliaquest.api.adapter.out.rest;
+
+import com.reliaquest.api.application.port.out.UpstreamThrottledException;
+import com.reliaquest.api.common.config.EmployeeServerBudgetProperties;
+import java.io.IOException;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sends every Employee Server request through the {@link UpstreamRequestBudget}, retrying 429s after its backoff. It
+ * re-executes the request, so it must be the innermost interceptor, and it records the {@link UpstreamRequestMetrics}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class UpstreamRequestBudgetInterceptor implements ClientHttpRequestInterceptor {
+
+    private final UpstreamRequestBudget budget;
+
+    private final EmployeeServerBudgetProperties properties;
+
+    private final UpstreamRequestMetrics metrics;
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        for (int attempt = 0; ; attempt++) {
+            long admittedAt = acquire(request);
+
+            ClientHttpResponse response;
+            boolean tooManyRequests;
+            try {
+                response = metrics.execute(request, body, execution);
+                tooManyRequests = response.getStatusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS);
+            } catch (IOException | RuntimeException e) {
+                budget.release();
+                throw e;
+            }
+
+            if (!tooManyRequests) {
+                budget.onAccepted(admittedAt);
+                return response;
+            }
+
+            Duration retryAfter = parseRetryAfter(response.getHeaders());
+            response.close();
+            budget.onThrottled(retryAfter);
+
+            if (attempt >= properties.maxRetries()) {
+                throw new UpstreamThrottledException(
+                        "Employee Server is rate limiting requests: retries exhausted", budget.estimatedRetryAfter());
+            }
+            log.debug("{} {} was throttled, retrying (attempt {})", request.getMethod(), request.getURI(), attempt + 1);
+        }
+    }
+
+    private long acquire(HttpRequest request) {
+        long start = System.nanoTime();
+        boolean admitted = false;
+        try {
+            long admittedAt = budget.acquire();
+            admitted = true;
+            return admittedAt;
+        } finally {
+            metrics.recordQuotaWait(request, System.nanoTime() - start, admitted);
+        }
+    }
+
+    private static Duration parseRetryAfter(HttpHeaders headers) {
+        String retryAfter = headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (retryAfter == null) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Long.parseLong(retryAfter.trim()));
+        } catch (NumberFormatException e) {
+            // HTTP-date form; fall back to our own backoff
+            return null;
+        }
+    }
+}
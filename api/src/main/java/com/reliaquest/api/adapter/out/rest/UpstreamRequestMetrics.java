@@ -0,0 +1,133 @@
+package com.reliaquest.api.adapter.out.rest;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+/**
+ * Meters for the requests sent to the Employee Server, tagged with the port operation: {@code employee.server.requests}
+ * latency, {@code employee.server.responses} by status class, {@code employee.server.requests.active} and
+ * {@code employee.server.quota.wait}. Each retry after a 429 counts as an exchange of its own.
+ */
+@Component
+public class UpstreamRequestMetrics {
+
+    static final String REQUESTS_TIMER = "employee.server.requests";
+    static final String RESPONSES_COUNTER = "employee.server.responses";
+    static final String ACTIVE_REQUESTS_GAUGE = "employee.server.requests.active";
+    static final String QUOTA_WAIT_TIMER = "employee.server.quota.wait";
+
+    private static final String TIMEOUT = "timeout";
+    private static final String IO_ERROR = "io_error";
+
+    private final MeterRegistry meterRegistry;
+
+    private final Meter.MeterProvider<Timer> requestTimer;
+
+    private final Meter.MeterProvider<Counter> responseCounter;
+
+    private final Meter.MeterProvider<Timer> quotaWaitTimer;
+
+    private final Map<String, AtomicInteger> activeRequests = new ConcurrentHashMap<>();
+
+    public UpstreamRequestMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.requestTimer = Timer.builder(REQUESTS_TIMER)
+                .description("Latency of the requests sent to the Employee Server")
+                .publishPercentiles(0.5, 0.9, 0.99)
+                .publishPercentileHistogram()
+                .withRegistry(meterRegistry);
+        this.responseCounter = Counter.builder(RESPONSES_COUNTER)
+                .description("Responses of the Employee Server by status class, and requests that got none")
+                .withRegistry(meterRegistry);
+        this.quotaWaitTimer = Timer.builder(QUOTA_WAIT_TIMER)
+                .description("Time requests waited for the Employee Server request budget")
+                .publishPercentiles(0.5, 0.9, 0.99)
+                .withRegistry(meterRegistry);
+    }
+
+    /**
+     * Sends the request and records its latency and outcome.
+     */
+    ClientHttpResponse execute(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        String operation = operation(request);
+        AtomicInteger active = activeRequests.computeIfAbsent(
+                operation,
+                key -> meterRegistry.gauge(ACTIVE_REQUESTS_GAUGE, Tags.of("operation", key), new AtomicInteger()));
+
+        active.incrementAndGet();
+        long start = System.nanoTime();
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            int status = response.getStatusCode().value();
+            record(operation, String.valueOf(status), statusClass(status), start);
+            return response;
+        } catch (InterruptedIOException e) {
+            // socket, connect and connection pool timeouts
+            record(operation, TIMEOUT, TIMEOUT, start);
+            throw e;
+        } catch (IOException e) {
+            record(operation, IO_ERROR, IO_ERROR, start);
+            throw e;
+        } finally {
+            active.decrementAndGet();
+        }
+    }
+
+    /**
+     * Records how long a request waited for the request budget, whether it was let through or rejected.
+     */
+    void recordQuotaWait(HttpRequest request, long waitNanos, boolean admitted) {
+        quotaWaitTimer
+                .withTags("operation", operation(request), "outcome", admitted ? "admitted" : "rejected")
+                .record(waitNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void record(String operation, String status, String statusClass, long start) {
+        requestTimer
+                .withTags("operation", operation, "status", status)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        responseCounter.withTags("operation", operation, "class", statusClass).increment();
+    }
+
+    /**
+     * The port operation a request belongs to. Each operation maps to its own method and path on the Employee Server;
+     * the by-id lookup a delete makes first counts as a {@code loadEmployeeById}.
+     */
+    static String operation(HttpRequest request) {
+        HttpMethod method = request.getMethod();
+        String path = request.getURI().getPath();
+        boolean byId = path != null && !path.endsWith("/employee");
+        if (HttpMethod.GET.equals(method)) {
+            return byId ? "loadEmployeeById" : "loadAllEmployees";
+        }
+        if (HttpMethod.POST.equals(method)) {
+            return "saveNewEmployee";
+        }
+        if (HttpMethod.DELETE.equals(method)) {
+            return "deleteEmployeeById";
+        }
+        return "other";
+    }
+
+    private static String statusClass(int status) {
+        if (status == 404 || status == 429) {
+            return String.valueOf(status);
+        }
+        return status / 100 + "xx";
+    }
+}
@@ -0,0 +1,313 @@
+package com.reliaquest.api.application.domain.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Immutable column-wise copy of a roster's employees, one primitive array per field, so scans read consecutive memory.
+ * Row {@code i} holds the {@code i}-th employee; a null employee has no value in any column.
+ */
+final class EmployeeColumns {
+
+    private static final int NO_TITLE = -1;
+
+    private static final char NAME_END = '\n';
+
+    private static final EmployeeColumns EMPTY = new EmployeeColumns();
+
+    private final List<Employee> employees;
+
+    // each value column has a bit set marking the rows that have a value
+    private final int[] salaries;
+    private final BitSet withSalary;
+
+    private final int[] ages;
+    private final BitSet withAge;
+
+    private final long[] idMostSignificantBits;
+    private final long[] idLeastSignificantBits;
+    private final BitSet withId;
+
+    // dictionary encoded: the position of the row's title in the distinct titles
+    private final int[] titleCodes;
+    private final String[] titles;
+
+    // lower-cased names, each ended by a line feed, so one indexOf searches all; row i's starts at nameOffsets[i]
+    private final String names;
+    private final int[] nameOffsets;
+    private final BitSet withName;
+
+    private EmployeeColumns() {
+        this.employees = List.of();
+        this.salaries = new int[0];
+        this.withSalary = new BitSet();
+        this.ages = new int[0];
+        this.withAge = new BitSet();
+        this.idMostSignificantBits = new long[0];
+        this.idLeastSignificantBits = new long[0];
+        this.withId = new BitSet();
+        this.titleCodes = new int[0];
+        this.titles = new String[0];
+        this.names = "";
+        this.nameOffsets = new int[1];
+        this.withName = new BitSet();
+    }
+
+    /**
+     * Copies the rows of the given columns, which hold the first employees, and reads the employees after them.
+     */
+    private EmployeeColumns(List<Employee> employees, EmployeeColumns first) {
+        int size = employees.size();
+        this.employees = employees;
+        this.salaries = Arrays.copyOf(first.salaries, size);
+        this.withSalary = (BitSet) first.withSalary.clone();
+        this.ages = Arrays.copyOf(first.ages, size);
+        this.withAge = (BitSet) first.withAge.clone();
+        this.idMostSignificantBits = Arrays.copyOf(first.idMostSignificantBits, size);
+        this.idLeastSignificantBits = Arrays.copyOf(first.idLeastSignificantBits, size);
+        this.withId = (BitSet) first.withId.clone();
+        this.titleCodes = Arrays.copyOf(first.titleCodes, size);
+        this.nameOffsets = Arrays.copyOf(first.nameOffsets, size + 1);
+        this.withName = (BitSet) first.withName.clone();
+
+        Map<String, Integer> titleDictionary = new HashMap<>();
+        List<String> distinctTitles = new ArrayList<>(Arrays.asList(first.titles));
+        for (int code = 0; code < first.titles.length; code++) {
+            titleDictionary.put(first.titles[code], code);
+        }
+        StringBuilder foldedNames = new StringBuilder(first.names);
+        for (int row = first.size(); row < size; row++) {
+            Employee employee = employees.get(row);
+            titleCodes[row] = NO_TITLE;
+            nameOffsets[row] = foldedNames.length();
+            if (employee == null) {
+                foldedNames.append(NAME_END);
+                continue;
+            }
+            if (employee.getSalary() != null) {
+                salaries[row] = employee.getSalary();
+                withSalary.set(row);
+            }
+            if (employee.getAge() != null) {
+                ages[row] = employee.getAge();
+                withAge.set(row);
+            }
+            if (employee.getId() != null) {
+                idMostSignificantBits[row] = employee.getId().getMostSignificantBits();
+                idLeastSignificantBits[row] = employee.getId().getLeastSignificantBits();
+                withId.set(row);
+            }
+            if (employee.getTitle() != null) {
+                titleCodes[row] = titleDictionary.computeIfAbsent(employee.getTitle(), title -> {
+                    distinctTitles.add(title);
+                    return distinctTitles.size() - 1;
+                });
+            }
+            if (employee.getName() != null) {
+                foldedNames.append(foldName(employee.getName()));
+                withName.set(row);
+            }
+            foldedNames.append(NAME_END);
+        }
+        this.titles = distinctTitles.toArray(String[]::new);
+        this.nameOffsets[size] = foldedNames.length();
+        this.names = foldedNames.toString();
+    }
+
+    /**
+     * Copies the rows of the given columns except the removed one.
+     */
+    private EmployeeColumns(List<Employee> employees, EmployeeColumns before, int removedRow) {
+        this.employees = employees;
+        this.salaries = without(before.salaries, removedRow);
+        this.withSalary = without(before.withSalary, removedRow);
+        this.ages = without(before.ages, removedRow);
+        this.withAge = without(before.withAge, removedRow);
+        this.idMostSignificantBits = without(before.idMostSignificantBits, removedRow);
+        this.idLeastSignificantBits = without(before.idLeastSignificantBits, removedRow);
+        this.withId = without(before.withId, removedRow);
+        this.titleCodes = without(before.titleCodes, removedRow);
+        this.titles = before.titles;
+        this.withName = without(before.withName, removedRow);
+
+        int removedStart = before.nameOffsets[removedRow];
+        int removedEnd = before.nameOffsets[removedRow + 1];
+        this.names = before.names.substring(0, removedStart) + before.names.substring(removedEnd);
+        this.nameOffsets = without(before.nameOffsets, removedRow);
+        for (int row = removedRow; row < nameOffsets.length; row++) {
+            nameOffsets[row] -= removedEnd - removedStart;
+        }
+    }
+
+    static EmployeeColumns of(List<Employee> employees) {
+        return new EmployeeColumns(employees, EMPTY);
+    }
+
+    /**
+     * @return the columns of the given employees, which are the employees of these columns followed by one more
+     */
+    EmployeeColumns withAppendedRow(List<Employee> employees) {
+        return new EmployeeColumns(employees, this);
+    }
+
+    /**
+     * @return the columns of the given employees, which are the employees of these columns without the one in the
+     * given row
+     */
+    EmployeeColumns withoutRow(List<Employee> employees, int row) {
+        return new EmployeeColumns(employees, this, row);
+    }
+
+    /**
+     * The case folding of the name search, which has always been {@link String#toLowerCase()}.
+     */
+    static String foldName(String name) {
+        return name.toLowerCase();
+    }
+
+    int size() {
+        return employees.size();
+    }
+
+    Employee employee(int row) {
+        return employees.get(row);
+    }
+
+    /**
+     * @return the first row from the given one on that has a salary, or -1 if there is none
+     */
+    int nextWithSalary(int fromRow) {
+        return withSalary.nextSetBit(fromRow);
+    }
+
+    int salaryCount() {
+        return withSalary.cardinality();
+    }
+
+    /**
+     * @return the salary of the row, only meaningful for a row that has one
+     */
+    int salary(int row) {
+        return salaries[row];
+    }
+
+    Integer age(int row) {
+        return withAge.get(row) ? ages[row] : null;
+    }
+
+    UUID id(int row) {
+        return withId.get(row) ? new UUID(idMostSignificantBits[row], idLeastSignificantBits[row]) : null;
+    }
+
+    String title(int row) {
+        return titleCodes[row] == NO_TITLE ? null : titles[titleCodes[row]];
+    }
+
+    /**
+     * @return the number of titles in the dictionary; one that only a removed row had stays in it until the columns
+     * are built anew
+     */
+    int distinctTitles() {
+        return titles.length;
+    }
+
+    boolean hasName(int row) {
+        return withName.get(row);
+    }
+
+    /**
+     * @return the lower-cased name of the row, or null if it has none
+     */
+    String foldedName(int row) {
+        return withName.get(row) ? names.substring(nameStart(row), nameEnd(row)) : null;
+    }
+
+    int nameStart(int row) {
+        return nameOffsets[row];
+    }
+
+    int nameEnd(int row) {
+        return nameOffsets[row + 1] - 1;
+    }
+
+    /**
+     * @return the character at the given position of all folded names, see {@link #nameStart(int)}
+     */
+    char nameChar(int position) {
+        return names.charAt(position);
+    }
+
+    /**
+     * @return whether the lower-cased name of the row contains the already lower-cased text
+     */
+    boolean nameContains(int row, String foldedText) {
+        if (!withName.get(row)) {
+            return false;
+        }
+        int last = nameEnd(row) - foldedText.length();
+        for (int start = nameOffsets[row]; start <= last; start++) {
+            if (names.startsWith(foldedText, start)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the first row from the given one on whose lower-cased name contains the already lower-cased text, or -1
+     * if there is none
+     */
+    int nextNameContaining(String foldedText, int fromRow) {
+        if (foldedText.indexOf(NAME_END) >= 0) {
+            // could match across names, so check them one by one
+            for (int row = fromRow; row < size(); row++) {
+                if (nameContains(row, foldedText)) {
+                    return row;
+                }
+            }
+            return -1;
+        }
+
+        int row = fromRow;
+        while (row < size()) {
+            int found = names.indexOf(foldedText, nameOffsets[row]);
+            if (found < 0) {
+                return -1;
+            }
+            // walk forward rather than binary search, the offsets are read in order and searches visit rows in order
+            while (nameOffsets[row + 1] <= found) {
+                row++;
+            }
+            if (withName.get(row)) {
+                return row;
+            }
+            row++;
+        }
+        return -1;
+    }
+
+    private static int[] without(int[] column, int row) {
+        int[] result = Arrays.copyOf(column, column.length - 1);
+        System.arraycopy(column, row + 1, result, row, result.length - row);
+        return result;
+    }
+
+    private static long[] without(long[] column, int row) {
+        long[] result = Arrays.copyOf(column, column.length - 1);
+        System.arraycopy(column, row + 1, result, row, result.length - row);
+        return result;
+    }
+
+    private static BitSet without(BitSet column, int row) {
+        BitSet result = column.get(0, row);
+        for (int set = column.nextSetBit(row + 1); set >= 0; set = column.nextSetBit(set + 1)) {
+            result.set(set - 1);
+        }
+        return result;
+    }
+}
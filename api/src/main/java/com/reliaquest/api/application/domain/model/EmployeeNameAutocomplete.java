@@ -0,0 +1,226 @@
+package com.reliaquest.api.application.domain.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+/**
+ * Sorted distinct lower-cased name tokens of a roster, answering which employees have a token starting with a prefix,
+ * those with a token equal to it first, then by token and name. Kept and outgrown like {@link EmployeeNameIndex}.
+ */
+final class EmployeeNameAutocomplete {
+
+    // lower than for the name index, completions are asked for on every keystroke
+    static final int MAX_CHANGES = 256;
+
+    // the whitespace of String.strip(), which trims the prefix
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("\\p{javaWhitespace}+");
+
+    private static final Comparator<Completion> RANKING =
+            Comparator.comparing(Completion::token).thenComparing(Completion::name);
+
+    private final EmployeeColumns columns;
+
+    private final String[] tokens;
+
+    // the rows of tokens[i] are rows[tokenStarts[i]] up to rows[tokenStarts[i + 1]]
+    private final int[] tokenStarts;
+    private final int[] rows;
+
+    // the added employees that have a name, tokenized once when added
+    private final List<AddedName> added;
+    private final Set<UUID> removed;
+
+    private EmployeeNameAutocomplete(
+            EmployeeColumns columns,
+            String[] tokens,
+            int[] tokenStarts,
+            int[] rows,
+            List<AddedName> added,
+            Set<UUID> removed) {
+        this.columns = columns;
+        this.tokens = tokens;
+        this.tokenStarts = tokenStarts;
+        this.rows = rows;
+        this.added = added;
+        this.removed = removed;
+    }
+
+    static EmployeeNameAutocomplete of(EmployeeColumns columns) {
+        String[] names = new String[columns.size()];
+        for (int row = 0; row < names.length; row++) {
+            names[row] = columns.foldedName(row);
+        }
+        int[] rowsByName = IntStream.range(0, names.length)
+                .filter(row -> names[row] != null)
+                .boxed()
+                .sorted(Comparator.comparing((Integer row) -> names[row]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+
+        // every (token, row) pair once, collected in name order
+        Map<String, Integer> tokenIds = new HashMap<>();
+        List<String> distinctTokens = new ArrayList<>();
+        IntList entryTokens = new IntList();
+        IntList entryRows = new IntList();
+        for (int row : rowsByName) {
+            Set<String> seen = new HashSet<>();
+            for (String token : tokens(names[row])) {
+                if (seen.add(token)) {
+                    entryTokens.add(tokenIds.computeIfAbsent(token, t -> {
+                        distinctTokens.add(t);
+                        return distinctTokens.size() - 1;
+                    }));
+                    entryRows.add(row);
+                }
+            }
+        }
+
+        // order the tokens, then place each entry in its token's slice; entries keep their name order within a slice
+        String[] tokens = distinctTokens.toArray(String[]::new);
+        Arrays.sort(tokens);
+        int[] rankOfToken = new int[tokens.length];
+        for (int rank = 0; rank < tokens.length; rank++) {
+            rankOfToken[tokenIds.get(tokens[rank])] = rank;
+        }
+        int[] tokenStarts = new int[tokens.length + 1];
+        for (int i = 0; i < entryTokens.size; i++) {
+            tokenStarts[rankOfToken[entryTokens.values[i]] + 1]++;
+        }
+        for (int rank = 0; rank < tokens.length; rank++) {
+            tokenStarts[rank + 1] += tokenStarts[rank];
+        }
+        int[] next = Arrays.copyOf(tokenStarts, tokens.length);
+        int[] rows = new int[entryRows.size];
+        for (int i = 0; i < entryRows.size; i++) {
+            rows[next[rankOfToken[entryTokens.values[i]]]++] = entryRows.values[i];
+        }
+        return new EmployeeNameAutocomplete(columns, tokens, tokenStarts, rows, List.of(), Set.of());
+    }
+
+    /**
+     * @return up to {@code count} employees with a name token starting with the prefix, ignoring case, best ranked
+     * first; none for a blank prefix
+     */
+    List<Employee> complete(String prefix, int count) {
+        String folded = EmployeeColumns.foldName(prefix).strip();
+        if (folded.isEmpty() || count <= 0) {
+            return List.of();
+        }
+
+        int found = Arrays.binarySearch(tokens, folded);
+        List<Employee> completions = new ArrayList<>(Math.min(count, 16));
+        List<String> matchedTokens = new ArrayList<>(Math.min(count, 16));
+        Set<Integer> listed = new HashSet<>();
+        for (int token = found >= 0 ? found : -found - 1;
+                token < tokens.length && tokens[token].startsWith(folded) && completions.size() < count;
+                token++) {
+            for (int i = tokenStarts[token]; i < tokenStarts[token + 1] && completions.size() < count; i++) {
+                if (listed.add(rows[i]) && !isRemoved(rows[i])) {
+                    completions.add(columns.employee(rows[i]));
+                    matchedTokens.add(tokens[token]);
+                }
+            }
+        }
+        return added.isEmpty() ? completions : withAdded(completions, matchedTokens, folded, count);
+    }
+
+    /**
+     * @return whether the autocomplete records so many changes that a new one should be built
+     */
+    boolean isOutgrown() {
+        return added.size() + removed.size() > MAX_CHANGES;
+    }
+
+    /**
+     * @return this autocomplete with the employee added
+     */
+    EmployeeNameAutocomplete withEmployee(Employee employee) {
+        List<AddedName> updated = new ArrayList<>(added.size() + 1);
+        updated.addAll(added);
+        if (employee != null && employee.getName() != null) {
+            String name = EmployeeColumns.foldName(employee.getName());
+            updated.add(new AddedName(employee, name, tokens(name)));
+        }
+        return new EmployeeNameAutocomplete(columns, tokens, tokenStarts, rows, List.copyOf(updated), removed);
+    }
+
+    /**
+     * @return this autocomplete with the employee of the given id removed
+     */
+    EmployeeNameAutocomplete withoutEmployee(UUID id) {
+        List<AddedName> updatedAdded = added.stream()
+                .filter(addedName -> !id.equals(addedName.employee().getId()))
+                .toList();
+        Set<UUID> updatedRemoved = new HashSet<>(removed);
+        updatedRemoved.add(id);
+        return new EmployeeNameAutocomplete(
+                columns, tokens, tokenStarts, rows, updatedAdded, Set.copyOf(updatedRemoved));
+    }
+
+    /**
+     * @return the whitespace separated tokens of the lower-cased name
+     */
+    private static List<String> tokens(String foldedName) {
+        return Arrays.stream(TOKEN_SEPARATOR.split(foldedName))
+                .filter(token -> !token.isEmpty())
+                .toList();
+    }
+
+    private boolean isRemoved(int row) {
+        UUID id = removed.isEmpty() ? null : columns.id(row);
+        return id != null && removed.contains(id);
+    }
+
+    /**
+     * Ranks the added employees against the completions found in the token array, which are ranked already and end
+     * where the array ran out of matches or reached the count.
+     */
+    private List<Employee> withAdded(
+            List<Employee> completions, List<String> matchedTokens, String foldedPrefix, int count) {
+        List<Completion> ranked = new ArrayList<>(completions.size() + added.size());
+        for (int i = 0; i < completions.size(); i++) {
+            Employee employee = completions.get(i);
+            ranked.add(new Completion(matchedTokens.get(i), EmployeeColumns.foldName(employee.getName()), employee));
+        }
+        for (AddedName addedName : added) {
+            String best = null;
+            for (String token : addedName.tokens()) {
+                if (token.startsWith(foldedPrefix) && (best == null || token.compareTo(best) < 0)) {
+                    best = token;
+                }
+            }
+            if (best != null) {
+                ranked.add(new Completion(best, addedName.name(), addedName.employee()));
+            }
+        }
+        // a stable sort, so employees that rank the same stay in roster order, the added ones last
+        ranked.sort(RANKING);
+        return ranked.stream().limit(count).map(Completion::employee).toList();
+    }
+
+    private record AddedName(Employee employee, String name, List<String> tokens) {}
+
+    private record Completion(String token, String name, Employee employee) {}
+
+    private static final class IntList {
+
+        private int[] values = new int[16];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+    }
+}
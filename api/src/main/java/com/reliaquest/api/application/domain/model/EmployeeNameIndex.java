@@ -0,0 +1,254 @@
+package com.reliaquest.api.application.domain.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Trigram index over the lower-cased employee names of a roster, answering the same substring search as
+ * {@code name.toLowerCase().contains(query.toLowerCase())}, in roster order. Rosters changed by creates and deletes
+ * keep it and record the difference, until it is outgrown past {@link #MAX_CHANGES} changes.
+ */
+final class EmployeeNameIndex {
+
+    static final int MAX_CHANGES = 1024;
+
+    // a query whose rarest trigram is in more than this fraction of the names is answered by a scan
+    private static final int SCAN_FRACTION = 8;
+
+    private static final int[] NO_POSITIONS = new int[0];
+
+    // the lower-cased names, by position
+    private final EmployeeColumns columns;
+
+    // open addressing map from trigram to the positions of the employees whose name contains it
+    private final long[] trigrams;
+    private final int[][] positions;
+    private final int mask;
+
+    private final List<Employee> added;
+    private final Set<UUID> removed;
+
+    private EmployeeNameIndex(
+            EmployeeColumns columns, long[] trigrams, int[][] positions, List<Employee> added, Set<UUID> removed) {
+        this.columns = columns;
+        this.trigrams = trigrams;
+        this.positions = positions;
+        this.mask = trigrams.length - 1;
+        this.added = added;
+        this.removed = removed;
+    }
+
+    static EmployeeNameIndex of(EmployeeColumns columns) {
+        Builder builder = new Builder();
+        for (int row = 0; row < columns.size(); row++) {
+            for (int start = columns.nameStart(row); start + 3 <= columns.nameEnd(row); start++) {
+                builder.add(
+                        trigram(columns.nameChar(start), columns.nameChar(start + 1), columns.nameChar(start + 2)),
+                        row);
+            }
+        }
+        return builder.build(columns);
+    }
+
+    /**
+     * @return the employees whose name contains the query, ignoring case, in roster order
+     */
+    List<Employee> search(String query) {
+        String folded = EmployeeColumns.foldName(query);
+        List<Employee> matches = folded.length() < 3 ? scan(folded) : lookUp(folded);
+        if (!removed.isEmpty()) {
+            matches.removeIf(employee -> removed.contains(employee.getId()));
+        }
+        for (Employee employee : added) {
+            if (employee != null
+                    && employee.getName() != null
+                    && EmployeeColumns.foldName(employee.getName()).contains(folded)) {
+                matches.add(employee);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * @return whether the index records so many changes that a new one should be built
+     */
+    boolean isOutgrown() {
+        return added.size() + removed.size() > MAX_CHANGES;
+    }
+
+    /**
+     * @return this index with the employee added
+     */
+    EmployeeNameIndex withEmployee(Employee employee) {
+        List<Employee> updated = new ArrayList<>(added.size() + 1);
+        updated.addAll(added);
+        updated.add(employee);
+        return new EmployeeNameIndex(columns, trigrams, positions, List.copyOf(updated), removed);
+    }
+
+    /**
+     * @return this index with the employee of the given id removed
+     */
+    EmployeeNameIndex withoutEmployee(UUID id) {
+        List<Employee> updatedAdded = added.stream()
+                .filter(employee -> employee == null || !id.equals(employee.getId()))
+                .toList();
+        Set<UUID> updatedRemoved = new HashSet<>(removed);
+        updatedRemoved.add(id);
+        return new EmployeeNameIndex(columns, trigrams, positions, updatedAdded, Set.copyOf(updatedRemoved));
+    }
+
+    private List<Employee> scan(String folded) {
+        List<Employee> matches = new ArrayList<>();
+        for (int row = columns.nextNameContaining(folded, 0);
+                row >= 0;
+                row = columns.nextNameContaining(folded, row + 1)) {
+            matches.add(columns.employee(row));
+        }
+        return matches;
+    }
+
+    private List<Employee> lookUp(String folded) {
+        int[][] lists = new int[folded.length() - 2][];
+        for (int start = 0; start < lists.length; start++) {
+            lists[start] = positionsOf(trigram(folded, start));
+            if (lists[start].length == 0) {
+                return new ArrayList<>();
+            }
+        }
+        // intersect the shortest lists first, the candidates only ever get fewer
+        Arrays.sort(lists, (a, b) -> Integer.compare(a.length, b.length));
+        if (lists[0].length > columns.size() / SCAN_FRACTION) {
+            // checking that many candidates one by one is slower than one pass over all names
+            return scan(folded);
+        }
+
+        int[] candidates = lists[0].clone();
+        int count = candidates.length;
+        for (int list = 1; list < lists.length && count > 0; list++) {
+            count = intersect(candidates, count, lists[list]);
+        }
+
+        List<Employee> matches = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            if (columns.nameContains(candidates[i], folded)) {
+                matches.add(columns.employee(candidates[i]));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Keeps the candidates that are also in the list, in place, by binary searching the list from the last match on.
+     *
+     * @return the number of candidates kept
+     */
+    private static int intersect(int[] candidates, int count, int[] list) {
+        int kept = 0;
+        int from = 0;
+        for (int i = 0; i < count && from < list.length; i++) {
+            int found = Arrays.binarySearch(list, from, list.length, candidates[i]);
+            if (found >= 0) {
+                candidates[kept++] = candidates[i];
+                from = found + 1;
+            } else {
+                from = -found - 1;
+            }
+        }
+        return kept;
+    }
+
+    private int[] positionsOf(long trigram) {
+        for (int slot = slot(trigram, mask); positions[slot] != null; slot = (slot + 1) & mask) {
+            if (trigrams[slot] == trigram) {
+                return positions[slot];
+            }
+        }
+        return NO_POSITIONS;
+    }
+
+    private static long trigram(String text, int start) {
+        return trigram(text.charAt(start), text.charAt(start + 1), text.charAt(start + 2));
+    }
+
+    private static long trigram(char first, char second, char third) {
+        return ((long) first << 32) | ((long) second << 16) | third;
+    }
+
+    private static int slot(long trigram, int mask) {
+        long h = trigram * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    /**
+     * Collects the positions per trigram in growable arrays, then trims them to size.
+     */
+    private static final class Builder {
+
+        private long[] trigrams = new long[1 << 12];
+        private int[][] positions = new int[1 << 12][];
+        private int[] sizes = new int[1 << 12];
+        private int distinct;
+
+        void add(long trigram, int position) {
+            int mask = trigrams.length - 1;
+            int slot = slot(trigram, mask);
+            while (positions[slot] != null && trigrams[slot] != trigram) {
+                slot = (slot + 1) & mask;
+            }
+
+            int[] list = positions[slot];
+            if (list == null) {
+                trigrams[slot] = trigram;
+                positions[slot] = new int[] {position};
+                sizes[slot] = 1;
+                if (++distinct * 2 > trigrams.length) {
+                    resize();
+                }
+                return;
+            }
+            // a name repeating a trigram is listed once
+            if (list[sizes[slot] - 1] == position) {
+                return;
+            }
+            if (sizes[slot] == list.length) {
+                list = positions[slot] = Arrays.copyOf(list, list.length * 2);
+            }
+            list[sizes[slot]++] = position;
+        }
+
+        EmployeeNameIndex build(EmployeeColumns columns) {
+            for (int slot = 0; slot < positions.length; slot++) {
+                if (positions[slot] != null && positions[slot].length != sizes[slot]) {
+                    positions[slot] = Arrays.copyOf(positions[slot], sizes[slot]);
+                }
+            }
+            return new EmployeeNameIndex(columns, trigrams, positions, List.of(), Set.of());
+        }
+
+        private void resize() {
+            long[] oldTrigrams = trigrams;
+            int[][] oldPositions = positions;
+            int[] oldSizes = sizes;
+            trigrams = new long[oldTrigrams.length * 2];
+            positions = new int[oldTrigrams.length * 2][];
+            sizes = new int[oldTrigrams.length * 2];
+            int mask = trigrams.length - 1;
+            for (int old = 0; old < oldTrigrams.length; old++) {
+                if (oldPositions[old] != null) {
+                    int slot = slot(oldTrigrams[old], mask);
+                    while (positions[slot] != null) {
+                        slot = (slot + 1) & mask;
+                    }
+                    trigrams[slot] = oldTrigrams[old];
+                    positions[slot] = oldPositions[old];
+                    sizes[slot] = oldSizes[old];
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.reliaquest.api.application.domain.model;
+
+import java.util.List;
+
+/**
+ * A slice of the employees of one roster snapshot, see {@link EmployeeRoster#page(int, int)}. The following pages are
+ * read from the same snapshot, so creates and deletes made meanwhile neither shift nor repeat employees across pages.
+ *
+ * @param employees the employees of this page, in roster order
+ * @param rosterVersion the version of the snapshot the page was read from
+ * @param nextOffset where the next page starts, or null if this is the last page
+ */
+public record EmployeePage(List<Employee> employees, long rosterVersion, Integer nextOffset) {}
@@ -0,0 +1,266 @@
+package com.reliaquest.api.application.domain.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Immutable snapshot of all employees and the lookup structures derived from it, each built once per snapshot.
+ * Creates and deletes produce a new snapshot, deriving its structures from this one's.
+ */
+public final class EmployeeRoster {
+
+    private static final AtomicLong VERSIONS = new AtomicLong();
+
+    private final long version;
+
+    private final List<Employee> employees;
+
+    private final Map<UUID, Employee> employeesById;
+
+    // the fields the scans run over, built on first use by one thread or derived from the previous snapshot
+    private volatile EmployeeColumns columns;
+
+    // computed on first use or derived from the previous snapshot; racing threads computing it both is harmless
+    private volatile SalaryAggregates salaryAggregates;
+
+    // built on first search by one thread, or taken over from the previous snapshot and rebuilt once outgrown
+    private volatile EmployeeNameIndex nameIndex;
+
+    // built and taken over like the name index
+    private volatile EmployeeNameAutocomplete nameAutocomplete;
+
+    private EmployeeRoster(
+            List<Employee> employees,
+            EmployeeColumns columns,
+            SalaryAggregates salaryAggregates,
+            EmployeeNameIndex nameIndex,
+            EmployeeNameAutocomplete nameAutocomplete) {
+        this.version = VERSIONS.incrementAndGet();
+        this.employees = Collections.unmodifiableList(employees);
+        this.columns = columns;
+        this.salaryAggregates = salaryAggregates;
+        this.nameIndex = nameIndex;
+        this.nameAutocomplete = nameAutocomplete;
+        this.employeesById = new HashMap<>((int) (employees.size() / 0.75f) + 1);
+        for (Employee employee : employees) {
+            if (employee != null && employee.getId() != null) {
+                employeesById.put(employee.getId(), employee);
+            }
+        }
+    }
+
+    public static EmployeeRoster of(List<Employee> employees) {
+        return new EmployeeRoster(new ArrayList<>(employees), null, null, null, null);
+    }
+
+    /**
+     * @return a number that no other snapshot created by this process has, so anything derived from a snapshot can be
+     * told apart from what was derived from an earlier or later one
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    public List<Employee> getEmployees() {
+        return employees;
+    }
+
+    /**
+     * @return the employee with the given id, or null if the snapshot does not contain it
+     */
+    public Employee findById(UUID id) {
+        return employeesById.get(id);
+    }
+
+    /**
+     * @return the salary figures of this snapshot, computed once and then served from memory
+     */
+    public SalaryAggregates getSalaryAggregates() {
+        SalaryAggregates aggregates = salaryAggregates;
+        if (aggregates == null) {
+            aggregates = SalaryAggregates.of(columns());
+            salaryAggregates = aggregates;
+        }
+        return aggregates;
+    }
+
+    /**
+     * @return up to {@code count} employees with the highest salaries, highest first; employees with the same salary
+     * keep their roster order
+     */
+    public List<Employee> getTopEarners(int count) {
+        return TopEarners.select(columns(), count);
+    }
+
+    /**
+     * @return the employees whose name contains the given text, ignoring case, in roster order
+     */
+    public List<Employee> searchByName(String name) {
+        return nameIndex().search(name);
+    }
+
+    /**
+     * @return up to {@code count} employees with a name token, a whitespace separated part of the name, that starts
+     * with the given prefix, ignoring case; employees with a token equal to the prefix first, then by token and name
+     */
+    public List<Employee> autocompleteByName(String prefix, int count) {
+        return nameAutocomplete().complete(prefix, count);
+    }
+
+    /**
+     * @return up to {@code size} employees of this snapshot starting at {@code offset}, in roster order
+     * @throws IllegalArgumentException if the offset is negative or the size is not positive
+     */
+    public EmployeePage page(int offset, int size) {
+        if (offset < 0 || size < 1) {
+            throw new IllegalArgumentException("Invalid page: offset " + offset + ", size " + size);
+        }
+        int from = Math.min(offset, employees.size());
+        int to = (int) Math.min((long) from + size, employees.size());
+        return new EmployeePage(employees.subList(from, to), version, to < employees.size() ? to : null);
+    }
+
+    /**
+     * @return the form of a name search text that {@link #searchByName(String)} compares, so texts with the same
+     * normalized form have the same results
+     */
+    public static String normalizeNameSearch(String name) {
+        return EmployeeColumns.foldName(name);
+    }
+
+    /**
+     * Builds everything derived on first use and rebuilds outgrown structures, so no request waits for them. Slow for a
+     * large roster, so run it before the snapshot is handed out or in the background.
+     */
+    public void prepare() {
+        getSalaryAggregates();
+        // searches and completions keep using the outgrown structures meanwhile
+        if (nameIndex().isOutgrown()) {
+            nameIndex = EmployeeNameIndex.of(columns());
+        }
+        if (nameAutocomplete().isOutgrown()) {
+            nameAutocomplete = EmployeeNameAutocomplete.of(columns());
+        }
+    }
+
+    /**
+     * @return whether {@link #prepare()} has nothing left to do
+     */
+    public boolean isPrepared() {
+        EmployeeNameIndex index = nameIndex;
+        EmployeeNameAutocomplete autocomplete = nameAutocomplete;
+        return salaryAggregates != null
+                && index != null
+                && !index.isOutgrown()
+                && autocomplete != null
+                && !autocomplete.isOutgrown();
+    }
+
+    private EmployeeColumns columns() {
+        EmployeeColumns built = columns;
+        if (built == null) {
+            synchronized (this) {
+                built = columns;
+                if (built == null) {
+                    built = EmployeeColumns.of(employees);
+                    columns = built;
+                }
+            }
+        }
+        return built;
+    }
+
+    private EmployeeNameIndex nameIndex() {
+        EmployeeNameIndex index = nameIndex;
+        if (index == null) {
+            synchronized (this) {
+                index = nameIndex;
+                if (index == null) {
+                    index = EmployeeNameIndex.of(columns());
+                    nameIndex = index;
+                }
+            }
+        }
+        return index;
+    }
+
+    private EmployeeNameAutocomplete nameAutocomplete() {
+        EmployeeNameAutocomplete autocomplete = nameAutocomplete;
+        if (autocomplete == null) {
+            synchronized (this) {
+                autocomplete = nameAutocomplete;
+                if (autocomplete == null) {
+                    autocomplete = EmployeeNameAutocomplete.of(columns());
+                    nameAutocomplete = autocomplete;
+                }
+            }
+        }
+        return autocomplete;
+    }
+
+    /**
+     * @return a snapshot that also contains the given employee, or this snapshot if it already contains the id
+     */
+    public EmployeeRoster withEmployee(Employee employee) {
+        if (employeesById.containsKey(employee.getId())) {
+            return this;
+        }
+        List<Employee> updated = new ArrayList<>(employees.size() + 1);
+        updated.addAll(employees);
+        updated.add(employee);
+
+        EmployeeColumns builtColumns = columns;
+        SalaryAggregates aggregates = salaryAggregates;
+        EmployeeNameIndex index = nameIndex;
+        EmployeeNameAutocomplete autocomplete = nameAutocomplete;
+        EmployeeColumns updatedColumns = builtColumns == null ? null : builtColumns.withAppendedRow(updated);
+        return new EmployeeRoster(
+                updated,
+                updatedColumns,
+                updatedColumns == null || aggregates == null ? null : aggregates.withAppendedRow(updatedColumns),
+                index == null ? null : index.withEmployee(employee),
+                autocomplete == null ? null : autocomplete.withEmployee(employee));
+    }
+
+    /**
+     * @return a snapshot without the employee with the given id, or this snapshot if it does not contain the id
+     */
+    public EmployeeRoster withoutEmployee(UUID id) {
+        if (!employeesById.containsKey(id)) {
+            return this;
+        }
+        List<Employee> updated = new ArrayList<>(employees.size());
+        int removedRow = -1;
+        int removedRows = 0;
+        for (int row = 0; row < employees.size(); row++) {
+            Employee employee = employees.get(row);
+            if (employee == null || !id.equals(employee.getId())) {
+                updated.add(employee);
+            } else {
+                removedRow = row;
+                removedRows++;
+            }
+        }
+
+        EmployeeColumns builtColumns = columns;
+        SalaryAggregates aggregates = salaryAggregates;
+        EmployeeNameIndex index = nameIndex;
+        EmployeeNameAutocomplete autocomplete = nameAutocomplete;
+        // the server should never list an id twice, but if it did the structures are built anew
+        EmployeeColumns updatedColumns =
+                builtColumns == null || removedRows != 1 ? null : builtColumns.withoutRow(updated, removedRow);
+        return new EmployeeRoster(
+                updated,
+                updatedColumns,
+                updatedColumns == null || aggregates == null
+                        ? null
+                        : aggregates.withoutEmployee(employees.get(removedRow), updatedColumns),
+                index == null ? null : index.withoutEmployee(id),
+                autocomplete == null ? null : autocomplete.withoutEmployee(id));
+    }
+}
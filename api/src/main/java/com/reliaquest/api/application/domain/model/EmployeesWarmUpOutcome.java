@@ -0,0 +1,15 @@
+package com.reliaquest.api.application.domain.model;
+
+/**
+ * How warming up the employee data on startup ended.
+ */
+public enum EmployeesWarmUpOutcome {
+    /** the roster was loaded from the Employee Server */
+    WARM,
+    /** only the roster snapshot on disk could be served */
+    STALE,
+    /** no roster could be loaded */
+    FAILED,
+    /** loading did not finish in time; it carries on in the background */
+    TIMED_OUT
+}
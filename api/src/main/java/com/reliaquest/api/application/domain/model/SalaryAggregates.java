@@ -0,0 +1,102 @@
+package com.reliaquest.api.application.domain.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Salary figures of a roster snapshot, leaving out employees without a salary.
+ *
+ * @param highestSalary the highest salary, or null if no employee has one
+ * @param lowestSalary the lowest salary, or null if no employee has one
+ * @param totalSalary the sum of all salaries
+ * @param salariedEmployees the number of employees with a salary
+ * @param topEarners up to {@link #TOP_EARNERS} employees with the highest salaries, see {@link TopEarners}
+ */
+public record SalaryAggregates(
+        Integer highestSalary,
+        Integer lowestSalary,
+        long totalSalary,
+        int salariedEmployees,
+        List<Employee> topEarners) {
+
+    public static final int TOP_EARNERS = 10;
+
+    static SalaryAggregates of(EmployeeColumns columns) {
+        int highest = Integer.MIN_VALUE;
+        int lowest = Integer.MAX_VALUE;
+        long total = 0;
+        int salaried = 0;
+
+        for (int row = columns.nextWithSalary(0); row >= 0; row = columns.nextWithSalary(row + 1)) {
+            int salary = columns.salary(row);
+            highest = Math.max(highest, salary);
+            lowest = Math.min(lowest, salary);
+            total += salary;
+            salaried++;
+        }
+
+        return new SalaryAggregates(
+                salaried == 0 ? null : highest,
+                salaried == 0 ? null : lowest,
+                total,
+                salaried,
+                List.copyOf(TopEarners.select(columns, TOP_EARNERS)));
+    }
+
+    /**
+     * @return these figures with the employee in the last row of the given columns added, which are the columns these
+     * figures were computed from with that row appended
+     */
+    SalaryAggregates withAppendedRow(EmployeeColumns columns) {
+        int row = columns.size() - 1;
+        if (columns.nextWithSalary(row) != row) {
+            return this;
+        }
+        int salary = columns.salary(row);
+
+        // the new employee is last in the roster, so it ranks below the top earners with the same salary
+        int rank = 0;
+        while (rank < topEarners.size() && topEarners.get(rank).getSalary() >= salary) {
+            rank++;
+        }
+        List<Employee> updatedTopEarners = topEarners;
+        if (rank < TOP_EARNERS) {
+            List<Employee> updated = new ArrayList<>(topEarners);
+            updated.add(rank, columns.employee(row));
+            updatedTopEarners = List.copyOf(updated.subList(0, Math.min(updated.size(), TOP_EARNERS)));
+        }
+
+        return new SalaryAggregates(
+                salariedEmployees == 0 ? salary : Math.max(highestSalary, salary),
+                salariedEmployees == 0 ? salary : Math.min(lowestSalary, salary),
+                totalSalary + salary,
+                salariedEmployees + 1,
+                updatedTopEarners);
+    }
+
+    /**
+     * @return these figures without the given employee, computed anew from the given columns, which are the columns
+     * these figures were computed from without that employee, only if it had the highest or lowest salary or was a top
+     * earner
+     */
+    SalaryAggregates withoutEmployee(Employee removed, EmployeeColumns columns) {
+        if (removed == null || removed.getSalary() == null) {
+            return this;
+        }
+        int salary = removed.getSalary();
+        if (salary == highestSalary
+                || salary == lowestSalary
+                || topEarners.stream().anyMatch(topEarner -> topEarner == removed)) {
+            return of(columns);
+        }
+        return new SalaryAggregates(
+                highestSalary, lowestSalary, totalSalary - salary, salariedEmployees - 1, topEarners);
+    }
+
+    /**
+     * @return the names of the top earners, highest salary first
+     */
+    public List<String> topEarnerNames() {
+        return topEarners.stream().map(Employee::getName).toList();
+    }
+}
@@ -0,0 +1,85 @@
+package com.reliaquest.api.application.domain.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Selects the employees with the highest salaries in O(n log k) with a bounded min-heap of salary and row packed into
+ * a {@code long}, giving the same result as a stable sort by salary, highest first.
+ */
+final class TopEarners {
+
+    private TopEarners() {}
+
+    /**
+     * @return up to {@code k} employees with the highest salaries, highest first. Null employees and employees without
+     * a salary are skipped
+     */
+    static List<Employee> select(EmployeeColumns columns, int k) {
+        if (k <= 0 || columns.size() == 0) {
+            return List.of();
+        }
+
+        // the root is the lowest ranked of the best k seen so far, the one a better candidate replaces
+        long[] heap = new long[Math.min(k, columns.size())];
+        int size = 0;
+        for (int row = columns.nextWithSalary(0); row >= 0; row = columns.nextWithSalary(row + 1)) {
+            long rank = rank(columns.salary(row), row);
+            if (size < heap.length) {
+                heap[size] = rank;
+                siftUp(heap, size++);
+            } else if (rank > heap[0]) {
+                heap[0] = rank;
+                siftDown(heap, size);
+            }
+        }
+
+        Arrays.sort(heap, 0, size);
+        List<Employee> topEarners = new ArrayList<>(size);
+        for (int i = size - 1; i >= 0; i--) {
+            topEarners.add(columns.employee(rowOf(heap[i])));
+        }
+        return topEarners;
+    }
+
+    // salary in the high half, the inverted row in the low half so an earlier employee ranks higher
+    private static long rank(int salary, int row) {
+        return ((long) salary << 32) | (~row & 0xFFFFFFFFL);
+    }
+
+    private static int rowOf(long rank) {
+        return ~(int) rank;
+    }
+
+    private static void siftUp(long[] heap, int position) {
+        long rank = heap[position];
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (heap[parent] <= rank) {
+                break;
+            }
+            heap[position] = heap[parent];
+            position = parent;
+        }
+        heap[position] = rank;
+    }
+
+    private static void siftDown(long[] heap, int size) {
+        long rank = heap[0];
+        int position = 0;
+        int half = size >>> 1;
+        while (position < half) {
+            int child = 2 * position + 1;
+            if (child + 1 < size && heap[child + 1] < heap[child]) {
+                child++;
+            }
+            if (rank <= heap[child]) {
+                break;
+            }
+            heap[position] = heap[child];
+            position = child;
+        }
+        heap[position] = rank;
+    }
+}
@@ -1,55 +1,117 @@
 package com.reliaquest.api.application.domain.service;
 
 import com.reliaquest.api.application.domain.model.Employee;
+import com.reliaquest.api.application.domain.model.EmployeePage;
+import com.reliaquest.api.application.domain.model.EmployeeRoster;
+import com.reliaquest.api.application.domain.model.EmployeesWarmUpOutcome;
+import com.reliaquest.api.application.domain.model.SalaryAggregates;
+import com.reliaquest.api.application.port.in.CreateEmployeeAsyncUseCase;
 import com.reliaquest.api.application.port.in.CreateEmployeeUseCase;
+import com.reliaquest.api.application.port.in.DeleteEmployeeAsyncUseCase;
 import com.reliaquest.api.application.port.in.DeleteEmployeeUseCase;
+import com.reliaquest.api.application.port.in.EmployeeRosterExpiredException;
+import com.reliaquest.api.application.port.in.GetAllEmployeesAsyncUseCase;
 import com.reliaquest.api.application.port.in.GetAllEmployeesUseCase;
+import com.reliaquest.api.application.port.in.GetEmployeeByIdAsyncUseCase;
 import com.reliaquest.api.application.port.in.GetEmployeeByIdUseCase;
+import com.reliaquest.api.application.port.in.GetEmployeesByNamePrefixAsyncUseCase;
+import com.reliaquest.api.application.port.in.GetEmployeesByNamePrefixUseCase;
+import com.reliaquest.api.application.port.in.GetEmployeesByNameSearchAsyncUseCase;
 import com.reliaquest.api.application.port.in.GetEmployeesByNameSearchUseCase;
+import com.reliaquest.api.application.port.in.GetEmployeesPageAsyncUseCase;
+import com.reliaquest.api.application.port.in.GetEmployeesPageUseCase;
+import com.reliaquest.api.application.port.in.GetHighestSalaryAsyncUseCase;
 import com.reliaquest.api.application.port.in.GetHighestSalaryUseCase;
+import com.reliaquest.api.application.port.in.GetTopEarnersAsyncUseCase;
+import com.reliaquest.api.application.port.in.GetTopEarnersUseCase;
+import com.reliaquest.api.application.port.in.GetTopTenEarnerNamesAsyncUseCase;
 import com.reliaquest.api.application.port.in.GetTopTenEarnerNamesUseCase;
+import com.reliaquest.api.application.port.in.WarmUpEmployeesAsyncUseCase;
+import com.reliaquest.api.application.port.out.DeleteEmployeeAsyncPort;
 import com.reliaquest.api.application.port.out.DeleteEmployeePort;
+import com.reliaquest.api.application.port.out.LoadEmployeeByIdAsyncPort;
 import com.reliaquest.api.application.port.out.LoadEmployeeByIdPort;
+import com.reliaquest.api.application.port.out.LoadEmployeeRosterAsyncPort;
+import com.reliaquest.api.application.port.out.LoadEmployeeRosterByVersionPort;
+import com.reliaquest.api.application.port.out.LoadEmployeeRosterPort;
+import com.reliaquest.api.application.port.out.LoadEmployeesAsyncPort;
 import com.reliaquest.api.application.port.out.LoadEmployeesPort;
+import com.reliaquest.api.application.port.out.LoadEmployeesStalenessPort;
+import com.reliaquest.api.application.port.out.RetainEmployeeRosterPort;
+import com.reliaquest.api.application.port.out.SaveNewEmployeeAsyncPort;
 import com.reliaquest.api.application.port.out.SaveNewEmployeePort;
+import com.reliaquest.api.application.port.out.SearchEmployeesByNamePort;
 import com.reliaquest.api.common.UseCase;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 
 @UseCase
 @RequiredArgsConstructor
 public class EmployeesService
         implements GetAllEmployeesUseCase,
+                GetEmployeesPageUseCase,
                 GetEmployeesByNameSearchUseCase,
+                GetEmployeesByNamePrefixUseCase,
                 GetEmployeeByIdUseCase,
                 GetHighestSalaryUseCase,
                 GetTopTenEarnerNamesUseCase,
+                GetTopEarnersUseCase,
                 CreateEmployeeUseCase,
-                DeleteEmployeeUseCase {
+                DeleteEmployeeUseCase,
+                GetAllEmployeesAsyncUseCase,
+                GetEmployeesPageAsyncUseCase,
+                GetEmployeesByNameSearchAsyncUseCase,
+                GetEmployeesByNamePrefixAsyncUseCase,
+                GetEmployeeByIdAsyncUseCase,
+                GetHighestSalaryAsyncUseCase,
+                GetTopTenEarnerNamesAsyncUseCase,
+                GetTopEarnersAsyncUseCase,
+                CreateEmployeeAsyncUseCase,
+                DeleteEmployeeAsyncUseCase,
+                WarmUpEmployeesAsyncUseCase {
 
     private final LoadEmployeesPort loadEmployeesPort;
     private final LoadEmployeeByIdPort loadEmployeeByIdPort;
     private final SaveNewEmployeePort saveNewEmployeePort;
     private final DeleteEmployeePort deleteEmployeePort;
+    private final LoadEmployeesAsyncPort loadEmployeesAsyncPort;
+    private final LoadEmployeeByIdAsyncPort loadEmployeeByIdAsyncPort;
+    private final SaveNewEmployeeAsyncPort saveNewEmployeeAsyncPort;
+    private final DeleteEmployeeAsyncPort deleteEmployeeAsyncPort;
+    private final LoadEmployeesStalenessPort loadEmployeesStalenessPort;
+    private final LoadEmployeeRosterPort loadEmployeeRosterPort;
+    private final LoadEmployeeRosterAsyncPort loadEmployeeRosterAsyncPort;
+    private final SearchEmployeesByNamePort searchEmployeesByNamePort;
+    private final RetainEmployeeRosterPort retainEmployeeRosterPort;
+    private final LoadEmployeeRosterByVersionPort loadEmployeeRosterByVersionPort;
 
     @Override
     public List<Employee> getAllEmployees() {
         return loadEmployeesPort.loadAllEmployees();
     }
 
+    /**
+     * @param rosterVersion the snapshot the previous pages were read from, or null to start from the current one
+     * @throws EmployeeRosterExpiredException if the snapshot of the given version is no longer kept
+     */
     @Override
-    public List<Employee> getEmployeesByNameSearch(String name) {
-        List<Employee> allEmployees = loadEmployeesPort.loadAllEmployees();
+    public EmployeePage getEmployeesPage(Long rosterVersion, int offset, int size) {
+        EmployeeRoster roster = rosterVersion == null
+                ? retain(loadEmployeeRosterPort.loadEmployeeRoster())
+                : retainedRoster(rosterVersion);
+        return page(roster, offset, size);
+    }
 
-        if (allEmployees == null) {
-            return null;
-        }
+    @Override
+    public List<Employee> getEmployeesByNameSearch(String name) {
+        return searchByName(loadEmployeeRosterPort.loadEmployeeRoster(), name);
+    }
 
-        return allEmployees.stream()
-                .filter(employee -> employee.getName().toLowerCase().contains(name.toLowerCase()))
-                .toList();
+    @Override
+    public List<Employee> getEmployeesByNamePrefix(String prefix, int count) {
+        return autocompleteByName(loadEmployeeRosterPort.loadEmployeeRoster(), prefix, count);
     }
 
     @Override
@@ -59,29 +121,17 @@ public class EmployeesService
 
     @Override
     public Integer getHighestSalary() {
-        Integer highestSalary = null;
-
-        List<Employee> allEmployees = loadEmployeesPort.loadAllEmployees();
-        for (Employee employee : allEmployees) {
-            if (highestSalary == null || employee.getSalary() > highestSalary) {
-                highestSalary = employee.getSalary();
-            }
-        }
-
-        return highestSalary;
+        return highestSalary(loadEmployeeRosterPort.loadEmployeeRoster());
     }
 
     @Override
     public List<String> getTopTenEarnerNames() {
-        List<String> topTenEarnerNames = new ArrayList<>();
-
-        List<Employee> allEmployees = loadEmployeesPort.loadAllEmployees();
-        allEmployees.stream()
-                .sorted((e1, e2) -> e2.getSalary().compareTo(e1.getSalary()))
-                .limit(10)
-                .forEach(employee -> topTenEarnerNames.add(employee.getName()));
+        return topTenEarnerNames(loadEmployeeRosterPort.loadEmployeeRoster());
+    }
 
-        return topTenEarnerNames;
+    @Override
+    public List<Employee> getTopEarners(int count) {
+        return topEarners(loadEmployeeRosterPort.loadEmployeeRoster(), count);
     }
 
     @Override
@@ -93,4 +143,137 @@ public class EmployeesService
     public String deleteEmployeeById(UUID uuid) {
         return deleteEmployeePort.deleteEmployeeById(uuid);
     }
+
+    // the async variants apply the same logic once the employees are loaded, without waiting on the calling thread
+
+    @Override
+    public CompletableFuture<List<Employee>> getAllEmployeesAsync() {
+        return loadEmployeesAsyncPort.loadAllEmployeesAsync();
+    }
+
+    @Override
+    public CompletableFuture<EmployeePage> getEmployeesPageAsync(Long rosterVersion, int offset, int size) {
+        CompletableFuture<EmployeeRoster> roster = rosterVersion == null
+                ? loadEmployeeRosterAsyncPort.loadEmployeeRosterAsync().thenApply(this::retain)
+                : CompletableFuture.completedFuture(rosterVersion).thenApply(this::retainedRoster);
+        return roster.thenApply(retained -> page(retained, offset, size));
+    }
+
+    @Override
+    public CompletableFuture<List<Employee>> getEmployeesByNameSearchAsync(String name) {
+        return loadEmployeeRosterAsyncPort.loadEmployeeRosterAsync().thenApply(roster -> searchByName(roster, name));
+    }
+
+    @Override
+    public CompletableFuture<List<Employee>> getEmployeesByNamePrefixAsync(String prefix, int count) {
+        return loadEmployeeRosterAsyncPort
+                .loadEmployeeRosterAsync()
+                .thenApply(roster -> autocompleteByName(roster, prefix, count));
+    }
+
+    @Override
+    public CompletableFuture<Employee> getEmployeeByIdAsync(UUID id) {
+        return loadEmployeeByIdAsyncPort.loadEmployeeByIdAsync(id);
+    }
+
+    @Override
+    public CompletableFuture<Integer> getHighestSalaryAsync() {
+        return loadEmployeeRosterAsyncPort.loadEmployeeRosterAsync().thenApply(EmployeesService::highestSalary);
+    }
+
+    @Override
+    public CompletableFuture<List<String>> getTopTenEarnerNamesAsync() {
+        return loadEmployeeRosterAsyncPort.loadEmployeeRosterAsync().thenApply(EmployeesService::topTenEarnerNames);
+    }
+
+    @Override
+    public CompletableFuture<List<Employee>> getTopEarnersAsync(int count) {
+        return loadEmployeeRosterAsyncPort.loadEmployeeRosterAsync().thenApply(roster -> topEarners(roster, count));
+    }
+
+    @Override
+    public CompletableFuture<Employee> createEmployeeAsync(Employee employee) {
+        return saveNewEmployeeAsyncPort.saveNewEmployeeAsync(employee);
+    }
+
+    @Override
+    public CompletableFuture<String> deleteEmployeeByIdAsync(UUID uuid) {
+        return deleteEmployeeAsyncPort.deleteEmployeeByIdAsync(uuid);
+    }
+
+    /**
+     * Loads the employees the way the first request would, so the roster and everything derived from it are built
+     * before traffic arrives.
+     */
+    @Override
+    public CompletableFuture<EmployeesWarmUpOutcome> warmUpEmployeesAsync() {
+        return loadEmployeeRosterAsyncPort.loadEmployeeRosterAsync().handle((roster, e) -> {
+            if (e != null || roster == null) {
+                return EmployeesWarmUpOutcome.FAILED;
+            }
+            roster.prepare();
+            return loadEmployeesStalenessPort.isFromSnapshot(roster)
+                    ? EmployeesWarmUpOutcome.STALE
+                    : EmployeesWarmUpOutcome.WARM;
+        });
+    }
+
+    // pages are read from a snapshot kept by version, so a listing is not shifted by creates and deletes while it is
+    // paged through
+
+    private EmployeeRoster retain(EmployeeRoster roster) {
+        if (roster != null) {
+            retainEmployeeRosterPort.retainEmployeeRoster(roster);
+        }
+        return roster;
+    }
+
+    private EmployeeRoster retainedRoster(long rosterVersion) {
+        EmployeeRoster roster = loadEmployeeRosterByVersionPort.loadEmployeeRosterByVersion(rosterVersion);
+        if (roster == null) {
+            throw new EmployeeRosterExpiredException(rosterVersion);
+        }
+        return roster;
+    }
+
+    private static EmployeePage page(EmployeeRoster roster, int offset, int size) {
+        return roster == null ? null : roster.page(offset, size);
+    }
+
+    // the roster answers from its trigram index over the lower-cased names, rather than lower-casing and scanning every
+    // name on every search; the port may answer repeated searches against the same roster without asking it again
+
+    private List<Employee> searchByName(EmployeeRoster roster, String name) {
+        return roster == null ? null : searchEmployeesByNamePort.searchEmployeesByName(roster, name);
+    }
+
+    private static List<Employee> autocompleteByName(EmployeeRoster roster, String prefix, int count) {
+        return roster == null ? null : roster.autocompleteByName(prefix, count);
+    }
+
+    // the salary endpoints read the aggregates the roster computes once per snapshot, rather than scanning and sorting
+    // all employees on every request
+
+    private static Integer highestSalary(EmployeeRoster roster) {
+        return roster == null ? null : roster.getSalaryAggregates().highestSalary();
+    }
+
+    private static List<String> topTenEarnerNames(EmployeeRoster roster) {
+        return roster == null ? null : roster.getSalaryAggregates().topEarnerNames();
+    }
+
+    /**
+     * Up to the stored top ten the answer is a slice of the roster's aggregates, larger counts are selected from the
+     * roster the same way the aggregates were built.
+     */
+    private static List<Employee> topEarners(EmployeeRoster roster, int count) {
+        if (roster == null) {
+            return null;
+        }
+        if (count <= SalaryAggregates.TOP_EARNERS) {
+            List<Employee> topEarners = roster.getSalaryAggregates().topEarners();
+            return topEarners.subList(0, Math.max(0, Math.min(count, topEarners.size())));
+        }
+        return roster.getTopEarners(count);
+    }
 }
@@ -0,0 +1,9 @@
+package com.reliaquest.api.application.port.in;
+
+import com.reliaquest.api.application.domain.model.Employee;
+import java.util.concurrent.CompletableFuture;
+
+public interface CreateEmployeeAsyncUseCase {
+
+    CompletableFuture<Employee> createEmployeeAsync(Employee employee);
+}
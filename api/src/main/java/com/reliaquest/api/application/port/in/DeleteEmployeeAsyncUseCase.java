@@ -0,0 +1,9 @@
+package com.reliaquest.api.application.port.in;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+public interface DeleteEmployeeAsyncUseCase {
+
+    CompletableFuture<String> deleteEmployeeByIdAsync(UUID uuid);
+}
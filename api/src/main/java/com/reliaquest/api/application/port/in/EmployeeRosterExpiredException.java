@@ -0,0 +1,19 @@
+package com.reliaquest.api.application.port.in;
+
+import lombok.Getter;
+
+/**
+ * Thrown when a page of a roster snapshot is asked for that is no longer kept, because it has not been paged through
+ * for a while or too many snapshots have been paged through since. Paging has to start over from the current
+ * snapshot.
+ */
+@Getter
+public class EmployeeRosterExpiredException extends RuntimeException {
+
+    private final long rosterVersion;
+
+    public EmployeeRosterExpiredException(long rosterVersion) {
+        super("Roster version " + rosterVersion + " is no longer available, start paging again");
+        this.rosterVersion = rosterVersion;
+    }
+}
@@ -0,0 +1,10 @@
+package com.reliaquest.api.application.port.in;
+
+import com.reliaquest.api.application.domain.model.Employee;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+public interface GetEmployeeByIdAsyncUseCase {
+
+    CompletableFuture<Employee> getEmployeeByIdAsync(UUID id);
+}
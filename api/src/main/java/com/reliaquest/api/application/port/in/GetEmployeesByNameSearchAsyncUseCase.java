@@ -0,0 +1,10 @@
+package com.reliaquest.api.application.port.in;
+
+import com.reliaquest.api.application.domain.model.Employee;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public interface GetEmployeesByNameSearchAsyncUseCase {
+
+    CompletableFuture<List<Employee>> getEmployeesByNameSearchAsync(String name);
+}
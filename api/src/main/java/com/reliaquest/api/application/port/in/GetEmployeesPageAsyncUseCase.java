@@ -0,0 +1,9 @@
+package com.reliaquest.api.application.port.in;
+
+import com.reliaquest.api.application.domain.model.EmployeePage;
+import java.util.concurrent.CompletableFuture;
+
+public interface GetEmployeesPageAsyncUseCase {
+
+    CompletableFuture<EmployeePage> getEmployeesPageAsync(Long rosterVersion, int offset, int size);
+}
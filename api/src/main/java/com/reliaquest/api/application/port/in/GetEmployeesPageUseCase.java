@@ -0,0 +1,8 @@
+package com.reliaquest.api.application.port.in;
+
+import com.reliaquest.api.application.domain.model.EmployeePage;
+
+public interface GetEmployeesPageUseCase {
+
+    EmployeePage getEmployeesPage(Long rosterVersion, int offset, int size);
+}
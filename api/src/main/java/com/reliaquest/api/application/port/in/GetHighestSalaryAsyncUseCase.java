@@ -0,0 +1,8 @@
+package com.reliaquest.api.application.port.in;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface GetHighestSalaryAsyncUseCase {
+
+    CompletableFuture<Integer> getHighestSalaryAsync();
+}
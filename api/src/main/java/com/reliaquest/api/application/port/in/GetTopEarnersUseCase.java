@@ -0,0 +1,9 @@
+package com.reliaquest.api.application.port.in;
+
+import com.reliaquest.api.application.domain.model.Employee;
+import java.util.List;
+
+public interface GetTopEarnersUseCase {
+
+    List<Employee> getTopEarners(int count);
+}
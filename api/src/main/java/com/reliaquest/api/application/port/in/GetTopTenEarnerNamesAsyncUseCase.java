@@ -0,0 +1,9 @@
+package com.reliaquest.api.application.port.in;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public interface GetTopTenEarnerNamesAsyncUseCase {
+
+    CompletableFuture<List<String>> getTopTenEarnerNamesAsync();
+}
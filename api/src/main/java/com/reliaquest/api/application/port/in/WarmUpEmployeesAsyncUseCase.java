@@ -0,0 +1,9 @@
+package com.reliaquest.api.application.port.in;
+
+import com.reliaquest.api.application.domain.model.EmployeesWarmUpOutcome;
+import java.util.concurrent.CompletableFuture;
+
+public interface WarmUpEmployeesAsyncUseCase {
+
+    CompletableFuture<EmployeesWarmUpOutcome> warmUpEmployeesAsync();
+}
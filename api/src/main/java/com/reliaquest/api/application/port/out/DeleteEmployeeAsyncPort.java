@@ -0,0 +1,9 @@
+package com.reliaquest.api.application.port.out;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+public interface DeleteEmployeeAsyncPort {
+
+    CompletableFuture<String> deleteEmployeeByIdAsync(UUID uuid);
+}
@@ -0,0 +1,8 @@
+package com.reliaquest.api.application.port.out;
+
+import com.reliaquest.api.application.domain.model.EmployeeRoster;
+
+public interface LoadEmployeeRosterByVersionPort {
+
+    EmployeeRoster loadEmployeeRosterByVersion(long version);
+}
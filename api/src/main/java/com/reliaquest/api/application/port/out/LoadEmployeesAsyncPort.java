@@ -0,0 +1,10 @@
+package com.reliaquest.api.application.port.out;
+
+import com.reliaquest.api.application.domain.model.Employee;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public interface LoadEmployeesAsyncPort {
+
+    CompletableFuture<List<Employee>> loadAllEmployeesAsync();
+}
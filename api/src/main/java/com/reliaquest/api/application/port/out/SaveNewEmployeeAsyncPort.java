@@ -0,0 +1,9 @@
+package com.reliaquest.api.application.port.out;
+
+import com.reliaquest.api.application.domain.model.Employee;
+import java.util.concurrent.CompletableFuture;
+
+public interface SaveNewEmployeeAsyncPort {
+
+    CompletableFuture<Employee> saveNewEmployeeAsync(Employee employee);
+}
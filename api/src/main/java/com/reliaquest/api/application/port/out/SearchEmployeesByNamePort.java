@@ -0,0 +1,10 @@
+package com.reliaquest.api.application.port.out;
+
+import com.reliaquest.api.application.domain.model.Employee;
+import com.reliaquest.api.application.domain.model.EmployeeRoster;
+import java.util.List;
+
+public interface SearchEmployeesByNamePort {
+
+    List<Employee> searchEmployeesByName(EmployeeRoster roster, String name);
+}
@@ -0,0 +1,14 @@
+package com.reliaquest.api.application.port.out;
+
+import java.time.Duration;
+
+/**
+ * Thrown by an out port when the upstream system is rate limiting us and the request could not be admitted within our
+ * request budget. {@link #getRetryAfter()} is our best estimate of when the upstream will accept requests again.
+ */
+public class UpstreamThrottledException extends UpstreamUnavailableException {
+
+    public UpstreamThrottledException(String message, Duration retryAfter) {
+        super(message, retryAfter);
+    }
+}
@@ -0,0 +1,20 @@
+package com.reliaquest.api.application.port.out;
+
+import java.time.Duration;
+import lombok.Getter;
+
+/**
+ * Thrown by an out port when the upstream system cannot serve the request right now, for example because it keeps
+ * failing and calls to it are short-circuited. {@link #getRetryAfter()} is our best estimate of when it is worth trying
+ * again.
+ */
+@Getter
+public class UpstreamUnavailableException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public UpstreamUnavailableException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+}
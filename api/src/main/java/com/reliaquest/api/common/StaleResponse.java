@@ -0,0 +1,36 @@
+package com.reliaquest.api.common;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Marks the HTTP request being answered as served from stale data, so its response can tell the client. The mark is a
+ * request attribute, so it stays with the one request whose data was stale. Async reads complete on other threads,
+ * so the request is captured on the thread handling it, before the read leaves that thread.
+ */
+public final class StaleResponse {
+
+    private static final String STALE_ATTRIBUTE = StaleResponse.class.getName() + ".STALE";
+
+    private StaleResponse() {}
+
+    /**
+     * The request handled on the calling thread, or null outside of one, e.g. during the warm-up.
+     */
+    public static HttpServletRequest currentRequest() {
+        return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+                ? attributes.getRequest()
+                : null;
+    }
+
+    public static void markStale(HttpServletRequest request) {
+        if (request != null) {
+            request.setAttribute(STALE_ATTRIBUTE, Boolean.TRUE);
+        }
+    }
+
+    public static boolean isStale(HttpServletRequest request) {
+        return request != null && request.getAttribute(STALE_ATTRIBUTE) != null;
+    }
+}
@@ -1,26 +1,205 @@
 package com.reliaquest.api.common.config;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
-import java.util.concurrent.TimeUnit;
-import org.springframework.cache.CacheManager;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.thread.Threading;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 @Configuration
 @EnableCaching
+@EnableConfigurationProperties({
+    EmployeeCacheProperties.class,
+    EmployeeRosterSnapshotProperties.class,
+    EmployeesWarmUpProperties.class
+})
 public class CacheConfig {
 
+    public static final String ALL_EMPLOYEES_CACHE = "allEmployees";
+    public static final String EMPLOYEE_BY_ID_CACHE = "employeeById";
+    public static final String EMPLOYEE_NOT_FOUND_CACHE = "employeeNotFound";
+    public static final String EMPLOYEE_SEARCH_RESULTS_CACHE = "employeeSearchResults";
+    public static final String PAGED_EMPLOYEE_ROSTERS_CACHE = "pagedEmployeeRosters";
+
+    /**
+     * Threads that run the upstream calls made when a cache entry is loaded, so a cache miss never blocks the map
+     * while the Employee Server is answering.
+     */
+    @Bean
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolTaskExecutor employeeServerExecutor(
+            @Value("${employee-server.executor.pool-size:8}") int poolSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("employee-server-");
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        return executor;
+    }
+
+    /**
+     * Virtual thread variant of {@link #employeeServerExecutor}. There is no pool to size: how many calls reach the
+     * Employee Server at once is still bounded by the request budget and the HTTP connection pool.
+     */
+    @Bean(name = "employeeServerExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public SimpleAsyncTaskExecutor virtualEmployeeServerExecutor() {
+        return virtualThreadExecutor("employee-server-");
+    }
+
+    /**
+     * Threads that run background refreshes of cache entries, kept apart from {@link #employeeServerExecutor} so a
+     * refresh never delays a caller that is waiting on a load.
+     */
+    @Bean
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolTaskExecutor cacheRefreshExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("cache-refresh-");
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        return executor;
+    }
+
+    /**
+     * Virtual thread variant of {@link #cacheRefreshExecutor}. Caffeine already runs at most one refresh per key, so
+     * no concurrency limit is set; a limit would block the caller that triggers the refresh instead of queueing it.
+     */
+    @Bean(name = "cacheRefreshExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public SimpleAsyncTaskExecutor virtualCacheRefreshExecutor() {
+        return virtualThreadExecutor("cache-refresh-");
+    }
+
+    /**
+     * Each cache is built from its own policy in {@link EmployeeCacheProperties}, so they can be sized and expire
+     * independently.
+     */
+    @Bean
+    public Caffeine<Object, Object> employeeByIdCacheConfig(
+            @Qualifier("employeeServerExecutor") Executor executor,
+            EmployeeCacheProperties properties,
+            CacheStatsCounters statsCounters) {
+        return caffeine(EMPLOYEE_BY_ID_CACHE, properties, statsCounters.forCache(EMPLOYEE_BY_ID_CACHE))
+                .executor(executor);
+    }
+
+    /**
+     * The roster is served stale-while-revalidate: after the soft TTL (refresh-after-write) the current snapshot is
+     * still returned while a reload runs in the background, and only the hard TTL (expire-after-write) forces callers
+     * to wait for a fresh load.
+     */
+    @Bean
+    public Caffeine<Object, Object> allEmployeesCacheConfig(
+            @Qualifier("employeeServerExecutor") Executor executor,
+            EmployeeCacheProperties properties,
+            CacheStatsCounters statsCounters) {
+        return caffeine(ALL_EMPLOYEES_CACHE, properties, statsCounters.forCache(ALL_EMPLOYEES_CACHE))
+                .executor(executor);
+    }
+
+    /**
+     * Negative cache for by-id lookups: bounded, and short lived so ids created elsewhere show up soon.
+     */
     @Bean
-    public Caffeine<Object, Object> caffeineConfig() {
-        return Caffeine.newBuilder().expireAfterWrite(60, TimeUnit.MINUTES);
+    public Caffeine<Object, Object> employeeNotFoundCacheConfig(
+            EmployeeCacheProperties properties, CacheStatsCounters statsCounters) {
+        return caffeine(EMPLOYEE_NOT_FOUND_CACHE, properties, statsCounters.forCache(EMPLOYEE_NOT_FOUND_CACHE));
     }
 
+    /**
+     * Results of name searches by roster version, so a changed roster needs no flush; see
+     * {@code EmployeeSearchResultCache}.
+     */
     @Bean
-    public CacheManager cacheManager() {
+    public Caffeine<Object, Object> employeeSearchResultsCacheConfig(
+            EmployeeCacheProperties properties, CacheStatsCounters statsCounters) {
+        return caffeine(
+                EMPLOYEE_SEARCH_RESULTS_CACHE, properties, statsCounters.forCache(EMPLOYEE_SEARCH_RESULTS_CACHE));
+    }
+
+    /**
+     * Roster snapshots by version while clients page through them; see {@code EmployeeRosterVersionCache}.
+     */
+    @Bean
+    public Caffeine<Object, Object> pagedEmployeeRostersCacheConfig(
+            EmployeeCacheProperties properties, CacheStatsCounters statsCounters) {
+        return caffeine(
+                PAGED_EMPLOYEE_ROSTERS_CACHE, properties, statsCounters.forCache(PAGED_EMPLOYEE_ROSTERS_CACHE));
+    }
+
+    /**
+     * Statistics counters of the named caches, read by {@link EmployeeCacheMetrics} for the evictions by cause.
+     */
+    @Bean
+    public CacheStatsCounters cacheStatsCounters() {
+        return new CacheStatsCounters();
+    }
+
+    /**
+     * Caches created on demand by name, e.g. through {@code @Cacheable}, get the default policy.
+     */
+    @Bean
+    public CaffeineCacheManager cacheManager(EmployeeCacheProperties properties) {
         CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
-        caffeineCacheManager.setCaffeine(caffeineConfig());
+        caffeineCacheManager.setCaffeine(caffeine(EmployeeCacheProperties.DEFAULT_POLICY, properties));
         return caffeineCacheManager;
     }
+
+    /**
+     * @throws IllegalStateException if the policy sets both a maximum size and a maximum weight
+     */
+    static Caffeine<Object, Object> caffeine(String cacheName, EmployeeCacheProperties properties) {
+        return caffeine(cacheName, properties, ConcurrentStatsCounter::new);
+    }
+
+    /**
+     * @param statsCounter counts hits, misses, loads and evictions if the policy records statistics
+     * @throws IllegalStateException if the policy sets both a maximum size and a maximum weight
+     */
+    static Caffeine<Object, Object> caffeine(
+            String cacheName, EmployeeCacheProperties properties, Supplier<? extends StatsCounter> statsCounter) {
+        EmployeeCacheProperties.CachePolicy policy = properties.policy(cacheName);
+        if (policy.maximumSize() != null && policy.maximumWeight() != null) {
+            throw new IllegalStateException(
+                    "Cache " + cacheName + " can be bounded by maximum-size or by maximum-weight, not both");
+        }
+
+        Caffeine<Object, Object> caffeine = Caffeine.newBuilder();
+        if (policy.maximumSize() != null) {
+            caffeine.maximumSize(policy.maximumSize());
+        }
+        if (policy.maximumWeight() != null) {
+            caffeine.maximumWeight(policy.maximumWeight()).weigher(EmployeeCacheWeigher.INSTANCE);
+        }
+        if (policy.expireAfterWrite() != null) {
+            caffeine.expireAfterWrite(policy.expireAfterWrite());
+        }
+        if (policy.expireAfterAccess() != null) {
+            caffeine.expireAfterAccess(policy.expireAfterAccess());
+        }
+        if (policy.refreshAfterWrite() != null) {
+            caffeine.refreshAfterWrite(policy.refreshAfterWrite());
+        }
+        if (Boolean.TRUE.equals(policy.recordStats())) {
+            caffeine.recordStats(statsCounter);
+        }
+        return caffeine;
+    }
+
+    private static SimpleAsyncTaskExecutor virtualThreadExecutor(String threadNamePrefix) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        return executor;
+    }
 }
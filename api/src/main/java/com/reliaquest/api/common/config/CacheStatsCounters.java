@@ -0,0 +1,34 @@
+package com.reliaquest.api.common.config;
+
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * The statistics counters of the named employee caches, kept so metrics can read what Caffeine doesn't expose itself,
+ * like evictions by cause.
+ */
+public class CacheStatsCounters {
+
+    private final Map<String, EvictionCountingStatsCounter> counters = new ConcurrentHashMap<>();
+
+    /**
+     * @return a supplier for {@link com.github.benmanes.caffeine.cache.Caffeine#recordStats(Supplier)} that registers
+     * the counter under the cache name; a cache built again replaces the counter of the previous one
+     */
+    public Supplier<StatsCounter> forCache(String cacheName) {
+        return () -> {
+            EvictionCountingStatsCounter counter = new EvictionCountingStatsCounter();
+            counters.put(cacheName, counter);
+            return counter;
+        };
+    }
+
+    /**
+     * @return the counter of the given cache, or null if no cache of that name was built with one
+     */
+    public EvictionCountingStatsCounter get(String cacheName) {
+        return counters.get(cacheName);
+    }
+}
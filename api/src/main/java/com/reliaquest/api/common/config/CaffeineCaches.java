@@ -0,0 +1,48 @@
+package com.reliaquest.api.common.config;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+/**
+ * Helpers for the caches the adapters build from the Caffeine configs in {@link CacheConfig}.
+ */
+public final class CaffeineCaches {
+
+    private CaffeineCaches() {}
+
+    /**
+     * Registers a cache an adapter built itself, so it can be managed like any other Spring cache (clear, evict,
+     * metrics).
+     */
+    @SuppressWarnings("unchecked")
+    public static void register(CaffeineCacheManager cacheManager, String name, Cache<?, ?> cache) {
+        cacheManager.registerCustomCache(name, (Cache<Object, Object>) cache);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static void register(CaffeineCacheManager cacheManager, String name, AsyncCache<?, ?> cache) {
+        cacheManager.registerCustomCache(name, (AsyncCache<Object, Object>) cache);
+    }
+
+    /**
+     * Gets a cache entry like {@link AsyncCache#get(Object, Function)}, but computes a miss on the calling thread
+     * instead of the cache's executor, and outside of the cache's lock on the key. A computation in flight is still
+     * shared: whoever misses meanwhile, blocking or not, waits for it.
+     */
+    public static <K, V> CompletableFuture<V> getOnCallingThread(
+            AsyncCache<K, V> cache, K key, Function<K, V> loader) {
+        CompletableFuture<V> loading = new CompletableFuture<>();
+        CompletableFuture<V> cached = cache.get(key, (k, executor) -> loading);
+        if (cached == loading) {
+            try {
+                loading.complete(loader.apply(key));
+            } catch (RuntimeException | Error e) {
+                loading.completeExceptionally(e);
+            }
+        }
+        return cached;
+    }
+}
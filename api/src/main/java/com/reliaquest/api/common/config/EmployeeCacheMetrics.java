@@ -0,0 +1,88 @@
+package com.reliaquest.api.common.config;
+
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.TimeGauge;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.actuate.metrics.cache.CacheMetricsRegistrar;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * Binds every cache in the {@link CacheManager} to the metrics endpoint once all singletons exist, since the employee
+ * caches are registered after Spring Boot binds its own. Besides Micrometer's Caffeine metrics each cache gets
+ * {@code cache.hit.ratio}, {@code cache.miss.ratio}, {@code cache.load.penalty.average} and, when built with a
+ * {@link CacheStatsCounters} counter, {@code cache.evictions.by.cause}.
+ */
+@Component
+@RequiredArgsConstructor
+public class EmployeeCacheMetrics implements SmartInitializingSingleton {
+
+    // same tag Spring Boot puts on the caches it binds itself, so both sets of meters line up
+    private static final Tag CACHE_MANAGER_TAG = Tag.of("cache.manager", "cacheManager");
+
+    private final CacheManager cacheManager;
+
+    private final CacheMetricsRegistrar cacheMetricsRegistrar;
+
+    private final CacheStatsCounters cacheStatsCounters;
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (String cacheName : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache == null) {
+                continue;
+            }
+            cacheMetricsRegistrar.bindCacheToRegistry(cache, CACHE_MANAGER_TAG);
+            if (cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache) {
+                bindStatistics(cacheName, nativeCache);
+            }
+        }
+    }
+
+    private void bindStatistics(String cacheName, com.github.benmanes.caffeine.cache.Cache<?, ?> cache) {
+        Tags tags = Tags.of(Tag.of("cache", cacheName), CACHE_MANAGER_TAG);
+
+        Gauge.builder("cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .description("Share of cache lookups that were hits")
+                .tags(tags)
+                .register(meterRegistry);
+        Gauge.builder("cache.miss.ratio", cache, c -> c.stats().missRate())
+                .description("Share of cache lookups that were misses")
+                .tags(tags)
+                .register(meterRegistry);
+        TimeGauge.builder(
+                        "cache.load.penalty.average",
+                        cache,
+                        TimeUnit.NANOSECONDS,
+                        c -> c.stats().averageLoadPenalty())
+                .description("Average time spent loading a cache entry")
+                .tags(tags)
+                .register(meterRegistry);
+
+        EvictionCountingStatsCounter statsCounter = cacheStatsCounters.get(cacheName);
+        if (statsCounter == null) {
+            return;
+        }
+        for (RemovalCause cause : RemovalCause.values()) {
+            if (cause.wasEvicted()) {
+                FunctionCounter.builder("cache.evictions.by.cause", statsCounter, c -> c.evictionCount(cause))
+                        .description("Cache entries evicted, by what evicted them")
+                        .tags(tags)
+                        .tag("cause", cause.name().toLowerCase())
+                        .baseUnit("entries")
+                        .register(meterRegistry);
+            }
+        }
+    }
+}
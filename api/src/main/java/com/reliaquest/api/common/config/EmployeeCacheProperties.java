@@ -0,0 +1,112 @@
+package com.reliaquest.api.common.config;
+
+import static com.reliaquest.api.common.config.CacheConfig.ALL_EMPLOYEES_CACHE;
+import static com.reliaquest.api.common.config.CacheConfig.EMPLOYEE_BY_ID_CACHE;
+import static com.reliaquest.api.common.config.CacheConfig.EMPLOYEE_NOT_FOUND_CACHE;
+import static com.reliaquest.api.common.config.CacheConfig.EMPLOYEE_SEARCH_RESULTS_CACHE;
+import static com.reliaquest.api.common.config.CacheConfig.PAGED_EMPLOYEE_ROSTERS_CACHE;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Policies of the employee caches, one per cache name. Bound from the {@code employee-api.cache} properties, e.g.
+ * {@code employee-api.cache.policies.employeeById.maximum-size}. The defaults below are the only ones, configuration
+ * only overrides them: a configured policy replaces just the values it sets, so setting the maximum size of a cache
+ * keeps its default expiry. Caches without a default of their own start from the {@code default} policy.
+ *
+ * @param policies the policy of each cache by cache name
+ */
+@ConfigurationProperties("employee-api.cache")
+public record EmployeeCacheProperties(@DefaultValue Map<String, CachePolicy> policies) {
+
+    public static final String DEFAULT_POLICY = "default";
+
+    private static final Map<String, CachePolicy> DEFAULT_POLICIES = Map.of(
+            // a single entry that is served stale-while-revalidate
+            ALL_EMPLOYEES_CACHE,
+            new CachePolicy(1L, null, Duration.ofMinutes(60), null, Duration.ofMinutes(5), true),
+            EMPLOYEE_BY_ID_CACHE,
+            new CachePolicy(10_000L, null, Duration.ofMinutes(60), null, null, true),
+            // short lived, an id created through another instance stays invisible for this long: also how long the
+            // known ids of a roster load answer for the Employee Server, while it is available
+            EMPLOYEE_NOT_FOUND_CACHE,
+            new CachePolicy(10_000L, null, Duration.ofSeconds(30), null, null, true),
+            // bounded by memory, since one result can hold most of the roster; results of replaced rosters are never
+            // read again and leave once idle
+            EMPLOYEE_SEARCH_RESULTS_CACHE,
+            new CachePolicy(null, 32L * 1024 * 1024, null, Duration.ofMinutes(10), null, true),
+            // bounded by memory, since every write makes a new snapshot and every listing started after one retains it;
+            // about 30 listings of 100,000 employees over as many snapshots, each held while it is paged through
+            PAGED_EMPLOYEE_ROSTERS_CACHE,
+            new CachePolicy(null, 256L * 1024 * 1024, null, Duration.ofMinutes(5), null, true),
+            DEFAULT_POLICY,
+            new CachePolicy(10_000L, null, Duration.ofMinutes(60), null, null, true));
+
+    public EmployeeCacheProperties {
+        Map<String, CachePolicy> configured = policies != null ? policies : Map.of();
+        CachePolicy defaultPolicy = DEFAULT_POLICIES.get(DEFAULT_POLICY).overriddenBy(configured.get(DEFAULT_POLICY));
+        Map<String, CachePolicy> merged = new HashMap<>(DEFAULT_POLICIES);
+        merged.put(DEFAULT_POLICY, defaultPolicy);
+        configured.forEach((cacheName, policy) -> {
+            if (!cacheName.equals(DEFAULT_POLICY)) {
+                merged.put(cacheName, DEFAULT_POLICIES.getOrDefault(cacheName, defaultPolicy).overriddenBy(policy));
+            }
+        });
+        policies = Map.copyOf(merged);
+    }
+
+    /**
+     * @return the policy of the given cache, or the default policy if it has none
+     */
+    public CachePolicy policy(String cacheName) {
+        return policies.getOrDefault(cacheName, policies.get(DEFAULT_POLICY));
+    }
+
+    /**
+     * How a single cache is bounded and expires. Unset values of a configured policy are taken from the default policy
+     * of the cache, unset values of the merged policy are not applied.
+     *
+     * @param maximumSize maximum number of entries; can't be combined with {@code maximumWeight}
+     * @param maximumWeight maximum estimated size of all entries in bytes, see {@link EmployeeCacheWeigher}; can't be
+     * combined with {@code maximumSize}
+     * @param expireAfterWrite entries are dropped once they are older than this
+     * @param expireAfterAccess entries are dropped once they haven't been read for this long
+     * @param refreshAfterWrite entries older than this are still served while they are reloaded in the background; only
+     * for caches that load their entries
+     * @param recordStats whether hits, misses, loads and evictions are counted
+     */
+    public record CachePolicy(
+            Long maximumSize,
+            Long maximumWeight,
+            Duration expireAfterWrite,
+            Duration expireAfterAccess,
+            Duration refreshAfterWrite,
+            Boolean recordStats) {
+
+        /**
+         * @return this policy with the values the given one sets replacing its own. A cache is bounded either by size
+         * or by weight, so an override setting either bound replaces both
+         */
+        CachePolicy overriddenBy(CachePolicy override) {
+            if (override == null) {
+                return this;
+            }
+            boolean overridesBound = override.maximumSize() != null || override.maximumWeight() != null;
+            return new CachePolicy(
+                    overridesBound ? override.maximumSize() : maximumSize,
+                    overridesBound ? override.maximumWeight() : maximumWeight,
+                    orElse(override.expireAfterWrite(), expireAfterWrite),
+                    orElse(override.expireAfterAccess(), expireAfterAccess),
+                    orElse(override.refreshAfterWrite(), refreshAfterWrite),
+                    orElse(override.recordStats(), recordStats));
+        }
+
+        private static <T> T orElse(T value, T fallback) {
+            return value != null ? value : fallback;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.reliaquest.api.common.config;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+import com.reliaquest.api.application.domain.model.Employee;
+import com.reliaquest.api.application.domain.model.EmployeeRoster;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Weighs cache entries by a rough estimate of their heap size in bytes, for caches bounded by
+ * {@link EmployeeCacheProperties.CachePolicy#maximumWeight()}. A roster is weighed once when it is cached, a retained
+ * snapshot only by what it doesn't share with the current roster.
+ */
+public final class EmployeeCacheWeigher implements Weigher<Object, Object> {
+
+    public static final EmployeeCacheWeigher INSTANCE = new EmployeeCacheWeigher();
+
+    private static final int OBJECT_BYTES = 16;
+    private static final int UUID_BYTES = 32;
+    private static final int INTEGER_BYTES = 16;
+    private static final int STRING_BYTES = 40;
+    private static final int EMPLOYEE_BYTES = 32;
+    // list slot plus hash map entry and table slot
+    private static final int ROSTER_ENTRY_BYTES = 4 + 32 + 4;
+    // salary, age, id halves, title code and name offset of a row of the columns, plus the line feed after its name
+    private static final int COLUMN_ROW_BYTES = 4 + 4 + 8 + 8 + 4 + 4 + 1;
+
+    private EmployeeCacheWeigher() {}
+
+    @Override
+    public int weigh(Object key, Object value) {
+        return (int) Math.min(Integer.MAX_VALUE, weigh(key) + weigh(value));
+    }
+
+    private static long weigh(Object value) {
+        if (value instanceof Employee employee) {
+            return EMPLOYEE_BYTES
+                    + (employee.getId() == null ? 0 : UUID_BYTES)
+                    + weigh(employee.getName())
+                    + (employee.getSalary() == null ? 0 : INTEGER_BYTES)
+                    + (employee.getAge() == null ? 0 : INTEGER_BYTES)
+                    + weigh(employee.getTitle())
+                    + weigh(employee.getEmail());
+        }
+        if (value instanceof EmployeeRoster roster) {
+            return weighRetained(roster);
+        }
+        if (value instanceof List<?> list) {
+            // lists of search results share their employees with the roster, only the references are their own
+            return OBJECT_BYTES + 4L * list.size();
+        }
+        if (value instanceof AtomicReference<?> reference) {
+            // the current roster, the only one holding its employees
+            if (reference.get() instanceof EmployeeRoster roster) {
+                long bytes = 2L * OBJECT_BYTES;
+                for (Employee employee : roster.getEmployees()) {
+                    bytes += ROSTER_ENTRY_BYTES + weigh(employee);
+                }
+                return bytes;
+            }
+            return OBJECT_BYTES + weigh(reference.get());
+        }
+        if (value instanceof String string) {
+            return STRING_BYTES + string.length();
+        }
+        if (value instanceof UUID) {
+            return UUID_BYTES;
+        }
+        return value == null ? 0 : OBJECT_BYTES;
+    }
+
+    /**
+     * Weighs a snapshot by its list, id index and columns. Its employees are shared with the current roster, or with
+     * the other snapshots of the same load once the roster has been reloaded, and so are the search structures of a
+     * snapshot changed by creates and deletes, like search results share their employees with the roster.
+     */
+    private static long weighRetained(EmployeeRoster roster) {
+        long bytes = OBJECT_BYTES;
+        for (Employee employee : roster.getEmployees()) {
+            String name = employee == null ? null : employee.getName();
+            bytes += ROSTER_ENTRY_BYTES + COLUMN_ROW_BYTES + (name == null ? 0 : name.length());
+        }
+        return bytes;
+    }
+}
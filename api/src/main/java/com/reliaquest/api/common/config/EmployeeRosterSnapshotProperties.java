@@ -0,0 +1,27 @@
+package com.reliaquest.api.common.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Local snapshot of the employee roster, written after every successful load and on shutdown, so a restarted api can
+ * serve right away instead of waiting for the Employee Server. Bound from the {@code employee-api.snapshot}
+ * properties. The snapshot holds employee data unencrypted, so it is off unless enabled with an explicit path.
+ *
+ * @param enabled whether the snapshot is written and loaded at all
+ * @param path absolute path of the file the snapshot is written to and loaded from, required when enabled
+ * @param maxAge snapshots older than this are ignored on startup
+ */
+@ConfigurationProperties("employee-api.snapshot")
+public record EmployeeRosterSnapshotProperties(
+        @DefaultValue("false") boolean enabled, Path path, @DefaultValue("24h") Duration maxAge) {
+
+    public EmployeeRosterSnapshotProperties {
+        if (enabled && (path == null || !path.isAbsolute())) {
+            throw new IllegalArgumentException(
+                    "employee-api.snapshot.path must be an absolute path when the snapshot is enabled: " + path);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.reliaquest.api.common.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Client side request budget for the Employee Server. The limit and window are only starting points; the budget learns
+ * the real values from the 429 responses it observes. Bound from the {@code employee-server.budget} properties.
+ *
+ * @param initialLimit number of requests allowed per window before anything has been learned
+ * @param initialWindow length of a window before anything has been learned
+ * @param maxQueued maximum number of callers allowed to wait for a permit; further callers are rejected immediately
+ * @param maxWait longest a caller will wait for a permit before giving up
+ * @param maxRetries how many times a request that was answered with 429 is retried
+ * @param initialBackoff first backoff after a 429; doubled on every consecutive 429
+ * @param maxBackoff upper bound for the backoff after consecutive 429s
+ */
+@ConfigurationProperties("employee-server.budget")
+public record EmployeeServerBudgetProperties(
+        @DefaultValue("5") int initialLimit,
+        @DefaultValue("30s") Duration initialWindow,
+        @DefaultValue("100") int maxQueued,
+        @DefaultValue("5s") Duration maxWait,
+        @DefaultValue("2") int maxRetries,
+        @DefaultValue("1s") Duration initialBackoff,
+        @DefaultValue("60s") Duration maxBackoff) {}
@@ -0,0 +1,20 @@
+package com.reliaquest.api.common.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Circuit breakers around the Employee Server calls, one per port operation. Bound from the
+ * {@code employee-server.circuit-breaker} properties.
+ *
+ * @param failureThreshold consecutive throttled or failed calls after which the circuit opens
+ * @param openDuration how long the circuit stays open after server errors; when throttling opened it, the retry-after
+ * learned by the request budget is used instead
+ * @param maxOpenDuration upper bound for how long the circuit stays open
+ */
+@ConfigurationProperties("employee-server.circuit-breaker")
+public record EmployeeServerCircuitBreakerProperties(
+        @DefaultValue("3") int failureThreshold,
+        @DefaultValue("30s") Duration openDuration,
+        @DefaultValue("5m") Duration maxOpenDuration) {}
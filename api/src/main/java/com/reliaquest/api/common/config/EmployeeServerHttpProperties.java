@@ -0,0 +1,31 @@
+package com.reliaquest.api.common.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Connection pool and timeout settings for the HTTP client used to talk to the Employee Server. Bound from the
+ * {@code employee-server.http} properties in application.yml.
+ *
+ * @param maxConnectionsTotal maximum number of pooled connections across all routes
+ * @param maxConnectionsPerRoute maximum number of pooled connections to a single host
+ * @param connectTimeout how long to wait for a TCP connection to be established
+ * @param readTimeout how long a socket may sit idle while reading a response
+ * @param responseTimeout how long to wait for the server to start answering a request
+ * @param connectionRequestTimeout how long to wait for a free connection from the pool
+ * @param idleEviction connections idle for longer than this are closed by a background thread
+ * @param connectionTimeToLive connections older than this are not reused
+ * @param gzip whether to advertise and transparently decode gzip/deflate response bodies
+ */
+@ConfigurationProperties("employee-server.http")
+public record EmployeeServerHttpProperties(
+        @DefaultValue("50") int maxConnectionsTotal,
+        @DefaultValue("20") int maxConnectionsPerRoute,
+        @DefaultValue("2s") Duration connectTimeout,
+        @DefaultValue("10s") Duration readTimeout,
+        @DefaultValue("10s") Duration responseTimeout,
+        @DefaultValue("5s") Duration connectionRequestTimeout,
+        @DefaultValue("30s") Duration idleEviction,
+        @DefaultValue("5m") Duration connectionTimeToLive,
+        @DefaultValue("true") boolean gzip) {}
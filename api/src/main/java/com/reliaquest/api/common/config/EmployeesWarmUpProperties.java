@@ -0,0 +1,17 @@
+package com.reliaquest.api.common.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Loading the employee data once the application has started, before it reports ready. Bound from the
+ * {@code employee-api.warm-up} properties.
+ *
+ * @param enabled whether to warm up at all; without it the first request loads the data
+ * @param timeout how long readiness waits for the warm-up, after which the instance reports ready anyway and the load
+ * carries on in the background
+ */
+@ConfigurationProperties("employee-api.warm-up")
+public record EmployeesWarmUpProperties(
+        @DefaultValue("true") boolean enabled, @DefaultValue("30s") Duration timeout) {}
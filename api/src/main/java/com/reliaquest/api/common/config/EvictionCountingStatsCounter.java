@@ -0,0 +1,69 @@
+package com.reliaquest.api.common.config;
+
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caffeine's statistics, plus evictions counted by their cause. {@link CacheStats} only has the total.
+ */
+public final class EvictionCountingStatsCounter implements StatsCounter {
+
+    private final StatsCounter delegate = new ConcurrentStatsCounter();
+
+    private final Map<RemovalCause, LongAdder> evictionsByCause = new EnumMap<>(RemovalCause.class);
+
+    public EvictionCountingStatsCounter() {
+        for (RemovalCause cause : RemovalCause.values()) {
+            if (cause.wasEvicted()) {
+                evictionsByCause.put(cause, new LongAdder());
+            }
+        }
+    }
+
+    @Override
+    public void recordHits(int count) {
+        delegate.recordHits(count);
+    }
+
+    @Override
+    public void recordMisses(int count) {
+        delegate.recordMisses(count);
+    }
+
+    @Override
+    public void recordLoadSuccess(long loadTime) {
+        delegate.recordLoadSuccess(loadTime);
+    }
+
+    @Override
+    public void recordLoadFailure(long loadTime) {
+        delegate.recordLoadFailure(loadTime);
+    }
+
+    @Override
+    public void recordEviction(int weight, RemovalCause cause) {
+        delegate.recordEviction(weight, cause);
+        LongAdder evictions = evictionsByCause.get(cause);
+        if (evictions != null) {
+            evictions.increment();
+        }
+    }
+
+    @Override
+    public CacheStats snapshot() {
+        return delegate.snapshot();
+    }
+
+    /**
+     * @return the number of entries evicted for the given cause, 0 for causes that are not evictions
+     */
+    public long evictionCount(RemovalCause cause) {
+        LongAdder evictions = evictionsByCause.get(cause);
+        return evictions == null ? 0 : evictions.sum();
+    }
+}
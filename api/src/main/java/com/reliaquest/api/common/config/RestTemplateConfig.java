@@ -1,14 +1,77 @@
 package com.reliaquest.api.common.config;
 
+import java.time.Duration;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 @Configuration
+@EnableConfigurationProperties({
+    EmployeeServerHttpProperties.class,
+    EmployeeServerBudgetProperties.class,
+    EmployeeServerCircuitBreakerProperties.class
+})
 public class RestTemplateConfig {
 
+    /**
+     * Pooled, keep-alive HTTP client for the Employee Server. Connections are reused across requests instead of being
+     * opened per call, every phase of a request is bounded by a timeout so a slow upstream cannot hang our request
+     * threads, and gzip responses are decoded transparently.
+     */
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public CloseableHttpClient employeeServerHttpClient(EmployeeServerHttpProperties properties) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(properties.maxConnectionsTotal())
+                .setMaxConnPerRoute(properties.maxConnectionsPerRoute())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(toTimeout(properties.connectTimeout()))
+                        .setSocketTimeout(toTimeout(properties.readTimeout()))
+                        .setTimeToLive(TimeValue.ofMilliseconds(properties.connectionTimeToLive().toMillis()))
+                        .build())
+                .build();
+
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(toTimeout(properties.connectionRequestTimeout()))
+                .setResponseTimeout(toTimeout(properties.responseTimeout()))
+                .build();
+
+        HttpClientBuilder builder = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(properties.idleEviction().toMillis()));
+
+        // content compression is on by default in HttpClient; it sends Accept-Encoding and decodes the body for us
+        if (!properties.gzip()) {
+            builder.disableContentCompression();
+        }
+
+        return builder.build();
+    }
+
+    @Bean
+    public RestTemplate restTemplate(
+            CloseableHttpClient employeeServerHttpClient, ObjectProvider<ClientHttpRequestInterceptor> interceptors) {
+        RestTemplate restTemplate =
+                new RestTemplate(new HttpComponentsClientHttpRequestFactory(employeeServerHttpClient));
+        restTemplate.setInterceptors(interceptors.orderedStream().toList());
+        return restTemplate;
+    }
+
+    private static Timeout toTimeout(Duration duration) {
+        return Timeout.ofMilliseconds(duration.toMillis());
     }
 }
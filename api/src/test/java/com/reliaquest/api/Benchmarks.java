@@ -0,0 +1,125 @@
+package com.reliaquest.api;
+
+import com.reliaquest.api.application.domain.model.Employee;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * What the benchmark tagged reports share: generated rosters, the roster sizes to report on, timing a workload to its
+ * median after warming it up, and reading heap use and allocation. The reports only define their workloads and what
+ * they print.
+ * <p>
+ * The timings are of single runs on a warmed-up JVM, good enough to compare two ways of answering the same request that
+ * are orders of magnitude apart, not to resolve small differences; a JMH source set would be needed for that.
+ */
+public final class Benchmarks {
+
+    // enough rounds for the JIT to compile a workload before it is timed
+    public static final int WARM_UP_ROUNDS = 20;
+    public static final int MEASURED_ROUNDS = 50;
+
+    private static final String[] FIRST_NAMES = {
+        "John", "Jane", "Alice", "Bob", "Carlos", "Diana", "Emma", "Farid", "Grace", "Hiro", "Ines", "Jamal", "Kofi",
+        "Lena", "Mateo", "Nora", "Olga", "Priya", "Quinn", "Ravi", "Sofia", "Tomas", "Uma", "Victor", "Wei", "Yara"
+    };
+    private static final String[] LAST_NAMES = {
+        "Smith", "Johnson", "Garcia", "Nguyen", "Okafor", "Kowalski", "Haddad", "Tanaka", "Silva", "Müller", "Rossi",
+        "Dubois", "Ivanova", "Patel", "Kim", "Andersen", "O'Brien", "Moreau", "Cohen", "Fischer", "Lopez", "Quintero"
+    };
+    private static final String[] TITLES = {"Engineer", "Manager", "Designer", "Analyst", "Director", "Recruiter"};
+
+    // consumes results so the JIT can't drop the work that produced them
+    private static long sink;
+
+    private Benchmarks() {}
+
+    /**
+     * @return the roster sizes set with {@code -Dbenchmark.roster-sizes}, a comma separated list, or the given ones
+     */
+    public static int[] rosterSizes(String defaultSizes) {
+        return Arrays.stream(System.getProperty("benchmark.roster-sizes", defaultSizes).split(","))
+                .mapToInt(size -> Integer.parseInt(size.trim()))
+                .toArray();
+    }
+
+    /**
+     * @return the given number of employees with every field set, the same ones for the same count. Names are a first
+     * and a last name out of a few dozen each followed by the row number, so name searches have common and rare hits
+     */
+    public static List<Employee> employees(int count) {
+        Random random = new Random(42);
+        List<Employee> employees = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            employees.add(Employee.builder()
+                    .id(new UUID(random.nextLong(), random.nextLong()))
+                    .name(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                            + LAST_NAMES[random.nextInt(LAST_NAMES.length)] + " " + i)
+                    .salary(30_000 + random.nextInt(200_000))
+                    .age(18 + random.nextInt(50))
+                    .title(TITLES[random.nextInt(TITLES.length)])
+                    .email("user" + i + "@company.com")
+                    .build());
+        }
+        return employees;
+    }
+
+    /**
+     * @return the median time of one run, in nanoseconds
+     */
+    public static long time(Runnable run) {
+        return measure(WARM_UP_ROUNDS, MEASURED_ROUNDS, run).nanos();
+    }
+
+    /**
+     * Runs the workload the given number of times to warm it up, then times it and counts what it allocates on the
+     * calling thread for each of the measured rounds.
+     */
+    public static Measurement measure(int warmUpRounds, int measuredRounds, Runnable run) {
+        for (int i = 0; i < warmUpRounds; i++) {
+            run.run();
+        }
+        long[] times = new long[measuredRounds];
+        long[] allocations = new long[measuredRounds];
+        for (int i = 0; i < measuredRounds; i++) {
+            long allocatedBefore = allocatedBytes();
+            long start = System.nanoTime();
+            run.run();
+            times[i] = System.nanoTime() - start;
+            allocations[i] = allocatedBytes() - allocatedBefore;
+        }
+        Arrays.sort(times);
+        Arrays.sort(allocations);
+        return new Measurement(times[measuredRounds / 2], allocations[measuredRounds / 2]);
+    }
+
+    public static void consume(Object result) {
+        sink += result == null ? 0 : System.identityHashCode(result);
+    }
+
+    /**
+     * @return the heap in use after collecting garbage, i.e. roughly what is reachable
+     */
+    public static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    /**
+     * @return the bytes allocated by the calling thread so far, garbage included
+     */
+    public static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+    }
+
+    /**
+     * @param nanos median time of one run
+     * @param allocatedBytes median bytes one run allocated
+     */
+    public record Measurement(long nanos, long allocatedBytes) {}
+}
@@ -0,0 +1,120 @@
+package com.reliaquest.api;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Reports the time from starting the api to its first served employee list, once cold and once from a roster snapshot
+ * on disk, against a fake Employee Server that answers the list after a fixed delay. The snapshot run starts from the
+ * file the cold run wrote on shutdown. Measures only, asserts nothing:
+ * <pre>
+ * ./gradlew :api:benchmark --tests '*RosterSnapshotStartupReport'
+ * </pre>
+ * Tune with {@code -Dbenchmark.employees} and {@code -Dbenchmark.upstream-latency-ms}. Port 8112 must be free, so stop
+ * the mock server first.
+ */
+@Tag("benchmark")
+class RosterSnapshotStartupReport {
+
+    private static final int EMPLOYEES = Integer.getInteger("benchmark.employees", 100_000);
+    private static final int UPSTREAM_LATENCY_MS = Integer.getInteger("benchmark.upstream-latency-ms", 2_000);
+
+    private static final String EMPLOYEE_JSON = "{\"id\":\"%s\",\"employee_name\":\"Employee %d\","
+            + "\"employee_salary\":%d,\"employee_age\":30,\"employee_title\":\"Engineer\","
+            + "\"employee_email\":\"employee%d@company.com\"}";
+
+    private static HttpServer upstream;
+
+    @TempDir
+    private static Path snapshotDirectory;
+
+    @BeforeAll
+    static void startUpstream() throws IOException {
+        StringBuilder json = new StringBuilder("{\"data\":[");
+        for (int i = 0; i < EMPLOYEES; i++) {
+            json.append(i == 0 ? "" : ",").append(EMPLOYEE_JSON.formatted(UUID.randomUUID(), i, 1000 + i, i));
+        }
+        byte[] body = json.append("],\"status\":\"Successfully processed request.\"}")
+                .toString()
+                .getBytes(StandardCharsets.UTF_8);
+
+        upstream = HttpServer.create(new InetSocketAddress("localhost", 8112), 0);
+        upstream.setExecutor(Executors.newCachedThreadPool());
+        upstream.createContext("/api/v1/employee", exchange -> {
+            try {
+                Thread.sleep(UPSTREAM_LATENCY_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        upstream.start();
+    }
+
+    @AfterAll
+    static void stopUpstream() {
+        upstream.stop(0);
+    }
+
+    @Test
+    void reportStartupToFirstServedRequest() throws Exception {
+        Path snapshot = snapshotDirectory.resolve("employee-roster.snapshot");
+
+        Duration cold = startAndServeFirstRequest(snapshot);
+        long snapshotBytes = Files.size(snapshot);
+        Duration warm = startAndServeFirstRequest(snapshot);
+
+        System.out.printf(
+                "%d employees, %d ms upstream latency, %d KiB snapshot%n"
+                        + "  startup to first served request: %d ms without snapshot, %d ms with snapshot%n",
+                EMPLOYEES,
+                UPSTREAM_LATENCY_MS,
+                snapshotBytes / 1024,
+                cold.toMillis(),
+                warm.toMillis());
+    }
+
+    private static Duration startAndServeFirstRequest(Path snapshot) throws Exception {
+        long start = System.nanoTime();
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ApiApplication.class)
+                .properties(
+                        "server.port=0",
+                        "employee-api.snapshot.enabled=true",
+                        "employee-api.snapshot.path=" + snapshot)
+                .run()) {
+            String port = context.getEnvironment().getProperty("local.server.port");
+            HttpResponse<Void> response = HttpClient.newHttpClient()
+                    .send(
+                            HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/employee"))
+                                    .timeout(Duration.ofSeconds(60))
+                                    .build(),
+                            HttpResponse.BodyHandlers.discarding());
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+            if (response.statusCode() != 200) {
+                System.out.printf("first request answered %d%n", response.statusCode());
+            }
+            return elapsed;
+        }
+    }
+}
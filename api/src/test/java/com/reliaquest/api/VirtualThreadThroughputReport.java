@@ -0,0 +1,180 @@
+package com.reliaquest.api;
+
+import com.sun.net.httpserver.HttpServer;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * Reports throughput and latency percentiles of by-id lookups under thousands of concurrent clients, against a fake
+ * Employee Server that answers every lookup after a fixed delay. Every request asks for a new id, so each one makes an
+ * upstream call. Measures only, asserts nothing. Run once per threading mode and compare:
+ * <pre>
+ * ./gradlew :api:benchmark --tests '*VirtualThreadThroughputReport' -PjavaVersion=21
+ * ./gradlew :api:benchmark --tests '*VirtualThreadThroughputReport' -PjavaVersion=21 -Dbenchmark.virtual=true
+ * </pre>
+ * Tune with {@code -Dbenchmark.clients}, {@code -Dbenchmark.requests-per-client} and
+ * {@code -Dbenchmark.upstream-latency-ms}. Port 8112 must be free, so stop the mock server first.
+ */
+@Tag("benchmark")
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+            // open the budget and the pools wide, so threading is the only thing that limits concurrency
+            "employee-server.budget.initial-limit=100000000",
+            "employee-server.budget.max-queued=100000",
+            "employee-server.http.max-connections-total=10000",
+            "employee-server.http.max-connections-per-route=10000",
+            "employee-server.executor.pool-size=200",
+            "server.tomcat.max-connections=20000",
+            "employee-api.snapshot.enabled=false",
+            "employee-api.warm-up.enabled=false"
+        })
+class VirtualThreadThroughputReport {
+
+    private static final int CLIENTS = Integer.getInteger("benchmark.clients", 4_000);
+    private static final int REQUESTS_PER_CLIENT = Integer.getInteger("benchmark.requests-per-client", 10);
+    private static final int UPSTREAM_LATENCY_MS = Integer.getInteger("benchmark.upstream-latency-ms", 50);
+
+    private static final String EMPLOYEE_JSON = "{\"data\":{\"id\":\"%s\",\"employee_name\":\"Bench Mark\","
+            + "\"employee_salary\":1000,\"employee_age\":30,\"employee_title\":\"Engineer\","
+            + "\"employee_email\":\"bench@company.com\"},\"status\":\"Successfully processed request.\"}";
+
+    private static HttpServer upstream;
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${spring.threads.virtual.enabled}")
+    private boolean virtualThreads;
+
+    @DynamicPropertySource
+    static void threading(DynamicPropertyRegistry registry) {
+        registry.add("spring.threads.virtual.enabled", () -> Boolean.getBoolean("benchmark.virtual"));
+    }
+
+    @BeforeAll
+    static void startUpstream() throws Exception {
+        upstream = HttpServer.create(new InetSocketAddress("localhost", 8112), CLIENTS);
+        upstream.setExecutor(Executors.newCachedThreadPool());
+        upstream.createContext("/api/v1/employee/", exchange -> {
+            String path = exchange.getRequestURI().getPath();
+            String id = path.substring(path.lastIndexOf('/') + 1);
+            byte[] body = EMPLOYEE_JSON.formatted(id).getBytes(StandardCharsets.UTF_8);
+            try {
+                Thread.sleep(UPSTREAM_LATENCY_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        upstream.start();
+    }
+
+    @AfterAll
+    static void stopUpstream() {
+        upstream.stop(0);
+    }
+
+    @Test
+    void reportThroughput() throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(30))
+                .executor(Executors.newCachedThreadPool())
+                .build();
+        // warm up the JIT and the connection pools before measuring
+        run(client, Math.min(CLIENTS, 200), 5);
+
+        long start = System.nanoTime();
+        Result result = run(client, CLIENTS, REQUESTS_PER_CLIENT);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        long[] latencies = result.latenciesNanos();
+        Arrays.sort(latencies);
+        System.out.printf(
+                "%s threads, %d clients x %d requests, %d ms upstream latency%n"
+                        + "  throughput: %.0f requests/s, %d errors%n"
+                        + "  latency: p50 %.1f ms, p99 %.1f ms, max %.1f ms%n",
+                virtualThreads ? "virtual" : "platform",
+                CLIENTS,
+                REQUESTS_PER_CLIENT,
+                UPSTREAM_LATENCY_MS,
+                latencies.length / seconds,
+                result.errors(),
+                percentile(latencies, 0.50) / 1e6,
+                percentile(latencies, 0.99) / 1e6,
+                latencies[latencies.length - 1] / 1e6);
+    }
+
+    private Result run(HttpClient client, int clients, int requestsPerClient) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger errors = new AtomicInteger();
+        List<Future<long[]>> futures = new ArrayList<>(clients);
+        for (int i = 0; i < clients; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                long[] latencies = new long[requestsPerClient];
+                for (int r = 0; r < requestsPerClient; r++) {
+                    HttpRequest request = HttpRequest.newBuilder(
+                                    URI.create("http://localhost:" + port + "/api/v1/employee/" + UUID.randomUUID()))
+                            .timeout(Duration.ofSeconds(60))
+                            .build();
+                    long begin = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() != 200) {
+                            errors.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    }
+                    latencies[r] = System.nanoTime() - begin;
+                }
+                return latencies;
+            }));
+        }
+        start.countDown();
+
+        long[] all = new long[clients * requestsPerClient];
+        int offset = 0;
+        for (Future<long[]> future : futures) {
+            long[] latencies = future.get();
+            System.arraycopy(latencies, 0, all, offset, latencies.length);
+            offset += latencies.length;
+        }
+        executor.shutdown();
+        return new Result(all, errors.get());
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        return sorted[(int) Math.ceil(percentile * sorted.length) - 1];
+    }
+
+    private record Result(long[] latenciesNanos, int errors) {}
+}
@@ -0,0 +1,268 @@
+package com.reliaquest.api.adapter.in.rest;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.reliaquest.api.application.domain.model.Employee;
+import com.reliaquest.api.application.domain.model.EmployeePage;
+import com.reliaquest.api.application.port.in.CreateEmployeeAsyncUseCase;
+import com.reliaquest.api.application.port.in.DeleteEmployeeAsyncUseCase;
+import com.reliaquest.api.application.port.in.GetAllEmployeesAsyncUseCase;
+import com.reliaquest.api.application.port.in.GetEmployeeByIdAsyncUseCase;
+import com.reliaquest.api.application.port.in.GetEmployeesByNamePrefixAsyncUseCase;
+import com.reliaquest.api.application.port.in.GetEmployeesByNameSearchAsyncUseCase;
+import com.reliaquest.api.application.port.in.GetEmployeesPageAsyncUseCase;
+import com.reliaquest.api.application.port.in.GetHighestSalaryAsyncUseCase;
+import com.reliaquest.api.application.port.in.GetTopEarnersAsyncUseCase;
+import com.reliaquest.api.application.port.in.GetTopTenEarnerNamesAsyncUseCase;
+import com.reliaquest.api.application.port.out.UpstreamThrottledException;
+import com.reliaquest.api.common.StaleResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+/**
+ * Web layer test for EmployeeAsyncController using @WebMvcTest.
+ * Each request is first checked to have started async processing, then dispatched again to get the response that is
+ * written once the future completes.
+ */
+@WebMvcTest(EmployeeAsyncController.class)
+class EmployeeAsyncControllerWebTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private GetAllEmployeesAsyncUseCase getAllEmployeesAsyncUseCase;
+
+    @MockBean
+    private GetEmployeesPageAsyncUseCase getEmployeesPageAsyncUseCase;
+
+    @MockBean
+    private GetEmployeesByNameSearchAsyncUseCase getEmployeesByNameSearchAsyncUseCase;
+
+    @MockBean
+    private GetEmployeesByNamePrefixAsyncUseCase getEmployeesByNamePrefixAsyncUseCase;
+
+    @MockBean
+    private GetEmployeeByIdAsyncUseCase getEmployeeByIdAsyncUseCase;
+
+    @MockBean
+    private GetHighestSalaryAsyncUseCase getHighestSalaryAsyncUseCase;
+
+    @MockBean
+    private GetTopTenEarnerNamesAsyncUseCase getTopTenEarnerNamesAsyncUseCase;
+
+    @MockBean
+    private GetTopEarnersAsyncUseCase getTopEarnersAsyncUseCase;
+
+    @MockBean
+    private CreateEmployeeAsyncUseCase createEmployeeAsyncUseCase;
+
+    @MockBean
+    private DeleteEmployeeAsyncUseCase deleteEmployeeAsyncUseCase;
+
+    @Test
+    void getAllEmployees_shouldReturnListOfEmployees_whenFutureCompletes() throws Exception {
+        // Given - the employees are not loaded yet when the request is handled
+        CompletableFuture<List<Employee>> employees = new CompletableFuture<>();
+        when(getAllEmployeesAsyncUseCase.getAllEmployeesAsync()).thenReturn(employees);
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/v1/employee/async"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        employees.complete(List.of(Employee.builder().name("John Doe").build()));
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].name", is("John Doe")));
+    }
+
+    @Test
+    void getAllEmployees_shouldMarkResponseStale_whenServingLastKnownGoodEmployees() throws Exception {
+        // Given - the request is captured while it is handled and marked once the employees are loaded
+        CompletableFuture<List<Employee>> employees = new CompletableFuture<>();
+        when(getAllEmployeesAsyncUseCase.getAllEmployeesAsync()).thenAnswer(invocation -> {
+            HttpServletRequest request = StaleResponse.currentRequest();
+            return employees.thenApply(loaded -> {
+                StaleResponse.markStale(request);
+                return loaded;
+            });
+        });
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/v1/employee/async"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        employees.complete(List.of(Employee.builder().name("John Doe").build()));
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Warning", "110 - \"Response is Stale\""));
+    }
+
+    @Test
+    void getEmployeeById_shouldReturn404_whenEmployeeNotFound() throws Exception {
+        // Given
+        UUID employeeId = UUID.randomUUID();
+        when(getEmployeeByIdAsyncUseCase.getEmployeeByIdAsync(employeeId))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/v1/employee/async/" + employeeId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result)).andExpect(status().isNotFound());
+    }
+
+    @Test
+    void getEmployeeById_shouldReturn400_whenIdIsInvalidUUID() throws Exception {
+        // When & Then - validation fails before any async processing starts
+        mockMvc.perform(get("/api/v1/employee/async/not-a-uuid")).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getHighestSalaryOfEmployees_shouldReturnServiceUnavailable_whenUpstreamIsThrottling() throws Exception {
+        // Given
+        when(getHighestSalaryAsyncUseCase.getHighestSalaryAsync())
+                .thenReturn(CompletableFuture.failedFuture(
+                        new UpstreamThrottledException("throttled", Duration.ofMillis(12_500))));
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/v1/employee/async/highestSalary"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "13"));
+    }
+
+    @Test
+    void getTopHighestEarningEmployeeNames_shouldReturnNames_whenFutureCompletes() throws Exception {
+        // Given
+        when(getTopEarnersAsyncUseCase.getTopEarnersAsync(25))
+                .thenReturn(CompletableFuture.completedFuture(
+                        List.of(Employee.builder().name("Alice Johnson").build())));
+
+        // When
+        MvcResult result = mockMvc.perform(
+                        get("/api/v1/employee/async/topHighestEarningEmployeeNames").param("count", "25"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0]", is("Alice Johnson")));
+    }
+
+    @Test
+    void getEmployeesPage_shouldContinueAtCursor_whenFutureCompletes() throws Exception {
+        // Given
+        String cursor = EmployeePageCursor.next(new EmployeePage(List.of(), 7L, 2));
+        when(getEmployeesPageAsyncUseCase.getEmployeesPageAsync(7L, 2, 2))
+                .thenReturn(CompletableFuture.completedFuture(
+                        new EmployeePage(List.of(Employee.builder().name("John Doe").build()), 7L, null)));
+
+        // When
+        MvcResult result = mockMvc.perform(
+                        get("/api/v1/employee/async/page").param("cursor", cursor).param("size", "2"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(1)))
+                .andExpect(jsonPath("$.data[0].name", is("John Doe")))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void getEmployeesByNameSearchWithFields_shouldReturnOnlyRequestedFields_whenFutureCompletes() throws Exception {
+        // Given
+        when(getEmployeesByNameSearchAsyncUseCase.getEmployeesByNameSearchAsync("john"))
+                .thenReturn(CompletableFuture.completedFuture(
+                        List.of(Employee.builder().name("John Doe").salary(75000).build())));
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/v1/employee/async/search/john").param("fields", "name"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name", is("John Doe")))
+                .andExpect(jsonPath("$[0].salary").doesNotExist());
+    }
+
+    @Test
+    void getEmployeesByNamePrefix_shouldReturnCompletions_whenFutureCompletes() throws Exception {
+        // Given
+        when(getEmployeesByNamePrefixAsyncUseCase.getEmployeesByNamePrefixAsync("jo", 5))
+                .thenReturn(CompletableFuture.completedFuture(
+                        List.of(Employee.builder().name("John Doe").build())));
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/v1/employee/async/autocomplete/jo").param("count", "5"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].name", is("John Doe")));
+    }
+
+    @Test
+    void getEmployeesByNamePrefix_shouldReturn400_whenCountIsOutOfRange() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/v1/employee/async/autocomplete/jo").param("count", "101"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void deleteEmployeeById_shouldReturnEmployeeName_whenEmployeeIsDeleted() throws Exception {
+        // Given
+        UUID employeeId = UUID.randomUUID();
+        when(deleteEmployeeAsyncUseCase.deleteEmployeeByIdAsync(employeeId))
+                .thenReturn(CompletableFuture.completedFuture("John Doe"));
+
+        // When
+        MvcResult result = mockMvc.perform(delete("/api/v1/employee/async/" + employeeId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", is("John Doe")));
+    }
+}
@@ -4,21 +4,34 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.reliaquest.api.application.domain.model.Employee;
+import com.reliaquest.api.application.domain.model.EmployeePage;
 import com.reliaquest.api.application.port.in.CreateEmployeeUseCase;
 import com.reliaquest.api.application.port.in.DeleteEmployeeUseCase;
+import com.reliaquest.api.application.port.in.EmployeeRosterExpiredException;
 import com.reliaquest.api.application.port.in.GetAllEmployeesUseCase;
 import com.reliaquest.api.application.port.in.GetEmployeeByIdUseCase;
+import com.reliaquest.api.application.port.in.GetEmployeesByNamePrefixUseCase;
 import com.reliaquest.api.application.port.in.GetEmployeesByNameSearchUseCase;
+import com.reliaquest.api.application.port.in.GetEmployeesPageUseCase;
 import com.reliaquest.api.application.port.in.GetHighestSalaryUseCase;
+import com.reliaquest.api.application.port.in.GetTopEarnersUseCase;
 import com.reliaquest.api.application.port.in.GetTopTenEarnerNamesUseCase;
+import com.reliaquest.api.application.port.out.UpstreamThrottledException;
+import com.reliaquest.api.application.port.out.UpstreamUnavailableException;
+import com.reliaquest.api.common.StaleResponse;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -29,6 +42,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 /**
  * Web layer test for EmployeeController using @WebMvcTest.
@@ -45,9 +59,15 @@ class EmployeeControllerWebTest {
     @MockBean
     private GetAllEmployeesUseCase getAllEmployeesUseCase;
 
+    @MockBean
+    private GetEmployeesPageUseCase getEmployeesPageUseCase;
+
     @MockBean
     private GetEmployeesByNameSearchUseCase getEmployeesByNameSearchUseCase;
 
+    @MockBean
+    private GetEmployeesByNamePrefixUseCase getEmployeesByNamePrefixUseCase;
+
     @MockBean
     private GetEmployeeByIdUseCase getEmployeeByIdUseCase;
 
@@ -57,6 +77,9 @@ class EmployeeControllerWebTest {
     @MockBean
     private GetTopTenEarnerNamesUseCase getTopTenEarnerNamesUseCase;
 
+    @MockBean
+    private GetTopEarnersUseCase getTopEarnersUseCase;
+
     @MockBean
     private CreateEmployeeUseCase createEmployeeUseCase;
 
@@ -306,6 +329,59 @@ class EmployeeControllerWebTest {
         mockMvc.perform(get("/api/v1/employee/{id}", nonExistentId.toString())).andExpect(status().isNotFound());
     }
 
+    @Test
+    void getAllEmployees_shouldReturnServiceUnavailable_whenUpstreamIsThrottling() throws Exception {
+        // Given
+        when(getAllEmployeesUseCase.getAllEmployees())
+                .thenThrow(new UpstreamThrottledException("throttled", Duration.ofMillis(12_500)));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/employee"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "13"))
+                .andExpect(jsonPath("$.status", is(503)));
+    }
+
+    @Test
+    void getAllEmployees_shouldReturnServiceUnavailable_whenUpstreamIsUnavailable() throws Exception {
+        // Given
+        when(getAllEmployeesUseCase.getAllEmployees())
+                .thenThrow(new UpstreamUnavailableException("circuit open", Duration.ofSeconds(20)));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/employee"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "20"))
+                .andExpect(jsonPath("$.status", is(503)));
+    }
+
+    @Test
+    void getAllEmployees_shouldMarkResponseStale_whenServingLastKnownGoodEmployees() throws Exception {
+        // Given
+        Employee employee = Employee.builder().id(UUID.randomUUID()).name("John Doe").build();
+        when(getAllEmployeesUseCase.getAllEmployees()).thenAnswer(invocation -> {
+            StaleResponse.markStale(StaleResponse.currentRequest());
+            return List.of(employee);
+        });
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/employee"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Warning", "110 - \"Response is Stale\""))
+                .andExpect(jsonPath("$", hasSize(1)));
+    }
+
+    @Test
+    void getAllEmployees_shouldNotMarkResponseStale_whenEmployeesAreFresh() throws Exception {
+        // Given
+        when(getAllEmployeesUseCase.getAllEmployees()).thenReturn(Collections.emptyList());
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/employee"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Warning"));
+    }
+
     @Test
     void getEmployeeById_shouldReturnBadRequest_whenInvalidUUIDProvided() throws Exception {
         // Given - Invalid UUID format
@@ -488,6 +564,246 @@ class EmployeeControllerWebTest {
                 .andExpect(jsonPath("$", hasSize(10)));
     }
 
+    @Test
+    void getTopHighestEarningEmployees_shouldReturnRequestedNumberOfEmployees() throws Exception {
+        // Given
+        List<Employee> topEarners = List.of(
+                Employee.builder().name("Alice Johnson").salary(95000).build(),
+                Employee.builder().name("Jane Smith").salary(85000).build());
+        when(getTopEarnersUseCase.getTopEarners(2)).thenReturn(topEarners);
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/employee/topHighestEarningEmployees").param("count", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].name", is("Alice Johnson")))
+                .andExpect(jsonPath("$[0].salary", is(95000)))
+                .andExpect(jsonPath("$[1].name", is("Jane Smith")));
+    }
+
+    @Test
+    void getTopHighestEarningEmployeeNames_shouldReturnTopTenNames_whenNoCountIsGiven() throws Exception {
+        // Given
+        when(getTopEarnersUseCase.getTopEarners(10))
+                .thenReturn(List.of(Employee.builder().name("Alice Johnson").build()));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/employee/topHighestEarningEmployeeNames"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0]", is("Alice Johnson")));
+    }
+
+    @Test
+    void getTopHighestEarningEmployees_shouldReturn400_whenCountIsOutOfRange() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/v1/employee/topHighestEarningEmployees").param("count", "0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/employee/topHighestEarningEmployeeNames").param("count", "1001"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getEmployeesByNamePrefix_shouldReturnCompletions() throws Exception {
+        // Given
+        when(getEmployeesByNamePrefixUseCase.getEmployeesByNamePrefix("jo", 5))
+                .thenReturn(List.of(
+                        Employee.builder().name("Jo Baker").build(),
+                        Employee.builder().name("John Doe").build()));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/employee/autocomplete/jo").param("count", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].name", is("Jo Baker")))
+                .andExpect(jsonPath("$[1].name", is("John Doe")));
+    }
+
+    @Test
+    void getEmployeesByNamePrefix_shouldReturnTenCompletions_whenNoCountIsGiven() throws Exception {
+        // Given
+        when(getEmployeesByNamePrefixUseCase.getEmployeesByNamePrefix("jo", 10))
+                .thenReturn(List.of(Employee.builder().name("John Doe").build()));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/employee/autocomplete/jo"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)));
+    }
+
+    @Test
+    void getEmployeesByNamePrefix_shouldReturn400_whenCountIsOutOfRange() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/v1/employee/autocomplete/jo").param("count", "0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/employee/autocomplete/jo").param("count", "101"))
+                .andExpect(status().isBadRequest());
+    }
+
+    // paged and streamed listing tests
+
+    @Test
+    void getEmployeesPage_shouldReturnPageWithCursor_thatContinuesInSameRoster() throws Exception {
+        // Given
+        Employee john = Employee.builder().name("John Doe").build();
+        Employee jane = Employee.builder().name("Jane Smith").build();
+        when(getEmployeesPageUseCase.getEmployeesPage(null, 0, 1)).thenReturn(new EmployeePage(List.of(john), 7L, 1));
+        when(getEmployeesPageUseCase.getEmployeesPage(7L, 1, 1)).thenReturn(new EmployeePage(List.of(jane), 7L, null));
+
+        // When
+        MvcResult first = mockMvc.perform(get("/api/v1/employee/page").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(1)))
+                .andExpect(jsonPath("$.data[0].name", is("John Doe")))
+                .andReturn();
+        String cursor = objectMapper
+                .readTree(first.getResponse().getContentAsString())
+                .get("nextCursor")
+                .asText();
+
+        // Then
+        mockMvc.perform(get("/api/v1/employee/page").param("cursor", cursor).param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].name", is("Jane Smith")))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void getEmployeesPage_shouldReturn400_whenCursorOrSizeIsInvalid() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/v1/employee/page").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/employee/page").param("size", "0")).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/employee/page").param("size", "1001")).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getEmployeesPage_shouldReturn410_whenRosterOfCursorIsGone() throws Exception {
+        // Given
+        String cursor = EmployeePageCursor.next(new EmployeePage(List.of(), 7L, 1));
+        when(getEmployeesPageUseCase.getEmployeesPage(7L, 1, 1)).thenThrow(new EmployeeRosterExpiredException(7L));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/employee/page").param("cursor", cursor).param("size", "1"))
+                .andExpect(status().isGone());
+    }
+
+    @Test
+    void streamAllEmployees_shouldWriteOneEmployeePerLine() throws Exception {
+        // Given
+        Employee john = Employee.builder()
+                .id(UUID.randomUUID())
+                .name("John Doe")
+                .salary(75000)
+                .build();
+        Employee jane = Employee.builder().name("Jane Smith").build();
+        when(getAllEmployeesUseCase.getAllEmployees()).thenReturn(List.of(john, jane));
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/v1/employee/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content()
+                        .string(objectMapper.writeValueAsString(john) + "\n" + objectMapper.writeValueAsString(jane)
+                                + "\n"));
+    }
+
+    @Test
+    void streamAllEmployees_shouldMarkResponseStale_whenServingStaleEmployees() throws Exception {
+        // Given
+        when(getAllEmployeesUseCase.getAllEmployees()).thenAnswer(invocation -> {
+            StaleResponse.markStale(StaleResponse.currentRequest());
+            return List.of();
+        });
+
+        // When & Then - the warning is set before the body is streamed
+        mockMvc.perform(get("/api/v1/employee/stream"))
+                .andExpect(request().asyncStarted())
+                .andExpect(header().string("Warning", StaleEmployeesResponseAdvice.STALE_WARNING));
+    }
+
+    // field projection tests
+
+    @Test
+    void getAllEmployeesWithFields_shouldReturnOnlyRequestedFields() throws Exception {
+        // Given
+        UUID id = UUID.randomUUID();
+        when(getAllEmployeesUseCase.getAllEmployees())
+                .thenReturn(List.of(Employee.builder()
+                        .id(id)
+                        .name("John Doe")
+                        .salary(75000)
+                        .email("john.doe@example.com")
+                        .build()));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/employee").param("fields", "id,name"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id", is(id.toString())))
+                .andExpect(jsonPath("$[0].name", is("John Doe")))
+                .andExpect(jsonPath("$[0].salary").doesNotExist())
+                .andExpect(jsonPath("$[0].email").doesNotExist());
+    }
+
+    @Test
+    void getEmployeesByNameSearchWithFields_shouldReturnOnlyRequestedFields() throws Exception {
+        // Given
+        when(getEmployeesByNameSearchUseCase.getEmployeesByNameSearch("john"))
+                .thenReturn(List.of(Employee.builder().name("John Doe").salary(75000).build()));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/employee/search/john").param("fields", "name"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name", is("John Doe")))
+                .andExpect(jsonPath("$[0].salary").doesNotExist());
+    }
+
+    @Test
+    void getEmployeesPage_shouldReturnOnlyRequestedFields() throws Exception {
+        // Given
+        when(getEmployeesPageUseCase.getEmployeesPage(null, 0, 100))
+                .thenReturn(new EmployeePage(List.of(Employee.builder().name("John Doe").age(30).build()), 7L, null));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/employee/page").param("fields", "name"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].name", is("John Doe")))
+                .andExpect(jsonPath("$.data[0].age").doesNotExist());
+    }
+
+    @Test
+    void streamAllEmployees_shouldWriteOnlyRequestedFields() throws Exception {
+        // Given
+        UUID id = UUID.randomUUID();
+        when(getAllEmployeesUseCase.getAllEmployees())
+                .thenReturn(List.of(Employee.builder().id(id).name("John Doe").salary(75000).build()));
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/v1/employee/stream").param("fields", "id,name"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string("{\"id\":\"" + id + "\",\"name\":\"John Doe\"}\n"));
+    }
+
+    @Test
+    void fields_shouldReturn400_whenFieldIsUnknown() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/v1/employee").param("fields", "id,password"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/employee/stream").param("fields", "password"))
+                .andExpect(status().isBadRequest());
+    }
+
     // createEmployee tests
 
     @Test
@@ -0,0 +1,71 @@
+package com.reliaquest.api.adapter.in.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.application.domain.model.Employee;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for EmployeeField and the ProjectedEmployees it serializes.
+ * Projections to every field are checked against the JSON Jackson writes for the employees themselves.
+ */
+class EmployeeFieldTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Employee complete = Employee.builder()
+            .id(UUID.randomUUID())
+            .name("Zoë \"Jo\" Ångström")
+            .salary(75000)
+            .age(30)
+            .title("Software Engineer")
+            .email("zoe@example.com")
+            .build();
+
+    private final Employee partial = Employee.builder().name("Jane Smith").build();
+
+    @Test
+    void parse_shouldReadFieldsIgnoringCaseAndBlanks() {
+        assertThat(EmployeeField.parse("name, ID,,name")).containsExactly(EmployeeField.ID, EmployeeField.NAME);
+        assertThat(EmployeeField.parse(null)).isEqualTo(EnumSet.allOf(EmployeeField.class));
+        assertThat(EmployeeField.parse(" ")).isEqualTo(EnumSet.allOf(EmployeeField.class));
+        assertThat(EmployeeField.parse(",")).isEqualTo(EnumSet.allOf(EmployeeField.class));
+    }
+
+    @Test
+    void parse_shouldRejectUnknownField() {
+        assertThatThrownBy(() -> EmployeeField.parse("id,salary,password"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("password");
+    }
+
+    @Test
+    void projectionToAllFields_shouldSerializeLikeEmployees() throws Exception {
+        // Given
+        List<Employee> employees = Arrays.asList(complete, partial, null);
+
+        // When
+        String projected = objectMapper.writeValueAsString(ProjectedEmployees.of(employees, EmployeeField.ALL));
+
+        // Then
+        assertThat(projected).isEqualTo(objectMapper.writeValueAsString(employees));
+    }
+
+    @Test
+    void projection_shouldSerializeOnlyRequestedFields_inFieldOrder() throws Exception {
+        // When
+        String projected = objectMapper.writeValueAsString(
+                ProjectedEmployees.of(List.of(complete, partial), EmployeeField.parse("name,id")));
+
+        // Then
+        assertThat(projected)
+                .isEqualTo("[{\"id\":\"" + complete.getId() + "\",\"name\":\"Zoë \\\"Jo\\\" Ångström\"},"
+                        + "{\"id\":null,\"name\":\"Jane Smith\"}]");
+    }
+}
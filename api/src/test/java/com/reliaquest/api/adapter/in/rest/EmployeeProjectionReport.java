@@ -0,0 +1,118 @@
+package com.reliaquest.api.adapter.in.rest;
+
+import static com.reliaquest.api.Benchmarks.employees;
+import static com.reliaquest.api.Benchmarks.rosterSizes;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.Benchmarks;
+import com.reliaquest.api.application.domain.model.Employee;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Reports the payload size, serialization time and heap allocated per response when employee lists are serialized
+ * whole, the way the list and search endpoints answer, and when they are projected to a few fields, once by copying
+ * the fields into maps first and once by picking them while writing, the way the {@code fields} parameter does. The
+ * JSON goes to a stream that only counts bytes, like a response that is sent as it is written. Measures only, asserts
+ * nothing:
+ * <pre>
+ * ./gradlew :api:benchmark --tests '*EmployeeProjectionReport'
+ * </pre>
+ * Tune with {@code -Dbenchmark.roster-sizes}, a comma separated list of roster sizes, and {@code -Dbenchmark.fields},
+ * the fields to project to.
+ */
+@Tag("benchmark")
+class EmployeeProjectionReport {
+
+    private static final String FIELDS = System.getProperty("benchmark.fields", "id,name");
+
+    // serializing a large roster takes long enough that a few rounds settle the JIT
+    private static final int WARM_UP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 11;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void reportProjection() throws IOException {
+        Set<EmployeeField> fields = EmployeeField.parse(FIELDS);
+        for (int size : rosterSizes("10000,100000,1000000")) {
+            List<Employee> employees = employees(size);
+
+            System.out.printf("%,d employees%n", employees.size());
+            report("every field, whole employees", out -> objectMapper.writeValue(out, employees));
+            report(
+                    "every field, projected",
+                    out -> objectMapper.writeValue(out, ProjectedEmployees.of(employees, EmployeeField.ALL)));
+            report(FIELDS + ", copied into maps", out -> objectMapper.writeValue(out, copy(employees, fields)));
+            report(
+                    FIELDS + ", projected",
+                    out -> objectMapper.writeValue(out, ProjectedEmployees.of(employees, fields)));
+        }
+    }
+
+    private static void report(String name, Serialization serialization) throws IOException {
+        CountingOutputStream payload = new CountingOutputStream();
+        serialization.writeTo(payload);
+        Benchmarks.Measurement measurement = Benchmarks.measure(WARM_UP_ROUNDS, MEASURED_ROUNDS, () -> {
+            try {
+                serialization.writeTo(new CountingOutputStream());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        System.out.printf(
+                "  %-32s %,14d bytes %,10d us %,14d bytes allocated%n",
+                name,
+                payload.count,
+                measurement.nanos() / 1000,
+                measurement.allocatedBytes());
+    }
+
+    // what a projection costs without picking fields while writing, kept here for comparison
+    private static List<Map<String, Object>> copy(List<Employee> employees, Set<EmployeeField> fields) {
+        List<Map<String, Object>> copies = new ArrayList<>(employees.size());
+        for (Employee employee : employees) {
+            Map<String, Object> copy = new LinkedHashMap<>();
+            for (EmployeeField field : fields) {
+                switch (field) {
+                    case ID -> copy.put("id", employee.getId());
+                    case NAME -> copy.put("name", employee.getName());
+                    case SALARY -> copy.put("salary", employee.getSalary());
+                    case AGE -> copy.put("age", employee.getAge());
+                    case TITLE -> copy.put("title", employee.getTitle());
+                    case EMAIL -> copy.put("email", employee.getEmail());
+                }
+            }
+            copies.add(copy);
+        }
+        return copies;
+    }
+
+    private interface Serialization {
+
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
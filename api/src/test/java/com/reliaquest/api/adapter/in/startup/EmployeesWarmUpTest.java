@@ -0,0 +1,116 @@
+package com.reliaquest.api.adapter.in.startup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.reliaquest.api.application.domain.model.EmployeesWarmUpOutcome;
+import com.reliaquest.api.application.port.in.WarmUpEmployeesAsyncUseCase;
+import com.reliaquest.api.common.config.EmployeesWarmUpProperties;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+/**
+ * Unit tests for EmployeesWarmUp, with the use case mocked and metrics recorded in a simple registry.
+ */
+@ExtendWith(MockitoExtension.class)
+class EmployeesWarmUpTest {
+
+    @Mock
+    private WarmUpEmployeesAsyncUseCase warmUpEmployeesAsyncUseCase;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void health_shouldBeOutOfService_untilWarmUpHasRun() {
+        // Given
+        EmployeesWarmUp warmUp = warmUp(true, Duration.ofSeconds(1));
+
+        // When
+        Health health = warmUp.health();
+
+        // Then
+        assertThat(health.getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+        assertThat(health.getDetails()).containsEntry("outcome", "in progress");
+    }
+
+    @Test
+    void warmUp_shouldRecordOutcomeAndDuration_whenEmployeesWereLoaded() {
+        // Given
+        when(warmUpEmployeesAsyncUseCase.warmUpEmployeesAsync())
+                .thenReturn(CompletableFuture.completedFuture(EmployeesWarmUpOutcome.WARM));
+        EmployeesWarmUp warmUp = warmUp(true, Duration.ofSeconds(1));
+
+        // When
+        warmUp.warmUp();
+
+        // Then
+        Health health = warmUp.health();
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat(health.getDetails()).containsEntry("outcome", "warm").containsKey("durationMs");
+        assertThat(timer("warm").count()).isEqualTo(1);
+    }
+
+    @Test
+    void warmUp_shouldReportUpWithFailedOutcome_whenLoadFailed() {
+        // Given
+        when(warmUpEmployeesAsyncUseCase.warmUpEmployeesAsync())
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("boom")));
+        EmployeesWarmUp warmUp = warmUp(true, Duration.ofSeconds(1));
+
+        // When
+        warmUp.warmUp();
+
+        // Then - the instance still takes traffic and loads on demand
+        Health health = warmUp.health();
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat(health.getDetails()).containsEntry("outcome", "failed");
+        assertThat(timer("failed").count()).isEqualTo(1);
+    }
+
+    @Test
+    void warmUp_shouldStopWaiting_whenLoadTakesLongerThanTimeout() {
+        // Given - a load that never completes
+        when(warmUpEmployeesAsyncUseCase.warmUpEmployeesAsync()).thenReturn(new CompletableFuture<>());
+        EmployeesWarmUp warmUp = warmUp(true, Duration.ofMillis(50));
+
+        // When
+        warmUp.warmUp();
+
+        // Then
+        assertThat(warmUp.health().getDetails()).containsEntry("outcome", "timed_out");
+        assertThat(timer("timed_out").totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(50);
+    }
+
+    @Test
+    void warmUp_shouldDoNothing_whenDisabled() {
+        // Given
+        EmployeesWarmUp warmUp = warmUp(false, Duration.ofSeconds(1));
+
+        // When
+        warmUp.warmUp();
+
+        // Then
+        verifyNoInteractions(warmUpEmployeesAsyncUseCase);
+        assertThat(warmUp.health().getStatus()).isEqualTo(Status.UP);
+        assertThat(meterRegistry.find(EmployeesWarmUp.WARM_UP_TIMER).timer()).isNull();
+    }
+
+    private EmployeesWarmUp warmUp(boolean enabled, Duration timeout) {
+        return new EmployeesWarmUp(
+                warmUpEmployeesAsyncUseCase, new EmployeesWarmUpProperties(enabled, timeout), meterRegistry);
+    }
+
+    private Timer timer(String outcome) {
+        return meterRegistry.get(EmployeesWarmUp.WARM_UP_TIMER).tag("outcome", outcome).timer();
+    }
+}
@@ -0,0 +1,200 @@
+package com.reliaquest.api.adapter.out.cache;
+
+import static com.reliaquest.api.common.config.CacheConfig.PAGED_EMPLOYEE_ROSTERS_CACHE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.reliaquest.api.application.domain.model.Employee;
+import com.reliaquest.api.application.domain.model.EmployeeRoster;
+import com.reliaquest.api.common.config.CacheConfig;
+import com.reliaquest.api.common.config.CacheStatsCounters;
+import com.reliaquest.api.common.config.EmployeeCacheProperties;
+import com.reliaquest.api.common.config.EmployeeCacheProperties.CachePolicy;
+import com.reliaquest.api.common.config.EmployeeCacheWeigher;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+/**
+ * Unit tests for EmployeeRosterVersionCache.
+ * The cache is built from the pagedEmployeeRosters policy the way CacheConfig builds it, with its defaults unless a
+ * test overrides them.
+ */
+class EmployeeRosterVersionCacheTest {
+
+    private final Employee john = Employee.builder()
+            .id(UUID.randomUUID())
+            .name("John Doe")
+            .build();
+
+    private CaffeineCacheManager cacheManager;
+
+    private EmployeeRosterVersionCache rosterVersionCache;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new CaffeineCacheManager();
+        rosterVersionCache = newRosterVersionCache(Map.of());
+    }
+
+    @Test
+    void loadEmployeeRosterByVersion_shouldReturnRetainedRoster_afterItWasReplaced() {
+        // Given
+        EmployeeRoster roster = EmployeeRoster.of(List.of(john));
+        rosterVersionCache.retainEmployeeRoster(roster);
+
+        // When - a create replaces the snapshot that is being paged through
+        EmployeeRoster replaced = roster.withEmployee(
+                Employee.builder().id(UUID.randomUUID()).name("Jane Smith").build());
+
+        // Then
+        assertThat(rosterVersionCache.loadEmployeeRosterByVersion(roster.getVersion())).isSameAs(roster);
+        assertThat(rosterVersionCache.loadEmployeeRosterByVersion(replaced.getVersion())).isNull();
+    }
+
+    @Test
+    void loadEmployeeRosterByVersion_shouldKeepEveryListing_whileOtherListingsStartAfterWrites() {
+        // Given - a listing of a roster of 1,000 employees is being paged through
+        EmployeeRoster roster = EmployeeRoster.of(employees(1000));
+        rosterVersionCache.retainEmployeeRoster(roster);
+        List<Long> listings = new ArrayList<>(List.of(roster.getVersion()));
+
+        for (int write = 0; write < 20; write++) {
+            // When - a create makes a new snapshot, and a listing started after it retains that one
+            roster = roster.withEmployee(
+                    Employee.builder().id(UUID.randomUUID()).name("Created " + write).build());
+            rosterVersionCache.retainEmployeeRoster(roster);
+            listings.add(roster.getVersion());
+
+            // Then - every listing still gets its next page
+            for (int listing = 0; listing < listings.size(); listing++) {
+                EmployeeRoster paged = rosterVersionCache.loadEmployeeRosterByVersion(listings.get(listing));
+                assertThat(paged).as("listing %d after write %d", listing, write).isNotNull();
+                assertThat(paged.page(write * 10, 10).employees()).hasSize(10);
+            }
+        }
+    }
+
+    @Test
+    void retainEmployeeRoster_shouldMakeRoomByDroppingLeastRecentlyPagedRoster_onceBoundIsReached() {
+        // Given - room for two snapshots of 100 employees, both paged through many times, the first least recently
+        rosterVersionCache = newRosterVersionCache(Map.of(
+                PAGED_EMPLOYEE_ROSTERS_CACHE, new CachePolicy(null, 20_000L, null, null, null, false)));
+        EmployeeRoster first = EmployeeRoster.of(employees(100));
+        EmployeeRoster second = first.withEmployee(john);
+        rosterVersionCache.retainEmployeeRoster(first);
+        rosterVersionCache.retainEmployeeRoster(second);
+        for (int page = 0; page < 10; page++) {
+            rosterVersionCache.loadEmployeeRosterByVersion(first.getVersion());
+            rosterVersionCache.loadEmployeeRosterByVersion(second.getVersion());
+        }
+
+        // When - a listing starts on a third snapshot
+        EmployeeRoster third = second.withoutEmployee(john.getId());
+        rosterVersionCache.retainEmployeeRoster(third);
+
+        // Then - the new listing gets its second page, the listing paged through least recently starts over
+        assertThat(rosterVersionCache.loadEmployeeRosterByVersion(third.getVersion())).isSameAs(third);
+        assertThat(rosterVersionCache.loadEmployeeRosterByVersion(second.getVersion())).isSameAs(second);
+        assertThat(rosterVersionCache.loadEmployeeRosterByVersion(first.getVersion())).isNull();
+    }
+
+    @Test
+    void retainEmployeeRoster_shouldSkipRoster_thatAloneExceedsBound() {
+        // Given - room for about two snapshots of 100 employees
+        rosterVersionCache = newRosterVersionCache(Map.of(
+                PAGED_EMPLOYEE_ROSTERS_CACHE, new CachePolicy(null, 20_000L, null, null, null, false)));
+        EmployeeRoster small = EmployeeRoster.of(employees(100));
+        rosterVersionCache.retainEmployeeRoster(small);
+
+        // When
+        EmployeeRoster large = EmployeeRoster.of(employees(1000));
+        rosterVersionCache.retainEmployeeRoster(large);
+
+        // Then - the listing already being paged through is not dropped for one that could never be kept
+        assertThat(rosterVersionCache.loadEmployeeRosterByVersion(large.getVersion())).isNull();
+        assertThat(rosterVersionCache.loadEmployeeRosterByVersion(small.getVersion())).isSameAs(small);
+    }
+
+    @Test
+    void retainEmployeeRoster_shouldMakeRoom_whenPolicyHasNoExpireAfterAccess() {
+        // Given - room for two snapshots of 100 employees, and no access order to pick the one to drop by
+        rosterVersionCache = new EmployeeRosterVersionCache(
+                cacheManager, Caffeine.newBuilder().maximumWeight(20_000L).weigher(EmployeeCacheWeigher.INSTANCE));
+        EmployeeRoster first = EmployeeRoster.of(employees(100));
+        EmployeeRoster second = first.withEmployee(john);
+        rosterVersionCache.retainEmployeeRoster(first);
+        rosterVersionCache.retainEmployeeRoster(second);
+        for (int page = 0; page < 10; page++) {
+            rosterVersionCache.loadEmployeeRosterByVersion(first.getVersion());
+            rosterVersionCache.loadEmployeeRosterByVersion(second.getVersion());
+        }
+
+        // When
+        EmployeeRoster third = second.withoutEmployee(john.getId());
+        rosterVersionCache.retainEmployeeRoster(third);
+
+        // Then - the new listing is kept, in place of one of the others
+        assertThat(rosterVersionCache.loadEmployeeRosterByVersion(third.getVersion())).isSameAs(third);
+        assertThat(List.of(first.getVersion(), second.getVersion()))
+                .filteredOn(version -> rosterVersionCache.loadEmployeeRosterByVersion(version) != null)
+                .hasSize(1);
+    }
+
+    @Test
+    void retainEmployeeRoster_shouldNotCountAsHitOrMiss() {
+        // Given
+        rosterVersionCache = newRosterVersionCache(Map.of(
+                PAGED_EMPLOYEE_ROSTERS_CACHE, new CachePolicy(null, null, null, null, null, true)));
+        EmployeeRoster roster = EmployeeRoster.of(List.of(john));
+
+        // When
+        rosterVersionCache.retainEmployeeRoster(roster);
+        rosterVersionCache.retainEmployeeRoster(roster);
+
+        // Then - only paging shows in the statistics
+        assertThat(nativeCache().stats().requestCount()).isZero();
+    }
+
+    @Test
+    void loadEmployeeRosterByVersion_shouldReturnNull_onceRosterIsNoLongerKept() {
+        // Given
+        EmployeeRoster roster = EmployeeRoster.of(List.of(john));
+        rosterVersionCache.retainEmployeeRoster(roster);
+
+        // When - dropped the way an eviction or expiry would
+        cacheManager.getCache(PAGED_EMPLOYEE_ROSTERS_CACHE).clear();
+
+        // Then
+        assertThat(rosterVersionCache.loadEmployeeRosterByVersion(roster.getVersion())).isNull();
+    }
+
+    private EmployeeRosterVersionCache newRosterVersionCache(Map<String, CachePolicy> policies) {
+        return new EmployeeRosterVersionCache(
+                cacheManager,
+                new CacheConfig()
+                        .pagedEmployeeRostersCacheConfig(
+                                new EmployeeCacheProperties(policies), new CacheStatsCounters()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Cache<Object, Object> nativeCache() {
+        return (Cache<Object, Object>) cacheManager.getCache(PAGED_EMPLOYEE_ROSTERS_CACHE).getNativeCache();
+    }
+
+    private static List<Employee> employees(int count) {
+        List<Employee> employees = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            employees.add(Employee.builder()
+                    .id(UUID.randomUUID())
+                    .name("Employee " + i)
+                    .build());
+        }
+        return employees;
+    }
+}
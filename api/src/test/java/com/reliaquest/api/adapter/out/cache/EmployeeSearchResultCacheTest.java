@@ -0,0 +1,133 @@
+package com.reliaquest.api.adapter.out.cache;
+
+import static com.reliaquest.api.common.config.CacheConfig.EMPLOYEE_SEARCH_RESULTS_CACHE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.reliaquest.api.application.domain.model.Employee;
+import com.reliaquest.api.application.domain.model.EmployeeRoster;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+/**
+ * Unit tests for EmployeeSearchResultCache.
+ * Hits and misses are read from the statistics of the cache it registers with the cache manager.
+ */
+class EmployeeSearchResultCacheTest {
+
+    private final Employee john = Employee.builder()
+            .id(UUID.randomUUID())
+            .name("John Doe")
+            .build();
+
+    private final Employee jane = Employee.builder()
+            .id(UUID.randomUUID())
+            .name("Jane Smith")
+            .build();
+
+    private CaffeineCacheManager cacheManager;
+
+    private EmployeeSearchResultCache searchResultCache;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new CaffeineCacheManager();
+        searchResultCache = new EmployeeSearchResultCache(
+                cacheManager, Caffeine.newBuilder().maximumSize(100).recordStats());
+    }
+
+    @Test
+    void searchEmployeesByName_shouldHit_whenTextDiffersOnlyInCase() {
+        // Given
+        EmployeeRoster roster = EmployeeRoster.of(List.of(john, jane));
+
+        // When
+        List<Employee> first = searchResultCache.searchEmployeesByName(roster, "john");
+        List<Employee> second = searchResultCache.searchEmployeesByName(roster, "JOHN");
+
+        // Then
+        assertThat(first).containsExactly(john);
+        assertThat(second).isSameAs(first);
+        assertThat(nativeCache().stats().hitCount()).isEqualTo(1);
+        assertThat(nativeCache().stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    void searchEmployeesByName_shouldMiss_whenRosterChanged() {
+        // Given
+        EmployeeRoster roster = EmployeeRoster.of(List.of(john));
+        searchResultCache.searchEmployeesByName(roster, "j");
+        Employee johnny = Employee.builder()
+                .id(UUID.randomUUID())
+                .name("Johnny Appleseed")
+                .build();
+
+        // When - no flush, the changed roster has a new version
+        List<Employee> afterCreate = searchResultCache.searchEmployeesByName(roster.withEmployee(johnny), "j");
+
+        // Then
+        assertThat(afterCreate).containsExactly(john, johnny);
+        assertThat(searchResultCache.searchEmployeesByName(roster, "j")).containsExactly(john);
+        assertThat(nativeCache().stats().missCount()).isEqualTo(2);
+    }
+
+    @Test
+    void searchEmployeesByName_shouldReturnUnmodifiableResults() {
+        // Given
+        EmployeeRoster roster = EmployeeRoster.of(List.of(john, jane));
+
+        // When
+        List<Employee> result = searchResultCache.searchEmployeesByName(roster, "doe");
+
+        // Then - shared with later callers
+        assertThatThrownBy(() -> result.add(jane)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void searchEmployeesByName_shouldShareSearchInFlight_withoutHoldingUpOtherSearches() throws Exception {
+        // Given - a search for "john" that runs until released
+        CountDownLatch searching = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        EmployeeRoster roster = spy(EmployeeRoster.of(List.of(john, jane)));
+        doAnswer(invocation -> {
+                    searching.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return invocation.callRealMethod();
+                })
+                .when(roster)
+                .searchByName("john");
+        CompletableFuture<List<Employee>> first =
+                CompletableFuture.supplyAsync(() -> searchResultCache.searchEmployeesByName(roster, "john"));
+        searching.await(5, TimeUnit.SECONDS);
+
+        // When
+        List<Employee> other = searchResultCache.searchEmployeesByName(roster, "jane");
+        CompletableFuture<List<Employee>> second =
+                CompletableFuture.supplyAsync(() -> searchResultCache.searchEmployeesByName(roster, "JOHN"));
+        release.countDown();
+
+        // Then - the other text was searched meanwhile, the same text was searched once
+        assertThat(other).containsExactly(jane);
+        assertThat(first.get(5, TimeUnit.SECONDS)).containsExactly(john);
+        assertThat(second.get(5, TimeUnit.SECONDS)).isSameAs(first.get());
+        verify(roster, times(2)).searchByName(anyString());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Cache<Object, Object> nativeCache() {
+        return (Cache<Object, Object>) cacheManager.getCache(EMPLOYEE_SEARCH_RESULTS_CACHE).getNativeCache();
+    }
+}
@@ -0,0 +1,94 @@
+package com.reliaquest.api.adapter.out.rest;
+
+import static com.reliaquest.api.Benchmarks.allocatedBytes;
+import static com.reliaquest.api.Benchmarks.employees;
+import static com.reliaquest.api.Benchmarks.usedHeap;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.application.domain.model.Employee;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+/**
+ * Reports the heap cost of reading a large employee list, once by binding the whole response to EmployeeEntity and
+ * mapping it, and once by streaming it with EmployeeRosterExtractor. Measures only, asserts nothing.
+ * Run with {@code ./gradlew :api:benchmark -Dbenchmark.employees=1000000}.
+ */
+@Tag("benchmark")
+class EmployeeRosterAllocationReport {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Test
+    void reportAllocation() throws Exception {
+        int employees = Integer.getInteger("benchmark.employees", 1_000_000);
+        byte[] payload = payload(employees);
+
+        Measurement bound = measure(() -> {
+            EmployeeServerResponse<List<EmployeeEntity>> response =
+                    OBJECT_MAPPER.readValue(payload, new TypeReference<>() {});
+            EmployeeMapper mapper = new EmployeeMapper();
+            List<Employee> mapped = response.getData().stream().map(mapper::toEmployee).toList();
+            // both copies are kept, like they are until the response goes out of scope
+            return new Object[] {response, mapped};
+        });
+        Measurement streamed = measure(() -> new EmployeeRosterExtractor()
+                .extractData(new MockClientHttpResponse(payload, HttpStatus.OK)));
+
+        System.out.printf(
+                "%d employees, %.1f MB payload%n  bound + mapped: %s%n  streamed:       %s%n",
+                employees, payload.length / 1e6, bound, streamed);
+    }
+
+    private static Measurement measure(Load load) throws Exception {
+        long baseline = usedHeap();
+        long allocatedBefore = allocatedBytes();
+        Object result = load.run();
+        long allocated = allocatedBytes() - allocatedBefore;
+        long retained = usedHeap() - baseline;
+        // keep the result reachable until the retained heap has been measured
+        if (result == null) {
+            throw new IllegalStateException("Nothing was loaded");
+        }
+        return new Measurement(allocated, retained);
+    }
+
+    private static byte[] payload(int employees) throws Exception {
+        List<EmployeeEntity> entities = new ArrayList<>(employees);
+        for (Employee employee : employees(employees)) {
+            EmployeeEntity entity = new EmployeeEntity();
+            entity.setId(employee.getId());
+            entity.setEmployee_name(employee.getName());
+            entity.setEmployee_salary(employee.getSalary());
+            entity.setEmployee_age(employee.getAge());
+            entity.setEmployee_title(employee.getTitle());
+            entity.setEmployee_email(employee.getEmail());
+            entities.add(entity);
+        }
+        EmployeeServerResponse<List<EmployeeEntity>> response = new EmployeeServerResponse<>();
+        response.setData(entities);
+        response.setStatus("Successfully processed request.");
+        return OBJECT_MAPPER.writeValueAsBytes(response);
+    }
+
+    private interface Load {
+        Object run() throws Exception;
+    }
+
+    /**
+     * @param allocatedBytes everything the load allocated, garbage included
+     * @param retainedBytes what is still reachable from the result after a GC, not the peak heap use during the load
+     */
+    private record Measurement(long allocatedBytes, long retainedBytes) {
+
+        @Override
+        public String toString() {
+            return String.format("%.1f MB allocated, %.1f MB retained", allocatedBytes / 1e6, retainedBytes / 1e6);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.reliaquest.api.adapter.out.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.reliaquest.api.application.domain.model.Employee;
+import com.reliaquest.api.application.domain.model.EmployeeRoster;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+/**
+ * Unit tests for EmployeeRosterExtractor.
+ * Tests that the Employee Server's list response is streamed into a roster with the same result as mapping it through
+ * EmployeeEntity and EmployeeMapper.
+ */
+class EmployeeRosterExtractorTest {
+
+    private final EmployeeRosterExtractor extractor = new EmployeeRosterExtractor();
+
+    @Test
+    void extractData_shouldReadAllFields_whenResponseHasEmployees() throws IOException {
+        // Given
+        UUID id = UUID.randomUUID();
+        String json = """
+                {"data":[{"id":"%s","employee_name":"John Doe","employee_salary":75000,"employee_age":30,\
+                "employee_title":"Software Engineer","employee_email":"john.doe@example.com"}],\
+                "status":"Successfully processed request."}
+                """.formatted(id);
+
+        // When
+        EmployeeRoster roster = extractor.extractData(response(json, HttpStatus.OK));
+
+        // Then
+        assertThat(roster).isNotNull();
+        assertThat(roster.getEmployees())
+                .containsExactly(Employee.builder()
+                        .id(id)
+                        .name("John Doe")
+                        .salary(75000)
+                        .age(30)
+                        .title("Software Engineer")
+                        .email("john.doe@example.com")
+                        .build());
+        assertThat(roster.findById(id)).isNotNull();
+    }
+
+    @Test
+    void extractData_shouldIgnoreUnknownFieldsAndKeepNulls_whenResponseHasThem() throws IOException {
+        // Given - fields in any order, an unknown nested field, null values and a null element
+        UUID id = UUID.randomUUID();
+        String json = """
+                {"status":"Successfully processed request.","data":[{"employee_name":"Jane Smith",\
+                "extra":{"nested":[1,2]},"employee_salary":null,"id":"%s"},null],"error":null}
+                """.formatted(id);
+
+        // When
+        EmployeeRoster roster = extractor.extractData(response(json, HttpStatus.OK));
+
+        // Then
+        assertThat(roster).isNotNull();
+        assertThat(roster.getEmployees()).containsExactly(Employee.builder().id(id).name("Jane Smith").build(), null);
+    }
+
+    @Test
+    void extractData_shouldReturnEmptyRoster_whenDataIsEmpty() throws IOException {
+        // When
+        EmployeeRoster roster = extractor.extractData(response("{\"data\":[]}", HttpStatus.OK));
+
+        // Then
+        assertThat(roster).isNotNull();
+        assertThat(roster.getEmployees()).isEmpty();
+    }
+
+    @Test
+    void extractData_shouldReturnNull_whenBodyIsEmpty() throws IOException {
+        // When / Then
+        assertThat(extractor.extractData(response("", HttpStatus.OK))).isNull();
+    }
+
+    @Test
+    void extractData_shouldReturnNull_whenDataIsMissing() throws IOException {
+        // When / Then
+        assertThat(extractor.extractData(response("{\"data\":null,\"status\":\"error\"}", HttpStatus.OK))).isNull();
+    }
+
+    @Test
+    void extractData_shouldReturnNull_whenStatusIsNot2xx() throws IOException {
+        // When / Then
+        assertThat(extractor.extractData(response("{\"data\":[]}", HttpStatus.MULTIPLE_CHOICES))).isNull();
+    }
+
+    @Test
+    void extractData_shouldThrow_whenDataContainsNonObject() {
+        // When / Then
+        assertThatThrownBy(() -> extractor.extractData(response("{\"data\":[42]}", HttpStatus.OK)))
+                .isInstanceOf(JsonParseException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"75000.5", "\"75000\"", "\"abc\"", "2147483648", "true"})
+    void extractData_shouldThrow_whenSalaryIsNotAnInt(String salary) {
+        // Given
+        String json = "{\"data\":[{\"employee_name\":\"John Doe\",\"employee_salary\":" + salary + "}]}";
+
+        // When / Then
+        assertThatThrownBy(() -> extractor.extractData(response(json, HttpStatus.OK)))
+                .isInstanceOf(JsonParseException.class)
+                .hasMessageContaining("employee_salary");
+    }
+
+    @Test
+    void extractData_shouldReadIntBounds_whenAgeAndSalaryAreAtThem() throws IOException {
+        // Given
+        String json = "{\"data\":[{\"employee_salary\":2147483647,\"employee_age\":-2147483648}]}";
+
+        // When
+        EmployeeRoster roster = extractor.extractData(response(json, HttpStatus.OK));
+
+        // Then
+        assertThat(roster.getEmployees())
+                .containsExactly(Employee.builder().salary(Integer.MAX_VALUE).age(Integer.MIN_VALUE).build());
+    }
+
+    private static MockClientHttpResponse response(String json, HttpStatus status) {
+        return new MockClientHttpResponse(json.getBytes(StandardCharsets.UTF_8), status);
+    }
+}
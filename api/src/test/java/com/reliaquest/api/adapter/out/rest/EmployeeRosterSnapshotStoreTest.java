@@ -0,0 +1,136 @@
+package com.reliaquest.api.adapter.out.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.api.application.domain.model.Employee;
+import com.reliaquest.api.application.domain.model.EmployeeRoster;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for EmployeeRosterSnapshotStore and the EmployeeRosterSnapshotFile format it writes.
+ * Snapshots go to a temporary directory, and the clock is fixed so snapshot ages are exact.
+ */
+class EmployeeRosterSnapshotStoreTest {
+
+    private static final Instant NOW = Instant.parse("2024-05-01T12:00:00Z");
+
+    @TempDir
+    private Path directory;
+
+    private Path path;
+
+    private EmployeeRosterSnapshotStore store;
+
+    @BeforeEach
+    void setUp() {
+        path = directory.resolve("snapshots/roster.snapshot");
+        store = new EmployeeRosterSnapshotStore(true, path, Duration.ofHours(24), Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void load_shouldReturnSavedRoster_withAllFieldsAndNulls() {
+        // Given - a complete employee, one with only some fields, a null element and non-ASCII text
+        UUID id1 = UUID.randomUUID();
+        UUID id2 = UUID.randomUUID();
+        Employee complete = Employee.builder()
+                .id(id1)
+                .name("Zoë Ångström")
+                .salary(75000)
+                .age(30)
+                .title("Software Engineer")
+                .email("zoe@example.com")
+                .build();
+        Employee partial = Employee.builder().id(id2).name("Jane Smith").build();
+        List<Employee> employees = Arrays.asList(complete, partial, null);
+
+        // When
+        boolean saved = store.save(EmployeeRoster.of(employees));
+        EmployeeRoster loaded = store.load();
+
+        // Then
+        assertThat(saved).isTrue();
+        assertThat(loaded).isNotNull();
+        assertThat(loaded.getEmployees()).containsExactly(complete, partial, null);
+        assertThat(loaded.findById(id1)).isEqualTo(complete);
+        assertThat(loaded.findById(id2)).isEqualTo(partial);
+    }
+
+    @Test
+    void save_shouldReplacePreviousSnapshot() {
+        // Given
+        Employee first = Employee.builder().id(UUID.randomUUID()).name("John Doe").build();
+        Employee second = Employee.builder().id(UUID.randomUUID()).name("Jane Smith").build();
+        store.save(EmployeeRoster.of(List.of(first)));
+
+        // When
+        store.save(EmployeeRoster.of(List.of(second)));
+
+        // Then - and no temporary files are left behind
+        assertThat(store.load().getEmployees()).containsExactly(second);
+        assertThat(path.getParent().toFile().list()).containsExactly("roster.snapshot");
+    }
+
+    @Test
+    void load_shouldReturnNull_whenThereIsNoSnapshot() {
+        assertThat(store.load()).isNull();
+    }
+
+    @Test
+    void load_shouldReturnNull_whenSnapshotIsTooOld() {
+        // Given - written 25 hours ago
+        new EmployeeRosterSnapshotStore(
+                        true, path, Duration.ofHours(24), Clock.fixed(NOW.minus(Duration.ofHours(25)), ZoneOffset.UTC))
+                .save(EmployeeRoster.of(List.of(Employee.builder().name("John Doe").build())));
+
+        // When / Then
+        assertThat(store.load()).isNull();
+    }
+
+    @Test
+    void load_shouldReturnNull_whenSnapshotIsCorrupt() throws IOException {
+        // Given
+        store.save(EmployeeRoster.of(List.of(Employee.builder().name("John Doe").build())));
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[bytes.length / 2] ^= 0x5A;
+        Files.write(path, bytes);
+
+        // When / Then
+        assertThat(store.load()).isNull();
+    }
+
+    @Test
+    void load_shouldReturnNull_whenSnapshotIsTruncated() throws IOException {
+        // Given
+        store.save(EmployeeRoster.of(List.of(Employee.builder().name("John Doe").build())));
+        byte[] bytes = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(bytes, 10));
+
+        // When / Then
+        assertThat(store.load()).isNull();
+    }
+
+    @Test
+    void disabledStore_shouldNeitherWriteNorLoad() {
+        // Given
+        EmployeeRosterSnapshotStore disabled = EmployeeRosterSnapshotStore.disabled();
+
+        // When
+        boolean saved = disabled.save(EmployeeRoster.of(List.of(Employee.builder().name("John Doe").build())));
+
+        // Then
+        assertThat(saved).isFalse();
+        assertThat(disabled.load()).isNull();
+    }
+}
@@ -0,0 +1,91 @@
+package com.reliaquest.api.adapter.out.rest;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.reliaquest.api.common.config.EmployeeServerCircuitBreakerProperties;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.function.LongSupplier;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Builds the EmployeeServerAdapter the unit tests run against. By default its caches load and its executors run on the
+ * calling thread, nothing expires, and there is no roster snapshot; tests set only what they exercise.
+ */
+final class EmployeeServerAdapterBuilder {
+
+    private final RestTemplate restTemplate;
+    private final EmployeeMapper employeeMapper;
+    private Caffeine<Object, Object> employeeByIdCacheConfig = Caffeine.newBuilder().executor(Runnable::run);
+    private Caffeine<Object, Object> allEmployeesCacheConfig = Caffeine.newBuilder().executor(Runnable::run);
+    private Caffeine<Object, Object> employeeNotFoundCacheConfig = Caffeine.newBuilder();
+    private Executor cacheRefreshExecutor = Runnable::run;
+    private Executor employeeServerExecutor = Runnable::run;
+    private EmployeeServerCircuitBreakerProperties circuitBreakerProperties =
+            new EmployeeServerCircuitBreakerProperties(3, Duration.ofSeconds(30), Duration.ofMinutes(5));
+    private EmployeeRosterSnapshotStore rosterSnapshotStore = EmployeeRosterSnapshotStore.disabled();
+    private LongSupplier nanoClock = System::nanoTime;
+
+    private EmployeeServerAdapterBuilder(RestTemplate restTemplate, EmployeeMapper employeeMapper) {
+        this.restTemplate = restTemplate;
+        this.employeeMapper = employeeMapper;
+    }
+
+    static EmployeeServerAdapterBuilder employeeServerAdapter(
+            RestTemplate restTemplate, EmployeeMapper employeeMapper) {
+        return new EmployeeServerAdapterBuilder(restTemplate, employeeMapper);
+    }
+
+    EmployeeServerAdapterBuilder employeeByIdCacheConfig(Caffeine<Object, Object> employeeByIdCacheConfig) {
+        this.employeeByIdCacheConfig = employeeByIdCacheConfig;
+        return this;
+    }
+
+    EmployeeServerAdapterBuilder allEmployeesCacheConfig(Caffeine<Object, Object> allEmployeesCacheConfig) {
+        this.allEmployeesCacheConfig = allEmployeesCacheConfig;
+        return this;
+    }
+
+    EmployeeServerAdapterBuilder employeeNotFoundCacheConfig(Caffeine<Object, Object> employeeNotFoundCacheConfig) {
+        this.employeeNotFoundCacheConfig = employeeNotFoundCacheConfig;
+        return this;
+    }
+
+    EmployeeServerAdapterBuilder cacheRefreshExecutor(Executor cacheRefreshExecutor) {
+        this.cacheRefreshExecutor = cacheRefreshExecutor;
+        return this;
+    }
+
+    EmployeeServerAdapterBuilder employeeServerExecutor(Executor employeeServerExecutor) {
+        this.employeeServerExecutor = employeeServerExecutor;
+        return this;
+    }
+
+    EmployeeServerAdapterBuilder rosterSnapshotStore(EmployeeRosterSnapshotStore rosterSnapshotStore) {
+        this.rosterSnapshotStore = rosterSnapshotStore;
+        return this;
+    }
+
+    EmployeeServerAdapterBuilder nanoClock(LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        return this;
+    }
+
+    EmployeeServerAdapter build() {
+        EmployeeServerAdapter adapter = new EmployeeServerAdapter(
+                restTemplate,
+                employeeMapper,
+                new CaffeineCacheManager(),
+                employeeByIdCacheConfig,
+                allEmployeesCacheConfig,
+                employeeNotFoundCacheConfig,
+                cacheRefreshExecutor,
+                employeeServerExecutor,
+                circuitBreakerProperties,
+                rosterSnapshotStore,
+                nanoClock);
+        // what the container does once the bean is constructed
+        adapter.seedFromSnapshot();
+        return adapter;
+    }
+}
@@ -1,16 +1,27 @@
 package com.reliaquest.api.adapter.out.rest;
 
+import static com.reliaquest.api.adapter.out.rest.EmployeeServerStubs.respondWith;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.reliaquest.api.application.domain.model.Employee;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -23,13 +34,14 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestTemplate;
 
 /**
  * Integration tests for EmployeeServerAdapter caching behavior.
  * These tests verify that Caffeine caching is working correctly.
  */
-@SpringBootTest
+@SpringBootTest(properties = {"employee-api.snapshot.enabled=false", "employee-api.warm-up.enabled=false"})
 class EmployeeServerAdapterCacheTest {
 
     @Autowired
@@ -108,15 +120,12 @@ class EmployeeServerAdapterCacheTest {
         ResponseEntity<EmployeeServerResponse<List<EmployeeEntity>>> responseEntity =
                 new ResponseEntity<>(serverResponse, HttpStatus.OK);
 
-        when(restTemplate.exchange(
+        when(restTemplate.execute(
                         eq("http://localhost:8112/api/v1/employee"),
                         eq(HttpMethod.GET),
-                        eq(null),
-                        any(ParameterizedTypeReference.class)))
-                .thenReturn(responseEntity);
-
-        when(employeeMapper.toEmployee(testEntity1)).thenReturn(testEmployee1);
-        when(employeeMapper.toEmployee(testEntity2)).thenReturn(testEmployee2);
+                        any(),
+                        any(ResponseExtractor.class)))
+                .thenAnswer(respondWith(responseEntity));
 
         // When - Call the method multiple times
         List<Employee> result1 = employeeServerAdapter.loadAllEmployees();
@@ -125,11 +134,11 @@ class EmployeeServerAdapterCacheTest {
 
         // Then - RestTemplate should only be called once due to caching
         verify(restTemplate, times(1))
-                .exchange(
+                .execute(
                         eq("http://localhost:8112/api/v1/employee"),
                         eq(HttpMethod.GET),
-                        eq(null),
-                        any(ParameterizedTypeReference.class));
+                        any(),
+                        any(ResponseExtractor.class));
 
         // All results should be the same
         assertThat(result1).hasSize(2);
@@ -244,6 +253,138 @@ class EmployeeServerAdapterCacheTest {
         assertThat(result4).isEqualTo(testEmployee2); // From cache
     }
 
+    @Test
+    void loadAllEmployees_shouldMakeOneUpstreamCall_whenMissedConcurrently() throws Exception {
+        // Given - the upstream call does not answer until every caller has asked for the employees
+        int callers = 16;
+        CountDownLatch release = new CountDownLatch(1);
+        EmployeeServerResponse<List<EmployeeEntity>> serverResponse = new EmployeeServerResponse<>();
+        serverResponse.setData(Arrays.asList(testEntity1, testEntity2));
+        serverResponse.setStatus("success");
+
+        when(restTemplate.execute(
+                        eq("http://localhost:8112/api/v1/employee"),
+                        eq(HttpMethod.GET),
+                        any(),
+                        any(ResponseExtractor.class)))
+                .thenAnswer(invocation -> {
+                    release.await(5, TimeUnit.SECONDS);
+                    return respondWith(new ResponseEntity<>(serverResponse, HttpStatus.OK))
+                            .answer(invocation);
+                });
+
+        // When
+        List<List<Employee>> results =
+                callConcurrently(callers, release, () -> employeeServerAdapter.loadAllEmployees());
+
+        // Then - all callers shared a single upstream GET and got its result
+        verify(restTemplate, times(1))
+                .execute(
+                        eq("http://localhost:8112/api/v1/employee"),
+                        eq(HttpMethod.GET),
+                        any(),
+                        any(ResponseExtractor.class));
+
+        assertThat(results).hasSize(callers);
+        assertThat(results).allSatisfy(result -> assertThat(result).containsExactly(testEmployee1, testEmployee2));
+    }
+
+    @Test
+    void loadEmployeeById_shouldMakeOneUpstreamCall_whenMissedConcurrently() throws Exception {
+        // Given - the upstream call does not answer until every caller has asked for the employee
+        int callers = 16;
+        UUID employeeId = testEntity1.getId();
+        CountDownLatch release = new CountDownLatch(1);
+        EmployeeServerResponse<EmployeeEntity> serverResponse = new EmployeeServerResponse<>();
+        serverResponse.setData(testEntity1);
+        serverResponse.setStatus("success");
+
+        when(restTemplate.exchange(
+                        eq("http://localhost:8112/api/v1/employee/" + employeeId),
+                        eq(HttpMethod.GET),
+                        eq(null),
+                        any(ParameterizedTypeReference.class)))
+                .thenAnswer(invocation -> {
+                    release.await(5, TimeUnit.SECONDS);
+                    return new ResponseEntity<>(serverResponse, HttpStatus.OK);
+                });
+
+        when(employeeMapper.toEmployee(testEntity1)).thenReturn(testEmployee1);
+
+        // When
+        List<Employee> results =
+                callConcurrently(callers, release, () -> employeeServerAdapter.loadEmployeeById(employeeId));
+
+        // Then - all callers shared a single upstream GET and got its result
+        verify(restTemplate, times(1))
+                .exchange(
+                        eq("http://localhost:8112/api/v1/employee/" + employeeId),
+                        eq(HttpMethod.GET),
+                        eq(null),
+                        any(ParameterizedTypeReference.class));
+
+        assertThat(results).hasSize(callers).containsOnly(testEmployee1);
+    }
+
+    @Test
+    void loadEmployeeById_shouldAnswerFromRoster_whenRosterIsCached() {
+        // Given - the roster is cached
+        setupAndCallLoadAllEmployees();
+        setupLoadEmployeeByIdMock(testEntity1.getId());
+
+        // When
+        Employee result = employeeServerAdapter.loadEmployeeById(testEntity1.getId());
+
+        // Then - the id index of the roster answers, the Employee Server is not asked
+        assertThat(result).isEqualTo(testEmployee1);
+        verify(restTemplate, never())
+                .exchange(
+                        eq("http://localhost:8112/api/v1/employee/" + testEntity1.getId()),
+                        eq(HttpMethod.GET),
+                        eq(null),
+                        any(ParameterizedTypeReference.class));
+    }
+
+    @Test
+    void loadEmployeeById_shouldNotCallServer_whenIdIsNotKnownToCachedRoster() {
+        // Given - the roster is cached but does not contain the employee
+        setupAndCallLoadAllEmployees();
+        UUID unknownId = UUID.randomUUID();
+        setupLoadEmployeeByIdMock(unknownId);
+
+        // When
+        Employee result = employeeServerAdapter.loadEmployeeById(unknownId);
+
+        // Then - the known ids of the roster rule the id out
+        assertThat(result).isNull();
+        verify(restTemplate, never())
+                .exchange(
+                        eq("http://localhost:8112/api/v1/employee/" + unknownId),
+                        eq(HttpMethod.GET),
+                        eq(null),
+                        any(ParameterizedTypeReference.class));
+    }
+
+    @Test
+    void loadEmployeeById_shouldCallServer_whenRosterIsNotCached() {
+        // Given - a roster was loaded, but is no longer cached
+        setupAndCallLoadAllEmployees();
+        cacheManager.getCache("allEmployees").clear();
+        UUID unknownId = UUID.randomUUID();
+        setupLoadEmployeeByIdMock(unknownId);
+
+        // When
+        employeeServerAdapter.loadEmployeeById(unknownId);
+
+        // Then - without a current roster the Employee Server has the final word
+        verify(restTemplate, times(1))
+                .exchange(
+                        eq("http://localhost:8112/api/v1/employee/" + unknownId),
+                        eq(HttpMethod.GET),
+                        eq(null),
+                        any(ParameterizedTypeReference.class));
+    }
+
     @Test
     void cacheManager_shouldHaveCorrectCachesConfigured() {
         // When
@@ -297,11 +438,11 @@ class EmployeeServerAdapterCacheTest {
     @Test
     void loadAllEmployees_shouldNotCacheNullResult_whenServerReturnsError() {
         // Given - Server returns error resulting in null
-        when(restTemplate.exchange(
+        when(restTemplate.execute(
                         eq("http://localhost:8112/api/v1/employee"),
                         eq(HttpMethod.GET),
-                        eq(null),
-                        any(ParameterizedTypeReference.class)))
+                        any(),
+                        any(ResponseExtractor.class)))
                 .thenThrow(new RuntimeException("Server error"));
 
         // When - Call method multiple times with error
@@ -310,18 +451,18 @@ class EmployeeServerAdapterCacheTest {
 
         // Then - RestTemplate should be called each time (null results not cached)
         verify(restTemplate, times(2))
-                .exchange(
+                .execute(
                         eq("http://localhost:8112/api/v1/employee"),
                         eq(HttpMethod.GET),
-                        eq(null),
-                        any(ParameterizedTypeReference.class));
+                        any(),
+                        any(ResponseExtractor.class));
 
         assertThat(result1).isNull();
         assertThat(result2).isNull();
     }
 
     @Test
-    void loadEmployeeById_shouldNotCacheNullResult_whenEmployeeNotFound() {
+    void loadEmployeeById_shouldRememberNotFound_whenEmployeeNotFound() {
         // Given - Employee not found
         UUID employeeId = UUID.randomUUID();
 
@@ -336,8 +477,8 @@ class EmployeeServerAdapterCacheTest {
         Employee result1 = employeeServerAdapter.loadEmployeeById(employeeId);
         Employee result2 = employeeServerAdapter.loadEmployeeById(employeeId);
 
-        // Then - RestTemplate should be called each time (null results not cached)
-        verify(restTemplate, times(2))
+        // Then - the 404 is remembered in the negative cache, so only the first call goes upstream
+        verify(restTemplate, times(1))
                 .exchange(
                         eq("http://localhost:8112/api/v1/employee/" + employeeId),
                         eq(HttpMethod.GET),
@@ -348,8 +489,59 @@ class EmployeeServerAdapterCacheTest {
         assertThat(result2).isNull();
     }
 
+    @Test
+    void loadEmployeeById_shouldCallServerAgain_whenNotFoundCacheIsCleared() {
+        // Given
+        UUID employeeId = testEntity1.getId();
+        when(restTemplate.exchange(
+                        eq("http://localhost:8112/api/v1/employee/" + employeeId),
+                        eq(HttpMethod.GET),
+                        eq(null),
+                        any(ParameterizedTypeReference.class)))
+                .thenThrow(new HttpClientErrorException(HttpStatus.NOT_FOUND));
+        employeeServerAdapter.loadEmployeeById(employeeId);
+        setupLoadEmployeeByIdMock(employeeId);
+
+        // When
+        cacheManager.getCache("employeeNotFound").clear();
+        Employee result = employeeServerAdapter.loadEmployeeById(employeeId);
+
+        // Then
+        assertThat(result).isEqualTo(testEmployee1);
+    }
+
     // Helper methods
 
+    /**
+     * Runs the call from several threads at once and releases the upstream answer only once every caller has had the
+     * chance to reach the cache.
+     */
+    private <T> List<T> callConcurrently(int callers, CountDownLatch release, Callable<T> call) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            CountDownLatch ready = new CountDownLatch(callers);
+            List<Future<T>> futures = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                futures.add(executor.submit(() -> {
+                    ready.countDown();
+                    return call.call();
+                }));
+            }
+
+            ready.await(5, TimeUnit.SECONDS);
+            Thread.sleep(200);
+            release.countDown();
+
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                results.add(future.get(5, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     private void setupAndCallLoadAllEmployees() {
         List<EmployeeEntity> entities = Arrays.asList(testEntity1);
         EmployeeServerResponse<List<EmployeeEntity>> serverResponse = new EmployeeServerResponse<>();
@@ -359,14 +551,12 @@ class EmployeeServerAdapterCacheTest {
         ResponseEntity<EmployeeServerResponse<List<EmployeeEntity>>> responseEntity =
                 new ResponseEntity<>(serverResponse, HttpStatus.OK);
 
-        when(restTemplate.exchange(
+        when(restTemplate.execute(
                         eq("http://localhost:8112/api/v1/employee"),
                         eq(HttpMethod.GET),
-                        eq(null),
-                        any(ParameterizedTypeReference.class)))
-                .thenReturn(responseEntity);
-
-        when(employeeMapper.toEmployee(any())).thenReturn(testEmployee1);
+                        any(),
+                        any(ResponseExtractor.class)))
+                .thenAnswer(respondWith(responseEntity));
 
         employeeServerAdapter.loadAllEmployees();
     }
@@ -395,10 +585,10 @@ class EmployeeServerAdapterCacheTest {
         when(employeeMapper.toEmployee(testEntity1)).thenReturn(testEmployee1);
     }
 
-    // saveNewEmployee cache eviction tests
+    // saveNewEmployee cache write-through tests
 
     @Test
-    void saveNewEmployee_shouldEvictAllEmployeesCache_whenEmployeeIsCreated() {
+    void saveNewEmployee_shouldAddEmployeeToCachedRoster_whenEmployeeIsCreated() {
         // Given - First populate the allEmployees cache
         List<EmployeeEntity> entities = Arrays.asList(testEntity1);
         EmployeeServerResponse<List<EmployeeEntity>> listServerResponse = new EmployeeServerResponse<>();
@@ -408,25 +598,23 @@ class EmployeeServerAdapterCacheTest {
         ResponseEntity<EmployeeServerResponse<List<EmployeeEntity>>> listResponseEntity =
                 new ResponseEntity<>(listServerResponse, HttpStatus.OK);
 
-        when(restTemplate.exchange(
+        when(restTemplate.execute(
                         eq("http://localhost:8112/api/v1/employee"),
                         eq(HttpMethod.GET),
-                        eq(null),
-                        any(ParameterizedTypeReference.class)))
-                .thenReturn(listResponseEntity);
-
-        when(employeeMapper.toEmployee(testEntity1)).thenReturn(testEmployee1);
+                        any(),
+                        any(ResponseExtractor.class)))
+                .thenAnswer(respondWith(listResponseEntity));
 
         // Populate the cache
         employeeServerAdapter.loadAllEmployees();
 
         // Verify cache was populated (only 1 call so far)
         verify(restTemplate, times(1))
-                .exchange(
+                .execute(
                         eq("http://localhost:8112/api/v1/employee"),
                         eq(HttpMethod.GET),
-                        eq(null),
-                        any(ParameterizedTypeReference.class));
+                        any(),
+                        any(ResponseExtractor.class));
 
         // Setup for saveNewEmployee
         UUID newEmployeeId = UUID.randomUUID();
@@ -470,25 +658,66 @@ class EmployeeServerAdapterCacheTest {
 
         when(employeeMapper.toEmployee(newEmployeeEntity)).thenReturn(createdEmployee);
 
-        // When - Create a new employee (should evict allEmployees cache)
+        // When - Create a new employee (should be written through to both caches)
         Employee result = employeeServerAdapter.saveNewEmployee(inputEmployee);
 
         // Then - Verify employee was created
         assertThat(result).isNotNull();
         assertThat(result.getId()).isEqualTo(newEmployeeId);
 
-        // Now call loadAllEmployees again - it should hit the REST API again because cache was evicted
-        employeeServerAdapter.loadAllEmployees();
+        // Now read the employees back - both should come from the caches
+        List<Employee> allEmployees = employeeServerAdapter.loadAllEmployees();
+        Employee employeeById = employeeServerAdapter.loadEmployeeById(newEmployeeId);
 
-        // Verify RestTemplate was called twice for GET all employees (once before, once after cache eviction)
-        verify(restTemplate, times(2))
-                .exchange(
+        assertThat(allEmployees).containsExactly(testEmployee1, createdEmployee);
+        assertThat(employeeById).isEqualTo(createdEmployee);
+
+        // Verify RestTemplate was called only once for GET all employees and never for the new employee's id
+        verify(restTemplate, times(1))
+                .execute(
                         eq("http://localhost:8112/api/v1/employee"),
                         eq(HttpMethod.GET),
+                        any(),
+                        any(ResponseExtractor.class));
+
+        verify(restTemplate, never())
+                .exchange(
+                        eq("http://localhost:8112/api/v1/employee/" + newEmployeeId),
+                        eq(HttpMethod.GET),
                         eq(null),
                         any(ParameterizedTypeReference.class));
     }
 
+    @Test
+    void saveNewEmployee_shouldMakeEmployeeFindable_whenIdWasNotFoundBefore() {
+        // Given - the id was looked up before it existed
+        UUID employeeId = testEntity1.getId();
+        when(restTemplate.exchange(
+                        eq("http://localhost:8112/api/v1/employee/" + employeeId),
+                        eq(HttpMethod.GET),
+                        eq(null),
+                        any(ParameterizedTypeReference.class)))
+                .thenThrow(new HttpClientErrorException(HttpStatus.NOT_FOUND));
+        assertThat(employeeServerAdapter.loadEmployeeById(employeeId)).isNull();
+
+        EmployeeServerResponse<EmployeeEntity> createServerResponse = new EmployeeServerResponse<>();
+        createServerResponse.setData(testEntity1);
+        createServerResponse.setStatus("success");
+        when(restTemplate.exchange(
+                        eq("http://localhost:8112/api/v1/employee"),
+                        eq(HttpMethod.POST),
+                        any(HttpEntity.class),
+                        any(ParameterizedTypeReference.class)))
+                .thenReturn(new ResponseEntity<>(createServerResponse, HttpStatus.OK));
+        when(employeeMapper.toEmployee(testEntity1)).thenReturn(testEmployee1);
+
+        // When
+        employeeServerAdapter.saveNewEmployee(Employee.builder().name("John Doe").build());
+
+        // Then
+        assertThat(employeeServerAdapter.loadEmployeeById(employeeId)).isEqualTo(testEmployee1);
+    }
+
     @Test
     void saveNewEmployee_shouldNotAffectEmployeeByIdCache_whenEmployeeIsCreated() {
         // Given - First populate the employeeById cache
@@ -572,25 +801,23 @@ class EmployeeServerAdapterCacheTest {
         ResponseEntity<EmployeeServerResponse<List<EmployeeEntity>>> listResponseEntity =
                 new ResponseEntity<>(listServerResponse, HttpStatus.OK);
 
-        when(restTemplate.exchange(
+        when(restTemplate.execute(
                         eq("http://localhost:8112/api/v1/employee"),
                         eq(HttpMethod.GET),
-                        eq(null),
-                        any(ParameterizedTypeReference.class)))
-                .thenReturn(listResponseEntity);
-
-        when(employeeMapper.toEmployee(testEntity1)).thenReturn(testEmployee1);
+                        any(),
+                        any(ResponseExtractor.class)))
+                .thenAnswer(respondWith(listResponseEntity));
 
         // Populate the cache
         employeeServerAdapter.loadAllEmployees();
 
         // Verify cache was populated (only 1 call so far)
         verify(restTemplate, times(1))
-                .exchange(
+                .execute(
                         eq("http://localhost:8112/api/v1/employee"),
                         eq(HttpMethod.GET),
-                        eq(null),
-                        any(ParameterizedTypeReference.class));
+                        any(),
+                        any(ResponseExtractor.class));
 
         // Setup for saveNewEmployee to fail
         Employee inputEmployee =
@@ -609,22 +836,22 @@ class EmployeeServerAdapterCacheTest {
         // Then - Verify operation failed
         assertThat(result).isNull();
 
-        // Call loadAllEmployees again - should still use cache (NOT evicted due to condition)
+        // Call loadAllEmployees again - should still use cache (failed creates leave it untouched)
         employeeServerAdapter.loadAllEmployees();
 
         // Verify RestTemplate was still only called once for GET all employees (cache NOT evicted)
         verify(restTemplate, times(1))
-                .exchange(
+                .execute(
                         eq("http://localhost:8112/api/v1/employee"),
                         eq(HttpMethod.GET),
-                        eq(null),
-                        any(ParameterizedTypeReference.class));
+                        any(),
+                        any(ResponseExtractor.class));
     }
 
-    // deleteEmployeeById cache eviction tests
+    // deleteEmployeeById cache write-through tests
 
     @Test
-    void deleteEmployeeById_shouldEvictBothCaches_whenEmployeeIsDeleted() {
+    void deleteEmployeeById_shouldRemoveEmployeeFromBothCaches_whenEmployeeIsDeleted() {
         // Given - First populate both caches
         UUID employeeId = testEntity1.getId();
 
@@ -637,52 +864,35 @@ class EmployeeServerAdapterCacheTest {
         ResponseEntity<EmployeeServerResponse<List<EmployeeEntity>>> listResponseEntity =
                 new ResponseEntity<>(listServerResponse, HttpStatus.OK);
 
-        when(restTemplate.exchange(
+        when(restTemplate.execute(
                         eq("http://localhost:8112/api/v1/employee"),
                         eq(HttpMethod.GET),
-                        eq(null),
-                        any(ParameterizedTypeReference.class)))
-                .thenReturn(listResponseEntity);
-
-        when(employeeMapper.toEmployee(testEntity1)).thenReturn(testEmployee1);
+                        any(),
+                        any(ResponseExtractor.class)))
+                .thenAnswer(respondWith(listResponseEntity));
 
         // Call to populate allEmployees cache
         employeeServerAdapter.loadAllEmployees();
 
-        // Populate employeeById cache
+        // Look the employee up by id, which is answered from the roster
         setupLoadEmployeeByIdMock(employeeId);
         employeeServerAdapter.loadEmployeeById(employeeId);
 
-        // Verify caches were populated (only 1 call each so far)
+        // Verify the roster was loaded once and the by-id lookup did not go upstream
         verify(restTemplate, times(1))
-                .exchange(
+                .execute(
                         eq("http://localhost:8112/api/v1/employee"),
                         eq(HttpMethod.GET),
-                        eq(null),
-                        any(ParameterizedTypeReference.class));
+                        any(),
+                        any(ResponseExtractor.class));
 
-        verify(restTemplate, times(1))
+        verify(restTemplate, never())
                 .exchange(
                         eq("http://localhost:8112/api/v1/employee/" + employeeId),
                         eq(HttpMethod.GET),
                         eq(null),
                         any(ParameterizedTypeReference.class));
 
-        // Setup for deleteEmployeeById - need to mock the GET call inside deleteEmployeeById
-        when(restTemplate.exchange(
-                        eq("http://localhost:8112/api/v1/employee/" + employeeId),
-                        eq(HttpMethod.GET),
-                        eq(null),
-                        any(ParameterizedTypeReference.class)))
-                .thenReturn(new ResponseEntity<>(
-                        new EmployeeServerResponse<EmployeeEntity>() {
-                            {
-                                setData(testEntity1);
-                                setStatus("success");
-                            }
-                        },
-                        HttpStatus.OK));
-
         EmployeeServerResponse<Boolean> deleteServerResponse = new EmployeeServerResponse<>();
         deleteServerResponse.setData(true);
         deleteServerResponse.setStatus("success");
@@ -697,28 +907,28 @@ class EmployeeServerAdapterCacheTest {
                         any(ParameterizedTypeReference.class)))
                 .thenReturn(deleteResponseEntity);
 
-        // When - Delete the employee (should evict both caches)
+        // When - Delete the employee (should be removed from both caches)
         String result = employeeServerAdapter.deleteEmployeeById(employeeId);
 
         // Then - Verify employee was deleted
         assertThat(result).isNotNull();
         assertThat(result).isEqualTo("John Doe");
 
-        // Now call loadAllEmployees and loadEmployeeById again - both should hit REST API again
-        employeeServerAdapter.loadAllEmployees();
+        // Now call loadAllEmployees and loadEmployeeById again
+        List<Employee> allEmployees = employeeServerAdapter.loadAllEmployees();
         employeeServerAdapter.loadEmployeeById(employeeId);
 
-        // Verify RestTemplate was called again for both (cache eviction worked)
-        // allEmployees: 1 before delete + 1 after delete = 2
-        verify(restTemplate, times(2))
-                .exchange(
+        // The cached roster no longer has the employee and was not reloaded
+        assertThat(allEmployees).isEmpty();
+        verify(restTemplate, times(1))
+                .execute(
                         eq("http://localhost:8112/api/v1/employee"),
                         eq(HttpMethod.GET),
-                        eq(null),
-                        any(ParameterizedTypeReference.class));
+                        any(),
+                        any(ResponseExtractor.class));
 
-        // employeeById: 1 before delete + 1 inside delete (not cached) + 1 after delete = 3
-        verify(restTemplate, times(3))
+        // The employee is remembered as deleted, so looking it up does not go upstream either
+        verify(restTemplate, never())
                 .exchange(
                         eq("http://localhost:8112/api/v1/employee/" + employeeId),
                         eq(HttpMethod.GET),
@@ -741,19 +951,17 @@ class EmployeeServerAdapterCacheTest {
         ResponseEntity<EmployeeServerResponse<List<EmployeeEntity>>> listResponseEntity =
                 new ResponseEntity<>(listServerResponse, HttpStatus.OK);
 
-        when(restTemplate.exchange(
+        when(restTemplate.execute(
                         eq("http://localhost:8112/api/v1/employee"),
                         eq(HttpMethod.GET),
-                        eq(null),
-                        any(ParameterizedTypeReference.class)))
-                .thenReturn(listResponseEntity);
-
-        when(employeeMapper.toEmployee(testEntity1)).thenReturn(testEmployee1);
+                        any(),
+                        any(ResponseExtractor.class)))
+                .thenAnswer(respondWith(listResponseEntity));
 
         // Call to populate allEmployees cache
         employeeServerAdapter.loadAllEmployees();
 
-        // Populate employeeById cache with a different employee
+        // Look up a different employee, which is answered from the roster
         setupLoadEmployeeByIdMock(differentEmployeeId);
         employeeServerAdapter.loadEmployeeById(differentEmployeeId);
 
@@ -766,7 +974,7 @@ class EmployeeServerAdapterCacheTest {
                 .thenThrow(new HttpClientErrorException(HttpStatus.NOT_FOUND));
 
         // When - Try to delete non-existent employee
-        // Note: With condition="#result != null", caches will NOT be evicted when method returns null
+        // Note: caches are only updated when the delete succeeds, so they stay untouched here
         String result = employeeServerAdapter.deleteEmployeeById(employeeId);
 
         // Then - Verify employee was not deleted
@@ -776,19 +984,93 @@ class EmployeeServerAdapterCacheTest {
         employeeServerAdapter.loadAllEmployees();
         employeeServerAdapter.loadEmployeeById(differentEmployeeId);
 
-        // Both caches should still be intact (NOT evicted due to null result)
+        // The roster should still be intact (nothing was deleted) and keep answering by-id lookups
         verify(restTemplate, times(1))
-                .exchange(
+                .execute(
                         eq("http://localhost:8112/api/v1/employee"),
                         eq(HttpMethod.GET),
+                        any(),
+                        any(ResponseExtractor.class));
+
+        verify(restTemplate, never())
+                .exchange(
+                        eq("http://localhost:8112/api/v1/employee/" + differentEmployeeId),
+                        eq(HttpMethod.GET),
                         eq(null),
                         any(ParameterizedTypeReference.class));
+    }
+
+    // deleteEmployeeById upstream cost tests
+
+    @Test
+    void deleteEmployeeById_shouldOnlySendDelete_whenEmployeeIsInCachedRoster() {
+        // Given - the roster is cached
+        setupAndCallLoadAllEmployees();
+        setupDeleteMock();
+        clearInvocations(restTemplate);
+
+        // When
+        String result = employeeServerAdapter.deleteEmployeeById(testEntity1.getId());
 
+        // Then - the name comes from the roster, so the delete costs a single exchange
+        assertThat(result).isEqualTo("John Doe");
+        verify(restTemplate, times(1))
+                .exchange(anyString(), any(HttpMethod.class), any(), any(ParameterizedTypeReference.class));
         verify(restTemplate, times(1))
                 .exchange(
-                        eq("http://localhost:8112/api/v1/employee/" + differentEmployeeId),
+                        eq("http://localhost:8112/api/v1/employee"),
+                        eq(HttpMethod.DELETE),
+                        any(HttpEntity.class),
+                        any(ParameterizedTypeReference.class));
+    }
+
+    @Test
+    void deleteEmployeeById_shouldOnlySendDelete_whenEmployeeIsInEmployeeByIdCache() {
+        // Given - only the employeeById cache knows the employee
+        setupAndCallLoadEmployeeById();
+        setupDeleteMock();
+        clearInvocations(restTemplate);
+
+        // When
+        String result = employeeServerAdapter.deleteEmployeeById(testEntity1.getId());
+
+        // Then
+        assertThat(result).isEqualTo("John Doe");
+        verify(restTemplate, times(1))
+                .exchange(anyString(), any(HttpMethod.class), any(), any(ParameterizedTypeReference.class));
+    }
+
+    @Test
+    void deleteEmployeeById_shouldResolveNameUpstream_whenEmployeeIsNotCached() {
+        // Given - nothing is cached
+        setupLoadEmployeeByIdMock(testEntity1.getId());
+        setupDeleteMock();
+
+        // When
+        String result = employeeServerAdapter.deleteEmployeeById(testEntity1.getId());
+
+        // Then - one GET to resolve the name plus the DELETE
+        assertThat(result).isEqualTo("John Doe");
+        verify(restTemplate, times(2))
+                .exchange(anyString(), any(HttpMethod.class), any(), any(ParameterizedTypeReference.class));
+        verify(restTemplate, times(1))
+                .exchange(
+                        eq("http://localhost:8112/api/v1/employee/" + testEntity1.getId()),
                         eq(HttpMethod.GET),
                         eq(null),
                         any(ParameterizedTypeReference.class));
     }
+
+    private void setupDeleteMock() {
+        EmployeeServerResponse<Boolean> deleteServerResponse = new EmployeeServerResponse<>();
+        deleteServerResponse.setData(true);
+        deleteServerResponse.setStatus("success");
+
+        when(restTemplate.exchange(
+                        eq("http://localhost:8112/api/v1/employee"),
+                        eq(HttpMethod.DELETE),
+                        any(HttpEntity.class),
+                        any(ParameterizedTypeReference.class)))
+                .thenReturn(new ResponseEntity<>(deleteServerResponse, HttpStatus.OK));
+    }
 }
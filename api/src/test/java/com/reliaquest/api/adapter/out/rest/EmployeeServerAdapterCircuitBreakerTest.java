@@ -0,0 +1,284 @@
+package com.reliaquest.api.adapter.out.rest;
+
+import static com.reliaquest.api.adapter.out.rest.EmployeeServerAdapterBuilder.employeeServerAdapter;
+import static com.reliaquest.api.adapter.out.rest.EmployeeServerStubs.respondWith;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.reliaquest.api.application.domain.model.Employee;
+import com.reliaquest.api.application.port.out.UpstreamThrottledException;
+import com.reliaquest.api.application.port.out.UpstreamUnavailableException;
+import com.reliaquest.api.common.StaleResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResponseExtractor;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Tests for the circuit breakers and the last known good roster fallback in EmployeeServerAdapter.
+ * Cache time is controlled with a fake ticker, so the roster can be expired to force a reload that fails.
+ */
+@ExtendWith(MockitoExtension.class)
+class EmployeeServerAdapterCircuitBreakerTest {
+
+    private static final String EMPLOYEE_SERVER_URL = "http://localhost:8112/api/v1/employee";
+
+    @Mock
+    private RestTemplate restTemplate;
+
+    @Mock
+    private EmployeeMapper employeeMapper;
+
+    private final AtomicLong ticker = new AtomicLong();
+
+    private EmployeeServerAdapter employeeServerAdapter;
+
+    private EmployeeEntity entity1;
+    private Employee employee1;
+
+    @BeforeEach
+    void setUp() {
+        employeeServerAdapter = employeeServerAdapter(restTemplate, employeeMapper)
+                .allEmployeesCacheConfig(Caffeine.newBuilder()
+                        .executor(Runnable::run)
+                        .ticker(ticker::get)
+                        .refreshAfterWrite(Duration.ofMinutes(5))
+                        .expireAfterWrite(Duration.ofMinutes(60)))
+                .build();
+
+        entity1 = new EmployeeEntity();
+        entity1.setId(UUID.randomUUID());
+        entity1.setEmployee_name("John Doe");
+
+        employee1 = Employee.builder().id(entity1.getId()).name("John Doe").build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void loadAllEmployees_shouldServeLastKnownGoodRosterMarkedStale_whenUpstreamIsThrottling() {
+        // Given
+        when(restTemplate.execute(eq(EMPLOYEE_SERVER_URL), eq(HttpMethod.GET), any(), any(ResponseExtractor.class)))
+                .thenAnswer(respondWith(response(List.of(entity1))))
+                .thenThrow(new UpstreamThrottledException("throttled", Duration.ofSeconds(30)));
+
+        employeeServerAdapter.loadAllEmployees();
+        advance(Duration.ofMinutes(61));
+
+        // When
+        MockHttpServletRequest request = bindNewRequest();
+        List<Employee> result = employeeServerAdapter.loadAllEmployees();
+
+        // Then
+        assertThat(result).containsExactly(employee1);
+        assertThat(StaleResponse.isStale(request)).isTrue();
+    }
+
+    @Test
+    void loadAllEmployees_shouldStopMarkingStale_whenLoadSucceedsAgain() {
+        // Given
+        when(restTemplate.execute(eq(EMPLOYEE_SERVER_URL), eq(HttpMethod.GET), any(), any(ResponseExtractor.class)))
+                .thenAnswer(respondWith(response(List.of(entity1))))
+                .thenThrow(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE))
+                .thenAnswer(respondWith(response(List.of(entity1))));
+
+        employeeServerAdapter.loadAllEmployees();
+        advance(Duration.ofMinutes(61));
+        MockHttpServletRequest staleRequest = bindNewRequest();
+        employeeServerAdapter.loadAllEmployees();
+
+        // When
+        MockHttpServletRequest request = bindNewRequest();
+        List<Employee> result = employeeServerAdapter.loadAllEmployees();
+
+        // Then - only the request answered while the Employee Server was failing is marked
+        assertThat(result).containsExactly(employee1);
+        assertThat(StaleResponse.isStale(staleRequest)).isTrue();
+        assertThat(StaleResponse.isStale(request)).isFalse();
+    }
+
+    @Test
+    void loadAllEmployees_shouldServeLastKnownGoodRosterWithoutCallingServer_whenCircuitIsOpen() {
+        // Given
+        when(restTemplate.execute(eq(EMPLOYEE_SERVER_URL), eq(HttpMethod.GET), any(), any(ResponseExtractor.class)))
+                .thenAnswer(respondWith(response(List.of(entity1))))
+                .thenThrow(new HttpServerErrorException(HttpStatus.INTERNAL_SERVER_ERROR));
+
+        employeeServerAdapter.loadAllEmployees();
+        advance(Duration.ofMinutes(61));
+        for (int i = 0; i < 3; i++) {
+            employeeServerAdapter.loadAllEmployees();
+        }
+
+        // When
+        List<Employee> result = employeeServerAdapter.loadAllEmployees();
+
+        // Then - one good load and three failed ones, the circuit kept the fourth reload from going out
+        assertThat(result).containsExactly(employee1);
+        verifyGetAllCalled(4);
+    }
+
+    @Test
+    void loadAllEmployees_shouldFailFastWithoutCallingServer_whenCircuitIsOpenAndNothingWasLoaded() {
+        // Given
+        when(restTemplate.execute(eq(EMPLOYEE_SERVER_URL), eq(HttpMethod.GET), any(), any(ResponseExtractor.class)))
+                .thenThrow(new HttpServerErrorException(HttpStatus.INTERNAL_SERVER_ERROR));
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(employeeServerAdapter.loadAllEmployees()).isNull();
+        }
+
+        // When / Then
+        assertThatThrownBy(() -> employeeServerAdapter.loadAllEmployees())
+                .isInstanceOf(UpstreamUnavailableException.class);
+        verifyGetAllCalled(3);
+    }
+
+    @Test
+    void loadEmployeeById_shouldAnswerFromLastKnownGoodRoster_whenUpstreamIsThrottling() {
+        // Given
+        when(restTemplate.execute(eq(EMPLOYEE_SERVER_URL), eq(HttpMethod.GET), any(), any(ResponseExtractor.class)))
+                .thenAnswer(respondWith(response(List.of(entity1))));
+        when(restTemplate.exchange(
+                        eq(EMPLOYEE_SERVER_URL + "/" + entity1.getId()),
+                        eq(HttpMethod.GET),
+                        eq(null),
+                        any(ParameterizedTypeReference.class)))
+                .thenThrow(new UpstreamThrottledException("throttled", Duration.ofSeconds(30)));
+
+        employeeServerAdapter.loadAllEmployees();
+        advance(Duration.ofMinutes(61));
+
+        // When
+        MockHttpServletRequest request = bindNewRequest();
+        Employee result = employeeServerAdapter.loadEmployeeById(entity1.getId());
+
+        // Then
+        assertThat(result).isEqualTo(employee1);
+        assertThat(StaleResponse.isStale(request)).isTrue();
+    }
+
+    @Test
+    void loadEmployeeById_shouldPropagateException_whenUpstreamIsThrottlingAndLastKnownGoodRosterLacksId() {
+        // Given
+        UUID unknownId = UUID.randomUUID();
+        when(restTemplate.execute(eq(EMPLOYEE_SERVER_URL), eq(HttpMethod.GET), any(), any(ResponseExtractor.class)))
+                .thenAnswer(respondWith(response(List.of(entity1))));
+        when(restTemplate.exchange(
+                        eq(EMPLOYEE_SERVER_URL + "/" + unknownId),
+                        eq(HttpMethod.GET),
+                        eq(null),
+                        any(ParameterizedTypeReference.class)))
+                .thenThrow(new UpstreamThrottledException("throttled", Duration.ofSeconds(30)));
+
+        // the roster is no longer cached, so its known ids don't answer for the Employee Server
+        employeeServerAdapter.loadAllEmployees();
+        advance(Duration.ofMinutes(61));
+
+        // When / Then
+        MockHttpServletRequest request = bindNewRequest();
+        assertThatThrownBy(() -> employeeServerAdapter.loadEmployeeById(unknownId))
+                .isInstanceOf(UpstreamThrottledException.class);
+        assertThat(StaleResponse.isStale(request)).isFalse();
+    }
+
+    @Test
+    void loadEmployeeById_shouldAnswerNotFoundWithoutCallingServer_whenIdIsUnknownAndUpstreamIsUnavailable() {
+        // Given - the roster expired and reloading it fails
+        UUID unknownId = UUID.randomUUID();
+        when(restTemplate.execute(eq(EMPLOYEE_SERVER_URL), eq(HttpMethod.GET), any(), any(ResponseExtractor.class)))
+                .thenAnswer(respondWith(response(List.of(entity1))))
+                .thenThrow(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE));
+
+        employeeServerAdapter.loadAllEmployees();
+        advance(Duration.ofMinutes(61));
+        employeeServerAdapter.loadAllEmployees();
+
+        // When
+        Employee result = employeeServerAdapter.loadEmployeeById(unknownId);
+
+        // Then - the known ids of the last known good roster rule the id out
+        assertThat(result).isNull();
+        verify(restTemplate, never())
+                .exchange(
+                        eq(EMPLOYEE_SERVER_URL + "/" + unknownId),
+                        eq(HttpMethod.GET),
+                        eq(null),
+                        any(ParameterizedTypeReference.class));
+    }
+
+    @Test
+    void saveNewEmployee_shouldFailFastWithoutCallingServer_whenCircuitIsOpen() {
+        // Given
+        Employee newEmployee = Employee.builder().name("New Employee").build();
+        when(restTemplate.exchange(
+                        eq(EMPLOYEE_SERVER_URL),
+                        eq(HttpMethod.POST),
+                        any(HttpEntity.class),
+                        any(ParameterizedTypeReference.class)))
+                .thenThrow(new HttpServerErrorException(HttpStatus.BAD_GATEWAY));
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(employeeServerAdapter.saveNewEmployee(newEmployee)).isNull();
+        }
+
+        // When / Then
+        assertThatThrownBy(() -> employeeServerAdapter.saveNewEmployee(newEmployee))
+                .isInstanceOf(UpstreamUnavailableException.class);
+        verify(restTemplate, times(3))
+                .exchange(
+                        eq(EMPLOYEE_SERVER_URL),
+                        eq(HttpMethod.POST),
+                        any(HttpEntity.class),
+                        any(ParameterizedTypeReference.class));
+    }
+
+    private static MockHttpServletRequest bindNewRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        return request;
+    }
+
+    private void advance(Duration duration) {
+        ticker.addAndGet(duration.toNanos());
+    }
+
+    private void verifyGetAllCalled(int times) {
+        verify(restTemplate, times(times))
+                .execute(eq(EMPLOYEE_SERVER_URL), eq(HttpMethod.GET), any(), any(ResponseExtractor.class));
+    }
+
+    private static ResponseEntity<EmployeeServerResponse<List<EmployeeEntity>>> response(List<EmployeeEntity> data) {
+        EmployeeServerResponse<List<EmployeeEntity>> serverResponse = new EmployeeServerResponse<>();
+        serverResponse.setData(data);
+        serverResponse.setStatus("success");
+        return new ResponseEntity<>(serverResponse, HttpStatus.OK);
+    }
+}
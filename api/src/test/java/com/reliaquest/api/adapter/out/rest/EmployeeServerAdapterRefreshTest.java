@@ -0,0 +1,426 @@
+package com.reliaquest.api.adapter.out.rest;
+
+import static com.reliaquest.api.adapter.out.rest.EmployeeServerAdapterBuilder.employeeServerAdapter;
+import static com.reliaquest.api.adapter.out.rest.EmployeeServerStubs.respondWith;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.reliaquest.api.application.domain.model.Employee;
+import com.reliaquest.api.application.domain.model.EmployeeRoster;
+import com.reliaquest.api.common.StaleResponse;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResponseExtractor;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Tests for the refresh-ahead behavior of the allEmployees cache in EmployeeServerAdapter, including the warm start
+ * from a roster snapshot on disk and how long the ids of a loaded roster answer for the Employee Server.
+ * Time is controlled with a fake ticker and refreshes run on the calling thread, so a refresh triggered by one call is
+ * visible to the next.
+ */
+@ExtendWith(MockitoExtension.class)
+class EmployeeServerAdapterRefreshTest {
+
+    private static final String EMPLOYEE_SERVER_URL = "http://localhost:8112/api/v1/employee";
+
+    @Mock
+    private RestTemplate restTemplate;
+
+    @Mock
+    private EmployeeMapper employeeMapper;
+
+    private final AtomicLong ticker = new AtomicLong();
+
+    private EmployeeServerAdapter employeeServerAdapter;
+
+    private EmployeeEntity entity1;
+    private EmployeeEntity entity2;
+    private Employee employee1;
+    private Employee employee2;
+
+    @TempDir
+    private Path snapshotDirectory;
+
+    @BeforeEach
+    void setUp() {
+        employeeServerAdapter = newAdapter(EmployeeRosterSnapshotStore.disabled(), Runnable::run);
+
+        entity1 = new EmployeeEntity();
+        entity1.setId(UUID.randomUUID());
+        entity1.setEmployee_name("John Doe");
+        entity2 = new EmployeeEntity();
+        entity2.setId(UUID.randomUUID());
+        entity2.setEmployee_name("Jane Smith");
+
+        employee1 = Employee.builder().id(entity1.getId()).name("John Doe").build();
+        employee2 = Employee.builder().id(entity2.getId()).name("Jane Smith").build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void loadAllEmployees_shouldServeCurrentSnapshotAndRefreshInBackground_whenOlderThanSoftTtl() {
+        // Given
+        when(restTemplate.execute(eq(EMPLOYEE_SERVER_URL), eq(HttpMethod.GET), any(), any(ResponseExtractor.class)))
+                .thenAnswer(respondWith(response(List.of(entity1))))
+                .thenAnswer(respondWith(response(List.of(entity1, entity2))));
+
+        employeeServerAdapter.loadAllEmployees();
+        advance(Duration.ofMinutes(6));
+
+        // When
+        List<Employee> staleResult = employeeServerAdapter.loadAllEmployees();
+        List<Employee> refreshedResult = employeeServerAdapter.loadAllEmployees();
+
+        // Then - the call that triggered the refresh did not wait for it
+        assertThat(staleResult).containsExactly(employee1);
+        assertThat(refreshedResult).containsExactly(employee1, employee2);
+        verifyGetAllCalled(2);
+    }
+
+    @Test
+    void loadAllEmployees_shouldKeepCurrentSnapshot_whenRefreshFails() {
+        // Given
+        when(restTemplate.execute(eq(EMPLOYEE_SERVER_URL), eq(HttpMethod.GET), any(), any(ResponseExtractor.class)))
+                .thenAnswer(respondWith(response(List.of(entity1))))
+                .thenThrow(new HttpServerErrorException(HttpStatus.INTERNAL_SERVER_ERROR));
+
+        employeeServerAdapter.loadAllEmployees();
+        advance(Duration.ofMinutes(6));
+
+        // When
+        List<Employee> result1 = employeeServerAdapter.loadAllEmployees();
+        List<Employee> result2 = employeeServerAdapter.loadAllEmployees();
+
+        // Then
+        assertThat(result1).containsExactly(employee1);
+        assertThat(result2).containsExactly(employee1);
+    }
+
+    @Test
+    void loadAllEmployees_shouldKeepCurrentSnapshot_whenRefreshReturnsNoData() {
+        // Given
+        when(restTemplate.execute(eq(EMPLOYEE_SERVER_URL), eq(HttpMethod.GET), any(), any(ResponseExtractor.class)))
+                .thenAnswer(respondWith(response(List.of(entity1))))
+                .thenAnswer(respondWith(new ResponseEntity<>(null, HttpStatus.OK)));
+
+        employeeServerAdapter.loadAllEmployees();
+        advance(Duration.ofMinutes(6));
+
+        // When
+        employeeServerAdapter.loadAllEmployees();
+        List<Employee> result = employeeServerAdapter.loadAllEmployees();
+
+        // Then
+        assertThat(result).containsExactly(employee1);
+    }
+
+    @Test
+    void loadAllEmployees_shouldWaitForFreshLoad_whenOlderThanHardTtl() {
+        // Given
+        when(restTemplate.execute(eq(EMPLOYEE_SERVER_URL), eq(HttpMethod.GET), any(), any(ResponseExtractor.class)))
+                .thenAnswer(respondWith(response(List.of(entity1))))
+                .thenAnswer(respondWith(response(List.of(entity1, entity2))));
+
+        employeeServerAdapter.loadAllEmployees();
+        advance(Duration.ofMinutes(61));
+
+        // When
+        List<Employee> result = employeeServerAdapter.loadAllEmployees();
+
+        // Then
+        assertThat(result).containsExactly(employee1, employee2);
+        verifyGetAllCalled(2);
+    }
+
+    @Test
+    void loadAllEmployees_shouldKeepEmployeeCreated_whileRefreshIsInFlight() {
+        // Given - the refresh has read the roster from the server when an employee is created
+        when(restTemplate.execute(eq(EMPLOYEE_SERVER_URL), eq(HttpMethod.GET), any(), any(ResponseExtractor.class)))
+                .thenAnswer(respondWith(response(List.of(entity1))))
+                .thenAnswer(invocation -> {
+                    Object refreshed = respondWith(response(List.of(entity1))).answer(invocation);
+                    employeeServerAdapter.saveNewEmployee(Employee.builder().name("Jane Smith").build());
+                    return refreshed;
+                });
+        EmployeeServerResponse<EmployeeEntity> createServerResponse = new EmployeeServerResponse<>();
+        createServerResponse.setData(entity2);
+        createServerResponse.setStatus("success");
+        ResponseEntity<EmployeeServerResponse<EmployeeEntity>> createResponseEntity =
+                new ResponseEntity<>(createServerResponse, HttpStatus.OK);
+        when(restTemplate.exchange(
+                        eq(EMPLOYEE_SERVER_URL),
+                        eq(HttpMethod.POST),
+                        any(HttpEntity.class),
+                        any(ParameterizedTypeReference.class)))
+                .thenReturn(createResponseEntity);
+        when(employeeMapper.toEmployee(entity2)).thenReturn(employee2);
+
+        employeeServerAdapter.loadAllEmployees();
+        advance(Duration.ofMinutes(6));
+
+        // When - the refreshed roster replaces the one the create was written to
+        employeeServerAdapter.loadAllEmployees();
+        List<Employee> result = employeeServerAdapter.loadAllEmployees();
+
+        // Then
+        assertThat(result).containsExactly(employee1, employee2);
+        assertThat(employeeServerAdapter.loadEmployeeById(employee2.getId())).isEqualTo(employee2);
+        verifyGetAllCalled(2);
+    }
+
+    @Test
+    void loadAllEmployees_shouldNotBringBackEmployeeDeleted_whileRefreshIsInFlight() {
+        // Given - the refresh has read the roster from the server when an employee is deleted
+        when(restTemplate.execute(eq(EMPLOYEE_SERVER_URL), eq(HttpMethod.GET), any(), any(ResponseExtractor.class)))
+                .thenAnswer(respondWith(response(List.of(entity1, entity2))))
+                .thenAnswer(invocation -> {
+                    Object refreshed = respondWith(response(List.of(entity1, entity2))).answer(invocation);
+                    employeeServerAdapter.deleteEmployeeById(employee2.getId());
+                    return refreshed;
+                });
+        EmployeeServerResponse<Boolean> deleteServerResponse = new EmployeeServerResponse<>();
+        deleteServerResponse.setData(true);
+        deleteServerResponse.setStatus("success");
+        ResponseEntity<EmployeeServerResponse<Boolean>> deleteResponseEntity =
+                new ResponseEntity<>(deleteServerResponse, HttpStatus.OK);
+        when(restTemplate.exchange(
+                        eq(EMPLOYEE_SERVER_URL),
+                        eq(HttpMethod.DELETE),
+                        any(HttpEntity.class),
+                        any(ParameterizedTypeReference.class)))
+                .thenReturn(deleteResponseEntity);
+
+        employeeServerAdapter.loadAllEmployees();
+        advance(Duration.ofMinutes(6));
+
+        // When - the refreshed roster replaces the one the delete was written to
+        employeeServerAdapter.loadAllEmployees();
+        List<Employee> result = employeeServerAdapter.loadAllEmployees();
+
+        // Then
+        assertThat(result).containsExactly(employee1);
+        verifyGetAllCalled(2);
+    }
+
+    @Test
+    void loadEmployeeRoster_shouldServePreparedRoster_whenRefreshed() {
+        // Given
+        when(restTemplate.execute(eq(EMPLOYEE_SERVER_URL), eq(HttpMethod.GET), any(), any(ResponseExtractor.class)))
+                .thenAnswer(respondWith(response(List.of(entity1))))
+                .thenAnswer(respondWith(response(List.of(entity1, entity2))));
+
+        employeeServerAdapter.loadAllEmployees();
+        advance(Duration.ofMinutes(6));
+
+        // When
+        employeeServerAdapter.loadAllEmployees();
+        EmployeeRoster refreshed = employeeServerAdapter.loadEmployeeRoster();
+
+        // Then - the refresh built the indexes, no read has to
+        assertThat(refreshed.getEmployees()).containsExactly(employee1, employee2);
+        assertThat(refreshed.isPrepared()).isTrue();
+    }
+
+    @Test
+    void loadEmployeeRoster_shouldPrepareRosterInBackground_whenEmployeeIsDeleted() {
+        // Given - background work held back until released
+        Queue<Runnable> background = new ArrayDeque<>();
+        employeeServerAdapter = newAdapter(EmployeeRosterSnapshotStore.disabled(), background::add);
+        when(restTemplate.execute(eq(EMPLOYEE_SERVER_URL), eq(HttpMethod.GET), any(), any(ResponseExtractor.class)))
+                .thenAnswer(respondWith(response(List.of(entity1, entity2))));
+        EmployeeServerResponse<Boolean> deleteServerResponse = new EmployeeServerResponse<>();
+        deleteServerResponse.setData(true);
+        deleteServerResponse.setStatus("success");
+        when(restTemplate.exchange(
+                        eq(EMPLOYEE_SERVER_URL),
+                        eq(HttpMethod.DELETE),
+                        any(HttpEntity.class),
+                        any(ParameterizedTypeReference.class)))
+                .thenReturn(new ResponseEntity<>(deleteServerResponse, HttpStatus.OK));
+
+        employeeServerAdapter.loadAllEmployees();
+        employeeServerAdapter.deleteEmployeeById(employee2.getId());
+        boolean preparedBeforeBackgroundWork = employeeServerAdapter.loadEmployeeRoster().isPrepared();
+
+        // When
+        while (!background.isEmpty()) {
+            background.poll().run();
+        }
+
+        // Then
+        EmployeeRoster changed = employeeServerAdapter.loadEmployeeRoster();
+        assertThat(changed.getEmployees()).containsExactly(employee1);
+        assertThat(preparedBeforeBackgroundWork).isFalse();
+        assertThat(changed.isPrepared()).isTrue();
+    }
+
+    @Test
+    void loadEmployeeById_shouldAnswerNotFoundWithoutCallingServer_whenIdIsUnknownToFreshRoster() {
+        // Given
+        when(restTemplate.execute(eq(EMPLOYEE_SERVER_URL), eq(HttpMethod.GET), any(), any(ResponseExtractor.class)))
+                .thenAnswer(respondWith(response(List.of(entity1))));
+
+        employeeServerAdapter.loadAllEmployees();
+        advance(Duration.ofSeconds(29));
+
+        // When
+        Employee result = employeeServerAdapter.loadEmployeeById(employee2.getId());
+
+        // Then
+        assertThat(result).isNull();
+        verify(restTemplate, never())
+                .exchange(
+                        eq(EMPLOYEE_SERVER_URL + "/" + employee2.getId()),
+                        eq(HttpMethod.GET),
+                        eq(null),
+                        any(ParameterizedTypeReference.class));
+    }
+
+    @Test
+    void loadEmployeeById_shouldAskServer_whenRosterIsOlderThanNotFoundTtl() {
+        // Given - employee2 was created through another instance after the roster was loaded
+        when(restTemplate.execute(eq(EMPLOYEE_SERVER_URL), eq(HttpMethod.GET), any(), any(ResponseExtractor.class)))
+                .thenAnswer(respondWith(response(List.of(entity1))));
+        EmployeeServerResponse<EmployeeEntity> serverResponse = new EmployeeServerResponse<>();
+        serverResponse.setData(entity2);
+        serverResponse.setStatus("success");
+        when(restTemplate.exchange(
+                        eq(EMPLOYEE_SERVER_URL + "/" + employee2.getId()),
+                        eq(HttpMethod.GET),
+                        eq(null),
+                        any(ParameterizedTypeReference.class)))
+                .thenReturn(new ResponseEntity<>(serverResponse, HttpStatus.OK));
+        when(employeeMapper.toEmployee(entity2)).thenReturn(employee2);
+
+        employeeServerAdapter.loadAllEmployees();
+        advance(Duration.ofSeconds(30));
+
+        // When
+        Employee result = employeeServerAdapter.loadEmployeeById(employee2.getId());
+
+        // Then - the roster is still cached, but its known ids no longer rule the id out
+        assertThat(result).isEqualTo(employee2);
+        verifyGetAllCalled(1);
+    }
+
+    @Test
+    void newAdapter_shouldServeSnapshotMarkedStaleAndReplaceItInBackground_whenSnapshotExists() {
+        // Given - a snapshot written by a previous run, and background work held back until released
+        EmployeeRosterSnapshotStore snapshotStore = snapshotStore();
+        snapshotStore.save(EmployeeRoster.of(List.of(employee1)));
+        Queue<Runnable> background = new ArrayDeque<>();
+        when(restTemplate.execute(eq(EMPLOYEE_SERVER_URL), eq(HttpMethod.GET), any(), any(ResponseExtractor.class)))
+                .thenAnswer(respondWith(response(List.of(entity1, entity2))));
+
+        // When
+        employeeServerAdapter = newAdapter(snapshotStore, background::add);
+        MockHttpServletRequest requestAtStartup = bindNewRequest();
+        List<Employee> servedAtStartup = employeeServerAdapter.loadAllEmployees();
+        while (!background.isEmpty()) {
+            background.poll().run();
+        }
+
+        // Then - the first load replaced the snapshot, in memory and on disk
+        assertThat(servedAtStartup).containsExactly(employee1);
+        assertThat(StaleResponse.isStale(requestAtStartup)).isTrue();
+        MockHttpServletRequest request = bindNewRequest();
+        assertThat(employeeServerAdapter.loadAllEmployees()).containsExactly(employee1, employee2);
+        assertThat(StaleResponse.isStale(request)).isFalse();
+        assertThat(snapshotStore.load().getEmployees()).containsExactly(employee1, employee2);
+        verifyGetAllCalled(1);
+    }
+
+    @Test
+    void newAdapter_shouldKeepServingSnapshotMarkedStale_whenFirstLoadFails() {
+        // Given
+        EmployeeRosterSnapshotStore snapshotStore = snapshotStore();
+        snapshotStore.save(EmployeeRoster.of(List.of(employee1)));
+        when(restTemplate.execute(eq(EMPLOYEE_SERVER_URL), eq(HttpMethod.GET), any(), any(ResponseExtractor.class)))
+                .thenThrow(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE));
+
+        // When
+        employeeServerAdapter = newAdapter(snapshotStore, Runnable::run);
+        MockHttpServletRequest request = bindNewRequest();
+        List<Employee> result = employeeServerAdapter.loadAllEmployees();
+
+        // Then
+        assertThat(result).containsExactly(employee1);
+        assertThat(StaleResponse.isStale(request)).isTrue();
+    }
+
+    private EmployeeServerAdapter newAdapter(EmployeeRosterSnapshotStore snapshotStore, Executor refreshExecutor) {
+        return employeeServerAdapter(restTemplate, employeeMapper)
+                .allEmployeesCacheConfig(Caffeine.newBuilder()
+                        .executor(Runnable::run)
+                        .ticker(ticker::get)
+                        .refreshAfterWrite(Duration.ofMinutes(5))
+                        .expireAfterWrite(Duration.ofMinutes(60)))
+                .employeeNotFoundCacheConfig(
+                        Caffeine.newBuilder().ticker(ticker::get).expireAfterWrite(Duration.ofSeconds(30)))
+                .cacheRefreshExecutor(refreshExecutor)
+                .rosterSnapshotStore(snapshotStore)
+                .nanoClock(ticker::get)
+                .build();
+    }
+
+    private static MockHttpServletRequest bindNewRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        return request;
+    }
+
+    private EmployeeRosterSnapshotStore snapshotStore() {
+        return new EmployeeRosterSnapshotStore(
+                true, snapshotDirectory.resolve("roster.snapshot"), Duration.ofHours(24), Clock.systemUTC());
+    }
+
+    private void advance(Duration duration) {
+        ticker.addAndGet(duration.toNanos());
+    }
+
+    private void verifyGetAllCalled(int times) {
+        verify(restTemplate, times(times))
+                .execute(eq(EMPLOYEE_SERVER_URL), eq(HttpMethod.GET), any(), any(ResponseExtractor.class));
+    }
+
+    private static ResponseEntity<EmployeeServerResponse<List<EmployeeEntity>>> response(List<EmployeeEntity> data) {
+        EmployeeServerResponse<List<EmployeeEntity>> serverResponse = new EmployeeServerResponse<>();
+        serverResponse.setData(data);
+        serverResponse.setStatus("success");
+        return new ResponseEntity<>(serverResponse, HttpStatus.OK);
+    }
+}
@@ -1,20 +1,29 @@
 package com.reliaquest.api.adapter.out.rest;
 
+import static com.reliaquest.api.adapter.out.rest.EmployeeServerAdapterBuilder.employeeServerAdapter;
+import static com.reliaquest.api.adapter.out.rest.EmployeeServerStubs.respondWith;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.reliaquest.api.application.domain.model.Employee;
+import com.reliaquest.api.application.port.out.UpstreamThrottledException;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.ParameterizedTypeReference;
@@ -24,15 +33,15 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestTemplate;
 
 /**
  * Unit tests for EmployeeServerAdapter.
  * Tests the adapter layer that communicates with the external employee server.
  *
- * Note: These are pure unit tests using Mockito. They do NOT test caching behavior
- * because @Mock bypasses Spring's proxy-based caching. For cache behavior tests,
- * see EmployeeServerAdapterCacheTest.
+ * Note: These are pure unit tests using Mockito. A fresh adapter, and so fresh caches loading on the calling
+ * thread, is created for every test. For cache behavior tests, see EmployeeServerAdapterCacheTest.
  */
 @ExtendWith(MockitoExtension.class)
 class EmployeeServerAdapterTest {
@@ -43,7 +52,6 @@ class EmployeeServerAdapterTest {
     @Mock
     private EmployeeMapper employeeMapper;
 
-    @InjectMocks
     private EmployeeServerAdapter employeeServerAdapter;
 
     private EmployeeEntity testEntity1;
@@ -53,6 +61,8 @@ class EmployeeServerAdapterTest {
 
     @BeforeEach
     void setUp() {
+        employeeServerAdapter = employeeServerAdapter(restTemplate, employeeMapper).build();
+
         UUID id1 = UUID.randomUUID();
         UUID id2 = UUID.randomUUID();
 
@@ -104,15 +114,12 @@ class EmployeeServerAdapterTest {
         ResponseEntity<EmployeeServerResponse<List<EmployeeEntity>>> responseEntity =
                 new ResponseEntity<>(serverResponse, HttpStatus.OK);
 
-        when(restTemplate.exchange(
+        when(restTemplate.execute(
                         eq("http://localhost:8112/api/v1/employee"),
                         eq(HttpMethod.GET),
-                        eq(null),
-                        any(ParameterizedTypeReference.class)))
-                .thenReturn(responseEntity);
-
-        when(employeeMapper.toEmployee(testEntity1)).thenReturn(testEmployee1);
-        when(employeeMapper.toEmployee(testEntity2)).thenReturn(testEmployee2);
+                        any(),
+                        any(ResponseExtractor.class)))
+                .thenAnswer(respondWith(responseEntity));
 
         // When
         List<Employee> result = employeeServerAdapter.loadAllEmployees();
@@ -121,8 +128,7 @@ class EmployeeServerAdapterTest {
         assertThat(result).isNotNull();
         assertThat(result).hasSize(2);
         assertThat(result).containsExactly(testEmployee1, testEmployee2);
-        verify(employeeMapper).toEmployee(testEntity1);
-        verify(employeeMapper).toEmployee(testEntity2);
+        verifyNoInteractions(employeeMapper);
     }
 
     @Test
@@ -135,12 +141,12 @@ class EmployeeServerAdapterTest {
         ResponseEntity<EmployeeServerResponse<List<EmployeeEntity>>> responseEntity =
                 new ResponseEntity<>(serverResponse, HttpStatus.OK);
 
-        when(restTemplate.exchange(
+        when(restTemplate.execute(
                         eq("http://localhost:8112/api/v1/employee"),
                         eq(HttpMethod.GET),
-                        eq(null),
-                        any(ParameterizedTypeReference.class)))
-                .thenReturn(responseEntity);
+                        any(),
+                        any(ResponseExtractor.class)))
+                .thenAnswer(respondWith(responseEntity));
 
         // When
         List<Employee> result = employeeServerAdapter.loadAllEmployees();
@@ -156,12 +162,12 @@ class EmployeeServerAdapterTest {
         ResponseEntity<EmployeeServerResponse<List<EmployeeEntity>>> responseEntity =
                 new ResponseEntity<>(null, HttpStatus.OK);
 
-        when(restTemplate.exchange(
+        when(restTemplate.execute(
                         eq("http://localhost:8112/api/v1/employee"),
                         eq(HttpMethod.GET),
-                        eq(null),
-                        any(ParameterizedTypeReference.class)))
-                .thenReturn(responseEntity);
+                        any(),
+                        any(ResponseExtractor.class)))
+                .thenAnswer(respondWith(responseEntity));
 
         // When
         List<Employee> result = employeeServerAdapter.loadAllEmployees();
@@ -180,12 +186,12 @@ class EmployeeServerAdapterTest {
         ResponseEntity<EmployeeServerResponse<List<EmployeeEntity>>> responseEntity =
                 new ResponseEntity<>(serverResponse, HttpStatus.INTERNAL_SERVER_ERROR);
 
-        when(restTemplate.exchange(
+        when(restTemplate.execute(
                         eq("http://localhost:8112/api/v1/employee"),
                         eq(HttpMethod.GET),
-                        eq(null),
-                        any(ParameterizedTypeReference.class)))
-                .thenReturn(responseEntity);
+                        any(),
+                        any(ResponseExtractor.class)))
+                .thenAnswer(respondWith(responseEntity));
 
         // When
         List<Employee> result = employeeServerAdapter.loadAllEmployees();
@@ -197,11 +203,11 @@ class EmployeeServerAdapterTest {
     @Test
     void loadAllEmployees_shouldReturnNull_whenRestTemplateThrowsException() {
         // Given
-        when(restTemplate.exchange(
+        when(restTemplate.execute(
                         eq("http://localhost:8112/api/v1/employee"),
                         eq(HttpMethod.GET),
-                        eq(null),
-                        any(ParameterizedTypeReference.class)))
+                        any(),
+                        any(ResponseExtractor.class)))
                 .thenThrow(new HttpServerErrorException(HttpStatus.INTERNAL_SERVER_ERROR));
 
         // When
@@ -211,6 +217,21 @@ class EmployeeServerAdapterTest {
         assertThat(result).isNull();
     }
 
+    @Test
+    void loadAllEmployees_shouldPropagateException_whenUpstreamIsThrottling() {
+        // Given
+        when(restTemplate.execute(
+                        eq("http://localhost:8112/api/v1/employee"),
+                        eq(HttpMethod.GET),
+                        any(),
+                        any(ResponseExtractor.class)))
+                .thenThrow(new UpstreamThrottledException("throttled", Duration.ofSeconds(30)));
+
+        // When & Then
+        assertThatThrownBy(() -> employeeServerAdapter.loadAllEmployees())
+                .isInstanceOf(UpstreamThrottledException.class);
+    }
+
     // loadEmployeeById tests
 
     @Test
@@ -719,4 +740,155 @@ class EmployeeServerAdapterTest {
         // Then
         assertThat(result).isNull();
     }
+
+    // async variant tests
+
+    @Test
+    void loadAllEmployeesAsync_shouldCompleteWithEmployees_whenServerReturnsSuccessfulResponse() {
+        // Given
+        EmployeeServerResponse<List<EmployeeEntity>> serverResponse = new EmployeeServerResponse<>();
+        serverResponse.setData(Arrays.asList(testEntity1, testEntity2));
+        serverResponse.setStatus("success");
+
+        when(restTemplate.execute(
+                        eq("http://localhost:8112/api/v1/employee"),
+                        eq(HttpMethod.GET),
+                        any(),
+                        any(ResponseExtractor.class)))
+                .thenAnswer(respondWith(new ResponseEntity<>(serverResponse, HttpStatus.OK)));
+
+        // When
+        CompletableFuture<List<Employee>> result = employeeServerAdapter.loadAllEmployeesAsync();
+
+        // Then
+        assertThat(result).isCompletedWithValue(List.of(testEmployee1, testEmployee2));
+    }
+
+    @Test
+    void loadAllEmployeesAsync_shouldCompleteWithNull_whenRestTemplateThrowsException() {
+        // Given
+        when(restTemplate.execute(
+                        eq("http://localhost:8112/api/v1/employee"),
+                        eq(HttpMethod.GET),
+                        any(),
+                        any(ResponseExtractor.class)))
+                .thenThrow(new HttpServerErrorException(HttpStatus.INTERNAL_SERVER_ERROR));
+
+        // When
+        CompletableFuture<List<Employee>> result = employeeServerAdapter.loadAllEmployeesAsync();
+
+        // Then
+        assertThat(result).isCompletedWithValue(null);
+    }
+
+    @Test
+    void loadEmployeeByIdAsync_shouldCompleteExceptionally_whenUpstreamIsThrottling() {
+        // Given
+        UUID employeeId = UUID.randomUUID();
+        when(restTemplate.exchange(
+                        eq("http://localhost:8112/api/v1/employee/" + employeeId),
+                        eq(HttpMethod.GET),
+                        eq(null),
+                        any(ParameterizedTypeReference.class)))
+                .thenThrow(new UpstreamThrottledException("throttled", Duration.ofSeconds(30)));
+
+        // When
+        CompletableFuture<Employee> result = employeeServerAdapter.loadEmployeeByIdAsync(employeeId);
+
+        // Then
+        assertThat(result)
+                .failsWithin(Duration.ZERO)
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(UpstreamThrottledException.class);
+    }
+
+    @Test
+    void loadAllEmployees_shouldCallServerOnCallingThread_notOnExecutor() {
+        // Given - executors that only run their tasks when told to
+        List<Runnable> tasks = new ArrayList<>();
+        EmployeeServerAdapter adapter = employeeServerAdapter(restTemplate, employeeMapper)
+                .allEmployeesCacheConfig(Caffeine.newBuilder().executor(tasks::add))
+                .employeeServerExecutor(tasks::add)
+                .build();
+
+        EmployeeServerResponse<List<EmployeeEntity>> serverResponse = new EmployeeServerResponse<>();
+        serverResponse.setData(List.of(testEntity1, testEntity2));
+        serverResponse.setStatus("success");
+
+        when(restTemplate.execute(
+                        eq("http://localhost:8112/api/v1/employee"),
+                        eq(HttpMethod.GET),
+                        any(),
+                        any(ResponseExtractor.class)))
+                .thenAnswer(respondWith(new ResponseEntity<>(serverResponse, HttpStatus.OK)));
+
+        // When
+        List<Employee> result = adapter.loadAllEmployees();
+
+        // Then - answered without handing the call to an executor
+        assertThat(result).containsExactly(testEmployee1, testEmployee2);
+        assertThat(tasks).isEmpty();
+    }
+
+    @Test
+    void loadEmployeeById_shouldCallServerOnCallingThread_notOnExecutor() {
+        // Given - executors that only run their tasks when told to
+        List<Runnable> tasks = new ArrayList<>();
+        EmployeeServerAdapter adapter = employeeServerAdapter(restTemplate, employeeMapper)
+                .employeeByIdCacheConfig(Caffeine.newBuilder().executor(tasks::add))
+                .employeeServerExecutor(tasks::add)
+                .build();
+        UUID employeeId = testEntity1.getId();
+
+        EmployeeServerResponse<EmployeeEntity> serverResponse = new EmployeeServerResponse<>();
+        serverResponse.setData(testEntity1);
+        serverResponse.setStatus("success");
+
+        when(restTemplate.exchange(
+                        eq("http://localhost:8112/api/v1/employee/" + employeeId),
+                        eq(HttpMethod.GET),
+                        eq(null),
+                        any(ParameterizedTypeReference.class)))
+                .thenReturn(new ResponseEntity<>(serverResponse, HttpStatus.OK));
+        when(employeeMapper.toEmployee(testEntity1)).thenReturn(testEmployee1);
+
+        // When
+        Employee result = adapter.loadEmployeeById(employeeId);
+
+        // Then - answered without handing the call to an executor
+        assertThat(result).isEqualTo(testEmployee1);
+        assertThat(tasks).isEmpty();
+    }
+
+    @Test
+    void saveNewEmployeeAsync_shouldCallServerOnExecutor_notOnCallingThread() {
+        // Given - an executor that only runs its tasks when told to
+        List<Runnable> tasks = new ArrayList<>();
+        EmployeeServerAdapter adapter = employeeServerAdapter(restTemplate, employeeMapper)
+                .employeeServerExecutor(tasks::add)
+                .build();
+        Employee inputEmployee = Employee.builder().name("New Employee").build();
+
+        EmployeeServerResponse<EmployeeEntity> serverResponse = new EmployeeServerResponse<>();
+        serverResponse.setData(testEntity1);
+        serverResponse.setStatus("success");
+
+        when(restTemplate.exchange(
+                        eq("http://localhost:8112/api/v1/employee"),
+                        eq(HttpMethod.POST),
+                        any(HttpEntity.class),
+                        any(ParameterizedTypeReference.class)))
+                .thenReturn(new ResponseEntity<>(serverResponse, HttpStatus.OK));
+        when(employeeMapper.toEmployee(testEntity1)).thenReturn(testEmployee1);
+
+        // When
+        CompletableFuture<Employee> result = adapter.saveNewEmployeeAsync(inputEmployee);
+
+        // Then - nothing was sent until the executor ran the task
+        assertThat(result).isNotDone();
+        verifyNoInteractions(restTemplate);
+
+        tasks.forEach(Runnable::run);
+        assertThat(result).isCompletedWithValue(testEmployee1);
+    }
 }
@@ -0,0 +1,41 @@
+package com.reliaquest.api.adapter.out.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.mockito.stubbing.Answer;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.web.client.DefaultResponseErrorHandler;
+import org.springframework.web.client.ResponseErrorHandler;
+import org.springframework.web.client.ResponseExtractor;
+
+/**
+ * Stubs for the streamed GET of all employees. The adapter reads that response with a ResponseExtractor instead of
+ * getting a ResponseEntity back, so these answers serialize the given response to JSON and run the adapter's
+ * extractor over it, the same way RestTemplate would.
+ */
+final class EmployeeServerStubs {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private EmployeeServerStubs() {}
+
+    /**
+     * Answers a {@code RestTemplate.execute(url, method, requestCallback, responseExtractor)} call with the given
+     * response. Error statuses are thrown like RestTemplate's default error handler does.
+     */
+    static Answer<Object> respondWith(ResponseEntity<?> response) {
+        return invocation -> {
+            byte[] body =
+                    response.getBody() == null ? new byte[0] : OBJECT_MAPPER.writeValueAsBytes(response.getBody());
+            MockClientHttpResponse httpResponse = new MockClientHttpResponse(body, response.getStatusCode());
+
+            ResponseErrorHandler errorHandler = new DefaultResponseErrorHandler();
+            if (errorHandler.hasError(httpResponse)) {
+                errorHandler.handleError(httpResponse);
+            }
+
+            ResponseExtractor<?> extractor = invocation.getArgument(3);
+            return extractor.extractData(httpResponse);
+        };
+    }
+}
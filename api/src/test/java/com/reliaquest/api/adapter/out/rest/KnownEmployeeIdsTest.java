@@ -0,0 +1,80 @@
+package com.reliaquest.api.adapter.out.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.api.application.domain.model.Employee;
+import com.reliaquest.api.application.domain.model.EmployeeRoster;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the KnownEmployeeIds Bloom filter.
+ */
+class KnownEmployeeIdsTest {
+
+    @Test
+    void mightContain_shouldBeTrue_forEveryIdOfTheRoster() {
+        // Given
+        List<Employee> employees = employees(10_000);
+
+        // When
+        KnownEmployeeIds knownIds = KnownEmployeeIds.of(EmployeeRoster.of(employees), 0.01);
+
+        // Then - a Bloom filter never has false negatives
+        assertThat(employees).allMatch(employee -> knownIds.mightContain(employee.getId()));
+    }
+
+    @Test
+    void mightContain_shouldBeFalse_forMostUnknownIds() {
+        // Given
+        KnownEmployeeIds knownIds = KnownEmployeeIds.of(EmployeeRoster.of(employees(10_000)), 0.01);
+
+        // When
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (knownIds.mightContain(UUID.randomUUID())) {
+                falsePositives++;
+            }
+        }
+
+        // Then - sized with headroom, so the rate stays below the target
+        assertThat(falsePositives).isLessThan(1_000);
+    }
+
+    @Test
+    void mightContain_shouldBeTrue_forAddedIds() {
+        // Given
+        KnownEmployeeIds knownIds = KnownEmployeeIds.of(EmployeeRoster.of(List.of()), 0.01);
+        UUID id = UUID.randomUUID();
+
+        // When
+        knownIds.add(id);
+
+        // Then
+        assertThat(knownIds.mightContain(id)).isTrue();
+    }
+
+    @Test
+    void of_shouldSkipNullEmployeesAndIds() {
+        // Given
+        List<Employee> employees = new ArrayList<>();
+        employees.add(null);
+        employees.add(Employee.builder().name("No Id").build());
+
+        // When
+        KnownEmployeeIds knownIds = KnownEmployeeIds.of(EmployeeRoster.of(employees), 0.01);
+
+        // Then
+        assertThat(knownIds.mightContain(UUID.randomUUID())).isFalse();
+    }
+
+    private static List<Employee> employees(int count) {
+        List<Employee> employees = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            employees.add(Employee.builder().id(UUID.randomUUID()).name("Employee " + i).build());
+        }
+        return employees;
+    }
+}
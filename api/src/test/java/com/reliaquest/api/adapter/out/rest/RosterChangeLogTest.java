@@ -0,0 +1,68 @@
+package com.reliaquest.api.adapter.out.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.api.application.domain.model.Employee;
+import com.reliaquest.api.application.domain.model.EmployeeRoster;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for RosterChangeLog.
+ */
+class RosterChangeLogTest {
+
+    private final RosterChangeLog changeLog = new RosterChangeLog();
+
+    private final Employee john = employee("John Doe");
+    private final Employee jane = employee("Jane Smith");
+
+    @Test
+    void changedSince_shouldApplyChangesMadeSinceLoadStarted_inOrder() {
+        // Given
+        changeLog.record(roster -> roster.withEmployee(john));
+        long startedAt = changeLog.loadStarted();
+        changeLog.record(roster -> roster.withEmployee(jane));
+        changeLog.record(roster -> roster.withoutEmployee(john.getId()));
+
+        // When
+        EmployeeRoster changed = changeLog.changedSince(startedAt, EmployeeRoster.of(List.of(john)));
+
+        // Then
+        assertThat(changed.getEmployees()).containsExactly(jane);
+    }
+
+    @Test
+    void record_shouldKeepNothing_whileNoLoadIsInFlight() {
+        // Given
+        long startedAt = changeLog.loadStarted();
+        changeLog.loadEnded(startedAt);
+
+        // When
+        changeLog.record(roster -> roster.withEmployee(john));
+
+        // Then
+        assertThat(changeLog.changedSince(startedAt, EmployeeRoster.of(List.of())).getEmployees()).isEmpty();
+    }
+
+    @Test
+    void loadEnded_shouldKeepChanges_thatAnotherLoadInFlightNeeds() {
+        // Given - two overlapping loads, the later one ends first
+        long firstStartedAt = changeLog.loadStarted();
+        changeLog.record(roster -> roster.withEmployee(john));
+        long secondStartedAt = changeLog.loadStarted();
+        changeLog.record(roster -> roster.withEmployee(jane));
+
+        // When
+        changeLog.loadEnded(secondStartedAt);
+
+        // Then
+        assertThat(changeLog.changedSince(firstStartedAt, EmployeeRoster.of(List.of())).getEmployees())
+                .containsExactly(john, jane);
+    }
+
+    private static Employee employee(String name) {
+        return Employee.builder().id(UUID.randomUUID()).name(name).build();
+    }
+}
@@ -0,0 +1,197 @@
+package com.reliaquest.api.adapter.out.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.reliaquest.api.application.port.out.UpstreamThrottledException;
+import com.reliaquest.api.application.port.out.UpstreamUnavailableException;
+import com.reliaquest.api.common.config.EmployeeServerCircuitBreakerProperties;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+
+/**
+ * Unit tests for UpstreamCircuitBreaker.
+ * A fake clock is used, so opening and closing the circuit never waits.
+ */
+class UpstreamCircuitBreakerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private UpstreamCircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreaker = new UpstreamCircuitBreaker(
+                "test",
+                new EmployeeServerCircuitBreakerProperties(3, Duration.ofSeconds(30), Duration.ofMinutes(5)),
+                clock::get);
+    }
+
+    @Test
+    void call_shouldOpenCircuit_afterConsecutiveServerErrors() {
+        // Given
+        failWith(new HttpServerErrorException(HttpStatus.INTERNAL_SERVER_ERROR), 3);
+
+        // When / Then - the next call is rejected without being sent
+        assertThatThrownBy(this::succeed)
+                .isInstanceOf(UpstreamUnavailableException.class)
+                .satisfies(e -> assertThat(((UpstreamUnavailableException) e).getRetryAfter())
+                        .isEqualTo(Duration.ofSeconds(30)));
+        assertThat(calls).hasValue(3);
+        assertThat(circuitBreaker.getState()).isEqualTo(UpstreamCircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void call_shouldStayClosed_whenFailuresAreNotConsecutive() {
+        // Given
+        failWith(new HttpServerErrorException(HttpStatus.BAD_GATEWAY), 2);
+        succeed();
+        failWith(new HttpServerErrorException(HttpStatus.BAD_GATEWAY), 2);
+
+        // When / Then
+        assertThat(succeed()).isEqualTo("ok");
+        assertThat(circuitBreaker.getState()).isEqualTo(UpstreamCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void isFailing_shouldBeTrueFromFirstFailure_untilNextSuccess() {
+        // Given
+        failWith(new HttpServerErrorException(HttpStatus.BAD_GATEWAY), 1);
+
+        // When / Then - failing while the circuit is still closed
+        assertThat(circuitBreaker.isFailing()).isTrue();
+        assertThat(circuitBreaker.getState()).isEqualTo(UpstreamCircuitBreaker.State.CLOSED);
+        succeed();
+        assertThat(circuitBreaker.isFailing()).isFalse();
+    }
+
+    @Test
+    void call_shouldNotCountClientErrors_asFailures() {
+        // Given - the server answering 404 shows it is up
+        failWith(new HttpClientErrorException(HttpStatus.NOT_FOUND), 5);
+
+        // When / Then
+        assertThat(succeed()).isEqualTo("ok");
+        assertThat(circuitBreaker.getState()).isEqualTo(UpstreamCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void call_shouldStayOpenForLearnedRetryAfter_whenThrottled() {
+        // Given
+        failWith(new UpstreamThrottledException("throttled", Duration.ofSeconds(75)), 3);
+
+        // When
+        advance(Duration.ofSeconds(74));
+
+        // Then
+        assertThatThrownBy(this::succeed)
+                .isInstanceOf(UpstreamUnavailableException.class)
+                .satisfies(e -> assertThat(((UpstreamUnavailableException) e).getRetryAfter())
+                        .isEqualTo(Duration.ofSeconds(1)));
+    }
+
+    @Test
+    void call_shouldCapOpenDuration_atMaximum() {
+        // Given
+        failWith(new UpstreamThrottledException("throttled", Duration.ofHours(1)), 3);
+
+        // When
+        advance(Duration.ofMinutes(5));
+
+        // Then
+        assertThat(succeed()).isEqualTo("ok");
+    }
+
+    @Test
+    void call_shouldCloseCircuit_whenProbeSucceeds() {
+        // Given
+        failWith(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE), 3);
+        advance(Duration.ofSeconds(30));
+
+        // When
+        succeed();
+
+        // Then
+        assertThat(circuitBreaker.getState()).isEqualTo(UpstreamCircuitBreaker.State.CLOSED);
+        assertThat(succeed()).isEqualTo("ok");
+    }
+
+    @Test
+    void call_shouldReopenCircuit_whenProbeFails() {
+        // Given
+        failWith(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE), 3);
+        advance(Duration.ofSeconds(30));
+
+        // When - a single failed probe is enough
+        failWith(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE), 1);
+
+        // Then
+        assertThat(circuitBreaker.getState()).isEqualTo(UpstreamCircuitBreaker.State.OPEN);
+        assertThatThrownBy(this::succeed).isInstanceOf(UpstreamUnavailableException.class);
+        assertThat(calls).hasValue(4);
+    }
+
+    @Test
+    void call_shouldLetOnlyOneProbeThrough_whileHalfOpen() {
+        // Given
+        failWith(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE), 3);
+        advance(Duration.ofSeconds(30));
+
+        // When - a second caller arrives while the probe is still in flight
+        String result = circuitBreaker.call(() -> {
+            assertThatThrownBy(this::succeed).isInstanceOf(UpstreamUnavailableException.class);
+            return "probe";
+        });
+
+        // Then
+        assertThat(result).isEqualTo("probe");
+        assertThat(circuitBreaker.getState()).isEqualTo(UpstreamCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void call_shouldLetNextProbeThrough_whenProbeThrowsError() {
+        // Given
+        failWith(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE), 3);
+        advance(Duration.ofSeconds(30));
+        AssertionError error = new AssertionError("probe failed");
+
+        // When
+        assertThatThrownBy(() -> circuitBreaker.call(() -> {
+                    throw error;
+                }))
+                .isSameAs(error);
+
+        // Then - the circuit is not stuck half open
+        assertThat(succeed()).isEqualTo("ok");
+        assertThat(circuitBreaker.getState()).isEqualTo(UpstreamCircuitBreaker.State.CLOSED);
+    }
+
+    private String succeed() {
+        return circuitBreaker.call(() -> {
+            calls.incrementAndGet();
+            return "ok";
+        });
+    }
+
+    private void failWith(RuntimeException failure, int times) {
+        for (int i = 0; i < times; i++) {
+            assertThatThrownBy(() -> circuitBreaker.call(() -> {
+                        calls.incrementAndGet();
+                        throw failure;
+                    }))
+                    .isSameAs(failure);
+        }
+    }
+
+    private void advance(Duration duration) {
+        clock.addAndGet(duration.toNanos());
+    }
+}
@@ -0,0 +1,168 @@
+package com.reliaquest.api.adapter.out.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.reliaquest.api.application.port.out.UpstreamThrottledException;
+import com.reliaquest.api.common.config.EmployeeServerBudgetProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+
+/**
+ * Unit tests for UpstreamRequestBudgetInterceptor.
+ * Backoffs are configured in milliseconds so retries happen almost immediately.
+ */
+class UpstreamRequestBudgetInterceptorTest {
+
+    private final HttpRequest request =
+            new MockClientHttpRequest(HttpMethod.GET, URI.create("http://localhost:8112/api/v1/employee"));
+    private final ClientHttpRequestExecution execution = mock(ClientHttpRequestExecution.class);
+
+    private UpstreamRequestBudget budget;
+    private UpstreamRequestBudgetInterceptor interceptor;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        EmployeeServerBudgetProperties properties = new EmployeeServerBudgetProperties(
+                10,
+                Duration.ofSeconds(30),
+                10,
+                Duration.ofSeconds(1),
+                2,
+                Duration.ofMillis(1),
+                Duration.ofMillis(4));
+        budget = new UpstreamRequestBudget(properties);
+        meterRegistry = new SimpleMeterRegistry();
+        interceptor =
+                new UpstreamRequestBudgetInterceptor(budget, properties, new UpstreamRequestMetrics(meterRegistry));
+    }
+
+    @Test
+    void intercept_shouldReturnResponse_whenUpstreamAccepts() throws IOException {
+        // Given
+        ClientHttpResponse ok = response(HttpStatus.OK);
+        when(execution.execute(any(), any())).thenReturn(ok);
+
+        // When
+        ClientHttpResponse result = interceptor.intercept(request, new byte[0], execution);
+
+        // Then
+        assertThat(result).isSameAs(ok);
+        verify(execution, times(1)).execute(any(), any());
+    }
+
+    @Test
+    void intercept_shouldRetry_whenUpstreamAnswersTooManyRequests() throws IOException {
+        // Given
+        ClientHttpResponse throttled = response(HttpStatus.TOO_MANY_REQUESTS);
+        ClientHttpResponse ok = response(HttpStatus.OK);
+        when(execution.execute(any(), any())).thenReturn(throttled, ok);
+
+        // When
+        ClientHttpResponse result = interceptor.intercept(request, new byte[0], execution);
+
+        // Then
+        assertThat(result).isSameAs(ok);
+        verify(throttled).close();
+        verify(execution, times(2)).execute(any(), any());
+    }
+
+    @Test
+    void intercept_shouldThrowUpstreamThrottledException_whenRetriesAreExhausted() throws IOException {
+        // Given
+        ClientHttpResponse throttled = response(HttpStatus.TOO_MANY_REQUESTS);
+        when(execution.execute(any(), any())).thenReturn(throttled);
+
+        // When / Then - first attempt plus two retries
+        assertThatThrownBy(() -> interceptor.intercept(request, new byte[0], execution))
+                .isInstanceOf(UpstreamThrottledException.class);
+        verify(execution, times(3)).execute(any(), any());
+    }
+
+    @Test
+    void intercept_shouldReleasePermit_whenRequestFails() throws IOException {
+        // Given
+        when(execution.execute(any(), any())).thenThrow(new IOException("connection reset"));
+
+        // When / Then
+        assertThatThrownBy(() -> interceptor.intercept(request, new byte[0], execution))
+                .isInstanceOf(IOException.class);
+        assertThat(budget.estimatedRetryAfter()).isZero();
+    }
+
+    @Test
+    void intercept_shouldRecordEveryAttempt_whenUpstreamAnswersTooManyRequests() throws IOException {
+        // Given
+        ClientHttpResponse throttled = response(HttpStatus.TOO_MANY_REQUESTS);
+        ClientHttpResponse ok = response(HttpStatus.OK);
+        when(execution.execute(any(), any())).thenReturn(throttled, ok);
+
+        // When
+        interceptor.intercept(request, new byte[0], execution);
+
+        // Then
+        assertThat(responses("429")).isEqualTo(1);
+        assertThat(responses("2xx")).isEqualTo(1);
+        assertThat(meterRegistry
+                        .get(UpstreamRequestMetrics.REQUESTS_TIMER)
+                        .tags("operation", "loadAllEmployees", "status", "200")
+                        .timer()
+                        .count())
+                .isEqualTo(1);
+        assertThat(meterRegistry
+                        .get(UpstreamRequestMetrics.QUOTA_WAIT_TIMER)
+                        .tag("outcome", "admitted")
+                        .timer()
+                        .count())
+                .isEqualTo(2);
+        assertThat(meterRegistry
+                        .get(UpstreamRequestMetrics.ACTIVE_REQUESTS_GAUGE)
+                        .gauge()
+                        .value())
+                .isZero();
+    }
+
+    @Test
+    void intercept_shouldCountTimeout_whenUpstreamDoesNotAnswer() throws IOException {
+        // Given
+        when(execution.execute(any(), any())).thenThrow(new SocketTimeoutException("Read timed out"));
+
+        // When / Then
+        assertThatThrownBy(() -> interceptor.intercept(request, new byte[0], execution))
+                .isInstanceOf(SocketTimeoutException.class);
+        assertThat(responses("timeout")).isEqualTo(1);
+    }
+
+    private double responses(String statusClass) {
+        return meterRegistry
+                .get(UpstreamRequestMetrics.RESPONSES_COUNTER)
+                .tags("operation", "loadAllEmployees", "class", statusClass)
+                .counter()
+                .count();
+    }
+
+    private static ClientHttpResponse response(HttpStatus status) throws IOException {
+        ClientHttpResponse response = mock(ClientHttpResponse.class);
+        when(response.getStatusCode()).thenReturn(status);
+        when(response.getHeaders()).thenReturn(new HttpHeaders());
+        return response;
+    }
+}
@@ -0,0 +1,264 @@
+package com.reliaquest.api.adapter.out.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.reliaquest.api.application.port.out.UpstreamThrottledException;
+import com.reliaquest.api.common.config.EmployeeServerBudgetProperties;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for UpstreamRequestBudget.
+ * A fake clock is used and the maximum wait is zero, so no test ever blocks.
+ */
+class UpstreamRequestBudgetTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private UpstreamRequestBudget budget;
+
+    @BeforeEach
+    void setUp() {
+        budget = new UpstreamRequestBudget(properties(3, 0), clock::get);
+    }
+
+    @Test
+    void acquire_shouldAdmitUpToLimit_thenRejectWithoutSending() {
+        // Given - the whole budget is used
+        budget.acquire();
+        budget.acquire();
+        budget.acquire();
+
+        // When / Then - the fourth caller is rejected and told when to come back
+        assertThatThrownBy(() -> budget.acquire())
+                .isInstanceOf(UpstreamThrottledException.class)
+                .satisfies(e -> assertThat(((UpstreamThrottledException) e).getRetryAfter())
+                        .isEqualTo(Duration.ofSeconds(30)));
+    }
+
+    @Test
+    void acquire_shouldRefillBudget_afterWindowHasPassed() {
+        // Given
+        budget.acquire();
+        budget.acquire();
+        budget.acquire();
+
+        // When
+        advance(Duration.ofSeconds(30));
+
+        // Then
+        budget.acquire();
+    }
+
+    @Test
+    void release_shouldGiveBackPermit_whenRequestGotNoAnswer() {
+        // Given
+        budget.acquire();
+        budget.acquire();
+        budget.acquire();
+
+        // When
+        budget.release();
+
+        // Then
+        budget.acquire();
+    }
+
+    @Test
+    void onThrottled_shouldLearnLimit_fromRequestsAcceptedSinceLastReset() {
+        // Given - the upstream accepts two requests and rejects the third
+        budget.onAccepted(budget.acquire());
+        budget.onAccepted(budget.acquire());
+        budget.acquire();
+
+        // When
+        budget.onThrottled(null);
+
+        // Then
+        assertThat(budget.getLimit()).isEqualTo(2);
+        assertThatThrownBy(() -> budget.acquire()).isInstanceOf(UpstreamThrottledException.class);
+    }
+
+    @Test
+    void onThrottled_shouldHonourRetryAfterHint() {
+        // Given
+        budget.acquire();
+
+        // When
+        budget.onThrottled(Duration.ofSeconds(10));
+
+        // Then
+        assertThat(budget.estimatedRetryAfter()).isEqualTo(Duration.ofSeconds(10));
+    }
+
+    @Test
+    void estimatedRetryAfter_shouldBeRestOfWindow_whenThrottledWithoutHint() {
+        // Given - the last request went out 10 s into a 30 s window
+        advance(Duration.ofSeconds(10));
+        budget.acquire();
+        advance(Duration.ofSeconds(2));
+
+        // When - the backoff before the next probe is at most a second
+        budget.onThrottled(null);
+
+        // Then
+        assertThat(budget.estimatedRetryAfter()).isEqualTo(Duration.ofSeconds(28));
+    }
+
+    @Test
+    void estimatedRetryAfter_shouldBeRestOfWindow_sinceLastAcceptedRequest() {
+        // Given - the last request the server accepted went out 10 s into a 30 s window
+        advance(Duration.ofSeconds(10));
+        budget.onAccepted(budget.acquire());
+        advance(Duration.ofSeconds(2));
+        budget.acquire();
+        advance(Duration.ofSeconds(1));
+
+        // When - the next one is rejected
+        budget.onThrottled(null);
+
+        // Then - the server's backoff runs from the request it accepted
+        assertThat(budget.estimatedRetryAfter()).isEqualTo(Duration.ofSeconds(27));
+    }
+
+    @Test
+    void acquire_shouldAdmitSingleProbe_afterBackoffHasPassed() {
+        // Given
+        budget.acquire();
+        budget.onThrottled(Duration.ofSeconds(5));
+
+        // When
+        advance(Duration.ofSeconds(5));
+        budget.acquire();
+
+        // Then - only the probe goes out, everybody else waits for its answer
+        assertThatThrownBy(() -> budget.acquire()).isInstanceOf(UpstreamThrottledException.class);
+    }
+
+    @Test
+    void onAccepted_shouldLearnWindow_fromTimeSpentThrottled() {
+        // Given
+        budget.onAccepted(budget.acquire());
+        budget.acquire();
+        budget.onThrottled(Duration.ofSeconds(45));
+        advance(Duration.ofSeconds(45));
+        long probe = budget.acquire();
+
+        // When - the probe is accepted
+        budget.onAccepted(probe);
+
+        // Then
+        assertThat(budget.getWindow()).isEqualTo(Duration.ofSeconds(45));
+        assertThat(budget.getLimit()).isEqualTo(1);
+        assertThatThrownBy(() -> budget.acquire())
+                .isInstanceOf(UpstreamThrottledException.class)
+                .satisfies(e -> assertThat(((UpstreamThrottledException) e).getRetryAfter())
+                        .isEqualTo(Duration.ofSeconds(45)));
+    }
+
+    @Test
+    void onAccepted_shouldLearnWindow_thatEmployeeServerDoesNotRejectAgain() {
+        // Given - a server that takes 3 requests, then rejects until 45 s have passed since the last one it took, a
+        // client sending a request every 4 s, and probes a second apart, so one lands right after the server resets
+        EmployeeServerRequestLimit server = new EmployeeServerRequestLimit(3, Duration.ofSeconds(45));
+        budget = new UpstreamRequestBudget(
+                new EmployeeServerBudgetProperties(
+                        10,
+                        Duration.ofSeconds(30),
+                        10,
+                        Duration.ZERO,
+                        2,
+                        Duration.ofSeconds(1),
+                        Duration.ofSeconds(1)),
+                clock::get);
+        List<Duration> rejectedAt = new ArrayList<>();
+
+        // When - ten minutes of requests
+        while (clock.get() < Duration.ofMinutes(10).toNanos()) {
+            try {
+                long admittedAt = budget.acquire();
+                if (server.accepts(clock.get())) {
+                    budget.onAccepted(admittedAt);
+                } else {
+                    rejectedAt.add(Duration.ofNanos(clock.get()));
+                    budget.onThrottled(null);
+                }
+                advance(Duration.ofSeconds(4));
+            } catch (UpstreamThrottledException e) {
+                advance(Duration.ofMillis(100));
+            }
+        }
+
+        // Then - the window is not learned shorter than the server's, so once the limit is learned as well, no request
+        // the budget admits is rejected
+        assertThat(budget.getWindow()).isGreaterThanOrEqualTo(Duration.ofSeconds(45));
+        assertThat(rejectedAt).isNotEmpty().allMatch(at -> at.compareTo(Duration.ofMinutes(3)) < 0);
+    }
+
+    @Test
+    void acquire_shouldRejectImmediately_whenQueueIsFull() {
+        // Given
+        UpstreamRequestBudget noQueueBudget = new UpstreamRequestBudget(properties(3, 0, 0), clock::get);
+
+        // When / Then
+        assertThatThrownBy(noQueueBudget::acquire).isInstanceOf(UpstreamThrottledException.class);
+    }
+
+    private void advance(Duration duration) {
+        clock.addAndGet(duration.toNanos());
+    }
+
+    /**
+     * The request limit of the Employee Server, see RandomRequestLimitInterceptor: it counts requests up to its limit,
+     * then rejects them until its backoff has passed since the last one it counted. The request that finds the backoff
+     * passed starts counting over, without being counted itself.
+     */
+    private static final class EmployeeServerRequestLimit {
+
+        private final int limit;
+        private final long backoffNanos;
+        private int count;
+        private long lastRequested;
+
+        EmployeeServerRequestLimit(int limit, Duration backoff) {
+            this.limit = limit;
+            this.backoffNanos = backoff.toNanos();
+        }
+
+        boolean accepts(long now) {
+            if (count < limit) {
+                count++;
+                lastRequested = now;
+                return true;
+            }
+            if (now - backoffNanos < lastRequested) {
+                return false;
+            }
+            if (now - backoffNanos > lastRequested) {
+                count = 0;
+                lastRequested = now;
+            }
+            return true;
+        }
+    }
+
+    private static EmployeeServerBudgetProperties properties(int initialLimit, int maxWaitSeconds) {
+        return properties(initialLimit, maxWaitSeconds, 10);
+    }
+
+    private static EmployeeServerBudgetProperties properties(int initialLimit, int maxWaitSeconds, int maxQueued) {
+        return new EmployeeServerBudgetProperties(
+                initialLimit,
+                Duration.ofSeconds(30),
+                maxQueued,
+                Duration.ofSeconds(maxWaitSeconds),
+                2,
+                Duration.ofSeconds(1),
+                Duration.ofSeconds(60));
+    }
+}
@@ -0,0 +1,30 @@
+package com.reliaquest.api.adapter.out.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+
+/**
+ * Unit tests for how UpstreamRequestMetrics attributes requests to port operations.
+ */
+class UpstreamRequestMetricsTest {
+
+    private static final String EMPLOYEES_URL = "http://localhost:8112/api/v1/employee";
+
+    @Test
+    void operation_shouldNameThePortOperation_ofEachEmployeeServerRequest() {
+        assertThat(operation(HttpMethod.GET, EMPLOYEES_URL)).isEqualTo("loadAllEmployees");
+        assertThat(operation(HttpMethod.GET, EMPLOYEES_URL + "/4a3a170b-22cd-4ac2-aad1-9bb5b34a1507"))
+                .isEqualTo("loadEmployeeById");
+        assertThat(operation(HttpMethod.POST, EMPLOYEES_URL)).isEqualTo("saveNewEmployee");
+        assertThat(operation(HttpMethod.DELETE, EMPLOYEES_URL)).isEqualTo("deleteEmployeeById");
+        assertThat(operation(HttpMethod.PUT, EMPLOYEES_URL)).isEqualTo("other");
+    }
+
+    private static String operation(HttpMethod method, String url) {
+        return UpstreamRequestMetrics.operation(new MockClientHttpRequest(method, URI.create(url)));
+    }
+}
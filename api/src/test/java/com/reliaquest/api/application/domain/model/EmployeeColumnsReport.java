@@ -0,0 +1,115 @@
+package com.reliaquest.api.application.domain.model;
+
+import static com.reliaquest.api.Benchmarks.consume;
+import static com.reliaquest.api.Benchmarks.employees;
+import static com.reliaquest.api.Benchmarks.rosterSizes;
+import static com.reliaquest.api.Benchmarks.time;
+import static com.reliaquest.api.Benchmarks.usedHeap;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Reports the time of the roster scans over the employee objects, the way they used to run, and over the columns of
+ * the roster, together with the heap the employee objects and the columns take per million employees, and what deriving
+ * the columns of a roster changed by a create or delete costs next to building them anew. Measures only, asserts
+ * nothing:
+ * <pre>
+ * ./gradlew :api:benchmark --tests '*EmployeeColumnsReport'
+ * </pre>
+ * Tune with {@code -Dbenchmark.roster-sizes}, a comma separated list of roster sizes.
+ */
+@Tag("benchmark")
+class EmployeeColumnsReport {
+
+    @Test
+    void reportColumns() {
+        for (int size : rosterSizes("100000,1000000")) {
+            long heapBefore = usedHeap();
+            List<Employee> employees = employees(size);
+            long objectBytes = usedHeap() - heapBefore;
+            heapBefore = usedHeap();
+            EmployeeColumns columns = EmployeeColumns.of(employees);
+            long columnBytes = usedHeap() - heapBefore;
+
+            long build = time(() -> consume(EmployeeColumns.of(employees)));
+            List<Employee> created = new ArrayList<>(employees);
+            created.add(Employee.builder()
+                    .id(UUID.randomUUID())
+                    .name("Created Employee")
+                    .salary(50_000)
+                    .build());
+            long append = time(() -> consume(columns.withAppendedRow(created)));
+            List<Employee> deleted = new ArrayList<>(employees);
+            deleted.remove(size / 2);
+            long remove = time(() -> consume(columns.withoutRow(deleted, size / 2)));
+            long salariesOfObjects = time(() -> consume(salaryTotal(employees)));
+            long salariesOfColumns = time(() -> consume(salaryTotal(columns)));
+            long namesOfObjects = time(() -> consume(nameMatches(employees, "an")));
+            long namesOfColumns = time(() -> consume(nameMatches(columns, "an")));
+
+            double perMillion = 1_000_000.0 / employees.size() / (1024 * 1024);
+            System.out.printf(
+                    "%,d employees, building the columns: %,d ns%n"
+                            + "  after a create:  %,d ns, after a delete: %,d ns to derive them%n"
+                            + "  salary scan:     %,d ns over objects, %,d ns over columns%n"
+                            + "  name scan 'an':  %,d ns over objects, %,d ns over columns%n"
+                            + "  heap per 1M:     %,.0f MiB of employee objects, %,.0f MiB of columns%n",
+                    employees.size(),
+                    build,
+                    append,
+                    remove,
+                    salariesOfObjects,
+                    salariesOfColumns,
+                    namesOfObjects,
+                    namesOfColumns,
+                    objectBytes * perMillion,
+                    columnBytes * perMillion);
+            consume(columns);
+        }
+    }
+
+    // the scans as they ran over the employee objects before the columns, kept here for comparison
+
+    private static long salaryTotal(List<Employee> employees) {
+        long total = 0;
+        for (Employee employee : employees) {
+            if (employee != null && employee.getSalary() != null) {
+                total += employee.getSalary();
+            }
+        }
+        return total;
+    }
+
+    private static int nameMatches(List<Employee> employees, String text) {
+        int matches = 0;
+        for (Employee employee : employees) {
+            if (employee.getName().toLowerCase().contains(text.toLowerCase())) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    private static long salaryTotal(EmployeeColumns columns) {
+        long total = 0;
+        for (int row = columns.nextWithSalary(0); row >= 0; row = columns.nextWithSalary(row + 1)) {
+            total += columns.salary(row);
+        }
+        return total;
+    }
+
+    private static int nameMatches(EmployeeColumns columns, String text) {
+        String folded = EmployeeColumns.foldName(text);
+        int matches = 0;
+        for (int row = columns.nextNameContaining(folded, 0);
+                row >= 0;
+                row = columns.nextNameContaining(folded, row + 1)) {
+            matches++;
+        }
+        return matches;
+    }
+}
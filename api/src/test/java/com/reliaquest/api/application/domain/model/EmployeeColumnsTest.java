@@ -0,0 +1,160 @@
+package com.reliaquest.api.application.domain.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for EmployeeColumns.
+ * Tests that every row reads back the fields of its employee, including missing ones, also for columns derived from
+ * the columns of another roster.
+ */
+class EmployeeColumnsTest {
+
+    @Test
+    void of_shouldKeepEveryFieldPerRow() {
+        // Given
+        Employee john = Employee.builder()
+                .id(UUID.randomUUID())
+                .name("John Doe")
+                .salary(75000)
+                .age(30)
+                .title("Engineer")
+                .build();
+        Employee jane = Employee.builder()
+                .id(UUID.randomUUID())
+                .name("JANE Smith")
+                .salary(-1)
+                .age(0)
+                .title("Manager")
+                .build();
+        Employee bob = Employee.builder()
+                .id(UUID.randomUUID())
+                .name("Bob")
+                .title("Engineer")
+                .build();
+
+        // When
+        EmployeeColumns columns = EmployeeColumns.of(List.of(john, jane, bob));
+
+        // Then
+        assertThat(columns.size()).isEqualTo(3);
+        assertThat(columns.employee(1)).isSameAs(jane);
+        assertThat(columns.id(0)).isEqualTo(john.getId());
+        assertThat(columns.id(2)).isEqualTo(bob.getId());
+        assertThat(columns.salary(0)).isEqualTo(75000);
+        assertThat(columns.salary(1)).isEqualTo(-1);
+        assertThat(columns.age(1)).isZero();
+        assertThat(columns.age(2)).isNull();
+        assertThat(columns.title(0)).isEqualTo("Engineer");
+        assertThat(columns.title(1)).isEqualTo("Manager");
+        assertThat(columns.title(2)).isEqualTo("Engineer");
+        assertThat(columns.distinctTitles()).isEqualTo(2);
+    }
+
+    @Test
+    void nextWithSalary_shouldSkipRowsWithoutSalary() {
+        // Given
+        List<Employee> employees = Arrays.asList(
+                Employee.builder().name("Unpaid").build(),
+                null,
+                Employee.builder().name("Paid").salary(10).build(),
+                Employee.builder().name("Unpaid Too").build(),
+                Employee.builder().name("Paid Too").salary(20).build());
+
+        // When
+        EmployeeColumns columns = EmployeeColumns.of(employees);
+
+        // Then
+        assertThat(columns.nextWithSalary(0)).isEqualTo(2);
+        assertThat(columns.nextWithSalary(3)).isEqualTo(4);
+        assertThat(columns.nextWithSalary(5)).isEqualTo(-1);
+        assertThat(columns.salaryCount()).isEqualTo(2);
+    }
+
+    @Test
+    void nameContains_shouldCompareLowerCasedNames() {
+        // Given
+        EmployeeColumns columns = EmployeeColumns.of(Arrays.asList(
+                Employee.builder().name("Zoë ÅNGSTRÖM").build(), null, Employee.builder().build()));
+
+        // When / Then
+        assertThat(columns.nameContains(0, "ångström")).isTrue();
+        assertThat(columns.nameContains(0, "")).isTrue();
+        assertThat(columns.nameContains(0, "zoë ångströms")).isFalse();
+        assertThat(columns.nameContains(1, "")).isFalse();
+        assertThat(columns.nameContains(2, "")).isFalse();
+        assertThat(columns.id(1)).isNull();
+        assertThat(columns.title(1)).isNull();
+    }
+
+    @Test
+    void nextNameContaining_shouldFindRowsInOrder_skippingRowsWithoutName() {
+        // Given
+        EmployeeColumns columns = EmployeeColumns.of(Arrays.asList(
+                Employee.builder().name("Anna").build(),
+                null,
+                Employee.builder().build(),
+                Employee.builder().name("Bob").build(),
+                Employee.builder().name("Hannah").build()));
+
+        // When / Then - including texts that would match across the end of one name into the next
+        assertThat(columns.nextNameContaining("an", 0)).isZero();
+        assertThat(columns.nextNameContaining("an", 1)).isEqualTo(4);
+        assertThat(columns.nextNameContaining("an", 5)).isEqualTo(-1);
+        assertThat(columns.nextNameContaining("", 1)).isEqualTo(3);
+        assertThat(columns.nextNameContaining("ab", 0)).isEqualTo(-1);
+        assertThat(columns.nextNameContaining("a\nb", 0)).isEqualTo(-1);
+    }
+
+    @Test
+    void withAppendedRowAndWithoutRow_shouldMatchColumnsBuiltAnew() {
+        // Given
+        Employee anna = Employee.builder()
+                .id(UUID.randomUUID())
+                .name("Anna")
+                .salary(10)
+                .age(40)
+                .title("Engineer")
+                .build();
+        Employee bob = Employee.builder().id(UUID.randomUUID()).name("BOB").build();
+        Employee hannah = Employee.builder()
+                .id(UUID.randomUUID())
+                .name("Hannah")
+                .salary(20)
+                .title("Manager")
+                .build();
+        EmployeeColumns columns = EmployeeColumns.of(Arrays.asList(anna, null, bob));
+
+        // When
+        EmployeeColumns appended = columns.withAppendedRow(Arrays.asList(anna, null, bob, hannah));
+        EmployeeColumns removed = appended.withoutRow(Arrays.asList(anna, null, hannah), 2);
+
+        // Then
+        assertSameRows(appended, EmployeeColumns.of(Arrays.asList(anna, null, bob, hannah)));
+        assertSameRows(removed, EmployeeColumns.of(Arrays.asList(anna, null, hannah)));
+        assertThat(removed.nextNameContaining("an", 1)).isEqualTo(2);
+        assertThat(removed.nextNameContaining("bob", 0)).isEqualTo(-1);
+        assertThat(columns.size()).isEqualTo(3);
+        assertThat(columns.title(0)).isEqualTo("Engineer");
+    }
+
+    private static void assertSameRows(EmployeeColumns actual, EmployeeColumns expected) {
+        assertThat(actual.size()).isEqualTo(expected.size());
+        for (int row = 0; row < expected.size(); row++) {
+            assertThat(actual.employee(row)).isSameAs(expected.employee(row));
+            assertThat(actual.id(row)).isEqualTo(expected.id(row));
+            assertThat(actual.nextWithSalary(row)).isEqualTo(expected.nextWithSalary(row));
+            assertThat(actual.salary(row)).isEqualTo(expected.salary(row));
+            assertThat(actual.age(row)).isEqualTo(expected.age(row));
+            assertThat(actual.title(row)).isEqualTo(expected.title(row));
+            assertThat(actual.foldedName(row)).isEqualTo(expected.foldedName(row));
+            assertThat(actual.nameStart(row)).isEqualTo(expected.nameStart(row));
+            assertThat(actual.nameEnd(row)).isEqualTo(expected.nameEnd(row));
+        }
+        assertThat(actual.salaryCount()).isEqualTo(expected.salaryCount());
+    }
+}
@@ -0,0 +1,224 @@
+package com.reliaquest.api.application.domain.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for EmployeeNameAutocomplete.
+ * Random rosters, also changed by creates and deletes, are checked against a scan that ranks every matching employee
+ * by its best matching token, then name.
+ */
+class EmployeeNameAutocompleteTest {
+
+    private static final String ALPHABET = "abAB c";
+
+    @Test
+    void complete_shouldRankExactTokenFirst_thenByTokenAndName() {
+        // Given
+        EmployeeNameAutocomplete autocomplete = EmployeeNameAutocomplete.of(EmployeeColumns.of(List.of(
+                employee("Johnny Appleseed"),
+                employee("John Doe"),
+                employee("Alice Johnson"),
+                employee("Jo Baker"),
+                employee("Bob Jo"),
+                employee("Jane Smith"))));
+
+        // When
+        List<Employee> completions = autocomplete.complete("Jo", 10);
+
+        // Then
+        assertThat(completions)
+                .extracting(Employee::getName)
+                .containsExactly("Bob Jo", "Jo Baker", "John Doe", "Johnny Appleseed", "Alice Johnson");
+    }
+
+    @Test
+    void complete_shouldListEmployeeOnce_whenSeveralTokensMatch() {
+        // Given
+        EmployeeNameAutocomplete autocomplete = EmployeeNameAutocomplete.of(
+                EmployeeColumns.of(List.of(employee("Anna Annabel Ann"), employee("Annie Smith"))));
+
+        // When / Then
+        assertThat(autocomplete.complete("ann", 10))
+                .extracting(Employee::getName)
+                .containsExactly("Anna Annabel Ann", "Annie Smith");
+    }
+
+    @Test
+    void complete_shouldReturnAtMostCount() {
+        // Given
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            employees.add(employee("Employee " + i));
+        }
+        EmployeeNameAutocomplete autocomplete = EmployeeNameAutocomplete.of(EmployeeColumns.of(employees));
+
+        // When / Then
+        assertThat(autocomplete.complete("emp", 7)).hasSize(7);
+        assertThat(autocomplete.complete("1", 3))
+                .extracting(Employee::getName)
+                .containsExactly("Employee 1", "Employee 10", "Employee 11");
+    }
+
+    @Test
+    void complete_shouldReturnNothing_forBlankPrefix_orNoMatch() {
+        // Given
+        EmployeeNameAutocomplete autocomplete =
+                EmployeeNameAutocomplete.of(EmployeeColumns.of(Arrays.asList(employee("John Doe"), null)));
+
+        // When / Then
+        assertThat(autocomplete.complete("  ", 10)).isEmpty();
+        assertThat(autocomplete.complete("oe", 10)).isEmpty();
+        assertThat(autocomplete.complete("john doe", 10)).isEmpty();
+    }
+
+    @Test
+    void complete_shouldIgnoreEmployeesWithoutName() {
+        // Given
+        EmployeeNameAutocomplete autocomplete = EmployeeNameAutocomplete.of(
+                EmployeeColumns.of(Arrays.asList(employee(null), null, employee("  john  doe "))));
+
+        // When / Then
+        assertThat(autocomplete.complete(" JO", 10)).extracting(Employee::getName).containsExactly("  john  doe ");
+    }
+
+    @Test
+    void complete_shouldSplitNamesAtSameWhitespaceAsIsStrippedOffPrefix() {
+        // Given - an em space, which is whitespace to String.strip() but not to the regex \s, and a tab
+        EmployeeNameAutocomplete autocomplete = EmployeeNameAutocomplete.of(
+                EmployeeColumns.of(List.of(employee("Zoë\u2003Smith"), employee("Ann\tLee"))));
+
+        // When / Then
+        assertThat(autocomplete.complete("smi\u2003", 10))
+                .extracting(Employee::getName)
+                .containsExactly("Zoë\u2003Smith");
+        assertThat(autocomplete.complete("\u2003lee", 10))
+                .extracting(Employee::getName)
+                .containsExactly("Ann\tLee");
+        assertThat(autocomplete.complete("zoë\u2003s", 10)).isEmpty();
+    }
+
+    @Test
+    void complete_shouldRankAddedEmployees_andSkipRemovedOnes() {
+        // Given
+        Employee johnDoe = employee("John Doe");
+        Employee joBaker = employee("Jo Baker");
+        EmployeeNameAutocomplete autocomplete =
+                EmployeeNameAutocomplete.of(EmployeeColumns.of(List.of(johnDoe, joBaker, employee("Jane Smith"))));
+        Employee bobJo = employee("Bob Jo");
+        Employee johnAdams = employee("John Adams");
+
+        // When
+        EmployeeNameAutocomplete changed = autocomplete
+                .withEmployee(bobJo)
+                .withEmployee(johnAdams)
+                .withoutEmployee(joBaker.getId())
+                .withoutEmployee(johnAdams.getId());
+
+        // Then
+        assertThat(changed.complete("jo", 10)).containsExactly(bobJo, johnDoe);
+        assertThat(changed.complete("jo", 1)).containsExactly(bobJo);
+        assertThat(autocomplete.complete("jo", 10)).containsExactly(joBaker, johnDoe);
+        assertThat(changed.isOutgrown()).isFalse();
+    }
+
+    @Test
+    void complete_shouldMatchScan_forRandomNamesAndPrefixes() {
+        // Given - a small alphabet, so names share tokens and prefixes of every length have both hits and misses
+        Random random = new Random(42);
+        for (int round = 0; round < 200; round++) {
+            List<Employee> employees = new ArrayList<>();
+            int size = random.nextInt(40);
+            for (int i = 0; i < size; i++) {
+                employees.add(employee(randomText(random, random.nextInt(10))));
+            }
+            EmployeeNameAutocomplete autocomplete = EmployeeNameAutocomplete.of(EmployeeColumns.of(employees));
+
+            for (int query = 0; query < 20; query++) {
+                String prefix = randomText(random, 1 + random.nextInt(3)).strip();
+                int count = 1 + random.nextInt(10);
+
+                // When
+                List<Employee> completions = autocomplete.complete(prefix, count);
+
+                // Then
+                assertThat(completions)
+                        .as("prefix '%s', count %d", prefix, count)
+                        .containsExactlyElementsOf(scan(employees, prefix, count));
+            }
+        }
+    }
+
+    @Test
+    void complete_shouldMatchScan_forRandomCreatesAndDeletes() {
+        // Given
+        Random random = new Random(7);
+        for (int round = 0; round < 100; round++) {
+            List<Employee> employees = new ArrayList<>();
+            for (int i = random.nextInt(30); i > 0; i--) {
+                employees.add(employee(randomText(random, random.nextInt(10))));
+            }
+            // the columns hold on to the list they are given, and this one changes
+            EmployeeNameAutocomplete autocomplete =
+                    EmployeeNameAutocomplete.of(EmployeeColumns.of(new ArrayList<>(employees)));
+
+            for (int change = 0; change < 20; change++) {
+                // When
+                if (employees.isEmpty() || random.nextBoolean()) {
+                    Employee created = employee(randomText(random, random.nextInt(10)));
+                    employees.add(created);
+                    autocomplete = autocomplete.withEmployee(created);
+                } else {
+                    Employee deleted = employees.remove(random.nextInt(employees.size()));
+                    autocomplete = autocomplete.withoutEmployee(deleted.getId());
+                }
+                String prefix = randomText(random, 1 + random.nextInt(3)).strip();
+                int count = 1 + random.nextInt(10);
+
+                // Then
+                assertThat(autocomplete.complete(prefix, count))
+                        .as("prefix '%s', count %d", prefix, count)
+                        .containsExactlyElementsOf(scan(employees, prefix, count));
+            }
+        }
+    }
+
+    private static List<Employee> scan(List<Employee> employees, String prefix, int count) {
+        String folded = prefix.toLowerCase();
+        if (folded.isEmpty()) {
+            return List.of();
+        }
+        return employees.stream()
+                .filter(employee -> bestToken(employee, folded) != null)
+                .sorted(Comparator.comparing((Employee employee) -> bestToken(employee, folded))
+                        .thenComparing(employee -> employee.getName().toLowerCase()))
+                .limit(count)
+                .toList();
+    }
+
+    private static String bestToken(Employee employee, String prefix) {
+        return Arrays.stream(employee.getName().toLowerCase().split("\\p{javaWhitespace}+"))
+                .filter(token -> token.startsWith(prefix))
+                .min(Comparator.naturalOrder())
+                .orElse(null);
+    }
+
+    private static String randomText(Random random, int length) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            text.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return text.toString();
+    }
+
+    private static Employee employee(String name) {
+        return Employee.builder().id(UUID.randomUUID()).name(name).build();
+    }
+}
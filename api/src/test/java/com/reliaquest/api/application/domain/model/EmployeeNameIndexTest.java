@@ -0,0 +1,141 @@
+package com.reliaquest.api.application.domain.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for EmployeeNameIndex.
+ * Every search is checked against the lower-case-and-contains scan the index replaces, which defines its results.
+ */
+class EmployeeNameIndexTest {
+
+    private static final String ALPHABET = "abAB cC'é";
+
+    @Test
+    void search_shouldMatchScan_forRandomNamesAndQueries() {
+        // Given - a small alphabet, so queries of every length have both hits and misses; every other round mixes in
+        // names no query matches, so that the trigrams of queries are rare enough for the index to be used
+        Random random = new Random(42);
+        for (int round = 0; round < 200; round++) {
+            List<Employee> employees = new ArrayList<>();
+            int size = random.nextInt(50);
+            for (int i = 0; i < size; i++) {
+                employees.add(employee(randomText(random, random.nextInt(12))));
+            }
+            for (int i = 0; round % 2 == 0 && i < 500; i++) {
+                employees.add(random.nextInt(employees.size() + 1), employee("#" + i));
+            }
+            EmployeeNameIndex index = EmployeeNameIndex.of(EmployeeColumns.of(employees));
+
+            for (int query = 0; query < 20; query++) {
+                String text = randomText(random, random.nextInt(6));
+
+                // When
+                List<Employee> found = index.search(text);
+
+                // Then
+                assertThat(found).as("query '%s'", text).containsExactlyElementsOf(scan(employees, text));
+            }
+        }
+    }
+
+    @Test
+    void search_shouldVerifyCandidates_whenTrigramsAreNotAdjacent() {
+        // Given - contains every trigram of "abcab" but not the text itself, among enough others for the index to be
+        // used
+        Employee employee = employee("abcxbcab");
+        List<Employee> employees = new ArrayList<>(List.of(employee));
+        for (int i = 0; i < 20; i++) {
+            employees.add(employee("Employee " + i));
+        }
+        EmployeeNameIndex index = EmployeeNameIndex.of(EmployeeColumns.of(employees));
+
+        // When / Then
+        assertThat(index.search("abcab")).isEmpty();
+        assertThat(index.search("BCA")).containsExactly(employee);
+    }
+
+    @Test
+    void search_shouldSkipEmployeesWithoutName() {
+        // Given
+        Employee named = employee("John Doe");
+        List<Employee> employees = Arrays.asList(null, employee(null), named);
+        EmployeeNameIndex index = EmployeeNameIndex.of(EmployeeColumns.of(employees));
+
+        // When / Then - both the indexed and the scanned lookup
+        assertThat(index.search("john")).containsExactly(named);
+        assertThat(index.search("")).containsExactly(named);
+    }
+
+    @Test
+    void search_shouldIncludeAddedAndExcludeRemovedEmployees() {
+        // Given
+        Employee john = employee("John Doe");
+        Employee johnny = employee("Johnny Appleseed");
+        Employee jane = employee("Jane Johnson");
+        EmployeeNameIndex index = EmployeeNameIndex.of(EmployeeColumns.of(List.of(john, johnny)));
+
+        // When
+        EmployeeNameIndex changed = index.withEmployee(jane).withoutEmployee(john.getId());
+
+        // Then - in the order of the changed roster, and the original index is unchanged
+        assertThat(changed.search("john")).containsExactly(johnny, jane);
+        assertThat(changed.search("jo")).containsExactly(johnny, jane);
+        assertThat(index.search("john")).containsExactly(john, johnny);
+    }
+
+    @Test
+    void search_shouldNotReturnAddedEmployee_whenRemovedAgain() {
+        // Given
+        Employee john = employee("John Doe");
+        EmployeeNameIndex index = EmployeeNameIndex.of(EmployeeColumns.of(List.of()));
+
+        // When
+        EmployeeNameIndex changed = index.withEmployee(john).withoutEmployee(john.getId());
+
+        // Then
+        assertThat(changed.search("john")).isEmpty();
+    }
+
+    @Test
+    void withEmployee_shouldKeepAnswering_onceIndexIsOutgrown() {
+        // Given
+        EmployeeNameIndex index = EmployeeNameIndex.of(EmployeeColumns.of(List.of()));
+        for (int i = 0; i < EmployeeNameIndex.MAX_CHANGES; i++) {
+            index = index.withEmployee(employee("Employee " + i));
+        }
+        assertThat(index.isOutgrown()).isFalse();
+
+        // When
+        Employee oneTooMany = employee("One too many");
+        EmployeeNameIndex outgrown = index.withEmployee(oneTooMany);
+
+        // Then - the roster builds a new index when prepared, until then this one answers
+        assertThat(outgrown.isOutgrown()).isTrue();
+        assertThat(outgrown.search("too many")).containsExactly(oneTooMany);
+    }
+
+    private static List<Employee> scan(List<Employee> employees, String text) {
+        return employees.stream()
+                .filter(employee -> employee.getName().toLowerCase().contains(text.toLowerCase()))
+                .toList();
+    }
+
+    private static String randomText(Random random, int length) {
+        StringBuilder text = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            text.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return text.toString();
+    }
+
+    private static Employee employee(String name) {
+        return Employee.builder().id(UUID.randomUUID()).name(name).build();
+    }
+}
@@ -0,0 +1,327 @@
+package com.reliaquest.api.application.domain.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for EmployeeRoster.
+ * Tests the id index, the salary aggregates, the name search, and that creates and deletes produce new snapshots with
+ * a matching index.
+ */
+class EmployeeRosterTest {
+
+    private Employee employee1;
+    private Employee employee2;
+
+    @BeforeEach
+    void setUp() {
+        employee1 = Employee.builder()
+                .id(UUID.randomUUID())
+                .name("John Doe")
+                .salary(75000)
+                .build();
+        employee2 = Employee.builder()
+                .id(UUID.randomUUID())
+                .name("Jane Smith")
+                .salary(85000)
+                .build();
+    }
+
+    @Test
+    void findById_shouldReturnEmployee_whenIdIsInRoster() {
+        // Given
+        EmployeeRoster roster = EmployeeRoster.of(List.of(employee1, employee2));
+
+        // When / Then
+        assertThat(roster.findById(employee1.getId())).isEqualTo(employee1);
+        assertThat(roster.findById(employee2.getId())).isEqualTo(employee2);
+    }
+
+    @Test
+    void findById_shouldReturnNull_whenIdIsNotInRoster() {
+        // Given
+        EmployeeRoster roster = EmployeeRoster.of(List.of(employee1));
+
+        // When / Then
+        assertThat(roster.findById(UUID.randomUUID())).isNull();
+    }
+
+    @Test
+    void withEmployee_shouldReturnNewRosterContainingEmployee() {
+        // Given
+        EmployeeRoster roster = EmployeeRoster.of(List.of(employee1));
+
+        // When
+        EmployeeRoster updated = roster.withEmployee(employee2);
+
+        // Then - the original snapshot is unchanged
+        assertThat(updated.getEmployees()).containsExactly(employee1, employee2);
+        assertThat(updated.findById(employee2.getId())).isEqualTo(employee2);
+        assertThat(roster.getEmployees()).containsExactly(employee1);
+        assertThat(roster.findById(employee2.getId())).isNull();
+    }
+
+    @Test
+    void withEmployee_shouldReturnSameRoster_whenIdIsAlreadyPresent() {
+        // Given
+        EmployeeRoster roster = EmployeeRoster.of(List.of(employee1));
+
+        // When / Then
+        assertThat(roster.withEmployee(employee1)).isSameAs(roster);
+    }
+
+    @Test
+    void withoutEmployee_shouldReturnNewRosterWithoutEmployee() {
+        // Given
+        EmployeeRoster roster = EmployeeRoster.of(List.of(employee1, employee2));
+
+        // When
+        EmployeeRoster updated = roster.withoutEmployee(employee1.getId());
+
+        // Then
+        assertThat(updated.getEmployees()).containsExactly(employee2);
+        assertThat(updated.findById(employee1.getId())).isNull();
+        assertThat(roster.findById(employee1.getId())).isEqualTo(employee1);
+    }
+
+    @Test
+    void withoutEmployee_shouldReturnSameRoster_whenIdIsNotPresent() {
+        // Given
+        EmployeeRoster roster = EmployeeRoster.of(List.of(employee1));
+
+        // When / Then
+        assertThat(roster.withoutEmployee(UUID.randomUUID())).isSameAs(roster);
+    }
+
+    @Test
+    void getSalaryAggregates_shouldSummarizeSalaries_skippingEmployeesWithoutOne() {
+        // Given
+        Employee unpaid = Employee.builder().id(UUID.randomUUID()).name("Unpaid").build();
+        EmployeeRoster roster = EmployeeRoster.of(Arrays.asList(employee1, null, unpaid, employee2));
+
+        // When
+        SalaryAggregates aggregates = roster.getSalaryAggregates();
+
+        // Then
+        assertThat(aggregates.highestSalary()).isEqualTo(85000);
+        assertThat(aggregates.lowestSalary()).isEqualTo(75000);
+        assertThat(aggregates.totalSalary()).isEqualTo(160000);
+        assertThat(aggregates.salariedEmployees()).isEqualTo(2);
+        assertThat(aggregates.topEarnerNames()).containsExactly("Jane Smith", "John Doe");
+        assertThat(roster.getSalaryAggregates()).isSameAs(aggregates);
+    }
+
+    @Test
+    void getSalaryAggregates_shouldKeepTopEarnersInSalaryThenRosterOrder() {
+        // Given - 30 employees with salaries 0 to 9 three times over, in roster order
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            employees.add(Employee.builder()
+                    .id(UUID.randomUUID())
+                    .name("Employee " + i)
+                    .salary(i % 10)
+                    .build());
+        }
+
+        // When
+        List<String> topEarnerNames = EmployeeRoster.of(employees).getSalaryAggregates().topEarnerNames();
+
+        // Then - the same as a stable sort by salary, highest first
+        assertThat(topEarnerNames)
+                .containsExactly(
+                        "Employee 9",
+                        "Employee 19",
+                        "Employee 29",
+                        "Employee 8",
+                        "Employee 18",
+                        "Employee 28",
+                        "Employee 7",
+                        "Employee 17",
+                        "Employee 27",
+                        "Employee 6");
+    }
+
+    @Test
+    void getSalaryAggregates_shouldBeEmpty_whenNoEmployeeHasSalary() {
+        // When
+        SalaryAggregates aggregates = EmployeeRoster.of(List.of()).getSalaryAggregates();
+
+        // Then
+        assertThat(aggregates.highestSalary()).isNull();
+        assertThat(aggregates.lowestSalary()).isNull();
+        assertThat(aggregates.salariedEmployees()).isZero();
+        assertThat(aggregates.topEarners()).isEmpty();
+    }
+
+    @Test
+    void getSalaryAggregates_shouldBeComputedForNewRoster_whenEmployeeIsAdded() {
+        // Given
+        EmployeeRoster roster = EmployeeRoster.of(List.of(employee1));
+        roster.getSalaryAggregates();
+        Employee topEarner = Employee.builder()
+                .id(UUID.randomUUID())
+                .name("Top Earner")
+                .salary(200000)
+                .build();
+
+        // When
+        EmployeeRoster updated = roster.withEmployee(topEarner);
+
+        // Then
+        assertThat(updated.getSalaryAggregates().highestSalary()).isEqualTo(200000);
+        assertThat(roster.getSalaryAggregates().highestSalary()).isEqualTo(75000);
+    }
+
+    @Test
+    void getSalaryAggregates_shouldMatchAggregatesComputedAnew_whenDerivedAcrossCreatesAndDeletes() {
+        // Given - 15 employees with salaries 0 to 4 three times over, one without a salary
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < 15; i++) {
+            employees.add(Employee.builder()
+                    .id(UUID.randomUUID())
+                    .name("Employee " + i)
+                    .salary(i % 5)
+                    .build());
+        }
+        Employee unpaid = Employee.builder().id(UUID.randomUUID()).name("Unpaid").build();
+        employees.add(unpaid);
+        EmployeeRoster roster = EmployeeRoster.of(employees);
+        roster.getSalaryAggregates();
+        Employee tiedWithTopEarner = Employee.builder()
+                .id(UUID.randomUUID())
+                .name("Tied")
+                .salary(4)
+                .build();
+
+        // When - an employee who isn't a top earner, a top earner, one without salary and the lowest paid go, one
+        // tied with the top earners comes
+        EmployeeRoster updated = roster.withoutEmployee(employees.get(6).getId())
+                .withoutEmployee(employees.get(4).getId())
+                .withoutEmployee(unpaid.getId())
+                .withEmployee(tiedWithTopEarner)
+                .withoutEmployee(employees.get(0).getId());
+
+        // Then
+        assertThat(updated.getSalaryAggregates())
+                .isEqualTo(EmployeeRoster.of(updated.getEmployees()).getSalaryAggregates());
+        assertThat(updated.getSalaryAggregates().topEarnerNames())
+                .startsWith("Employee 9", "Employee 14", "Tied", "Employee 3");
+        assertThat(updated.getTopEarners(3))
+                .extracting(Employee::getName)
+                .containsExactly("Employee 9", "Employee 14", "Tied");
+    }
+
+    @Test
+    void searchByName_shouldFollowCreatesAndDeletes_afterIndexWasBuilt() {
+        // Given
+        EmployeeRoster roster = EmployeeRoster.of(List.of(employee1, employee2));
+        assertThat(roster.searchByName("doe")).containsExactly(employee1);
+        Employee johnny = Employee.builder()
+                .id(UUID.randomUUID())
+                .name("Johnny Doe")
+                .build();
+
+        // When
+        EmployeeRoster updated = roster.withEmployee(johnny).withoutEmployee(employee1.getId());
+
+        // Then
+        assertThat(updated.searchByName("DOE")).containsExactly(johnny);
+        assertThat(roster.searchByName("DOE")).containsExactly(employee1);
+    }
+
+    @Test
+    void autocompleteByName_shouldFollowCreatesAndDeletes_withoutPreparingAgain() {
+        // Given
+        EmployeeRoster roster = EmployeeRoster.of(List.of(employee1, employee2));
+        roster.prepare();
+        Employee janet = Employee.builder()
+                .id(UUID.randomUUID())
+                .name("Janet Doe")
+                .salary(90000)
+                .build();
+
+        // When
+        EmployeeRoster updated = roster.withEmployee(janet).withoutEmployee(employee2.getId());
+
+        // Then - the changed roster took over what the prepared one had built
+        assertThat(updated.isPrepared()).isTrue();
+        assertThat(updated.autocompleteByName("ja", 10)).containsExactly(janet);
+        assertThat(updated.autocompleteByName("doe", 10)).containsExactly(janet, employee1);
+        assertThat(roster.autocompleteByName("ja", 10)).containsExactly(employee2);
+    }
+
+    @Test
+    void prepare_shouldRebuildNameIndexAndAutocomplete_onceChangesOutgrewThem() {
+        // Given
+        EmployeeRoster roster = EmployeeRoster.of(List.of(employee1));
+        roster.prepare();
+        Employee last = null;
+        for (int i = 0; i <= EmployeeNameIndex.MAX_CHANGES; i++) {
+            last = Employee.builder().id(UUID.randomUUID()).name("Employee " + i).build();
+            roster = roster.withEmployee(last);
+        }
+        assertThat(roster.isPrepared()).isFalse();
+
+        // When
+        roster.prepare();
+
+        // Then
+        assertThat(roster.isPrepared()).isTrue();
+        assertThat(roster.searchByName("employee " + EmployeeNameIndex.MAX_CHANGES)).containsExactly(last);
+        assertThat(roster.autocompleteByName(String.valueOf(EmployeeNameIndex.MAX_CHANGES), 10))
+                .containsExactly(last);
+    }
+
+    @Test
+    void getVersion_shouldChange_onlyWhenSnapshotChanges() {
+        // Given
+        EmployeeRoster roster = EmployeeRoster.of(List.of(employee1));
+
+        // When
+        EmployeeRoster unchanged = roster.withEmployee(employee1);
+        EmployeeRoster added = roster.withEmployee(employee2);
+        EmployeeRoster removed = added.withoutEmployee(employee2.getId());
+
+        // Then - even a snapshot with the same employees as an earlier one gets its own version
+        assertThat(unchanged.getVersion()).isEqualTo(roster.getVersion());
+        assertThat(added.getVersion()).isNotEqualTo(roster.getVersion());
+        assertThat(removed.getVersion()).isNotIn(roster.getVersion(), added.getVersion());
+    }
+
+    @Test
+    void page_shouldSliceRosterInOrder_untilLastPage() {
+        // Given
+        Employee employee3 = Employee.builder().id(UUID.randomUUID()).name("Alice").build();
+        EmployeeRoster roster = EmployeeRoster.of(List.of(employee1, employee2, employee3));
+
+        // When
+        EmployeePage first = roster.page(0, 2);
+        EmployeePage last = roster.page(first.nextOffset(), 2);
+
+        // Then
+        assertThat(first.employees()).containsExactly(employee1, employee2);
+        assertThat(first.rosterVersion()).isEqualTo(roster.getVersion());
+        assertThat(first.nextOffset()).isEqualTo(2);
+        assertThat(last.employees()).containsExactly(employee3);
+        assertThat(last.nextOffset()).isNull();
+        assertThat(roster.page(3, 2).employees()).isEmpty();
+        assertThat(roster.page(10, 2).nextOffset()).isNull();
+    }
+
+    @Test
+    void page_shouldRejectNegativeOffsetAndEmptySize() {
+        // Given
+        EmployeeRoster roster = EmployeeRoster.of(List.of(employee1));
+
+        // When / Then
+        assertThatThrownBy(() -> roster.page(-1, 10)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> roster.page(0, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
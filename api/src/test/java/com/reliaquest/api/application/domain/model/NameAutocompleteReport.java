@@ -0,0 +1,74 @@
+package com.reliaquest.api.application.domain.model;
+
+import static com.reliaquest.api.Benchmarks.consume;
+import static com.reliaquest.api.Benchmarks.employees;
+import static com.reliaquest.api.Benchmarks.rosterSizes;
+import static com.reliaquest.api.Benchmarks.time;
+
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Reports the time per autocomplete of a name prefix, once the way type-ahead used to be answered, by a name search
+ * scanning every name for the text typed so far, and once through the sorted token array of the roster, also after as
+ * many creates as a roster takes over before it rebuilds the array. Also reports what building the token array costs
+ * once per snapshot. Measures only, asserts nothing:
+ * <pre>
+ * ./gradlew :api:benchmark --tests '*NameAutocompleteReport'
+ * </pre>
+ * Tune with {@code -Dbenchmark.roster-sizes}, a comma separated list of roster sizes, {@code -Dbenchmark.prefixes}, a
+ * comma separated list of prefixes, and {@code -Dbenchmark.count}, the number of completions asked for.
+ */
+@Tag("benchmark")
+class NameAutocompleteReport {
+
+    // a single letter, a common first name, a rare last name, and a miss
+    private static final String PREFIXES = System.getProperty("benchmark.prefixes", "j,jo,quin,xyz");
+
+    private static final int COUNT = Integer.getInteger("benchmark.count", 10);
+
+    @Test
+    void reportNameAutocomplete() {
+        for (int size : rosterSizes("10000,100000,1000000")) {
+            List<Employee> employees = employees(size);
+            EmployeeColumns columns = EmployeeColumns.of(employees);
+
+            long build = time(() -> consume(EmployeeNameAutocomplete.of(columns)));
+            EmployeeRoster roster = EmployeeRoster.of(employees);
+            roster.prepare();
+            EmployeeRoster changed = roster;
+            for (Employee created : employees(EmployeeNameAutocomplete.MAX_CHANGES)) {
+                // the names of the first employees again, under new ids
+                created.setId(UUID.randomUUID());
+                changed = changed.withEmployee(created);
+            }
+            EmployeeRoster afterCreates = changed;
+
+            System.out.printf(
+                    "%,d employees%n  building the token array once per snapshot: %,d ns%n", employees.size(), build);
+            for (String prefix : PREFIXES.split(",")) {
+                long scanned = time(() -> consume(scan(employees, prefix)));
+                long completed = time(() -> consume(roster.autocompleteByName(prefix, COUNT)));
+                long completedAfterCreates = time(() -> consume(afterCreates.autocompleteByName(prefix, COUNT)));
+                System.out.printf(
+                        "  '%s', %d of %d completions: %,d ns scanned, %,d ns completed, %,d ns after %d creates%n",
+                        prefix,
+                        roster.autocompleteByName(prefix, COUNT).size(),
+                        COUNT,
+                        scanned,
+                        completed,
+                        completedAfterCreates,
+                        EmployeeNameAutocomplete.MAX_CHANGES);
+            }
+        }
+    }
+
+    // what a keystroke cost through the search endpoint before the autocomplete, kept here for comparison
+    private static List<Employee> scan(List<Employee> allEmployees, String name) {
+        return allEmployees.stream()
+                .filter(employee -> employee.getName().toLowerCase().contains(name.toLowerCase()))
+                .toList();
+    }
+}
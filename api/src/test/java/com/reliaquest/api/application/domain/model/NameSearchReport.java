@@ -0,0 +1,65 @@
+package com.reliaquest.api.application.domain.model;
+
+import static com.reliaquest.api.Benchmarks.consume;
+import static com.reliaquest.api.Benchmarks.employees;
+import static com.reliaquest.api.Benchmarks.rosterSizes;
+import static com.reliaquest.api.Benchmarks.time;
+import static com.reliaquest.api.Benchmarks.usedHeap;
+
+import java.util.List;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Reports the time per name search, once the way searches used to be answered, by lower-casing and scanning every name
+ * on every request, and once through the trigram index of the roster. Also reports what building the index costs once
+ * per snapshot and roughly how much heap it keeps. Measures only, asserts nothing:
+ * <pre>
+ * ./gradlew :api:benchmark --tests '*NameSearchReport'
+ * </pre>
+ * Tune with {@code -Dbenchmark.roster-sizes}, a comma separated list of roster sizes, and {@code -Dbenchmark.queries},
+ * a comma separated list of search texts.
+ */
+@Tag("benchmark")
+class NameSearchReport {
+
+    // a common first name, a rare last name, a miss, and a text too short for a trigram
+    private static final String QUERIES = System.getProperty("benchmark.queries", "john,Quintero,xyz,an");
+
+    @Test
+    void reportNameSearch() {
+        for (int size : rosterSizes("10000,100000,1000000")) {
+            List<Employee> employees = employees(size);
+
+            long build = time(() -> consume(EmployeeNameIndex.of(EmployeeColumns.of(employees))));
+            long heapBefore = usedHeap();
+            EmployeeRoster roster = EmployeeRoster.of(employees);
+            roster.searchByName("");
+            long indexBytes = usedHeap() - heapBefore;
+
+            System.out.printf(
+                    "%,d employees%n  building the index once per snapshot: %,d ns, about %,d KiB of heap (includes"
+                            + " the roster and its columns)%n",
+                    employees.size(),
+                    build,
+                    indexBytes / 1024);
+            for (String query : QUERIES.split(",")) {
+                long scanned = time(() -> consume(scan(roster.getEmployees(), query)));
+                long indexed = time(() -> consume(roster.searchByName(query)));
+                System.out.printf(
+                        "  '%s', %,d matches: %,d ns scanned, %,d ns indexed%n",
+                        query,
+                        roster.searchByName(query).size(),
+                        scanned,
+                        indexed);
+            }
+        }
+    }
+
+    // the implementation the search used before the index, kept here for comparison
+    private static List<Employee> scan(List<Employee> allEmployees, String name) {
+        return allEmployees.stream()
+                .filter(employee -> employee.getName().toLowerCase().contains(name.toLowerCase()))
+                .toList();
+    }
+}
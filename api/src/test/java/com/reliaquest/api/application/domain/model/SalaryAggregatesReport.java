@@ -0,0 +1,73 @@
+package com.reliaquest.api.application.domain.model;
+
+import static com.reliaquest.api.Benchmarks.consume;
+import static com.reliaquest.api.Benchmarks.employees;
+import static com.reliaquest.api.Benchmarks.rosterSizes;
+import static com.reliaquest.api.Benchmarks.time;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Reports the time per request of the highest salary and top ten earners endpoints, once the way they used to be
+ * answered, by scanning and sorting the employee list on every request, and once by reading the aggregates stored with
+ * the roster. Also reports what computing the aggregates costs once per snapshot. Measures only, asserts nothing:
+ * <pre>
+ * ./gradlew :api:benchmark --tests '*SalaryAggregatesReport'
+ * </pre>
+ * Tune with {@code -Dbenchmark.roster-sizes}, a comma separated list of roster sizes.
+ */
+@Tag("benchmark")
+class SalaryAggregatesReport {
+
+    @Test
+    void reportSalaryEndpoints() {
+        for (int size : rosterSizes("10000,100000,1000000")) {
+            List<Employee> employees = employees(size);
+
+            long perSnapshot = time(() -> EmployeeRoster.of(employees).getSalaryAggregates());
+            EmployeeRoster roster = EmployeeRoster.of(employees);
+            long scanned = time(() -> {
+                consume(scannedHighestSalary(roster.getEmployees()));
+                consume(sortedTopTenEarnerNames(roster.getEmployees()));
+            });
+            long precomputed = time(() -> {
+                consume(roster.getSalaryAggregates().highestSalary());
+                consume(roster.getSalaryAggregates().topEarnerNames());
+            });
+
+            System.out.printf(
+                    "%,d employees%n  highest salary + top ten, scan and sort per request: %,d ns%n"
+                            + "  highest salary + top ten, precomputed:              %,d ns%n"
+                            + "  computing the aggregates once per snapshot:         %,d ns (includes building the"
+                            + " roster)%n",
+                    employees.size(),
+                    scanned,
+                    precomputed,
+                    perSnapshot);
+        }
+    }
+
+    // the implementations the endpoints used before the aggregates, kept here for comparison
+
+    private static Integer scannedHighestSalary(List<Employee> allEmployees) {
+        Integer highestSalary = null;
+        for (Employee employee : allEmployees) {
+            if (highestSalary == null || employee.getSalary() > highestSalary) {
+                highestSalary = employee.getSalary();
+            }
+        }
+        return highestSalary;
+    }
+
+    private static List<String> sortedTopTenEarnerNames(List<Employee> allEmployees) {
+        List<String> topTenEarnerNames = new ArrayList<>();
+        allEmployees.stream()
+                .sorted((e1, e2) -> e2.getSalary().compareTo(e1.getSalary()))
+                .limit(10)
+                .forEach(employee -> topTenEarnerNames.add(employee.getName()));
+        return topTenEarnerNames;
+    }
+}
@@ -0,0 +1,91 @@
+package com.reliaquest.api.application.domain.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for TopEarners.
+ * The selection is checked against a stable sort by salary, which is the ordering it promises.
+ */
+class TopEarnersTest {
+
+    @Test
+    void select_shouldMatchStableSortBySalary_forRandomRosters() {
+        // Given - small salary ranges, so there are plenty of ties
+        Random random = new Random(42);
+        for (int round = 0; round < 500; round++) {
+            List<Employee> employees = new ArrayList<>();
+            int size = random.nextInt(60);
+            for (int i = 0; i < size; i++) {
+                employees.add(employee("Employee " + i, random.nextInt(20) - 5));
+            }
+            int k = 1 + random.nextInt(25);
+
+            // When
+            List<Employee> selected = TopEarners.select(EmployeeColumns.of(employees), k);
+
+            // Then
+            List<Employee> expected = employees.stream()
+                    .sorted(Comparator.comparing(Employee::getSalary).reversed())
+                    .limit(k)
+                    .toList();
+            assertThat(selected).containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    void select_shouldRankEarlierEmployeeFirst_whenSalariesAreEqual() {
+        // Given
+        List<Employee> employees = List.of(
+                employee("First", 50_000), employee("Second", 50_000), employee("Third", 50_000));
+
+        // When / Then
+        assertThat(TopEarners.select(EmployeeColumns.of(employees), 2))
+                .extracting(Employee::getName)
+                .containsExactly("First", "Second");
+    }
+
+    @Test
+    void select_shouldSkipEmployeesWithoutSalary() {
+        // Given
+        List<Employee> employees = Arrays.asList(
+                employee("Paid", 10), null, Employee.builder().name("Unpaid").build(), employee("Paid More", 20));
+
+        // When / Then
+        assertThat(TopEarners.select(EmployeeColumns.of(employees), 10))
+                .extracting(Employee::getName)
+                .containsExactly("Paid More", "Paid");
+    }
+
+    @Test
+    void select_shouldHandleExtremeSalaries() {
+        // Given
+        List<Employee> employees = List.of(
+                employee("Lowest", Integer.MIN_VALUE), employee("Zero", 0), employee("Highest", Integer.MAX_VALUE));
+
+        // When / Then
+        assertThat(TopEarners.select(EmployeeColumns.of(employees), 3))
+                .extracting(Employee::getName)
+                .containsExactly("Highest", "Zero", "Lowest");
+    }
+
+    @Test
+    void select_shouldReturnEmptyList_whenCountIsNotPositive() {
+        assertThat(TopEarners.select(EmployeeColumns.of(List.of(employee("John Doe", 1))), 0)).isEmpty();
+    }
+
+    private static Employee employee(String name, int salary) {
+        return Employee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(salary)
+                .build();
+    }
+}
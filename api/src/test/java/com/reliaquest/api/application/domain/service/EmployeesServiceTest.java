@@ -1,18 +1,37 @@
 package com.reliaquest.api.application.domain.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.reliaquest.api.application.domain.model.Employee;
+import com.reliaquest.api.application.domain.model.EmployeePage;
+import com.reliaquest.api.application.domain.model.EmployeeRoster;
+import com.reliaquest.api.application.domain.model.EmployeesWarmUpOutcome;
+import com.reliaquest.api.application.port.in.EmployeeRosterExpiredException;
+import com.reliaquest.api.application.port.out.DeleteEmployeeAsyncPort;
 import com.reliaquest.api.application.port.out.DeleteEmployeePort;
+import com.reliaquest.api.application.port.out.LoadEmployeeRosterAsyncPort;
+import com.reliaquest.api.application.port.out.LoadEmployeeRosterByVersionPort;
+import com.reliaquest.api.application.port.out.LoadEmployeeRosterPort;
+import com.reliaquest.api.application.port.out.LoadEmployeesAsyncPort;
 import com.reliaquest.api.application.port.out.LoadEmployeesPort;
+import com.reliaquest.api.application.port.out.LoadEmployeesStalenessPort;
+import com.reliaquest.api.application.port.out.RetainEmployeeRosterPort;
 import com.reliaquest.api.application.port.out.SaveNewEmployeePort;
+import com.reliaquest.api.application.port.out.SearchEmployeesByNamePort;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -38,6 +57,30 @@ class EmployeesServiceTest {
     @Mock
     private DeleteEmployeePort deleteEmployeePort;
 
+    @Mock
+    private LoadEmployeesAsyncPort loadEmployeesAsyncPort;
+
+    @Mock
+    private DeleteEmployeeAsyncPort deleteEmployeeAsyncPort;
+
+    @Mock
+    private LoadEmployeesStalenessPort loadEmployeesStalenessPort;
+
+    @Mock
+    private LoadEmployeeRosterPort loadEmployeeRosterPort;
+
+    @Mock
+    private LoadEmployeeRosterAsyncPort loadEmployeeRosterAsyncPort;
+
+    @Mock
+    private SearchEmployeesByNamePort searchEmployeesByNamePort;
+
+    @Mock
+    private RetainEmployeeRosterPort retainEmployeeRosterPort;
+
+    @Mock
+    private LoadEmployeeRosterByVersionPort loadEmployeeRosterByVersionPort;
+
     @InjectMocks
     private EmployeesService employeesService;
 
@@ -83,6 +126,12 @@ class EmployeesServiceTest {
                 .build();
 
         testEmployees = Arrays.asList(employee1, employee2, employee3, employee4);
+
+        // the search port searches the roster it is given, as the cache does on a miss
+        lenient()
+                .when(searchEmployeesByNamePort.searchEmployeesByName(any(), any()))
+                .thenAnswer(invocation ->
+                        invocation.<EmployeeRoster>getArgument(0).searchByName(invocation.getArgument(1)));
     }
 
     @Test
@@ -117,7 +166,7 @@ class EmployeesServiceTest {
     @Test
     void getEmployeesByNameSearch_shouldReturnMatchingEmployees_whenSearchStringMatchesMultiple() {
         // Arrange
-        when(loadEmployeesPort.loadAllEmployees()).thenReturn(testEmployees);
+        when(loadEmployeeRosterPort.loadEmployeeRoster()).thenReturn(EmployeeRoster.of(testEmployees));
 
         // Act
         List<Employee> result = employeesService.getEmployeesByNameSearch("John");
@@ -128,13 +177,13 @@ class EmployeesServiceTest {
         assertThat(result)
                 .extracting(Employee::getName)
                 .containsExactlyInAnyOrder("John Doe", "Johnny Appleseed", "Alice Johnson");
-        verify(loadEmployeesPort).loadAllEmployees();
+        verify(loadEmployeeRosterPort).loadEmployeeRoster();
     }
 
     @Test
     void getEmployeesByNameSearch_shouldBeCaseInsensitive() {
         // Arrange
-        when(loadEmployeesPort.loadAllEmployees()).thenReturn(testEmployees);
+        when(loadEmployeeRosterPort.loadEmployeeRoster()).thenReturn(EmployeeRoster.of(testEmployees));
 
         // Act - Search with different cases
         List<Employee> resultLowerCase = employeesService.getEmployeesByNameSearch("john");
@@ -152,7 +201,7 @@ class EmployeesServiceTest {
     @Test
     void getEmployeesByNameSearch_shouldReturnEmptyList_whenNoEmployeesMatch() {
         // Arrange
-        when(loadEmployeesPort.loadAllEmployees()).thenReturn(testEmployees);
+        when(loadEmployeeRosterPort.loadEmployeeRoster()).thenReturn(EmployeeRoster.of(testEmployees));
 
         // Act
         List<Employee> result = employeesService.getEmployeesByNameSearch("NonExistentName");
@@ -160,13 +209,13 @@ class EmployeesServiceTest {
         // Assert
         assertThat(result).isNotNull();
         assertThat(result).isEmpty();
-        verify(loadEmployeesPort).loadAllEmployees();
+        verify(loadEmployeeRosterPort).loadEmployeeRoster();
     }
 
     @Test
     void getEmployeeByNameSearch_shouldReturnSingleEmployees_whenOnlyOneMatches() {
         // Arrange
-        when(loadEmployeesPort.loadAllEmployees()).thenReturn(testEmployees);
+        when(loadEmployeeRosterPort.loadEmployeeRoster()).thenReturn(EmployeeRoster.of(testEmployees));
 
         // Act
         List<Employee> result = employeesService.getEmployeesByNameSearch("Jane");
@@ -175,13 +224,13 @@ class EmployeesServiceTest {
         assertThat(result).isNotNull();
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getName()).isEqualTo("Jane Smith");
-        verify(loadEmployeesPort).loadAllEmployees();
+        verify(loadEmployeeRosterPort).loadEmployeeRoster();
     }
 
     @Test
     void getEmployeesByNameSearch_shouldMatchPartialName() {
         // Arrange
-        when(loadEmployeesPort.loadAllEmployees()).thenReturn(testEmployees);
+        when(loadEmployeeRosterPort.loadEmployeeRoster()).thenReturn(EmployeeRoster.of(testEmployees));
 
         // Act
         List<Employee> result = employeesService.getEmployeesByNameSearch("son");
@@ -190,13 +239,13 @@ class EmployeesServiceTest {
         assertThat(result).isNotNull();
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getName()).isEqualTo("Alice Johnson");
-        verify(loadEmployeesPort).loadAllEmployees();
+        verify(loadEmployeeRosterPort).loadEmployeeRoster();
     }
 
     @Test
     void getEmployeesByNameSearch_shouldReturnAllEmployees_whenSearchStringIsEmpty() {
         // Arrange
-        when(loadEmployeesPort.loadAllEmployees()).thenReturn(testEmployees);
+        when(loadEmployeeRosterPort.loadEmployeeRoster()).thenReturn(EmployeeRoster.of(testEmployees));
 
         // Act
         List<Employee> result = employeesService.getEmployeesByNameSearch("");
@@ -205,13 +254,13 @@ class EmployeesServiceTest {
         assertThat(result).isNotNull();
         assertThat(result).hasSize(4);
         assertThat(result).isEqualTo(testEmployees);
-        verify(loadEmployeesPort).loadAllEmployees();
+        verify(loadEmployeeRosterPort).loadEmployeeRoster();
     }
 
     @Test
     void getEmployeesByNameSearch_shouldMatchFirstName() {
         // Arrange
-        when(loadEmployeesPort.loadAllEmployees()).thenReturn(testEmployees);
+        when(loadEmployeeRosterPort.loadEmployeeRoster()).thenReturn(EmployeeRoster.of(testEmployees));
 
         // Act
         List<Employee> result = employeesService.getEmployeesByNameSearch("Alice");
@@ -225,7 +274,7 @@ class EmployeesServiceTest {
     @Test
     void getEmployeesByNameSearch_shouldMatchLastName() {
         // Arrange
-        when(loadEmployeesPort.loadAllEmployees()).thenReturn(testEmployees);
+        when(loadEmployeeRosterPort.loadEmployeeRoster()).thenReturn(EmployeeRoster.of(testEmployees));
 
         // Act
         List<Employee> result = employeesService.getEmployeesByNameSearch("Smith");
@@ -249,7 +298,7 @@ class EmployeesServiceTest {
                 .build();
 
         List<Employee> employeesWithSpecialChars = Collections.singletonList(specialEmployee);
-        when(loadEmployeesPort.loadAllEmployees()).thenReturn(employeesWithSpecialChars);
+        when(loadEmployeeRosterPort.loadEmployeeRoster()).thenReturn(EmployeeRoster.of(employeesWithSpecialChars));
 
         // Act
         List<Employee> result = employeesService.getEmployeesByNameSearch("O'Brien");
@@ -263,7 +312,7 @@ class EmployeesServiceTest {
     @Test
     void getEmployeesByNameSearch_shouldReturnEmptyList_whenPortReturnsEmptyList() {
         // Arrange
-        when(loadEmployeesPort.loadAllEmployees()).thenReturn(Collections.emptyList());
+        when(loadEmployeeRosterPort.loadEmployeeRoster()).thenReturn(EmployeeRoster.of(Collections.emptyList()));
 
         // Act
         List<Employee> result = employeesService.getEmployeesByNameSearch("John");
@@ -271,13 +320,13 @@ class EmployeesServiceTest {
         // Assert
         assertThat(result).isNotNull();
         assertThat(result).isEmpty();
-        verify(loadEmployeesPort).loadAllEmployees();
+        verify(loadEmployeeRosterPort).loadEmployeeRoster();
     }
 
     @Test
     void getHighestSalary_shouldReturnHighestSalary_whenEmployeesExist() {
         // Arrange
-        when(loadEmployeesPort.loadAllEmployees()).thenReturn(testEmployees);
+        when(loadEmployeeRosterPort.loadEmployeeRoster()).thenReturn(EmployeeRoster.of(testEmployees));
 
         // Act
         Integer result = employeesService.getHighestSalary();
@@ -285,20 +334,20 @@ class EmployeesServiceTest {
         // Assert
         assertThat(result).isNotNull();
         assertThat(result).isEqualTo(95000); // Alice Johnson has the highest salary
-        verify(loadEmployeesPort).loadAllEmployees();
+        verify(loadEmployeeRosterPort).loadEmployeeRoster();
     }
 
     @Test
     void getHighestSalary_shouldReturnNull_whenNoEmployeesExist() {
         // Arrange
-        when(loadEmployeesPort.loadAllEmployees()).thenReturn(Collections.emptyList());
+        when(loadEmployeeRosterPort.loadEmployeeRoster()).thenReturn(EmployeeRoster.of(Collections.emptyList()));
 
         // Act
         Integer result = employeesService.getHighestSalary();
 
         // Assert
         assertThat(result).isNull();
-        verify(loadEmployeesPort).loadAllEmployees();
+        verify(loadEmployeeRosterPort).loadEmployeeRoster();
     }
 
     @Test
@@ -313,7 +362,8 @@ class EmployeesServiceTest {
                 .email("single@example.com")
                 .build();
 
-        when(loadEmployeesPort.loadAllEmployees()).thenReturn(Collections.singletonList(singleEmployee));
+        when(loadEmployeeRosterPort.loadEmployeeRoster())
+                .thenReturn(EmployeeRoster.of(Collections.singletonList(singleEmployee)));
 
         // Act
         Integer result = employeesService.getHighestSalary();
@@ -321,7 +371,7 @@ class EmployeesServiceTest {
         // Assert
         assertThat(result).isNotNull();
         assertThat(result).isEqualTo(50000);
-        verify(loadEmployeesPort).loadAllEmployees();
+        verify(loadEmployeeRosterPort).loadEmployeeRoster();
     }
 
     @Test
@@ -346,7 +396,7 @@ class EmployeesServiceTest {
                 .build();
 
         List<Employee> employeesWithSameSalary = Arrays.asList(employee1, employee2);
-        when(loadEmployeesPort.loadAllEmployees()).thenReturn(employeesWithSameSalary);
+        when(loadEmployeeRosterPort.loadEmployeeRoster()).thenReturn(EmployeeRoster.of(employeesWithSameSalary));
 
         // Act
         Integer result = employeesService.getHighestSalary();
@@ -354,7 +404,7 @@ class EmployeesServiceTest {
         // Assert
         assertThat(result).isNotNull();
         assertThat(result).isEqualTo(80000);
-        verify(loadEmployeesPort).loadAllEmployees();
+        verify(loadEmployeeRosterPort).loadEmployeeRoster();
     }
 
     @Test
@@ -369,7 +419,8 @@ class EmployeesServiceTest {
                 .email("volunteer@example.com")
                 .build();
 
-        when(loadEmployeesPort.loadAllEmployees()).thenReturn(Collections.singletonList(employee));
+        when(loadEmployeeRosterPort.loadEmployeeRoster())
+                .thenReturn(EmployeeRoster.of(Collections.singletonList(employee)));
 
         // Act
         Integer result = employeesService.getHighestSalary();
@@ -377,7 +428,7 @@ class EmployeesServiceTest {
         // Assert
         assertThat(result).isNotNull();
         assertThat(result).isEqualTo(0);
-        verify(loadEmployeesPort).loadAllEmployees();
+        verify(loadEmployeeRosterPort).loadEmployeeRoster();
     }
 
     @Test
@@ -395,7 +446,7 @@ class EmployeesServiceTest {
                     .build());
         }
 
-        when(loadEmployeesPort.loadAllEmployees()).thenReturn(employees);
+        when(loadEmployeeRosterPort.loadEmployeeRoster()).thenReturn(EmployeeRoster.of(employees));
 
         // Act
         List<String> result = employeesService.getTopTenEarnerNames();
@@ -416,7 +467,7 @@ class EmployeesServiceTest {
                         "Employee 8",
                         "Employee 7",
                         "Employee 6");
-        verify(loadEmployeesPort).loadAllEmployees();
+        verify(loadEmployeeRosterPort).loadEmployeeRoster();
     }
 
     @Test
@@ -448,7 +499,7 @@ class EmployeesServiceTest {
                         .email("low@example.com")
                         .build());
 
-        when(loadEmployeesPort.loadAllEmployees()).thenReturn(employees);
+        when(loadEmployeeRosterPort.loadEmployeeRoster()).thenReturn(EmployeeRoster.of(employees));
 
         // Act
         List<String> result = employeesService.getTopTenEarnerNames();
@@ -457,13 +508,13 @@ class EmployeesServiceTest {
         assertThat(result).isNotNull();
         assertThat(result).hasSize(3);
         assertThat(result).containsExactly("High Earner", "Mid Earner", "Low Earner");
-        verify(loadEmployeesPort).loadAllEmployees();
+        verify(loadEmployeeRosterPort).loadEmployeeRoster();
     }
 
     @Test
     void getTopTenEarnerNames_shouldReturnEmptyList_whenNoEmployeesExist() {
         // Arrange
-        when(loadEmployeesPort.loadAllEmployees()).thenReturn(Collections.emptyList());
+        when(loadEmployeeRosterPort.loadEmployeeRoster()).thenReturn(EmployeeRoster.of(Collections.emptyList()));
 
         // Act
         List<String> result = employeesService.getTopTenEarnerNames();
@@ -471,7 +522,7 @@ class EmployeesServiceTest {
         // Assert
         assertThat(result).isNotNull();
         assertThat(result).isEmpty();
-        verify(loadEmployeesPort).loadAllEmployees();
+        verify(loadEmployeeRosterPort).loadEmployeeRoster();
     }
 
     @Test
@@ -503,7 +554,7 @@ class EmployeesServiceTest {
                         .email("lowest@example.com")
                         .build());
 
-        when(loadEmployeesPort.loadAllEmployees()).thenReturn(employees);
+        when(loadEmployeeRosterPort.loadEmployeeRoster()).thenReturn(EmployeeRoster.of(employees));
 
         // Act
         List<String> result = employeesService.getTopTenEarnerNames();
@@ -512,7 +563,7 @@ class EmployeesServiceTest {
         assertThat(result).isNotNull();
         assertThat(result).hasSize(3);
         assertThat(result).containsExactly("Highest", "Middle", "Lowest");
-        verify(loadEmployeesPort).loadAllEmployees();
+        verify(loadEmployeeRosterPort).loadEmployeeRoster();
     }
 
     @Test
@@ -544,7 +595,7 @@ class EmployeesServiceTest {
                         .email("c@example.com")
                         .build());
 
-        when(loadEmployeesPort.loadAllEmployees()).thenReturn(employees);
+        when(loadEmployeeRosterPort.loadEmployeeRoster()).thenReturn(EmployeeRoster.of(employees));
 
         // Act
         List<String> result = employeesService.getTopTenEarnerNames();
@@ -553,9 +604,9 @@ class EmployeesServiceTest {
         assertThat(result).isNotNull();
         assertThat(result).hasSize(3);
         assertThat(result.get(0)).isEqualTo("Employee C"); // Highest salary first
-        // A and B both have 80000, order between them may vary but both should be present
-        assertThat(result).contains("Employee A", "Employee B");
-        verify(loadEmployeesPort).loadAllEmployees();
+        // A and B both have 80000 and keep their roster order
+        assertThat(result).containsExactly("Employee C", "Employee A", "Employee B");
+        verify(loadEmployeeRosterPort).loadEmployeeRoster();
     }
 
     @Test
@@ -573,7 +624,7 @@ class EmployeesServiceTest {
                     .build());
         }
 
-        when(loadEmployeesPort.loadAllEmployees()).thenReturn(employees);
+        when(loadEmployeeRosterPort.loadEmployeeRoster()).thenReturn(EmployeeRoster.of(employees));
 
         // Act
         List<String> result = employeesService.getTopTenEarnerNames();
@@ -581,11 +632,71 @@ class EmployeesServiceTest {
         // Assert
         assertThat(result).isNotNull();
         assertThat(result).hasSize(10);
-        verify(loadEmployeesPort).loadAllEmployees();
+        verify(loadEmployeeRosterPort).loadEmployeeRoster();
     }
 
     // createEmployee tests
 
+    @Test
+    void getTopEarners_shouldReturnSliceOfStoredTopTen_whenCountIsAtMostTen() {
+        // Arrange
+        when(loadEmployeeRosterPort.loadEmployeeRoster()).thenReturn(EmployeeRoster.of(testEmployees));
+
+        // Act
+        List<Employee> result = employeesService.getTopEarners(2);
+
+        // Assert
+        assertThat(result).extracting(Employee::getName).containsExactly("Alice Johnson", "Jane Smith");
+    }
+
+    @Test
+    void getTopEarners_shouldSelectFromRoster_whenCountIsAboveTen() {
+        // Arrange - 15 employees with salaries 1000 to 15000
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 1; i <= 15; i++) {
+            employees.add(Employee.builder()
+                    .id(UUID.randomUUID())
+                    .name("Employee " + i)
+                    .salary(i * 1000)
+                    .build());
+        }
+        when(loadEmployeeRosterPort.loadEmployeeRoster()).thenReturn(EmployeeRoster.of(employees));
+
+        // Act
+        List<Employee> result = employeesService.getTopEarners(12);
+
+        // Assert
+        assertThat(result).hasSize(12);
+        assertThat(result.get(0).getName()).isEqualTo("Employee 15");
+        assertThat(result.get(11).getName()).isEqualTo("Employee 4");
+    }
+
+    @Test
+    void getTopEarnersAsync_shouldReturnAllEmployees_whenCountExceedsRoster() {
+        // Arrange
+        when(loadEmployeeRosterAsyncPort.loadEmployeeRosterAsync())
+                .thenReturn(CompletableFuture.completedFuture(EmployeeRoster.of(testEmployees)));
+
+        // Act
+        CompletableFuture<List<Employee>> result = employeesService.getTopEarnersAsync(50);
+
+        // Assert
+        assertThat(result.join())
+                .extracting(Employee::getName)
+                .containsExactly("Alice Johnson", "Jane Smith", "John Doe", "Johnny Appleseed");
+    }
+
+    @Test
+    void salaryQueries_shouldReturnNull_whenNoRosterCouldBeLoaded() {
+        // Arrange
+        when(loadEmployeeRosterPort.loadEmployeeRoster()).thenReturn(null);
+
+        // Act / Assert
+        assertThat(employeesService.getHighestSalary()).isNull();
+        assertThat(employeesService.getTopTenEarnerNames()).isNull();
+        assertThat(employeesService.getTopEarners(5)).isNull();
+    }
+
     @Test
     void createEmployee_shouldReturnCreatedEmployee_whenValidEmployeeProvided() {
         // Arrange - Input does not include ID or email (server generates these)
@@ -713,4 +824,240 @@ class EmployeesServiceTest {
         assertThat(result).isNull();
         verify(deleteEmployeePort).deleteEmployeeById(employeeId);
     }
+
+    @Test
+    void getEmployeesPage_shouldRetainCurrentRoster_whenStartingFromFirstPage() {
+        // Arrange
+        EmployeeRoster roster = EmployeeRoster.of(testEmployees);
+        when(loadEmployeeRosterPort.loadEmployeeRoster()).thenReturn(roster);
+
+        // Act
+        EmployeePage result = employeesService.getEmployeesPage(null, 0, 3);
+
+        // Assert
+        assertThat(result.employees()).containsExactlyElementsOf(testEmployees.subList(0, 3));
+        assertThat(result.rosterVersion()).isEqualTo(roster.getVersion());
+        assertThat(result.nextOffset()).isEqualTo(3);
+        verify(retainEmployeeRosterPort).retainEmployeeRoster(roster);
+    }
+
+    @Test
+    void getEmployeesPage_shouldReadFromRetainedRoster_whenContinuing() {
+        // Arrange - the current roster has changed since the first page
+        EmployeeRoster roster = EmployeeRoster.of(testEmployees);
+        when(loadEmployeeRosterByVersionPort.loadEmployeeRosterByVersion(roster.getVersion()))
+                .thenReturn(roster);
+
+        // Act
+        EmployeePage result = employeesService.getEmployeesPage(roster.getVersion(), 3, 3);
+
+        // Assert
+        assertThat(result.employees()).containsExactly(testEmployees.get(3));
+        assertThat(result.nextOffset()).isNull();
+        verifyNoInteractions(loadEmployeeRosterPort);
+    }
+
+    @Test
+    void getEmployeesPage_shouldThrow_whenRetainedRosterIsGone() {
+        // Act & Assert
+        assertThatThrownBy(() -> employeesService.getEmployeesPage(42L, 100, 10))
+                .isInstanceOf(EmployeeRosterExpiredException.class);
+    }
+
+    @Test
+    void getEmployeesPage_shouldReturnNull_whenNoRosterIsLoaded() {
+        // Act
+        EmployeePage result = employeesService.getEmployeesPage(null, 0, 10);
+
+        // Assert
+        assertThat(result).isNull();
+        verifyNoInteractions(retainEmployeeRosterPort);
+    }
+
+    // async variant tests
+
+    @Test
+    void getEmployeesByNameSearchAsync_shouldFilterEmployees_whenLoadCompletes() {
+        // Arrange - the load has not completed yet
+        CompletableFuture<EmployeeRoster> load = new CompletableFuture<>();
+        when(loadEmployeeRosterAsyncPort.loadEmployeeRosterAsync()).thenReturn(load);
+
+        // Act
+        CompletableFuture<List<Employee>> result = employeesService.getEmployeesByNameSearchAsync("john");
+
+        // Assert - the search is applied once the employees arrive
+        assertThat(result).isNotDone();
+        load.complete(EmployeeRoster.of(testEmployees));
+        assertThat(result.join())
+                .extracting(Employee::getName)
+                .containsExactly("John Doe", "Johnny Appleseed", "Alice Johnson");
+    }
+
+    @Test
+    void getEmployeesByNameSearch_shouldSearchThroughPort_withLoadedRoster() {
+        // Arrange
+        EmployeeRoster roster = EmployeeRoster.of(testEmployees);
+        when(loadEmployeeRosterPort.loadEmployeeRoster()).thenReturn(roster);
+
+        // Act
+        employeesService.getEmployeesByNameSearch("Jane");
+
+        // Assert
+        verify(searchEmployeesByNamePort).searchEmployeesByName(roster, "Jane");
+    }
+
+    @Test
+    void getEmployeesByNameSearch_shouldReturnNull_withoutSearching_whenNoRosterIsLoaded() {
+        // Act
+        List<Employee> result = employeesService.getEmployeesByNameSearch("Jane");
+
+        // Assert
+        assertThat(result).isNull();
+        verifyNoInteractions(searchEmployeesByNamePort);
+    }
+
+    @Test
+    void getEmployeesByNamePrefix_shouldCompleteFromLoadedRoster() {
+        // Arrange
+        when(loadEmployeeRosterPort.loadEmployeeRoster()).thenReturn(EmployeeRoster.of(testEmployees));
+
+        // Act
+        List<Employee> result = employeesService.getEmployeesByNamePrefix("joh", 2);
+
+        // Assert - "john" ranks before "johnny" and "johnson"
+        assertThat(result).extracting(Employee::getName).containsExactly("John Doe", "Johnny Appleseed");
+    }
+
+    @Test
+    void getEmployeesByNamePrefix_shouldReturnNull_whenNoRosterIsLoaded() {
+        // Act
+        List<Employee> result = employeesService.getEmployeesByNamePrefix("joh", 10);
+
+        // Assert
+        assertThat(result).isNull();
+    }
+
+    @Test
+    void getEmployeesByNamePrefixAsync_shouldComplete_whenLoadCompletes() {
+        // Arrange
+        when(loadEmployeeRosterAsyncPort.loadEmployeeRosterAsync())
+                .thenReturn(CompletableFuture.completedFuture(EmployeeRoster.of(testEmployees)));
+
+        // Act
+        CompletableFuture<List<Employee>> result = employeesService.getEmployeesByNamePrefixAsync("JOHNS", 10);
+
+        // Assert
+        assertThat(result.join()).extracting(Employee::getName).containsExactly("Alice Johnson");
+    }
+
+    @Test
+    void getEmployeesPageAsync_shouldRetainRoster_whenLoadCompletes() {
+        // Arrange
+        EmployeeRoster roster = EmployeeRoster.of(testEmployees);
+        when(loadEmployeeRosterAsyncPort.loadEmployeeRosterAsync())
+                .thenReturn(CompletableFuture.completedFuture(roster));
+
+        // Act
+        CompletableFuture<EmployeePage> result = employeesService.getEmployeesPageAsync(null, 0, 10);
+
+        // Assert
+        assertThat(result.join().employees()).containsExactlyElementsOf(testEmployees);
+        verify(retainEmployeeRosterPort).retainEmployeeRoster(roster);
+    }
+
+    @Test
+    void getEmployeesPageAsync_shouldFail_whenRetainedRosterIsGone() {
+        // Act
+        CompletableFuture<EmployeePage> result = employeesService.getEmployeesPageAsync(42L, 100, 10);
+
+        // Assert
+        assertThat(result)
+                .failsWithin(Duration.ZERO)
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(EmployeeRosterExpiredException.class);
+    }
+
+    @Test
+    void getHighestSalaryAsync_shouldReturnHighestSalary_whenEmployeesExist() {
+        // Arrange
+        when(loadEmployeeRosterAsyncPort.loadEmployeeRosterAsync())
+                .thenReturn(CompletableFuture.completedFuture(EmployeeRoster.of(testEmployees)));
+
+        // Act
+        CompletableFuture<Integer> result = employeesService.getHighestSalaryAsync();
+
+        // Assert
+        assertThat(result).isCompletedWithValue(95000);
+    }
+
+    @Test
+    void getTopTenEarnerNamesAsync_shouldReturnNamesInDescendingOrderBySalary() {
+        // Arrange
+        when(loadEmployeeRosterAsyncPort.loadEmployeeRosterAsync())
+                .thenReturn(CompletableFuture.completedFuture(EmployeeRoster.of(testEmployees)));
+
+        // Act
+        CompletableFuture<List<String>> result = employeesService.getTopTenEarnerNamesAsync();
+
+        // Assert
+        assertThat(result.join()).containsExactly("Alice Johnson", "Jane Smith", "John Doe", "Johnny Appleseed");
+    }
+
+    @Test
+    void deleteEmployeeByIdAsync_shouldDelegateToAsyncPort() {
+        // Arrange
+        UUID employeeId = UUID.randomUUID();
+        when(deleteEmployeeAsyncPort.deleteEmployeeByIdAsync(employeeId))
+                .thenReturn(CompletableFuture.completedFuture("John Doe"));
+
+        // Act
+        CompletableFuture<String> result = employeesService.deleteEmployeeByIdAsync(employeeId);
+
+        // Assert
+        assertThat(result).isCompletedWithValue("John Doe");
+        verify(deleteEmployeeAsyncPort).deleteEmployeeByIdAsync(employeeId);
+        verifyNoInteractions(deleteEmployeePort);
+    }
+
+    @Test
+    void warmUpEmployeesAsync_shouldBeWarm_whenEmployeesWereLoaded() {
+        // Arrange
+        EmployeeRoster roster = EmployeeRoster.of(testEmployees);
+        when(loadEmployeeRosterAsyncPort.loadEmployeeRosterAsync())
+                .thenReturn(CompletableFuture.completedFuture(roster));
+        when(loadEmployeesStalenessPort.isFromSnapshot(roster)).thenReturn(false);
+
+        // Act
+        CompletableFuture<EmployeesWarmUpOutcome> result = employeesService.warmUpEmployeesAsync();
+
+        // Assert
+        assertThat(result).isCompletedWithValue(EmployeesWarmUpOutcome.WARM);
+    }
+
+    @Test
+    void warmUpEmployeesAsync_shouldBeStale_whenOnlySnapshotCouldBeServed() {
+        // Arrange
+        EmployeeRoster roster = EmployeeRoster.of(testEmployees);
+        when(loadEmployeeRosterAsyncPort.loadEmployeeRosterAsync())
+                .thenReturn(CompletableFuture.completedFuture(roster));
+        when(loadEmployeesStalenessPort.isFromSnapshot(roster)).thenReturn(true);
+
+        // Act
+        CompletableFuture<EmployeesWarmUpOutcome> result = employeesService.warmUpEmployeesAsync();
+
+        // Assert
+        assertThat(result).isCompletedWithValue(EmployeesWarmUpOutcome.STALE);
+    }
+
+    @Test
+    void warmUpEmployeesAsync_shouldFail_whenEmployeesCouldNotBeLoaded() {
+        // Arrange
+        when(loadEmployeeRosterAsyncPort.loadEmployeeRosterAsync())
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("boom")))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        // Act / Assert - neither a failure nor a missing roster fails the future itself
+        assertThat(employeesService.warmUpEmployeesAsync()).isCompletedWithValue(EmployeesWarmUpOutcome.FAILED);
+        assertThat(employeesService.warmUpEmployeesAsync()).isCompletedWithValue(EmployeesWarmUpOutcome.FAILED);
+    }
 }
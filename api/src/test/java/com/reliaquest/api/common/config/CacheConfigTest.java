@@ -0,0 +1,207 @@
+package com.reliaquest.api.common.config;
+
+import static com.reliaquest.api.common.config.CacheConfig.ALL_EMPLOYEES_CACHE;
+import static com.reliaquest.api.common.config.CacheConfig.EMPLOYEE_BY_ID_CACHE;
+import static com.reliaquest.api.common.config.CacheConfig.EMPLOYEE_NOT_FOUND_CACHE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Policy;
+import com.reliaquest.api.application.domain.model.Employee;
+import com.reliaquest.api.common.config.EmployeeCacheProperties.CachePolicy;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for building the employee caches from their policies in CacheConfig.
+ * The caches are inspected through Caffeine's policy API, so no Spring context is needed.
+ */
+class CacheConfigTest {
+
+    private final CacheConfig cacheConfig = new CacheConfig();
+
+    private final CacheStatsCounters statsCounters = new CacheStatsCounters();
+
+    @Test
+    void defaults_shouldGiveEachCacheItsOwnPolicy() {
+        // Given
+        EmployeeCacheProperties properties = new EmployeeCacheProperties(Map.of());
+
+        // When
+        Policy<Object, Object> allEmployees = cacheConfig
+                .allEmployeesCacheConfig(Runnable::run, properties, statsCounters)
+                .buildAsync(key -> key)
+                .synchronous()
+                .policy();
+        Policy<Object, Object> employeeById = cacheConfig
+                .employeeByIdCacheConfig(Runnable::run, properties, statsCounters)
+                .buildAsync(key -> key)
+                .synchronous()
+                .policy();
+        Policy<Object, Object> employeeNotFound =
+                cacheConfig.employeeNotFoundCacheConfig(properties, statsCounters).build().policy();
+        Policy<Object, Object> employeeSearchResults = cacheConfig
+                .employeeSearchResultsCacheConfig(properties, statsCounters)
+                .build()
+                .policy();
+        Policy<Object, Object> pagedEmployeeRosters = cacheConfig
+                .pagedEmployeeRostersCacheConfig(properties, statsCounters)
+                .build()
+                .policy();
+
+        // Then
+        assertThat(allEmployees.eviction().orElseThrow().getMaximum()).isEqualTo(1);
+        assertThat(allEmployees.refreshAfterWrite().orElseThrow().getRefreshesAfter())
+                .isEqualTo(Duration.ofMinutes(5));
+        assertThat(allEmployees.expireAfterWrite().orElseThrow().getExpiresAfter())
+                .isEqualTo(Duration.ofMinutes(60));
+
+        assertThat(employeeById.eviction().orElseThrow().getMaximum()).isEqualTo(10_000);
+        assertThat(employeeById.expireAfterWrite().orElseThrow().getExpiresAfter())
+                .isEqualTo(Duration.ofMinutes(60));
+        assertThat(employeeById.refreshAfterWrite()).isEmpty();
+
+        assertThat(employeeNotFound.eviction().orElseThrow().getMaximum()).isEqualTo(10_000);
+        assertThat(employeeNotFound.expireAfterWrite().orElseThrow().getExpiresAfter())
+                .isEqualTo(Duration.ofSeconds(30));
+
+        assertThat(employeeSearchResults.eviction().orElseThrow().isWeighted()).isTrue();
+        assertThat(employeeSearchResults.eviction().orElseThrow().getMaximum()).isEqualTo(32L * 1024 * 1024);
+        assertThat(employeeSearchResults.expireAfterAccess().orElseThrow().getExpiresAfter())
+                .isEqualTo(Duration.ofMinutes(10));
+
+        assertThat(pagedEmployeeRosters.eviction().orElseThrow().isWeighted()).isTrue();
+        assertThat(pagedEmployeeRosters.eviction().orElseThrow().getMaximum()).isEqualTo(256L * 1024 * 1024);
+        assertThat(pagedEmployeeRosters.expireAfterAccess().orElseThrow().getExpiresAfter())
+                .isEqualTo(Duration.ofMinutes(5));
+
+        assertThat(allEmployees.isRecordingStats()).isTrue();
+        assertThat(employeeById.isRecordingStats()).isTrue();
+        assertThat(employeeNotFound.isRecordingStats()).isTrue();
+        assertThat(employeeSearchResults.isRecordingStats()).isTrue();
+        assertThat(pagedEmployeeRosters.isRecordingStats()).isTrue();
+    }
+
+    @Test
+    void configuredPolicy_shouldOverrideDefault_onlyForValuesItSets() {
+        // Given - the way a yml override of just the maximum size binds
+        EmployeeCacheProperties properties = new EmployeeCacheProperties(
+                Map.of(ALL_EMPLOYEES_CACHE, new CachePolicy(2L, null, null, null, null, null)));
+
+        // When
+        Policy<Object, Object> allEmployees = cacheConfig
+                .allEmployeesCacheConfig(Runnable::run, properties, statsCounters)
+                .buildAsync(key -> key)
+                .synchronous()
+                .policy();
+
+        // Then - the default expiry, refresh and statistics are kept
+        assertThat(allEmployees.eviction().orElseThrow().getMaximum()).isEqualTo(2);
+        assertThat(allEmployees.expireAfterWrite().orElseThrow().getExpiresAfter())
+                .isEqualTo(Duration.ofMinutes(60));
+        assertThat(allEmployees.refreshAfterWrite().orElseThrow().getRefreshesAfter())
+                .isEqualTo(Duration.ofMinutes(5));
+        assertThat(allEmployees.isRecordingStats()).isTrue();
+    }
+
+    @Test
+    void configuredPolicy_shouldOverrideDefault_ofThatCacheOnly() {
+        // Given
+        EmployeeCacheProperties properties = new EmployeeCacheProperties(Map.of(
+                EMPLOYEE_BY_ID_CACHE, new CachePolicy(500L, null, null, Duration.ofMinutes(10), null, false)));
+
+        // When
+        Policy<Object, Object> employeeById = cacheConfig
+                .employeeByIdCacheConfig(Runnable::run, properties, statsCounters)
+                .buildAsync(key -> key)
+                .synchronous()
+                .policy();
+        Policy<Object, Object> employeeNotFound =
+                cacheConfig.employeeNotFoundCacheConfig(properties, statsCounters).build().policy();
+
+        // Then
+        assertThat(employeeById.eviction().orElseThrow().getMaximum()).isEqualTo(500);
+        assertThat(employeeById.expireAfterAccess().orElseThrow().getExpiresAfter())
+                .isEqualTo(Duration.ofMinutes(10));
+        assertThat(employeeById.expireAfterWrite().orElseThrow().getExpiresAfter())
+                .isEqualTo(Duration.ofMinutes(60));
+        assertThat(employeeById.isRecordingStats()).isFalse();
+        assertThat(employeeNotFound.eviction().orElseThrow().getMaximum()).isEqualTo(10_000);
+        assertThat(employeeNotFound.expireAfterWrite().orElseThrow().getExpiresAfter())
+                .isEqualTo(Duration.ofSeconds(30));
+    }
+
+    @Test
+    void maximumWeight_shouldBoundCacheByEstimatedBytes() {
+        // Given - room for roughly one employee, replacing the default maximum size
+        EmployeeCacheProperties properties = new EmployeeCacheProperties(
+                Map.of(EMPLOYEE_BY_ID_CACHE, new CachePolicy(null, 400L, null, null, null, false)));
+        Cache<Object, Object> cache = CacheConfig.caffeine(EMPLOYEE_BY_ID_CACHE, properties)
+                .executor(Runnable::run)
+                .build();
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            UUID id = UUID.randomUUID();
+            cache.put(
+                    id,
+                    Employee.builder()
+                            .id(id)
+                            .name("Employee " + i)
+                            .salary(1000)
+                            .age(30)
+                            .title("Engineer")
+                            .email("employee" + i + "@company.com")
+                            .build());
+        }
+        cache.cleanUp();
+
+        // Then
+        Policy.Eviction<Object, Object> eviction = cache.policy().eviction().orElseThrow();
+        assertThat(eviction.isWeighted()).isTrue();
+        assertThat(eviction.weightedSize().orElseThrow()).isLessThanOrEqualTo(400);
+        assertThat(cache.estimatedSize()).isBetween(1L, 2L);
+    }
+
+    @Test
+    void caffeine_shouldReject_policyWithBothMaximumSizeAndWeight() {
+        // Given
+        EmployeeCacheProperties properties = new EmployeeCacheProperties(
+                Map.of(ALL_EMPLOYEES_CACHE, new CachePolicy(1L, 1_000_000L, null, null, null, true)));
+
+        // When / Then
+        assertThatThrownBy(() -> CacheConfig.caffeine(ALL_EMPLOYEES_CACHE, properties))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining(ALL_EMPLOYEES_CACHE);
+    }
+
+    @Test
+    void policy_shouldFallBackToDefaultPolicy_forUnknownCache() {
+        // Given
+        EmployeeCacheProperties properties = new EmployeeCacheProperties(Map.of(
+                EmployeeCacheProperties.DEFAULT_POLICY, new CachePolicy(42L, null, null, null, null, false)));
+
+        // When
+        CachePolicy policy = properties.policy("somethingElse");
+
+        // Then
+        assertThat(policy.maximumSize()).isEqualTo(42L);
+        assertThat(policy.expireAfterWrite()).isEqualTo(Duration.ofMinutes(60));
+    }
+
+    @Test
+    void policy_shouldStartFromDefaultPolicy_forConfiguredCacheWithoutDefault() {
+        // Given
+        EmployeeCacheProperties properties = new EmployeeCacheProperties(
+                Map.of("somethingElse", new CachePolicy(null, null, Duration.ofMinutes(1), null, null, null)));
+
+        // When
+        CachePolicy policy = properties.policy("somethingElse");
+
+        // Then
+        assertThat(policy).isEqualTo(new CachePolicy(10_000L, null, Duration.ofMinutes(1), null, null, true));
+    }
+}
@@ -0,0 +1,110 @@
+package com.reliaquest.api.common.config;
+
+import static com.reliaquest.api.common.config.CacheConfig.EMPLOYEE_NOT_FOUND_CACHE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.reliaquest.api.common.config.EmployeeCacheProperties.CachePolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.metrics.cache.CacheMetricsRegistrar;
+import org.springframework.boot.actuate.metrics.cache.CaffeineCacheMeterBinderProvider;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+/**
+ * Unit tests for EmployeeCacheMetrics, binding a cache built by CacheConfig to a SimpleMeterRegistry.
+ * The cache holds a single entry and evicts on the calling thread, so evictions are counted right away.
+ */
+class EmployeeCacheMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final CacheStatsCounters statsCounters = new CacheStatsCounters();
+
+    private Cache<Object, Object> cache;
+
+    @BeforeEach
+    void setUp() {
+        EmployeeCacheProperties properties = new EmployeeCacheProperties(
+                Map.of(EMPLOYEE_NOT_FOUND_CACHE, new CachePolicy(1L, null, null, null, null, true)));
+        cache = CacheConfig.caffeine(
+                        EMPLOYEE_NOT_FOUND_CACHE, properties, statsCounters.forCache(EMPLOYEE_NOT_FOUND_CACHE))
+                .executor(Runnable::run)
+                .build();
+
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache(EMPLOYEE_NOT_FOUND_CACHE, cache);
+        CacheMetricsRegistrar cacheMetricsRegistrar =
+                new CacheMetricsRegistrar(meterRegistry, List.of(new CaffeineCacheMeterBinderProvider()));
+
+        new EmployeeCacheMetrics(cacheManager, cacheMetricsRegistrar, statsCounters, meterRegistry)
+                .afterSingletonsInstantiated();
+    }
+
+    @Test
+    void metrics_shouldReportLookupsLoadsAndSize() {
+        // Given - one miss that loads, then three hits
+        cache.get("a", key -> Boolean.TRUE);
+        cache.getIfPresent("a");
+        cache.getIfPresent("a");
+        cache.getIfPresent("a");
+
+        // When / Then
+        assertThat(meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count())
+                .isEqualTo(3);
+        assertThat(meterRegistry
+                        .get("cache.hit.ratio")
+                        .tag("cache", EMPLOYEE_NOT_FOUND_CACHE)
+                        .gauge()
+                        .value())
+                .isEqualTo(0.75);
+        assertThat(meterRegistry
+                        .get("cache.miss.ratio")
+                        .tag("cache", EMPLOYEE_NOT_FOUND_CACHE)
+                        .gauge()
+                        .value())
+                .isEqualTo(0.25);
+        assertThat(meterRegistry.get("cache.load").tag("result", "success").functionCounter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("cache.load").tag("result", "failure").functionCounter().count())
+                .isZero();
+        assertThat(meterRegistry
+                        .get("cache.load.penalty.average")
+                        .tag("cache", EMPLOYEE_NOT_FOUND_CACHE)
+                        .timeGauge()
+                        .value(TimeUnit.NANOSECONDS))
+                .isPositive();
+        assertThat(meterRegistry.get("cache.size").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void metrics_shouldCountEvictionsByCause() {
+        // Given - three entries in a cache that holds one
+        cache.put("a", Boolean.TRUE);
+        cache.put("b", Boolean.TRUE);
+        cache.put("c", Boolean.TRUE);
+        cache.cleanUp();
+
+        // When / Then
+        assertThat(meterRegistry
+                        .get("cache.evictions.by.cause")
+                        .tag("cause", "size")
+                        .functionCounter()
+                        .count())
+                .isEqualTo(2);
+        assertThat(meterRegistry
+                        .get("cache.evictions.by.cause")
+                        .tag("cause", "expired")
+                        .functionCounter()
+                        .count())
+                .isZero();
+        assertThat(meterRegistry.get("cache.evictions").functionCounter().count())
+                .isEqualTo(2);
+    }
+}